@@ -0,0 +1,126 @@
+package app;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import dataaccess.AlphaVantagePriceGateway;
+import dataaccess.CsvPriceGateway;
+import dataaccess.SimulationMarketDataAccess;
+import interfaceadapter.backtest.BacktestController;
+import interfaceadapter.backtest.BacktestPresenter;
+import interfaceadapter.backtest.BacktestViewModel;
+import usecase.backtest.BacktestInteractor;
+import usecase.price_chart.PriceDataAccessInterface;
+import usecase.simulated_trade.SimulationSeed;
+import usecase.strategy.MovingAverageCrossStrategy;
+import usecase.strategy.StrategyFactory;
+
+/**
+ * Command-line entry point that replays a ticker's full history through the
+ * simulation engine with no Swing components and prints the results.
+ *
+ * <p>Usage: {@code BacktestMain <ticker> [initialBalance] [csvDirectory] [seed] [strategy...]}.
+ * When a CSV directory is given, history is read from
+ * {@code <csvDirectory>/<TICKER>.csv} instead of Alpha Vantage. Runs with the
+ * same seed produce identical ticks. Each strategy is written
+ * {@code ma-cross:FAST:SLOW[:AMOUNT]}; use {@code -} to skip an optional
+ * argument. Adding {@code --fast-forward} skips the ticks of candles in which
+ * no strategy or order can act.</p>
+ */
+public final class BacktestMain {
+
+    private static final double DEFAULT_BALANCE = 100_000.0;
+    private static final int BALANCE_ARG = 1;
+    private static final int CSV_DIRECTORY_ARG = 2;
+    private static final int SEED_ARG = 3;
+    private static final int FIRST_STRATEGY_ARG = 4;
+    private static final String SKIP_ARG = "-";
+    private static final String FAST_FORWARD_ARG = "--fast-forward";
+    private static final String MA_CROSS = "ma-cross";
+    private static final double DEFAULT_STRATEGY_AMOUNT = 10_000.0;
+    private static final int STRATEGY_AMOUNT_PART = 3;
+
+    private BacktestMain() {
+    }
+
+    /**
+     * Runs the backtest described by the command-line arguments.
+     *
+     * @param args the ticker, optional initial balance, CSV directory, seed and strategies
+     */
+    public static void main(String[] args) {
+        if (args.length == 0) {
+            System.err.println("Usage: BacktestMain <ticker> [initialBalance] [csvDirectory] [seed] "
+                    + "[ma-cross:FAST:SLOW[:AMOUNT]...] [--fast-forward]");
+            System.exit(1);
+        }
+
+        final String ticker = args[0].toUpperCase();
+        double balance = DEFAULT_BALANCE;
+        if (isGiven(args, BALANCE_ARG)) {
+            balance = Double.parseDouble(args[BALANCE_ARG]);
+        }
+
+        long seed = SimulationSeed.randomSeed();
+        if (isGiven(args, SEED_ARG)) {
+            seed = Long.parseLong(args[SEED_ARG]);
+        }
+
+        final PriceDataAccessInterface priceGateway;
+        if (isGiven(args, CSV_DIRECTORY_ARG)) {
+            priceGateway = new CsvPriceGateway(Paths.get(args[CSV_DIRECTORY_ARG]));
+        }
+        else {
+            priceGateway = new AlphaVantagePriceGateway();
+        }
+
+        final BacktestViewModel viewModel = new BacktestViewModel();
+        final BacktestController controller = new BacktestController(new BacktestInteractor(
+                new SimulationMarketDataAccess(priceGateway), new BacktestPresenter(viewModel)));
+
+        final List<StrategyFactory> strategies = new ArrayList<>();
+        boolean fastForward = false;
+        for (int i = FIRST_STRATEGY_ARG; i < args.length; i++) {
+            if (FAST_FORWARD_ARG.equals(args[i])) {
+                fastForward = true;
+            }
+            else {
+                strategies.add(parseStrategy(args[i]));
+            }
+        }
+
+        controller.execute(ticker, balance, seed, strategies, fastForward);
+
+        if (viewModel.getError() != null) {
+            System.err.println("Backtest failed: " + viewModel.getError());
+            System.exit(1);
+        }
+        for (Map.Entry<String, String> row : viewModel.getReport().entrySet()) {
+            System.out.printf("%-18s %s%n", row.getKey() + ":", row.getValue());
+        }
+        System.out.printf("%-18s %d%n", "Seed:", seed);
+    }
+
+    private static boolean isGiven(String[] args, int index) {
+        return args.length > index && !SKIP_ARG.equals(args[index]);
+    }
+
+    private static StrategyFactory parseStrategy(String spec) {
+        final String[] parts = spec.split(":");
+        if (!MA_CROSS.equals(parts[0]) || parts.length <= 2) {
+            throw new IllegalArgumentException("Unknown strategy: " + spec);
+        }
+        final int fast = Integer.parseInt(parts[1]);
+        final int slow = Integer.parseInt(parts[2]);
+        double amount = DEFAULT_STRATEGY_AMOUNT;
+        if (parts.length > STRATEGY_AMOUNT_PART) {
+            amount = Double.parseDouble(parts[STRATEGY_AMOUNT_PART]);
+        }
+        final double tradeAmount = amount;
+        // Validate now so a bad spec fails before the run starts
+        new MovingAverageCrossStrategy(fast, slow, tradeAmount);
+        return () -> new MovingAverageCrossStrategy(fast, slow, tradeAmount);
+    }
+}
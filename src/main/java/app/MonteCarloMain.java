@@ -0,0 +1,84 @@
+package app;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import dataaccess.AlphaVantagePriceGateway;
+import dataaccess.CsvPriceGateway;
+import dataaccess.CsvRecordedOrderReader;
+import dataaccess.SimulationMarketDataAccess;
+import interfaceadapter.monte_carlo.MonteCarloController;
+import interfaceadapter.monte_carlo.MonteCarloPresenter;
+import interfaceadapter.monte_carlo.MonteCarloViewModel;
+import usecase.monte_carlo.MonteCarloInteractor;
+import usecase.monte_carlo.RecordedOrder;
+import usecase.price_chart.PriceDataAccessInterface;
+import usecase.simulated_trade.SimulationSeed;
+
+/**
+ * Command-line entry point that replays an order sequence over many randomized
+ * tick paths of a ticker's history, on all cores, and prints the distribution
+ * of final equity and drawdown.
+ *
+ * <p>Usage: {@code MonteCarloMain <ticker> <paths> <ordersCsv> [initialBalance] [csvDirectory]}.
+ * The orders file has the header {@code candle,second,side,quantity}.</p>
+ */
+public final class MonteCarloMain {
+
+    private static final double DEFAULT_BALANCE = 100_000.0;
+    private static final int MIN_ARGS = 3;
+    private static final int PATHS_ARG = 1;
+    private static final int ORDERS_ARG = 2;
+    private static final int BALANCE_ARG = 3;
+    private static final int CSV_DIRECTORY_ARG = 4;
+
+    private MonteCarloMain() {
+    }
+
+    /**
+     * Runs the Monte Carlo simulation described by the command-line arguments.
+     *
+     * @param args the ticker, path count, orders file, optional balance and optional CSV directory
+     * @throws IOException if the orders file cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < MIN_ARGS) {
+            System.err.println("Usage: MonteCarloMain <ticker> <paths> <ordersCsv> [initialBalance] [csvDirectory]");
+            System.exit(1);
+        }
+
+        final String ticker = args[0].toUpperCase();
+        final int paths = Integer.parseInt(args[PATHS_ARG]);
+        final List<RecordedOrder> orders = new CsvRecordedOrderReader().read(Paths.get(args[ORDERS_ARG]));
+        double balance = DEFAULT_BALANCE;
+        if (args.length > BALANCE_ARG) {
+            balance = Double.parseDouble(args[BALANCE_ARG]);
+        }
+
+        final PriceDataAccessInterface priceGateway;
+        if (args.length > CSV_DIRECTORY_ARG) {
+            priceGateway = new CsvPriceGateway(Paths.get(args[CSV_DIRECTORY_ARG]));
+        }
+        else {
+            priceGateway = new AlphaVantagePriceGateway();
+        }
+
+        final MonteCarloViewModel viewModel = new MonteCarloViewModel();
+        final MonteCarloController controller = new MonteCarloController(new MonteCarloInteractor(
+                new SimulationMarketDataAccess(priceGateway), new MonteCarloPresenter(viewModel)));
+
+        final long seed = SimulationSeed.randomSeed();
+        controller.execute(ticker, balance, paths, orders, seed);
+
+        if (viewModel.getError() != null) {
+            System.err.println("Monte Carlo failed: " + viewModel.getError());
+            System.exit(1);
+        }
+        for (Map.Entry<String, String> row : viewModel.getReport().entrySet()) {
+            System.out.printf("%-22s %s%n", row.getKey() + ":", row.getValue());
+        }
+        System.out.printf("%-22s %d%n", "Seed:", seed);
+    }
+}
@@ -0,0 +1,129 @@
+package app;
+
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+import dataaccess.AlphaVantagePriceGateway;
+import dataaccess.CsvPriceGateway;
+import dataaccess.SimulationMarketDataAccess;
+import interfaceadapter.optimizer.OptimizerController;
+import interfaceadapter.optimizer.OptimizerPresenter;
+import interfaceadapter.optimizer.OptimizerViewModel;
+import usecase.optimizer.OptimizerInteractor;
+import usecase.optimizer.ParameterRange;
+import usecase.price_chart.PriceDataAccessInterface;
+import usecase.simulated_trade.SimulationSeed;
+import usecase.strategy.MovingAverageCrossStrategy;
+
+/**
+ * Command-line entry point that tunes the moving-average cross strategy on a
+ * ticker's history by evaluating many period combinations on all cores, and
+ * prints the best ones.
+ *
+ * <p>Usage: {@code OptimizerMain <ticker> <fast MIN:MAX:STEP> <slow MIN:MAX:STEP>
+ * [initialBalance] [csvDirectory] [samples] [seed]}. Without a sample count
+ * every combination is evaluated; with one, that many are drawn at random.
+ * Use {@code -} to skip an optional argument.</p>
+ */
+public final class OptimizerMain {
+
+    private static final double DEFAULT_BALANCE = 100_000.0;
+    private static final double TRADE_FRACTION = 0.1;
+    private static final int MIN_ARGS = 3;
+    private static final int FAST_ARG = 1;
+    private static final int SLOW_ARG = 2;
+    private static final int BALANCE_ARG = 3;
+    private static final int CSV_DIRECTORY_ARG = 4;
+    private static final int SAMPLES_ARG = 5;
+    private static final int SEED_ARG = 6;
+    private static final int RANGE_PARTS = 3;
+    private static final int TOP_ROWS = 20;
+    private static final String SKIP_ARG = "-";
+    private static final String FAST = "fast";
+    private static final String SLOW = "slow";
+
+    private OptimizerMain() {
+    }
+
+    /**
+     * Runs the optimization described by the command-line arguments.
+     *
+     * @param args the ticker, the two period ranges and the optional settings
+     */
+    public static void main(String[] args) {
+        if (args.length < MIN_ARGS) {
+            System.err.println("Usage: OptimizerMain <ticker> <fast MIN:MAX:STEP> <slow MIN:MAX:STEP> "
+                    + "[initialBalance] [csvDirectory] [samples] [seed]");
+            System.exit(1);
+        }
+
+        final String ticker = args[0].toUpperCase();
+        final List<ParameterRange> ranges = List.of(
+                parseRange(FAST, args[FAST_ARG]), parseRange(SLOW, args[SLOW_ARG]));
+        double balance = DEFAULT_BALANCE;
+        if (isGiven(args, BALANCE_ARG)) {
+            balance = Double.parseDouble(args[BALANCE_ARG]);
+        }
+        int samples = 0;
+        if (isGiven(args, SAMPLES_ARG)) {
+            samples = Integer.parseInt(args[SAMPLES_ARG]);
+        }
+        long seed = SimulationSeed.randomSeed();
+        if (isGiven(args, SEED_ARG)) {
+            seed = Long.parseLong(args[SEED_ARG]);
+        }
+
+        final PriceDataAccessInterface priceGateway;
+        if (isGiven(args, CSV_DIRECTORY_ARG)) {
+            priceGateway = new CsvPriceGateway(Paths.get(args[CSV_DIRECTORY_ARG]));
+        }
+        else {
+            priceGateway = new AlphaVantagePriceGateway();
+        }
+
+        final OptimizerViewModel viewModel = new OptimizerViewModel();
+        final OptimizerController controller = new OptimizerController(new OptimizerInteractor(
+                new SimulationMarketDataAccess(priceGateway), new OptimizerPresenter(viewModel)));
+
+        final double tradeAmount = balance * TRADE_FRACTION;
+        controller.execute(ticker, balance, (parameters, cache) -> new MovingAverageCrossStrategy(
+                parameters.get(FAST).intValue(), parameters.get(SLOW).intValue(), tradeAmount, cache),
+                ranges, samples, seed);
+
+        if (viewModel.getError() != null) {
+            System.err.println("Optimization failed: " + viewModel.getError());
+            System.exit(1);
+        }
+        for (Map.Entry<String, String> row : viewModel.getSummary().entrySet()) {
+            System.out.printf("%-18s %s%n", row.getKey() + ":", row.getValue());
+        }
+        System.out.printf("%-18s %d%n%n", "Seed:", seed);
+        printRow(viewModel.getColumns());
+        final List<List<String>> rows = viewModel.getRows();
+        for (int i = 0; i < Math.min(TOP_ROWS, rows.size()); i++) {
+            printRow(rows.get(i));
+        }
+    }
+
+    private static boolean isGiven(String[] args, int index) {
+        return args.length > index && !SKIP_ARG.equals(args[index]);
+    }
+
+    private static ParameterRange parseRange(String name, String spec) {
+        final String[] parts = spec.split(":");
+        if (parts.length != RANGE_PARTS) {
+            throw new IllegalArgumentException("Expected MIN:MAX:STEP for " + name + " but got " + spec);
+        }
+        return new ParameterRange(name, Double.parseDouble(parts[0]), Double.parseDouble(parts[1]),
+                Double.parseDouble(parts[2]));
+    }
+
+    private static void printRow(List<String> cells) {
+        final StringBuilder line = new StringBuilder();
+        for (String cell : cells) {
+            line.append(String.format("%14s", cell));
+        }
+        System.out.println(line);
+    }
+}
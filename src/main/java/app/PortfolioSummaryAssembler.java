@@ -31,7 +31,7 @@ public class PortfolioSummaryAssembler {
         PortfolioSummaryPresenter presenter = new PortfolioSummaryPresenter();
 
         PortfolioStatisticsInteractor interactor = new PortfolioStatisticsInteractor(
-                tradeGateway, portfolioGateway, presenter
+                tradeGateway, portfolioGateway, tradeGateway, presenter
         );
 
         interactor.requestPortfolioSummary(userId);
@@ -51,7 +51,7 @@ public class PortfolioSummaryAssembler {
         PortfolioSummaryPresenter presenter = new PortfolioSummaryPresenter();
 
         PortfolioStatisticsInteractor interactor = new PortfolioStatisticsInteractor(
-                tradeGateway, portfolioGateway, presenter
+                tradeGateway, portfolioGateway, tradeGateway, presenter
         );
 
         interactor.requestPortfolioSummary(userId);
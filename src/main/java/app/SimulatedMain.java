@@ -3,6 +3,7 @@ package app;
 import java.awt.CardLayout;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
+import java.io.IOException;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,32 +15,46 @@ import app.ui.view.SetupView;
 import app.ui.view.TradingView;
 import app.ui.view.ViewManager;
 import dataaccess.AlphaVantagePriceGateway;
+import dataaccess.BinaryCheckpointDataAccess;
+import dataaccess.BinaryTradeJournal;
 import dataaccess.InMemorySessionDataAccessObject;
 import dataaccess.SimulationMarketDataAccess;
 import dataaccess.SupabasePortfolioDataAccessObject;
 import dataaccess.SupabaseTradeDataAccessObject;
 import entity.Account;
-import entity.SimulatedTradeRecord;
+import entity.OrderBook;
 import interfaceadapter.setup_simulation.SetupController;
 import interfaceadapter.setup_simulation.SetupPresenter;
 import interfaceadapter.setup_simulation.SetupViewModel;
+import interfaceadapter.simulated_trading.FrameCoalescingPresenter;
+import interfaceadapter.simulated_trading.SimulationClock;
 import interfaceadapter.simulated_trading.TradingController;
 import interfaceadapter.simulated_trading.TradingPresenter;
 import interfaceadapter.simulated_trading.TradingViewModel;
 import interfaceadapter.view_model.ViewManagerModel;
+import usecase.checkpoint.CheckpointInteractor;
 import usecase.price_chart.PriceDataAccessInterface;
 import usecase.setup_simulation.SetupInputData;
 import usecase.setup_simulation.SetupInteractor;
+import usecase.simulated_trade.RestingOrderMatcher;
 import usecase.simulated_trade.SimulatedTradeInteractor;
 import usecase.simulated_trade.SimulationDataAccessInterface;
-import usecase.simulated_trade.TradeClosedListener;
+import usecase.simulated_trade.WriteBehindTradeQueue;
 import usecase.update_market.UpdateMarketInteractor;
 
 public class SimulatedMain {
 
+    private static final int TICK_PREFETCH_CANDLES = 4;
+    private static final int TRADE_BATCH_SIZE = 50;
+    private static final long TRADE_BATCH_DELAY_MILLIS = 2_000L;
+    private static final long TRADE_RETRY_MILLIS = 1_000L;
+    private static final long TRADE_SHUTDOWN_MILLIS = 5_000L;
+    private static final String TRADE_JOURNAL_PATH = "trades.wal";
+
     private static final PriceDataAccessInterface baseGateway = new AlphaVantagePriceGateway();
     private static final SimulationDataAccessInterface simulationDAO = new SimulationMarketDataAccess(baseGateway);
     private static Optional<SetupInputData> setupInput = Optional.empty();
+    private static WriteBehindTradeQueue tradeWriter;
 
     /**
      * Listener responsible for creating and switching to the TradingView once
@@ -71,7 +86,6 @@ public class SimulatedMain {
         public void propertyChange(PropertyChangeEvent evt) {
             if (viewManagerModel.getActiveView().equals(TradingViewModel.VIEW_NAME) && setupInput.isPresent()) {
                 final SetupInputData input = setupInput.get();
-                final String ticker = input.getTicker();
 
                 // ---------------------------------------------------------------------
                 // 1. REAL LOGIN (your login page) — REPLACED ONLY THIS PART
@@ -97,18 +111,10 @@ public class SimulatedMain {
                 final SupabasePortfolioDataAccessObject portfolioDAO = new SupabasePortfolioDataAccessObject();
                 portfolioDAO.savePortfolio(UUID.fromString(userId), input.getInitialBalance());
 
-                account.addTradeClosedListener(new TradeClosedListener() {
-                    @Override
-                    public void onTradeClosed(SimulatedTradeRecord record) {
-                        try {
-                            final UUID userUuid = UUID.fromString(record.getUserId());
-                            tradeDAO.saveTrade(record, userUuid);
-                        }
-                        catch (Exception ex) {
-                            System.err.println("DB Save Failed: " + ex.getMessage());
-                        }
-                    }
-                });
+                // Closed trades are journaled and saved in batches in the background, so trading never waits on
+                // Supabase
+                final WriteBehindTradeQueue sessionTradeWriter = getTradeWriter(tradeDAO);
+                account.addTradeClosedListener(sessionTradeWriter);
 
                 // --- 3. Clean Architecture Assembly ---
 
@@ -118,21 +124,48 @@ public class SimulatedMain {
                         setupViewModel
                 );
 
+                // Output from the simulation thread is buffered and shown once per frame
+                final FrameCoalescingPresenter framePresenter = new FrameCoalescingPresenter(tradingPresenter);
+
+                // Each session generates ticks with the price path model chosen at setup
+                final SimulationDataAccessInterface marketDAO = new SimulationMarketDataAccess(
+                        baseGateway, input.getTickModel()
+                );
                 final UpdateMarketInteractor updateMarketInteractor = new UpdateMarketInteractor(
-                        simulationDAO, tradingPresenter, account, ticker
+                        marketDAO, framePresenter, account, input.getTickers()
                 );
                 updateMarketInteractor.setSpeed(input.getSpeedMultiplier());
+                updateMarketInteractor.setSeed(input.getSeed());
+                // Upcoming candles are generated off the tick thread, so rollovers do not stall it
+                updateMarketInteractor.setTickPrefetch(TICK_PREFETCH_CANDLES);
+
+                // Limit and stop orders rest here and are filled by the market loop
+                final OrderBook orderBook = new OrderBook();
+                updateMarketInteractor.setOrderMatcher(new RestingOrderMatcher(orderBook, account, framePresenter));
 
+                // Market orders fill at the board price when the clock runs them, not the price last drawn
                 final SimulatedTradeInteractor tradeInteractor = new SimulatedTradeInteractor(
-                        tradingPresenter, account
+                        framePresenter, account, updateMarketInteractor.getPriceBoard(), orderBook
+                );
+
+                final SimulationClock clock = new SimulationClock(updateMarketInteractor);
+
+                // Sessions are saved with their candles, so resuming needs no network
+                final CheckpointInteractor checkpointInteractor = new CheckpointInteractor(
+                        updateMarketInteractor, new BinaryCheckpointDataAccess(), framePresenter
                 );
 
                 final TradingController tradingController = new TradingController(
                         updateMarketInteractor,
                         tradeInteractor,
                         tradingPresenter,
-                        sessionDAO
+                        sessionDAO,
+                        clock,
+                        framePresenter,
+                        checkpointInteractor
                 );
+                // Trades that could not be saved yet are counted on screen
+                tradingController.setTradeWriter(sessionTradeWriter);
 
                 // --- 4. View Creation ---
                 views.removeAll();
@@ -145,10 +178,9 @@ public class SimulatedMain {
                 views.repaint();
 
                 // --- 5. Start Engine ---
-                new Thread(() -> {
-                    System.out.println("Loading data for " + ticker + "...");
-                    updateMarketInteractor.loadData(ticker);
-                }).start();
+                System.out.println("Loading data for " + String.join(", ", input.getTickers())
+                        + " (seed " + input.getSeed() + ")...");
+                tradingController.startSimulation();
 
                 setupInput = Optional.empty();
             }
@@ -156,6 +188,54 @@ public class SimulatedMain {
     }
 
     // Final Setup Presenter
+    /**
+     * Returns the queue that saves closed trades, creating it on first use.
+     * One queue and one journal serve every session of the process, and a
+     * shutdown hook gives queued trades a last chance to be saved.
+     *
+     * @param tradeDAO where trades are saved
+     * @return the shared trade writer
+     */
+    private static synchronized WriteBehindTradeQueue getTradeWriter(SupabaseTradeDataAccessObject tradeDAO) {
+        if (tradeWriter == null) {
+            final BinaryTradeJournal journal = openTradeJournal();
+            tradeWriter = new WriteBehindTradeQueue(
+                    tradeDAO, journal, TRADE_BATCH_SIZE, TRADE_BATCH_DELAY_MILLIS, TRADE_RETRY_MILLIS);
+            tradeWriter.start();
+            final WriteBehindTradeQueue writer = tradeWriter;
+            Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                try {
+                    final long unsaved = writer.close(TRADE_SHUTDOWN_MILLIS);
+                    if (unsaved > 0) {
+                        System.err.println("DB Save Failed: " + unsaved + " trades were not saved");
+                    }
+                    if (journal != null) {
+                        journal.close();
+                    }
+                }
+                catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                catch (IOException ex) {
+                    System.err.println("Trade journal close failed: " + ex.getMessage());
+                }
+            }, "trade-writer-shutdown"));
+        }
+        return tradeWriter;
+    }
+
+    private static BinaryTradeJournal openTradeJournal() {
+        BinaryTradeJournal journal = null;
+        try {
+            journal = new BinaryTradeJournal(TRADE_JOURNAL_PATH);
+        }
+        catch (IOException ex) {
+            System.err.println("Trade journal unavailable, unsaved trades are kept in memory only: "
+                    + ex.getMessage());
+        }
+        return journal;
+    }
+
     public static class FinalSetupPresenter extends SetupPresenter {
         public FinalSetupPresenter(ViewManagerModel viewManagerModel, TradingViewModel tradingViewModel,
                                    SetupViewModel setupViewModel) {
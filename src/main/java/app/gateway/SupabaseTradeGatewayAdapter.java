@@ -1,9 +1,11 @@
 package app.gateway;
 
 import entity.SimulatedTradeRecord;
+import usecase.portfolio_statistics.PortfolioAggregateGateway;
+import usecase.portfolio_statistics.PortfolioTradeAggregates;
 import usecase.portfolio_statistics.PortfolioTradeGateway;
 
-public class SupabaseTradeGatewayAdapter implements PortfolioTradeGateway {
+public class SupabaseTradeGatewayAdapter implements PortfolioTradeGateway, PortfolioAggregateGateway {
 
     private final dataaccess.SupabaseTradeDataAccessObject dao;
 
@@ -15,4 +17,9 @@ public class SupabaseTradeGatewayAdapter implements PortfolioTradeGateway {
     public java.util.List<SimulatedTradeRecord> fetchTradesForUser(java.util.UUID userId) {
         return dao.fetchTradesForUser(userId);
     }
+
+    @Override
+    public PortfolioTradeAggregates fetchTradeAggregates(java.util.UUID userId) {
+        return dao.fetchTradeAggregates(userId);
+    }
 }
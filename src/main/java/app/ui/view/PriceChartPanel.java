@@ -1,14 +1,23 @@
 package app.ui.view;
 
 import java.awt.*;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import javax.swing.*;
 
 public class PriceChartPanel extends JPanel {
-    private List<Double> priceHistory = new ArrayList<>();
+    private static final Color[] OVERLAY_COLORS = {
+        new Color(52, 152, 219),
+        new Color(155, 89, 182),
+        new Color(243, 156, 18),
+        new Color(26, 188, 156),
+        new Color(127, 140, 141),
+    };
+
+    private double[] priceHistory = new double[0];
+    private Map<String, double[]> overlays = new LinkedHashMap<>();
+    private Map<String, Double> readouts = new LinkedHashMap<>();
 
     public PriceChartPanel() {
         this.setBackground(Color.WHITE);
@@ -16,17 +25,31 @@ public class PriceChartPanel extends JPanel {
     }
 
     /**
-     * Updates the price history with the provided list of prices and repaints the component.
+     * Updates the price history and repaints the component.
      *
-     * @param newPrices the new list of price values to display
+     * @param newPrices the price values to display, oldest first; kept by reference and never modified
      */
-    public void updateData(List<Double> newPrices) {
-        // Copy data to avoid concurrency issues
-        this.priceHistory = new ArrayList<>(newPrices);
+    public void updateData(double[] newPrices) {
+        this.priceHistory = newPrices;
         // Triggers paintComponent
         this.repaint();
     }
 
+    /**
+     * Updates the price history together with indicator overlays and readouts.
+     * The arrays are read-only snapshots, so they are kept without copying.
+     *
+     * @param newPrices the price values to display, oldest first
+     * @param newOverlays indicator lines drawn on the price axis, aligned with the prices
+     * @param newReadouts latest indicator values; those without an overlay are printed as text
+     */
+    public void updateData(double[] newPrices, Map<String, double[]> newOverlays,
+                           Map<String, Double> newReadouts) {
+        this.overlays = newOverlays;
+        this.readouts = newReadouts;
+        updateData(newPrices);
+    }
+
     @Override
     protected void paintComponent(Graphics g) {
         super.paintComponent(g);
@@ -37,21 +60,33 @@ public class PriceChartPanel extends JPanel {
         final int height = getHeight();
         final int padding = 30;
 
-        if (priceHistory == null || priceHistory.size() < 2) {
+        if (priceHistory == null || priceHistory.length < 2) {
             g2.drawString("Waiting for market data...", width / 2 - 60, height / 2);
             return;
         }
 
-        // 1. Determine Y-axis range
-        final double minPrice = Collections.min(priceHistory);
-        final double maxPrice = Collections.max(priceHistory);
+        // 1. Determine Y-axis range (overlays such as bands can sit outside the price range)
+        double minPrice = Double.POSITIVE_INFINITY;
+        double maxPrice = Double.NEGATIVE_INFINITY;
+        for (double price : priceHistory) {
+            minPrice = Math.min(minPrice, price);
+            maxPrice = Math.max(maxPrice, price);
+        }
+        for (double[] line : overlays.values()) {
+            for (double value : line) {
+                if (!Double.isNaN(value)) {
+                    minPrice = Math.min(minPrice, value);
+                    maxPrice = Math.max(maxPrice, value);
+                }
+            }
+        }
         double range = maxPrice - minPrice;
         if (range == 0) {
             range = 1.0;
         }
 
         // 2. Calculate scales
-        final double xScale = (double) (width - 2 * padding) / (priceHistory.size() - 1);
+        final double xScale = (double) (width - 2 * padding) / (priceHistory.length - 1);
         final double yScale = (double) (height - 2 * padding) / range;
 
         // 3. Draw the Line Chart
@@ -59,19 +94,57 @@ public class PriceChartPanel extends JPanel {
         g2.setColor(new Color(235, 77, 75));
         g2.setStroke(new BasicStroke(2f));
 
-        for (int i = 0; i < priceHistory.size() - 1; i++) {
+        for (int i = 0; i < priceHistory.length - 1; i++) {
             final int x1 = (int) (i * xScale + padding);
-            final int y1 = (int) ((maxPrice - priceHistory.get(i)) * yScale + padding);
+            final int y1 = (int) ((maxPrice - priceHistory[i]) * yScale + padding);
 
             final int x2 = (int) ((i + 1) * xScale + padding);
-            final int y2 = (int) ((maxPrice - priceHistory.get(i + 1)) * yScale + padding);
+            final int y2 = (int) ((maxPrice - priceHistory[i + 1]) * yScale + padding);
 
             g2.drawLine(x1, y1, x2, y2);
         }
 
-        // 4. Draw current price label
+        // 4. Draw indicator overlays on the same scale
+        g2.setStroke(new BasicStroke(1f));
+        int colorIndex = 0;
+        int legendY = 20;
+        for (Map.Entry<String, double[]> entry : overlays.entrySet()) {
+            g2.setColor(OVERLAY_COLORS[colorIndex % OVERLAY_COLORS.length]);
+            drawOverlay(g2, entry.getValue(), xScale, yScale, maxPrice, padding);
+            g2.drawString(entry.getKey(), padding, legendY);
+            legendY += 14;
+            colorIndex++;
+        }
+
+        // 5. Oscillator readouts that have no overlay line
+        g2.setColor(Color.DARK_GRAY);
+        for (Map.Entry<String, Double> entry : readouts.entrySet()) {
+            if (!overlays.containsKey(entry.getKey())) {
+                g2.drawString(String.format("%s: %.2f", entry.getKey(), entry.getValue()), padding, legendY);
+                legendY += 14;
+            }
+        }
+
+        // 6. Draw current price label
         g2.setColor(Color.BLACK);
-        final double lastPrice = priceHistory.get(priceHistory.size() - 1);
+        final double lastPrice = priceHistory[priceHistory.length - 1];
         g2.drawString(String.format("Current: %.2f", lastPrice), width - 120, 20);
     }
+
+    private void drawOverlay(Graphics2D g2, double[] line, double xScale, double yScale,
+                             double maxPrice, int padding) {
+        final int points = Math.min(line.length, priceHistory.length);
+        for (int i = 0; i < points - 1; i++) {
+            final double from = line[i];
+            final double to = line[i + 1];
+            if (Double.isNaN(from) || Double.isNaN(to)) {
+                continue;
+            }
+            final int x1 = (int) (i * xScale + padding);
+            final int y1 = (int) ((maxPrice - from) * yScale + padding);
+            final int x2 = (int) ((i + 1) * xScale + padding);
+            final int y2 = (int) ((maxPrice - to) * yScale + padding);
+            g2.drawLine(x1, y1, x2, y2);
+        }
+    }
 }
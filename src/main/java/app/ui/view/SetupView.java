@@ -11,16 +11,22 @@ import javax.swing.border.LineBorder;
 
 import interfaceadapter.setup_simulation.SetupController;
 import interfaceadapter.setup_simulation.SetupViewModel;
+import usecase.tick_model.TickModelType;
+import usecase.update_market.UpdateMarketInteractor;
 
 public class SetupView extends JPanel implements PropertyChangeListener {
 
+    private static final String MAX_SPEED_LABEL = "Max";
+
     public final String viewName = SetupViewModel.VIEW_NAME;
     private final SetupController controller;
     private final SetupViewModel viewModel;
 
     private final JTextField tickerField = new JTextField(10);
     private final JTextField balanceField = new JTextField("100000.00", 10);
+    private final JTextField seedField = new JTextField(10);
     private final JComboBox<String> speedComboBox;
+    private final JComboBox<String> tickModelComboBox = new JComboBox<>();
     private final JButton startButton = new JButton(SetupViewModel.START_BUTTON_LABEL);
     private final JLabel errorLabel = new JLabel(" ");
 
@@ -70,7 +76,7 @@ public class SetupView extends JPanel implements PropertyChangeListener {
         final JPanel centerWrapper = new JPanel(new GridBagLayout());
         centerWrapper.setOpaque(false);
 
-        final JPanel formPanel = new JPanel(new GridLayout(4, 2, 30, 35));
+        final JPanel formPanel = new JPanel(new GridLayout(6, 2, 30, 35));
         formPanel.setBackground(CARD_COLOR);
         formPanel.setBorder(new CompoundBorder(
                 new LineBorder(new Color(220, 220, 220), 2, true),
@@ -78,11 +84,12 @@ public class SetupView extends JPanel implements PropertyChangeListener {
         ));
 
         // Input Fields Styling
-        styleLabelAndInput(formPanel, "Ticker Symbol (e.g., AAPL):", tickerField);
+        styleLabelAndInput(formPanel, "Ticker Symbols (e.g., AAPL, MSFT):", tickerField);
         styleLabelAndInput(formPanel, "Initial Balance ($):", balanceField);
+        styleLabelAndInput(formPanel, "Seed (optional):", seedField);
 
         // Speed ComboBox
-        final String[] speeds = {"5x", "10x", "20x", "30x"};
+        final String[] speeds = {"5x", "10x", "20x", "30x", MAX_SPEED_LABEL};
         speedComboBox = new JComboBox<>(speeds);
         speedComboBox.setSelectedItem("10x");
         speedComboBox.setFont(INPUT_FONT);
@@ -95,9 +102,25 @@ public class SetupView extends JPanel implements PropertyChangeListener {
         formPanel.add(speedLabel);
         formPanel.add(speedComboBox);
 
+        // Price path model ComboBox
+        for (TickModelType type : TickModelType.values()) {
+            tickModelComboBox.addItem(type.getLabel());
+        }
+        tickModelComboBox.setSelectedItem(TickModelType.DEFAULT.getLabel());
+        tickModelComboBox.setFont(INPUT_FONT);
+        tickModelComboBox.setBackground(Color.WHITE);
+
+        final JLabel tickModelLabel = new JLabel("Price Path:");
+        tickModelLabel.setFont(LABEL_FONT);
+        tickModelLabel.setForeground(TEXT_COLOR);
+
+        formPanel.add(tickModelLabel);
+        formPanel.add(tickModelComboBox);
+
         final JLabel hintSpacer = new JLabel("");
         final JLabel speedHint = new JLabel("<html><body style='width: 200px'>Note: 10x speed means 1 minute "
-                + "in real life equals 10 minutes in simulation.</body></html>");
+                + "in real life equals 10 minutes in simulation. Max replays as fast as "
+                + "the computer allows.</body></html>");
         speedHint.setFont(HINT_FONT);
         speedHint.setForeground(Color.GRAY);
 
@@ -148,13 +171,25 @@ public class SetupView extends JPanel implements PropertyChangeListener {
         try {
             final String ticker = tickerField.getText().toUpperCase();
             final double balance = Double.parseDouble(balanceField.getText());
-            final int speed = Integer.parseInt(speedComboBox.getSelectedItem().toString().replace("x", ""));
-
-            controller.execute(ticker, balance, speed);
+            final String speedText = speedComboBox.getSelectedItem().toString();
+            int speed = UpdateMarketInteractor.UNLIMITED_SPEED;
+            if (!MAX_SPEED_LABEL.equals(speedText)) {
+                speed = Integer.parseInt(speedText.replace("x", ""));
+            }
+            final String seedText = seedField.getText().trim();
+            Long seed = null;
+            if (!seedText.isEmpty()) {
+                seed = Long.parseLong(seedText);
+            }
+
+            final TickModelType tickModel =
+                    TickModelType.fromLabel(tickModelComboBox.getSelectedItem().toString());
+
+            controller.execute(ticker, balance, speed, seed, tickModel);
 
         }
         catch (NumberFormatException ex) {
-            errorLabel.setText("⚠️ Input Error: Balance/Speed must be valid numbers.");
+            errorLabel.setText("⚠️ Input Error: Balance/Speed/Seed must be valid numbers.");
         }
     }
 
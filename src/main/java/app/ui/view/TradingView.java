@@ -12,12 +12,18 @@ import java.awt.event.ActionListener;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import javax.swing.BorderFactory;
 import javax.swing.Box;
 import javax.swing.BoxLayout;
+import javax.swing.DefaultComboBoxModel;
 import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JComboBox;
+import javax.swing.JFileChooser;
 import javax.swing.JLabel;
 import javax.swing.JOptionPane;
 import javax.swing.JPanel;
@@ -30,10 +36,12 @@ import javax.swing.Timer;
 import javax.swing.border.EmptyBorder;
 import javax.swing.table.DefaultTableModel;
 
+import entity.OrderType;
 import entity.Position;
 import interfaceadapter.simulated_trading.TradingController;
 import interfaceadapter.simulated_trading.TradingState;
 import interfaceadapter.simulated_trading.TradingViewModel;
+import usecase.indicator.IndicatorType;
 
 public class TradingView extends JPanel implements ActionListener, PropertyChangeListener {
 
@@ -45,29 +53,41 @@ public class TradingView extends JPanel implements ActionListener, PropertyChang
     private final JLabel availableCashLabel = new JLabel();
     private final JLabel tickerLabel = new JLabel("---");
 
-    // Portfolio Summary Labels (8 Total Metrics)
+    // Portfolio Summary Labels (10 Total Metrics)
     private final JLabel totalProfitLabel = new JLabel("0.00");
     private final JLabel totalReturnLabel = new JLabel("0.00%");
     private final JLabel maxDrawdownLabel = new JLabel("0.00%");
+    private final JLabel longestDrawdownLabel = new JLabel("0:00:00");
+    private final JLabel timeUnderwaterLabel = new JLabel("0.00%");
     private final JLabel maxGainLabel = new JLabel("0.00%");
     private final JLabel totalTradesLabel = new JLabel("0");
     private final JLabel winningTradesLabel = new JLabel("0");
     private final JLabel losingTradesLabel = new JLabel("0");
     private final JLabel winRateLabel = new JLabel("0.00%");
+    private final JLabel pendingUploadsLabel = new JLabel("0");
 
     // Wallet Table Components
     private final DefaultTableModel walletTableModel;
     private final JTable walletTable;
 
+    private final JComboBox<String> tradeTickerBox = new JComboBox<>();
     private final JTextField amountField = new JTextField(10);
+    private final JComboBox<String> orderTypeBox = new JComboBox<>();
+    private final JTextField limitPriceField = new JTextField(10);
+    private final JTextField stopPriceField = new JTextField(10);
     private final JButton buyButton = new JButton(TradingViewModel.BUY_BUTTON_LABEL);
     private final JButton sellButton = new JButton(TradingViewModel.SELL_BUTTON_LABEL);
     private final PriceChartPanel chartPanel = new PriceChartPanel();
+    private final List<JCheckBox> indicatorBoxes = new ArrayList<>();
 
     private final JButton backButton = new JButton("Back");
     private final JButton orderHistoryButton = new JButton("View All Order History");
+    private final JButton saveSessionButton = new JButton("Save Session");
+    private final JButton loadSessionButton = new JButton("Load Session");
 
-    private final Timer timer = new Timer(1000, this);
+    // Display frame timer (~60 fps); the simulation itself runs on its own clock thread
+    private static final int FRAME_MILLIS = 16;
+    private final Timer timer = new Timer(FRAME_MILLIS, this);
 
     public TradingView(TradingController controller, TradingViewModel viewModel) {
         this.controller = controller;
@@ -102,6 +122,8 @@ public class TradingView extends JPanel implements ActionListener, PropertyChang
         tickerPanel.add(tickerLabel);
 
         final JPanel rightHeader = new JPanel(new FlowLayout(FlowLayout.RIGHT));
+        rightHeader.add(saveSessionButton);
+        rightHeader.add(loadSessionButton);
         rightHeader.add(backButton);
 
         headerPanel.add(cashPanel, BorderLayout.WEST);
@@ -117,6 +139,8 @@ public class TradingView extends JPanel implements ActionListener, PropertyChang
         final JPanel centerContainer = new JPanel();
         centerContainer.setLayout(new BoxLayout(centerContainer, BoxLayout.Y_AXIS));
 
+        centerContainer.add(createIndicatorPanel());
+
         chartPanel.setPreferredSize(new Dimension(800, 450));
         centerContainer.add(chartPanel);
 
@@ -153,6 +177,10 @@ public class TradingView extends JPanel implements ActionListener, PropertyChang
         this.add(createSummaryPanel(), BorderLayout.SOUTH);
 
         backButton.addActionListener(pressback -> {
+            timer.stop();
+            if (controller != null) {
+                controller.stopSimulation();
+            }
             final java.awt.Window currentWindow = SwingUtilities.getWindowAncestor(this);
             if (currentWindow != null) {
                 currentWindow.dispose();
@@ -189,20 +217,65 @@ public class TradingView extends JPanel implements ActionListener, PropertyChang
             }
         });
 
+        saveSessionButton.addActionListener(presssave -> handleSession(true));
+        loadSessionButton.addActionListener(pressload -> handleSession(false));
+
         if (this.controller != null) {
             timer.start();
         }
     }
 
+    private void handleSession(boolean save) {
+        if (controller == null || !controller.canSaveSessions()) {
+            JOptionPane.showMessageDialog(this, "Simulation not fully initialized.",
+                    "Error", JOptionPane.ERROR_MESSAGE);
+            return;
+        }
+        final JFileChooser chooser = new JFileChooser();
+        final int choice;
+        if (save) {
+            choice = chooser.showSaveDialog(this);
+        }
+        else {
+            choice = chooser.showOpenDialog(this);
+        }
+        if (choice == JFileChooser.APPROVE_OPTION) {
+            final String path = chooser.getSelectedFile().getAbsolutePath();
+            if (save) {
+                controller.executeSaveSession(path);
+            }
+            else {
+                controller.executeLoadSession(path);
+            }
+        }
+    }
+
     private JPanel createControlPanel() {
         final JPanel panel = new JPanel();
         panel.setLayout(new BoxLayout(panel, BoxLayout.Y_AXIS));
         panel.setBorder(BorderFactory.createEmptyBorder(20, 20, 20, 20));
 
+        panel.add(new JLabel("Ticker"));
+        panel.add(tradeTickerBox);
+        panel.add(Box.createVerticalStrut(10));
+
         panel.add(new JLabel("Amount(USD)"));
         panel.add(amountField);
         panel.add(Box.createVerticalStrut(10));
 
+        for (OrderType type : OrderType.values()) {
+            orderTypeBox.addItem(type.getLabel());
+        }
+        orderTypeBox.addActionListener(select -> updateOrderPriceFields());
+        panel.add(new JLabel("Order Type"));
+        panel.add(orderTypeBox);
+        panel.add(new JLabel("Limit Price"));
+        panel.add(limitPriceField);
+        panel.add(new JLabel("Stop Price"));
+        panel.add(stopPriceField);
+        updateOrderPriceFields();
+        panel.add(Box.createVerticalStrut(10));
+
         buyButton.setBackground(new Color(0, 150, 0));
         buyButton.setForeground(Color.BLACK);
         buyButton.setOpaque(true);
@@ -220,8 +293,54 @@ public class TradingView extends JPanel implements ActionListener, PropertyChang
         return panel;
     }
 
+    private OrderType selectedOrderType() {
+        return OrderType.values()[Math.max(0, orderTypeBox.getSelectedIndex())];
+    }
+
+    private void updateOrderPriceFields() {
+        final OrderType type = selectedOrderType();
+        limitPriceField.setEnabled(type.hasLimit());
+        stopPriceField.setEnabled(type.hasStop());
+    }
+
+    private static double parseOptionalPrice(JTextField field) {
+        double price = Double.NaN;
+        if (field.isEnabled()) {
+            price = Double.parseDouble(field.getText());
+        }
+        return price;
+    }
+
+    private JPanel createIndicatorPanel() {
+        final JPanel panel = new JPanel(new FlowLayout(FlowLayout.LEFT, 8, 0));
+        panel.setMaximumSize(new Dimension(Integer.MAX_VALUE, 30));
+        panel.add(new JLabel("Indicators:"));
+
+        for (IndicatorType type : IndicatorType.values()) {
+            final JCheckBox box = new JCheckBox(type.getLabel());
+            box.addActionListener(toggle -> handleIndicatorSelection());
+            indicatorBoxes.add(box);
+            panel.add(box);
+        }
+        return panel;
+    }
+
+    private void handleIndicatorSelection() {
+        if (controller == null) {
+            return;
+        }
+        final List<IndicatorType> selected = new ArrayList<>();
+        final IndicatorType[] types = IndicatorType.values();
+        for (int i = 0; i < types.length; i++) {
+            if (indicatorBoxes.get(i).isSelected()) {
+                selected.add(types[i]);
+            }
+        }
+        controller.executeSelectIndicators(selected);
+    }
+
     private JPanel createSummaryPanel() {
-        final JPanel summaryPanel = new JPanel(new GridLayout(4, 2, 10, 5));
+        final JPanel summaryPanel = new JPanel(new GridLayout(6, 2, 10, 5));
         summaryPanel.setBorder(BorderFactory.createTitledBorder("Portfolio Summary"));
 
         summaryPanel.add(createStatPanel("Total Equity", totalProfitLabel));
@@ -230,12 +349,17 @@ public class TradingView extends JPanel implements ActionListener, PropertyChang
         summaryPanel.add(createStatPanel("Max Gain", maxGainLabel));
         summaryPanel.add(createStatPanel("Max Drawdown", maxDrawdownLabel));
 
+        summaryPanel.add(createStatPanel("Longest Drawdown", longestDrawdownLabel));
+        summaryPanel.add(createStatPanel("Time Underwater", timeUnderwaterLabel));
+
         summaryPanel.add(createStatPanel("Total Trades", totalTradesLabel));
         summaryPanel.add(createStatPanel("Winning Trades", winningTradesLabel));
 
         summaryPanel.add(createStatPanel("Losing Trades", losingTradesLabel));
         summaryPanel.add(createStatPanel("Win Rate", winRateLabel));
 
+        summaryPanel.add(createStatPanel("Trades Pending Upload", pendingUploadsLabel));
+
         return summaryPanel;
     }
 
@@ -258,10 +382,16 @@ public class TradingView extends JPanel implements ActionListener, PropertyChang
         }
         try {
             final double amount = Double.parseDouble(amountField.getText());
-            final String priceStr = viewModel.getState().getCurrentPrice().replace("$", "").replace(",", "");
-            final double currentPrice = Double.parseDouble(priceStr);
+            final TradingState state = viewModel.getState();
+            String ticker = (String) tradeTickerBox.getSelectedItem();
+            if (ticker == null) {
+                ticker = state.getTicker();
+            }
 
-            controller.executeTrade(viewModel.getState().getTicker(), amount, isBuy, currentPrice);
+            // Market orders fill at the price current when the simulation thread runs them
+            final OrderType orderType = selectedOrderType();
+            controller.executeOrder(ticker, amount, isBuy, orderType,
+                    parseOptionalPrice(limitPriceField), parseOptionalPrice(stopPriceField));
             amountField.setText("");
         }
         catch (Exception ex) {
@@ -273,7 +403,7 @@ public class TradingView extends JPanel implements ActionListener, PropertyChang
     @Override
     public void actionPerformed(ActionEvent e) {
         if (controller != null) {
-            controller.executeTimerTick();
+            controller.executeRenderFrame();
         }
     }
 
@@ -284,31 +414,48 @@ public class TradingView extends JPanel implements ActionListener, PropertyChang
         if (state.getError() != null) {
             JOptionPane.showMessageDialog(this, state.getError());
         }
+        if (state.getMessage() != null) {
+            JOptionPane.showMessageDialog(this, state.getMessage());
+        }
 
         availableCashLabel.setText(state.getAvailableCash());
         totalProfitLabel.setText(state.getTotalProfit());
         totalReturnLabel.setText(state.getTotalReturnRate());
         maxDrawdownLabel.setText(state.getMaxDrawdown());
+        longestDrawdownLabel.setText(state.getLongestDrawdown());
+        timeUnderwaterLabel.setText(state.getTimeUnderwater());
         maxGainLabel.setText(state.getMaxGain());
         totalTradesLabel.setText(state.getTotalTrades());
         winningTradesLabel.setText(state.getWinningTrades());
         losingTradesLabel.setText(state.getLosingTrades());
         winRateLabel.setText(state.getWinRate());
+        pendingUploadsLabel.setText(state.getPendingUploads());
 
-        chartPanel.updateData(state.getChartData());
+        chartPanel.updateData(state.getChartData(), state.getOverlaySeries(), state.getIndicatorValues());
         tickerLabel.setText(state.getTicker());
 
-        updateWalletTable(state.getPositions(), state.getCurrentPrice());
+        updateTradeTickers(state.getPrices());
+        updateWalletTable(state.getPositions(), state.getPrices());
     }
 
-    private void updateWalletTable(Map<String, Position> positions, String currentPriceStr) {
-        walletTableModel.setRowCount(0);
+    private void updateTradeTickers(Map<String, Double> prices) {
+        // Tickers appear as their feeds start trading; existing entries keep the selection
+        for (String ticker : prices.keySet()) {
+            if (((DefaultComboBoxModel<String>) tradeTickerBox.getModel()).getIndexOf(ticker) < 0) {
+                tradeTickerBox.addItem(ticker);
+            }
+        }
+    }
 
-        try {
-            final double currentPrice = Double.parseDouble(currentPriceStr.replace("$", "").replace(",", ""));
+    private void updateWalletTable(Map<String, Position> positions, Map<String, Double> prices) {
+        walletTableModel.setRowCount(0);
 
-            for (Map.Entry<String, Position> entry : positions.entrySet()) {
-                final Position p = entry.getValue();
+        for (Map.Entry<String, Position> entry : positions.entrySet()) {
+            final Position p = entry.getValue();
+            final Double boardPrice = prices.get(p.getTicker());
+            // Positions are only opened at a board price, so this is just a guard
+            if (boardPrice != null) {
+                final double currentPrice = boardPrice;
 
                 final double totalCostBasis = p.getAvgPrice() * p.getQuantity();
                 final double unrealizedPnL = p.getUnrealizedPnL(currentPrice);
@@ -329,8 +476,5 @@ public class TradingView extends JPanel implements ActionListener, PropertyChang
                     String.format("%.3f%%", returnRate * 100)});
             }
         }
-        catch (NumberFormatException ex) {
-            // Price data hasn't loaded yet, ignore table update
-        }
     }
 }
@@ -0,0 +1,401 @@
+package dataaccess;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import entity.AccountSnapshot;
+import entity.OrderType;
+import entity.Position;
+import entity.PricePoint;
+import entity.SimulatedOrder;
+import entity.TimeInterval;
+import usecase.checkpoint.CheckpointDataAccessInterface;
+import usecase.indicator.IndicatorType;
+import usecase.tick_model.TickModelType;
+import usecase.update_market.SimulationCheckpoint;
+
+/**
+ * Stores simulation checkpoints in a compact binary file.
+ *
+ * <p>The file starts with a magic number and a format version, followed by
+ * the seed, the price path model, the engine counters, the account, the
+ * equity curve, resting orders, selected indicators, each ticker's candles and
+ * position, and the chart history. Files of any other version are rejected.
+ * Numbers are written in their fixed-width binary form and missing prices as
+ * NaN. Strings go
+ * through a table built while writing: the first occurrence is written in
+ * full and later ones as its index, so the ticker and source repeated on
+ * every candle cost four bytes each.</p>
+ *
+ * <p>Checkpoints are written to a temporary file that replaces the target
+ * only once complete, so a failed save never destroys an earlier one.</p>
+ */
+public class BinaryCheckpointDataAccess implements CheckpointDataAccessInterface {
+
+    // "SIMC"
+    private static final int MAGIC = 0x53494D43;
+    private static final int VERSION = 1;
+    private static final int NULL_STRING = -1;
+    private static final long NULL_TIME = Long.MIN_VALUE;
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    @Override
+    public long save(SimulationCheckpoint checkpoint, String path) throws IOException {
+        final Path target = Paths.get(path);
+        final Path temp = target.resolveSibling(target.getFileName() + TEMP_SUFFIX);
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            new Writer(out).write(checkpoint);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        return Files.size(target);
+    }
+
+    @Override
+    public SimulationCheckpoint load(String path) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(
+                Paths.get(path))))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(path + " is not a simulation checkpoint.");
+            }
+            final int version = in.readInt();
+            if (version != VERSION) {
+                throw new IOException("Unsupported checkpoint version " + version + ".");
+            }
+            return new Reader(in).read();
+        }
+        catch (IllegalArgumentException ex) {
+            // Unknown enum names and similar damage in an otherwise readable file
+            throw new IOException("Corrupt checkpoint: " + ex.getMessage(), ex);
+        }
+    }
+
+    /**
+     * Writes one checkpoint, remembering the strings already written.
+     */
+    private static final class Writer {
+        private final DataOutputStream out;
+        private final Map<String, Integer> strings = new HashMap<>();
+
+        Writer(DataOutputStream out) {
+            this.out = out;
+        }
+
+        void write(SimulationCheckpoint checkpoint) throws IOException {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(checkpoint.getSeed());
+            writeString(checkpoint.getTickModel().name());
+            out.writeLong(checkpoint.getTicksProcessed());
+            out.writeLong(checkpoint.getSkippedCandles());
+            out.writeDouble(checkpoint.getLastPrice());
+            out.writeDouble(checkpoint.getLastEquity());
+            writeAccount(checkpoint.getAccount());
+            writeEquityCurve(checkpoint.getEquityCurve());
+
+            out.writeInt(checkpoint.getOpenOrders().size());
+            for (SimulatedOrder order : checkpoint.getOpenOrders()) {
+                writeOrder(order);
+            }
+
+            out.writeInt(checkpoint.getIndicators().size());
+            for (IndicatorType type : checkpoint.getIndicators()) {
+                writeString(type.name());
+            }
+
+            out.writeInt(checkpoint.getFeeds().size());
+            for (SimulationCheckpoint.FeedState feed : checkpoint.getFeeds()) {
+                writeFeed(feed);
+            }
+
+            writeDoubles(checkpoint.getChartTicks());
+            writeDoubles(checkpoint.getChartVolumes());
+        }
+
+        private void writeAccount(AccountSnapshot account) throws IOException {
+            out.writeDouble(account.getInitialBalance());
+            out.writeDouble(account.getBalance());
+            out.writeDouble(account.getMaxEquity());
+            out.writeDouble(account.getMaxGain());
+            out.writeDouble(account.getLargestLosingTrade());
+            out.writeInt(account.getTotalTrades());
+            out.writeInt(account.getWinningTrades());
+            out.writeInt(account.getPositions().size());
+            for (int i = 0; i < account.getPositions().size(); i++) {
+                final Position position = account.getPositions().get(i);
+                writeString(position.getTicker());
+                out.writeBoolean(position.isLong());
+                out.writeInt(position.getQuantity());
+                out.writeDouble(position.getAvgPrice());
+                out.writeDouble(account.getMark(i));
+            }
+            out.writeDouble(account.getCostBasis());
+            out.writeDouble(account.getNetExposure());
+            out.writeDouble(account.getGrossExposure());
+        }
+
+        private void writeEquityCurve(SimulationCheckpoint.EquityCurveState curve) throws IOException {
+            out.writeBoolean(curve != null);
+            if (curve != null) {
+                out.writeDouble(curve.getPeak());
+                out.writeDouble(curve.getMaxDrawdown());
+                out.writeLong(curve.getDrawdownTicks());
+                out.writeLong(curve.getLongestDrawdownTicks());
+                out.writeLong(curve.getUnderwaterTicks());
+                out.writeLong(curve.getTrackedTicks());
+                out.writeInt(curve.getTicksUntilSample());
+                writeDoubles(curve.getSamples());
+            }
+        }
+
+        private void writeOrder(SimulatedOrder order) throws IOException {
+            writeString(order.getOrderId());
+            writeString(order.getTicker());
+            out.writeBoolean(order.isLong());
+            out.writeInt(order.getQuantity());
+            writeString(order.getOrderType().name());
+            out.writeDouble(order.getLimitPrice());
+            out.writeDouble(order.getStopPrice());
+            writeTime(order.getEntryTime());
+            out.writeBoolean(order.isTriggered());
+        }
+
+        private void writeFeed(SimulationCheckpoint.FeedState feed) throws IOException {
+            writeString(feed.getTicker());
+            out.writeInt(feed.getCandleIndex());
+            out.writeInt(feed.getTickIndex());
+            out.writeDouble(feed.getLastPrice());
+            out.writeInt(feed.getCandles().size());
+            for (PricePoint candle : feed.getCandles()) {
+                writeString(candle.getId());
+                writeString(candle.getCompanyId());
+                writeTime(candle.getTimestamp());
+                writeString(candle.getInterval() == null ? null : candle.getInterval().name());
+                writeNullableDouble(candle.getOpen());
+                writeNullableDouble(candle.getHigh());
+                writeNullableDouble(candle.getLow());
+                writeNullableDouble(candle.getClose());
+                writeNullableDouble(candle.getVolume());
+                writeString(candle.getSource());
+            }
+        }
+
+        private void writeDoubles(double[] values) throws IOException {
+            out.writeInt(values.length);
+            for (double value : values) {
+                out.writeDouble(value);
+            }
+        }
+
+        private void writeNullableDouble(Double value) throws IOException {
+            out.writeDouble(value == null ? Double.NaN : value);
+        }
+
+        private void writeTime(LocalDateTime time) throws IOException {
+            if (time == null) {
+                out.writeLong(NULL_TIME);
+            }
+            else {
+                out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+                out.writeInt(time.getNano());
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            if (value == null) {
+                out.writeInt(NULL_STRING);
+            }
+            else {
+                final Integer index = strings.get(value);
+                if (index == null) {
+                    // A new string is announced by the next free index
+                    out.writeInt(strings.size());
+                    out.writeUTF(value);
+                    strings.put(value, strings.size());
+                }
+                else {
+                    out.writeInt(index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads one checkpoint, rebuilding the string table as it goes.
+     */
+    private static final class Reader {
+        private final DataInputStream in;
+        private final List<String> strings = new ArrayList<>();
+
+        Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        SimulationCheckpoint read() throws IOException {
+            final long seed = in.readLong();
+            final TickModelType tickModel = TickModelType.valueOf(readString());
+            final long ticksProcessed = in.readLong();
+            final long skippedCandles = in.readLong();
+            final double lastPrice = in.readDouble();
+            final double lastEquity = in.readDouble();
+            final AccountSnapshot account = readAccount();
+            SimulationCheckpoint.EquityCurveState equityCurve = null;
+            if (in.readBoolean()) {
+                equityCurve = readEquityCurve();
+            }
+
+            final int orderCount = readCount();
+            final List<SimulatedOrder> orders = new ArrayList<>(orderCount);
+            for (int i = 0; i < orderCount; i++) {
+                orders.add(readOrder());
+            }
+
+            final int indicatorCount = readCount();
+            final List<IndicatorType> indicators = new ArrayList<>(indicatorCount);
+            for (int i = 0; i < indicatorCount; i++) {
+                indicators.add(IndicatorType.valueOf(readString()));
+            }
+
+            final int feedCount = readCount();
+            final List<SimulationCheckpoint.FeedState> feeds = new ArrayList<>(feedCount);
+            for (int i = 0; i < feedCount; i++) {
+                feeds.add(readFeed());
+            }
+
+            final double[] chartTicks = readDoubles();
+            final double[] chartVolumes = readDoubles();
+            return new SimulationCheckpoint(seed, tickModel, ticksProcessed, skippedCandles, lastPrice, lastEquity,
+                    account, equityCurve, orders, indicators, feeds, chartTicks, chartVolumes);
+        }
+
+        private AccountSnapshot readAccount() throws IOException {
+            final double initialBalance = in.readDouble();
+            final double balance = in.readDouble();
+            final double maxEquity = in.readDouble();
+            final double maxGain = in.readDouble();
+            final double largestLosingTrade = in.readDouble();
+            final int totalTrades = in.readInt();
+            final int winningTrades = in.readInt();
+            final int positionCount = readCount();
+            final List<Position> positions = new ArrayList<>(positionCount);
+            final double[] marks = new double[positionCount];
+            for (int i = 0; i < positionCount; i++) {
+                positions.add(new Position(readString(), in.readBoolean(), in.readInt(), in.readDouble()));
+                marks[i] = in.readDouble();
+            }
+            return new AccountSnapshot(initialBalance, balance, maxEquity, maxGain, largestLosingTrade,
+                    totalTrades, winningTrades, positions, marks, in.readDouble(), in.readDouble(), in.readDouble());
+        }
+
+        private SimulationCheckpoint.EquityCurveState readEquityCurve() throws IOException {
+            final double peak = in.readDouble();
+            final double maxDrawdown = in.readDouble();
+            final long drawdownTicks = in.readLong();
+            final long longestDrawdownTicks = in.readLong();
+            final long underwaterTicks = in.readLong();
+            final long trackedTicks = in.readLong();
+            final int ticksUntilSample = in.readInt();
+            return new SimulationCheckpoint.EquityCurveState(peak, maxDrawdown, drawdownTicks, longestDrawdownTicks,
+                    underwaterTicks, trackedTicks, ticksUntilSample, readDoubles());
+        }
+
+        private SimulatedOrder readOrder() throws IOException {
+            final String orderId = readString();
+            final String ticker = readString();
+            final boolean isLong = in.readBoolean();
+            final int quantity = in.readInt();
+            final OrderType type = OrderType.valueOf(readString());
+            final double limit = in.readDouble();
+            final double stop = in.readDouble();
+            final SimulatedOrder order = new SimulatedOrder(orderId, ticker, isLong, quantity, type, limit, stop,
+                    readTime());
+            order.setTriggered(in.readBoolean());
+            return order;
+        }
+
+        private SimulationCheckpoint.FeedState readFeed() throws IOException {
+            final String ticker = readString();
+            final int candleIndex = in.readInt();
+            final int tickIndex = in.readInt();
+            final double lastPrice = in.readDouble();
+            final int candleCount = readCount();
+            final List<PricePoint> candles = new ArrayList<>(candleCount);
+            for (int i = 0; i < candleCount; i++) {
+                final String id = readString();
+                final String companyId = readString();
+                final LocalDateTime timestamp = readTime();
+                final String interval = readString();
+                candles.add(new PricePoint(id, companyId, timestamp,
+                        interval == null ? null : TimeInterval.valueOf(interval),
+                        readNullableDouble(), readNullableDouble(), readNullableDouble(), readNullableDouble(),
+                        readNullableDouble(), readString()));
+            }
+            return new SimulationCheckpoint.FeedState(ticker, candles, candleIndex, tickIndex, lastPrice);
+        }
+
+        private double[] readDoubles() throws IOException {
+            final double[] values = new double[readCount()];
+            for (int i = 0; i < values.length; i++) {
+                values[i] = in.readDouble();
+            }
+            return values;
+        }
+
+        private Double readNullableDouble() throws IOException {
+            final double value = in.readDouble();
+            Double result = null;
+            if (!Double.isNaN(value)) {
+                result = value;
+            }
+            return result;
+        }
+
+        private LocalDateTime readTime() throws IOException {
+            final long seconds = in.readLong();
+            LocalDateTime time = null;
+            if (seconds != NULL_TIME) {
+                time = LocalDateTime.ofEpochSecond(seconds, in.readInt(), ZoneOffset.UTC);
+            }
+            return time;
+        }
+
+        private String readString() throws IOException {
+            final int index = in.readInt();
+            final String value;
+            if (index == NULL_STRING) {
+                value = null;
+            }
+            else if (index == strings.size()) {
+                value = in.readUTF();
+                strings.add(value);
+            }
+            else if (index >= 0 && index < strings.size()) {
+                value = strings.get(index);
+            }
+            else {
+                throw new IOException("Corrupt checkpoint: unknown string " + index + ".");
+            }
+            return value;
+        }
+
+        private int readCount() throws IOException {
+            final int count = in.readInt();
+            if (count < 0) {
+                throw new IOException("Corrupt checkpoint: negative count " + count + ".");
+            }
+            return count;
+        }
+    }
+}
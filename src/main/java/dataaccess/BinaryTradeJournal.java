@@ -0,0 +1,412 @@
+package dataaccess;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import entity.SimulatedTradeRecord;
+import usecase.simulated_trade.JournaledTrade;
+import usecase.simulated_trade.TradeJournalDataAccessInterface;
+
+/**
+ * Keeps closed trades in a binary write-ahead log until they are uploaded.
+ *
+ * <p>The log starts with a magic number, a format version and the sequence
+ * number of its first record. Each record is its payload length, the trade in
+ * fixed-width binary form, and a CRC32 of the payload. Appending encodes the
+ * trade and writes it with a single call to the open file, so it costs
+ * microseconds and the trade survives the app exiting or crashing as soon as
+ * {@link #append(SimulatedTradeRecord)} returns. A daemon thread forces
+ * appended records to the disk every {@value #SYNC_INTERVAL_MILLIS} ms, so a
+ * power failure loses at most the trades of that window.</p>
+ *
+ * <p>{@link #acknowledge(long)} only records the sequence number in memory.
+ * The same thread that syncs the log keeps the newest acknowledged sequence
+ * number in a separate {@code .ack} file, replaced atomically, and once the
+ * acknowledged records take up more than {@value #COMPACT_BYTES} bytes,
+ * copies the unacknowledged tail into a new log that replaces the old one.
+ * Appends wait only while compaction swaps the files, never for an fsync. A
+ * crash before an acknowledgement reaches the disk means its trades are
+ * uploaded again. Because records are identified by sequence number rather
+ * than by offset, a crash at any point of compaction leaves a consistent pair
+ * of files. A record
+ * cut short by a crash is detected by its length or checksum and dropped when
+ * the log is opened.</p>
+ */
+public class BinaryTradeJournal implements TradeJournalDataAccessInterface, Closeable {
+
+    // "SIMW"
+    private static final int MAGIC = 0x53494D57;
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = Integer.BYTES * 2 + Long.BYTES;
+    private static final int RECORD_OVERHEAD = Integer.BYTES * 2;
+    private static final int MAX_PAYLOAD_BYTES = 64 * 1024;
+    private static final long COMPACT_BYTES = 1L << 20;
+    private static final long SYNC_INTERVAL_MILLIS = 50L;
+    private static final String ACK_SUFFIX = ".ack";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path path;
+    private final Path ackPath;
+    private final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+    private final DataOutputStream encoder = new DataOutputStream(payload);
+    private final CRC32 crc = new CRC32();
+    // End offsets of the unacknowledged records, oldest first
+    private final Deque<Long> pendingEnds = new ArrayDeque<>();
+    private final ScheduledExecutorService syncer;
+    // Serializes syncing, acknowledgement writes and compaction between the syncer and close
+    private final Object maintenance = new Object();
+
+    private volatile FileChannel channel;
+    private volatile boolean dirty;
+    private long nextSequence;
+    private long acknowledged;
+    private long acknowledgedEnd;
+    private boolean acknowledgementDirty;
+    private boolean closed;
+
+    /**
+     * Opens the journal at the given path, creating it if it does not exist
+     * and dropping a record left incomplete by a crash.
+     *
+     * @param path the log file; the acknowledgement is kept next to it
+     * @throws IOException if the journal cannot be opened or is not a trade journal
+     */
+    public BinaryTradeJournal(String path) throws IOException {
+        this.path = Paths.get(path);
+        this.ackPath = this.path.resolveSibling(this.path.getFileName() + ACK_SUFFIX);
+        acknowledged = readAcknowledged();
+        if (!Files.exists(this.path) || Files.size(this.path) < HEADER_BYTES) {
+            Files.move(writeTempLog(acknowledged + 1, null, 0L, 0L), this.path, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        }
+        channel = FileChannel.open(this.path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        recover();
+        syncer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "trade-journal-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        syncer.scheduleWithFixedDelay(this::syncQuietly, SYNC_INTERVAL_MILLIS, SYNC_INTERVAL_MILLIS,
+                TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized long append(SimulatedTradeRecord trade) throws IOException {
+        final ByteBuffer record = encode(trade);
+        while (record.hasRemaining()) {
+            channel.write(record);
+        }
+        pendingEnds.addLast(channel.position());
+        dirty = true;
+        return nextSequence++;
+    }
+
+    @Override
+    public synchronized List<JournaledTrade> readPending() throws IOException {
+        final List<JournaledTrade> trades = new ArrayList<>(pendingEnds.size());
+        try (InputStream stream = Channels.newInputStream(FileChannel.open(path, StandardOpenOption.READ)
+                .position(acknowledgedEnd));
+             DataInputStream in = new DataInputStream(new BufferedInputStream(stream))) {
+            long sequence = acknowledged + 1;
+            for (int i = 0; i < pendingEnds.size(); i++) {
+                final byte[] bytes = new byte[in.readInt()];
+                in.readFully(bytes);
+                in.readInt();
+                trades.add(new JournaledTrade(sequence, TradeRecordCodec.read(
+                        new DataInputStream(new ByteArrayInputStream(bytes)))));
+                sequence++;
+            }
+        }
+        return trades;
+    }
+
+    @Override
+    public synchronized void acknowledge(long sequence) {
+        final long newest = Math.min(sequence, nextSequence - 1);
+        if (newest > acknowledged) {
+            while (acknowledged < newest) {
+                acknowledgedEnd = pendingEnds.removeFirst();
+                acknowledged++;
+            }
+            acknowledgementDirty = true;
+        }
+    }
+
+    /**
+     * Forces every appended record and the newest acknowledgement to the disk,
+     * and compacts the log if enough of it has been acknowledged. The syncer
+     * thread calls this every {@value #SYNC_INTERVAL_MILLIS} ms.
+     *
+     * @throws IOException if the files could not be synced or compacted
+     */
+    public void sync() throws IOException {
+        synchronized (maintenance) {
+            if (!closed) {
+                syncLog();
+                long newest = -1L;
+                final long end;
+                synchronized (this) {
+                    if (acknowledgementDirty) {
+                        acknowledgementDirty = false;
+                        newest = acknowledged;
+                    }
+                    end = acknowledgedEnd;
+                }
+                if (newest >= 0) {
+                    writeAcknowledged(newest);
+                }
+                if (end - HEADER_BYTES >= COMPACT_BYTES) {
+                    compact();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns how many trades are waiting for an acknowledgement.
+     *
+     * @return the number of pending trades
+     */
+    public synchronized int getPendingCount() {
+        return pendingEnds.size();
+    }
+
+    /**
+     * Syncs the log and closes it.
+     *
+     * @throws IOException if the final sync fails
+     */
+    @Override
+    public void close() throws IOException {
+        syncer.shutdown();
+        synchronized (maintenance) {
+            try {
+                sync();
+            }
+            finally {
+                closed = true;
+                synchronized (this) {
+                    channel.close();
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the header and every complete record, truncating the log after
+     * the last one.
+     */
+    private void recover() throws IOException {
+        final long size = channel.size();
+        final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        channel.read(header, 0L);
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IOException(path + " is not a trade journal.");
+        }
+        final int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported trade journal version " + version + ".");
+        }
+        final long firstSequence = header.getLong();
+        // A lost acknowledgement file cannot acknowledge less than compaction already dropped
+        acknowledged = Math.max(acknowledged, firstSequence - 1);
+        acknowledgedEnd = HEADER_BYTES;
+        nextSequence = firstSequence;
+
+        long offset = HEADER_BYTES;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(
+                FileChannel.open(path, StandardOpenOption.READ).position(HEADER_BYTES))))) {
+            boolean intact = true;
+            while (intact && offset + RECORD_OVERHEAD <= size) {
+                final int length = in.readInt();
+                intact = length >= 0 && length <= MAX_PAYLOAD_BYTES && offset + RECORD_OVERHEAD + length <= size;
+                if (intact) {
+                    final byte[] bytes = new byte[length];
+                    in.readFully(bytes);
+                    crc.reset();
+                    crc.update(bytes, 0, length);
+                    intact = in.readInt() == (int) crc.getValue();
+                }
+                if (intact) {
+                    offset += RECORD_OVERHEAD + length;
+                    if (nextSequence <= acknowledged) {
+                        acknowledgedEnd = offset;
+                    }
+                    else {
+                        pendingEnds.addLast(offset);
+                    }
+                    nextSequence++;
+                }
+            }
+        }
+        catch (EOFException ex) {
+            // The last record was cut short; everything before it is kept
+        }
+        if (offset < size) {
+            channel.truncate(offset);
+            channel.force(false);
+        }
+        channel.position(offset);
+    }
+
+    /**
+     * Encodes a trade as a record: its length, payload and checksum.
+     */
+    private ByteBuffer encode(SimulatedTradeRecord trade) throws IOException {
+        payload.reset();
+        TradeRecordCodec.write(encoder, trade);
+        final byte[] bytes = payload.toByteArray();
+        crc.reset();
+        crc.update(bytes, 0, bytes.length);
+
+        final ByteBuffer record = ByteBuffer.allocate(bytes.length + RECORD_OVERHEAD);
+        record.putInt(bytes.length);
+        record.put(bytes);
+        record.putInt((int) crc.getValue());
+        record.flip();
+        return record;
+    }
+
+    /**
+     * Forces appended records to the disk.
+     */
+    private void syncLog() throws IOException {
+        if (dirty) {
+            dirty = false;
+            try {
+                channel.force(false);
+            }
+            catch (ClosedChannelException ex) {
+                // Compaction replaced the file and synced the new one itself
+            }
+        }
+    }
+
+    /**
+     * Replaces the log with one that holds only the unacknowledged records.
+     * The bulk of the copy runs without the lock; appends only wait while the
+     * records they added in the meantime are copied and the files are swapped.
+     * Only the maintenance thread replaces the channel, so it can be read here
+     * without the lock.
+     */
+    private void compact() throws IOException {
+        final long from;
+        final long copiedTo;
+        final long firstSequence;
+        synchronized (this) {
+            from = acknowledgedEnd;
+            copiedTo = channel.position();
+            firstSequence = acknowledged + 1;
+        }
+        final Path temp = writeTempLog(firstSequence, channel, from, copiedTo);
+        synchronized (this) {
+            final long end = channel.position();
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                copy(channel, copiedTo, end, out);
+                out.force(true);
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            final FileChannel old = channel;
+            channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            old.close();
+            final long shift = from - HEADER_BYTES;
+            channel.position(end - shift);
+            dirty = false;
+
+            final int count = pendingEnds.size();
+            for (int i = 0; i < count; i++) {
+                pendingEnds.addLast(pendingEnds.removeFirst() - shift);
+            }
+            acknowledgedEnd -= shift;
+        }
+    }
+
+    /**
+     * Writes a new log to a temporary file, copying the records between
+     * {@code from} and {@code to} out of {@code source} if one is given.
+     *
+     * @return the temporary file, synced to the disk
+     */
+    private Path writeTempLog(long firstSequence, FileChannel source, long from, long to) throws IOException {
+        final Path temp = path.resolveSibling(path.getFileName() + TEMP_SUFFIX);
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            header.putInt(MAGIC).putInt(VERSION).putLong(firstSequence).flip();
+            while (header.hasRemaining()) {
+                out.write(header);
+            }
+            if (source != null) {
+                copy(source, from, to, out);
+            }
+            out.force(true);
+        }
+        return temp;
+    }
+
+    private static void copy(FileChannel source, long from, long to, FileChannel out) throws IOException {
+        long copied = 0L;
+        final long length = to - from;
+        while (copied < length) {
+            copied += source.transferTo(from + copied, length - copied, out);
+        }
+    }
+
+    private long readAcknowledged() throws IOException {
+        long result = -1L;
+        if (Files.exists(ackPath)) {
+            try (DataInputStream in = new DataInputStream(Files.newInputStream(ackPath))) {
+                result = in.readLong();
+            }
+        }
+        return result;
+    }
+
+    private void writeAcknowledged(long newest) throws IOException {
+        final Path temp = ackPath.resolveSibling(ackPath.getFileName() + TEMP_SUFFIX);
+        try (FileChannel out = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            final ByteBuffer value = ByteBuffer.allocate(Long.BYTES);
+            value.putLong(newest).flip();
+            while (value.hasRemaining()) {
+                out.write(value);
+            }
+            out.force(true);
+        }
+        Files.move(temp, ackPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void syncQuietly() {
+        try {
+            sync();
+        }
+        catch (IOException ex) {
+            System.err.println("Trade journal sync failed: " + ex.getMessage());
+        }
+    }
+}
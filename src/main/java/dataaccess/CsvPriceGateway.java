@@ -0,0 +1,102 @@
+package dataaccess;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import entity.PricePoint;
+import entity.TimeInterval;
+import usecase.price_chart.PriceDataAccessInterface;
+
+/**
+ * Reads price history from local CSV files so long backtests do not depend on
+ * the API quota. Each ticker is read from {@code <directory>/<TICKER>.csv}
+ * with the header {@code timestamp,open,high,low,close,volume}, which is the
+ * layout Alpha Vantage uses for {@code datatype=csv} downloads.
+ */
+public class CsvPriceGateway implements PriceDataAccessInterface {
+
+    private static final String SOURCE = "CSV";
+    private static final int COLUMN_COUNT = 6;
+    private static final int OPEN_COLUMN = 1;
+    private static final int HIGH_COLUMN = 2;
+    private static final int LOW_COLUMN = 3;
+    private static final int CLOSE_COLUMN = 4;
+    private static final int VOLUME_COLUMN = 5;
+    private static final DateTimeFormatter TIMESTAMP_FORMAT =
+            DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final Path directory;
+
+    /**
+     * Creates a gateway reading from the given directory.
+     *
+     * @param directory the directory containing one CSV file per ticker
+     */
+    public CsvPriceGateway(Path directory) {
+        this.directory = directory;
+    }
+
+    @Override
+    public List<PricePoint> getPriceHistory(String ticker, TimeInterval interval) throws IOException {
+        final Path file = directory.resolve(ticker.toUpperCase() + ".csv");
+        final List<PricePoint> pricePoints = new ArrayList<>();
+
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!line.isBlank()) {
+                    pricePoints.add(parseLine(line, interval, file, lineNumber));
+                }
+            }
+        }
+
+        // Downloads are newest first; the simulation needs oldest first
+        pricePoints.sort((pricePointOne, pricePointTwo) -> {
+            return pricePointOne.getTimestamp().compareTo(pricePointTwo.getTimestamp());
+        });
+        return pricePoints;
+    }
+
+    private PricePoint parseLine(String line, TimeInterval interval, Path file, int lineNumber)
+            throws IOException {
+        final String[] columns = line.split(",");
+        if (columns.length < COLUMN_COUNT) {
+            throw new IOException("Malformed row " + lineNumber + " in " + file);
+        }
+        try {
+            final LocalDateTime timestamp = parseTimestamp(columns[0].trim());
+            return new PricePoint(
+                    null, null, timestamp, interval,
+                    Double.parseDouble(columns[OPEN_COLUMN].trim()),
+                    Double.parseDouble(columns[HIGH_COLUMN].trim()),
+                    Double.parseDouble(columns[LOW_COLUMN].trim()),
+                    Double.parseDouble(columns[CLOSE_COLUMN].trim()),
+                    Double.parseDouble(columns[VOLUME_COLUMN].trim()),
+                    SOURCE
+            );
+        }
+        catch (RuntimeException ex) {
+            throw new IOException("Malformed row " + lineNumber + " in " + file + ": " + ex.getMessage(), ex);
+        }
+    }
+
+    private LocalDateTime parseTimestamp(String value) {
+        final LocalDateTime timestamp;
+        if (value.length() == "yyyy-MM-dd".length()) {
+            timestamp = LocalDateTime.parse(value + " 00:00:00", TIMESTAMP_FORMAT);
+        }
+        else {
+            timestamp = LocalDateTime.parse(value, TIMESTAMP_FORMAT);
+        }
+        return timestamp;
+    }
+}
@@ -0,0 +1,67 @@
+package dataaccess;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import usecase.monte_carlo.RecordedOrder;
+
+/**
+ * Reads an order sequence for Monte Carlo replay from a CSV file with the
+ * header {@code candle,second,side,quantity}, where side is BUY or SELL.
+ */
+public class CsvRecordedOrderReader {
+
+    private static final int COLUMN_COUNT = 4;
+    private static final int SIDE_COLUMN = 2;
+    private static final int QUANTITY_COLUMN = 3;
+    private static final String BUY = "BUY";
+    private static final String SELL = "SELL";
+
+    /**
+     * Reads all orders from a file.
+     *
+     * @param file the CSV file to read
+     * @return the orders in file order
+     * @throws IOException if the file cannot be read or a row is malformed
+     */
+    public List<RecordedOrder> read(Path file) throws IOException {
+        final List<RecordedOrder> orders = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line = reader.readLine();
+            int lineNumber = 1;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!line.isBlank()) {
+                    orders.add(parseLine(line, file, lineNumber));
+                }
+            }
+        }
+        return orders;
+    }
+
+    private RecordedOrder parseLine(String line, Path file, int lineNumber) throws IOException {
+        final String[] columns = line.split(",");
+        if (columns.length < COLUMN_COUNT) {
+            throw new IOException("Malformed row " + lineNumber + " in " + file);
+        }
+        final String side = columns[SIDE_COLUMN].trim().toUpperCase();
+        if (!BUY.equals(side) && !SELL.equals(side)) {
+            throw new IOException("Unknown side '" + side + "' on row " + lineNumber + " in " + file);
+        }
+        try {
+            return new RecordedOrder(
+                    Integer.parseInt(columns[0].trim()),
+                    Integer.parseInt(columns[1].trim()),
+                    BUY.equals(side),
+                    Integer.parseInt(columns[QUANTITY_COLUMN].trim()));
+        }
+        catch (NumberFormatException ex) {
+            throw new IOException("Malformed row " + lineNumber + " in " + file + ": " + ex.getMessage(), ex);
+        }
+    }
+}
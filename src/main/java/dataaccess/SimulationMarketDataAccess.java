@@ -1,22 +1,75 @@
 package dataaccess;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 import entity.PricePoint;
 import entity.TimeInterval;
 import usecase.price_chart.PriceDataAccessInterface;
 import usecase.simulated_trade.SimulationDataAccessInterface;
+import usecase.simulated_trade.SimulationSeed;
+import usecase.tick_model.RelativeVolume;
+import usecase.tick_model.TickModel;
+import usecase.tick_model.TickModelType;
 
 public class SimulationMarketDataAccess implements SimulationDataAccessInterface {
 
     private final PriceDataAccessInterface realDataGateway;
-    private final Random random = new Random();
+    // Swapped together when a resumed session brings its own model; read by prefetch threads
+    private volatile TickModelType tickModelType;
+    private volatile TickModel tickModel;
+    // Only for callers without their own stream; reproducible runs pass one per candle
+    private final SplittableRandom random;
 
     public SimulationMarketDataAccess(PriceDataAccessInterface realDataGateway) {
+        this(realDataGateway, SimulationSeed.randomSeed());
+    }
+
+    /**
+     * Creates a data access object whose shared random source is seeded.
+     *
+     * @param realDataGateway the source of historical candles
+     * @param seed            seed of the shared random source
+     */
+    public SimulationMarketDataAccess(PriceDataAccessInterface realDataGateway, long seed) {
+        this(realDataGateway, seed, TickModelType.LINEAR);
+    }
+
+    /**
+     * Creates a data access object that generates ticks with the given model.
+     *
+     * @param realDataGateway the source of historical candles
+     * @param tickModel       the intra-candle price path model
+     */
+    public SimulationMarketDataAccess(PriceDataAccessInterface realDataGateway, TickModelType tickModel) {
+        this(realDataGateway, SimulationSeed.randomSeed(), tickModel);
+    }
+
+    /**
+     * Creates a data access object with a seeded shared random source and the
+     * given tick model.
+     *
+     * @param realDataGateway the source of historical candles
+     * @param seed            seed of the shared random source
+     * @param tickModel       the intra-candle price path model
+     */
+    public SimulationMarketDataAccess(PriceDataAccessInterface realDataGateway, long seed,
+                                      TickModelType tickModel) {
         this.realDataGateway = realDataGateway;
+        this.random = new SplittableRandom(seed);
+        setTickModel(tickModel);
+    }
+
+    @Override
+    public TickModelType getTickModel() {
+        return tickModelType;
+    }
+
+    @Override
+    public synchronized void setTickModel(TickModelType tickModel) {
+        this.tickModelType = tickModel;
+        this.tickModel = tickModel.create();
     }
 
     @Override
@@ -31,52 +84,19 @@ public class SimulationMarketDataAccess implements SimulationDataAccessInterface
     }
 
     @Override
-    public List<Double> generateTicks(PricePoint point, int numberOfTicks) {
-        Double[] ticks = new Double[numberOfTicks];
-
-        double open = point.getOpen();
-        double high = point.getHigh();
-        double low = point.getLow();
-        double close = point.getClose();
-
-        // 1. Anchor
-        ticks[0] = open;
-        ticks[numberOfTicks - 1] = close;
-
-        // 2. Randomize positions (ensure valid bounds)
-        if (numberOfTicks < 4) {
-            fillInterpolation(ticks, 0, numberOfTicks - 1);
-        }
-        else {
-            int idx1 = 1 + random.nextInt(numberOfTicks - 3);
-            int idx2 = idx1 + 1 + random.nextInt(numberOfTicks - idx1 - 1);
-
-            boolean highFirst = random.nextBoolean();
-            ticks[idx1] = highFirst ? high : low;
-            ticks[idx2] = highFirst ? low : high;
-
-            fillInterpolation(ticks, 0, idx1);
-            fillInterpolation(ticks, idx1, idx2);
-            fillInterpolation(ticks, idx2, numberOfTicks - 1);
-        }
-
-        List<Double> result = new ArrayList<>();
-        Collections.addAll(result, ticks);
-        return result;
+    public synchronized void generateTicks(PricePoint point, double[] buffer, int numberOfTicks) {
+        generateTicks(point, buffer, numberOfTicks, random);
     }
 
-    private void fillInterpolation(Double[] array, int startIndex, int endIndex) {
-        double startVal = array[startIndex];
-        double endVal = array[endIndex];
-        int steps = endIndex - startIndex;
-
-        if (steps <= 0) {
-            return;
-        }
-        double stepValue = (endVal - startVal) / steps;
+    @Override
+    public void generateTicks(PricePoint point, double[] buffer, int numberOfTicks, SplittableRandom rng) {
+        tickModel.generate(point, buffer, numberOfTicks, rng);
+    }
 
-        for (int i = 1; i < steps; i++) {
-            array[startIndex + i] = startVal + (stepValue * i);
-        }
+    @Override
+    public void generateTicks(List<PricePoint> candles, int candleIndex, double[] buffer, int numberOfTicks,
+                              SplittableRandom rng) {
+        tickModel.generate(candles.get(candleIndex), RelativeVolume.of(candles, candleIndex), buffer, numberOfTicks,
+                rng);
     }
 }
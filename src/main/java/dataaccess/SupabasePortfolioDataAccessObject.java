@@ -1,9 +1,13 @@
 package dataaccess;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 import com.google.gson.Gson;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
@@ -12,10 +16,54 @@ import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
 
+/**
+ * Stores and reads a user's portfolio balance in the Supabase
+ * {@code portfolio} table through its PostgREST API.
+ *
+ * <p>Saving is a single upsert on {@code user_id}. Balances are cached per
+ * project and user, across instances, so opening a summary right after a
+ * save or another summary costs no request. A cached balance older than the
+ * time to live is revalidated with a conditional GET when the server sent an
+ * ETag for it, and fetched again otherwise.</p>
+ *
+ * <p>Every save bumps a per-key version before it is sent. A fetch only
+ * caches its result if no save started while it was in flight, so a slow
+ * read of the old balance cannot replace a newer saved one.</p>
+ */
 public class SupabasePortfolioDataAccessObject {
     private static final OkHttpClient client = new OkHttpClient();
     private static final Gson gson = new Gson();
     private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final double DEFAULT_INITIAL_BALANCE = 100000.00;
+    private static final Duration DEFAULT_CACHE_TTL = Duration.ofSeconds(30);
+    private static final int NOT_MODIFIED = 304;
+    private static final Map<String, CachedBalance> BALANCES = new ConcurrentHashMap<>();
+    private static final Map<String, Long> SAVE_VERSIONS = new ConcurrentHashMap<>();
+    private static final long NO_SAVES = 0L;
+
+    private final String baseUrl;
+    private final String serviceRoleKey;
+    private final long cacheTtlNanos;
+
+    /**
+     * Creates a data access object for the project configured in the .env file.
+     */
+    public SupabasePortfolioDataAccessObject() {
+        this(EnvConfig.getSupabaseUrl(), EnvConfig.getSupabaseServiceRoleKey(), DEFAULT_CACHE_TTL);
+    }
+
+    /**
+     * Creates a data access object for the given Supabase project.
+     *
+     * @param baseUrl        the project URL, without the REST path
+     * @param serviceRoleKey the key sent with every request
+     * @param cacheTtl       how long a cached balance is used without asking the server
+     */
+    public SupabasePortfolioDataAccessObject(String baseUrl, String serviceRoleKey, Duration cacheTtl) {
+        this.baseUrl = baseUrl;
+        this.serviceRoleKey = serviceRoleKey;
+        this.cacheTtlNanos = cacheTtl.toNanos();
+    }
 
     /**
      * Retrieves the initial balance for the specified user's portfolio.
@@ -27,138 +75,152 @@ public class SupabasePortfolioDataAccessObject {
      * @throws RuntimeException if the Supabase service role key is missing or not configured
      */
     public double getInitialBalance(UUID userId) {
-        String url = EnvConfig.getSupabaseUrl() + "/rest/v1/portfolio?user_id=eq." + userId.toString();
-        String serviceRoleKey = EnvConfig.getSupabaseServiceRoleKey();
-        if (serviceRoleKey == null || serviceRoleKey.isEmpty()) {
-            throw new RuntimeException("Supabase service role key is not set in .env");
+        requireKey();
+        final String key = cacheKey(userId);
+        final CachedBalance cached = BALANCES.get(key);
+        final double balance;
+        if (cached != null && System.nanoTime() - cached.storedAt < cacheTtlNanos) {
+            balance = cached.balance;
+        }
+        else {
+            balance = fetchBalance(userId, key, cached);
         }
+        return balance;
+    }
+
+    /**
+     * Creates or updates the portfolio record for the specified user.
+     * This method is typically invoked during simulation setup to ensure
+     * that the user's initial balance is stored in the database. It is a
+     * single upsert: the row is inserted, or merged into the existing row
+     * with the same {@code user_id}. The cached balance is replaced by the
+     * saved one.
+     *
+     * @param userId the unique identifier of the user whose portfolio is being saved
+     * @param initialBalance the initial balance to store in the user's portfolio
+     * @throws RuntimeException if the Supabase service role key is missing or not configured
+     */
+    public void savePortfolio(UUID userId, double initialBalance) {
+        requireKey();
+        final String key = cacheKey(userId);
+        // Fetches already in flight may read the old row, so they must not cache it
+        final long version = SAVE_VERSIONS.merge(key, 1L, Long::sum);
+        // Whatever the save does, the cached value can no longer be trusted
+        BALANCES.remove(key);
+
+        JsonObject portfolioJson = new JsonObject();
+        portfolioJson.addProperty("user_id", userId.toString());
+        portfolioJson.addProperty("cash_balance", initialBalance);
 
         Request request = new Request.Builder()
-                .url(url)
+                .url(baseUrl + "/rest/v1/portfolio?on_conflict=user_id")
                 .addHeader("apikey", serviceRoleKey)
                 .addHeader("Authorization", "Bearer " + serviceRoleKey)
                 .addHeader("Content-Type", "application/json")
-                .get()
+                .addHeader("Prefer", "resolution=merge-duplicates,return=minimal")
+                .post(RequestBody.create(gson.toJson(portfolioJson), JSON))
                 .build();
 
         try (Response response = client.newCall(request).execute()) {
             if (!response.isSuccessful()) {
-                ResponseBody errorBody = response.body();
-                String errorResp = errorBody != null ? errorBody.string() : "No response body";
-                throw new IOException("Failed to fetch portfolio: " + response.code() + " - " + errorResp);
+                ResponseBody responseBody = response.body();
+                String resp = responseBody != null ? responseBody.string() : "";
+                throw new IOException("Failed to save portfolio: " + response.code() + " - " + resp);
             }
+        }
+        catch (IOException ex) {
+            throw new RuntimeException("Failed to save portfolio via Supabase REST API", ex);
+        }
+        // The saved value is known, but not the ETag the server would give it. A later save owns the cache.
+        final CachedBalance saved = new CachedBalance(initialBalance, null);
+        BALANCES.compute(key, (k, current) -> storeIfUnchanged(k, version, saved, current));
+    }
 
-            ResponseBody responseBody = response.body();
-            if (responseBody == null) {
-                // Default initial balance
-                return 100000.00;
-            }
+    private double fetchBalance(UUID userId, String key, CachedBalance cached) {
+        final long version = saveVersion(key);
+        final Request.Builder request = new Request.Builder()
+                .url(baseUrl + "/rest/v1/portfolio?select=cash_balance&user_id=eq." + userId)
+                .addHeader("apikey", serviceRoleKey)
+                .addHeader("Authorization", "Bearer " + serviceRoleKey)
+                .addHeader("Content-Type", "application/json")
+                .get();
+        if (cached != null && cached.etag != null) {
+            request.addHeader("If-None-Match", cached.etag);
+        }
 
-            String resp = responseBody.string();
-            if (resp.trim().equals("[]")) {
-                // No portfolio found, return default
-                return 100000.00;
+        try (Response response = client.newCall(request.build()).execute()) {
+            final CachedBalance fresh;
+            if (response.code() == NOT_MODIFIED && cached != null) {
+                fresh = new CachedBalance(cached.balance, cached.etag);
             }
-
-            // Parse the portfolio data
-            var jsonArray = gson.fromJson(resp, com.google.gson.JsonArray.class);
-            if (jsonArray.size() > 0) {
-                JsonObject portfolio = jsonArray.get(0).getAsJsonObject();
-                // Note: The schema shows cash_balance, but for initial balance we might want to store it separately
-                // For now, we'll use cash_balance as initial balance since that's what's available
-                return portfolio.get("cash_balance").getAsDouble();
+            else if (response.isSuccessful()) {
+                ResponseBody responseBody = response.body();
+                String resp = responseBody != null ? responseBody.string() : "";
+                fresh = new CachedBalance(parseBalance(resp), response.header("ETag"));
             }
-
-            // Fallback
-            return 100000.00;
-
+            else {
+                ResponseBody errorBody = response.body();
+                String errorResp = errorBody != null ? errorBody.string() : "No response body";
+                throw new IOException("Failed to fetch portfolio: " + response.code() + " - " + errorResp);
+            }
+            BALANCES.compute(key, (k, current) -> storeIfUnchanged(k, version, fresh, current));
+            return fresh.balance;
         }
         catch (IOException ex) {
             throw new RuntimeException("Failed to fetch portfolio via Supabase REST API", ex);
         }
     }
 
+    private static long saveVersion(String key) {
+        return SAVE_VERSIONS.getOrDefault(key, NO_SAVES);
+    }
+
     /**
-     * Creates or updates the portfolio record for the specified user.
-     * This method is typically invoked during simulation setup to ensure
-     * that the user's initial balance is stored in the database. If a
-     * portfolio entry already exists for the user, it is updated; otherwise,
-     * a new record is created.
-     *
-     * @param userId the unique identifier of the user whose portfolio is being saved
-     * @param initialBalance the initial balance to store in the user's portfolio
-     * @throws RuntimeException if the Supabase service role key is missing or not configured
+     * Keeps the current entry instead of the new one if a save started after
+     * the given version was read.
      */
-    public void savePortfolio(UUID userId, double initialBalance) {
-        // First check if portfolio exists
-        String checkUrl = EnvConfig.getSupabaseUrl() + "/rest/v1/portfolio?user_id=eq." + userId.toString();
-        String serviceRoleKey = EnvConfig.getSupabaseServiceRoleKey();
-        if (serviceRoleKey == null || serviceRoleKey.isEmpty()) {
-            throw new RuntimeException("Supabase service role key is not set in .env");
+    private static CachedBalance storeIfUnchanged(String key, long version, CachedBalance fresh,
+                                                  CachedBalance current) {
+        CachedBalance result = current;
+        if (saveVersion(key) == version) {
+            result = fresh;
         }
+        return result;
+    }
 
-        Request checkRequest = new Request.Builder()
-                .url(checkUrl)
-                .addHeader("apikey", serviceRoleKey)
-                .addHeader("Authorization", "Bearer " + serviceRoleKey)
-                .addHeader("Content-Type", "application/json")
-                .get()
-                .build();
-
-        try (Response checkResponse = client.newCall(checkRequest).execute()) {
-            boolean portfolioExists = false;
-            if (checkResponse.isSuccessful()) {
-                ResponseBody checkBody = checkResponse.body();
-                if (checkBody != null) {
-                    String checkResp = checkBody.string();
-                    if (!checkResp.trim().equals("[]")) {
-                        portfolioExists = true;
-                    }
-                }
-            }
-
-            JsonObject portfolioJson = new JsonObject();
-            portfolioJson.addProperty("user_id", userId.toString());
-            portfolioJson.addProperty("cash_balance", initialBalance);
-
-            String url;
-            RequestBody body = RequestBody.create(gson.toJson(portfolioJson), JSON);
-            Request request;
-
-            if (portfolioExists) {
-                // Update existing portfolio
-                url = EnvConfig.getSupabaseUrl() + "/rest/v1/portfolio?user_id=eq." + userId.toString();
-                request = new Request.Builder()
-                        .url(url)
-                        .addHeader("apikey", serviceRoleKey)
-                        .addHeader("Authorization", "Bearer " + serviceRoleKey)
-                        .addHeader("Content-Type", "application/json")
-                        .patch(body)
-                        .build();
-            }
-            else {
-                // Create new portfolio
-                url = EnvConfig.getSupabaseUrl() + "/rest/v1/portfolio";
-                request = new Request.Builder()
-                        .url(url)
-                        .addHeader("apikey", serviceRoleKey)
-                        .addHeader("Authorization", "Bearer " + serviceRoleKey)
-                        .addHeader("Content-Type", "application/json")
-                        .post(body)
-                        .build();
+    private static double parseBalance(String resp) {
+        double balance = DEFAULT_INITIAL_BALANCE;
+        if (!resp.isBlank()) {
+            final JsonArray rows = gson.fromJson(resp, JsonArray.class);
+            if (rows.size() > 0) {
+                // The schema has no separate initial balance, so cash_balance stores it
+                balance = rows.get(0).getAsJsonObject().get("cash_balance").getAsDouble();
             }
+        }
+        return balance;
+    }
 
-            try (Response response = client.newCall(request).execute()) {
-                if (!response.isSuccessful()) {
-                    ResponseBody responseBody = response.body();
-                    String resp = responseBody != null ? responseBody.string() : "";
-                    throw new IOException("Failed to save portfolio: " + response.code() + " - " + resp);
-                }
-            }
+    private String cacheKey(UUID userId) {
+        return baseUrl + "|" + userId;
+    }
 
+    private void requireKey() {
+        if (serviceRoleKey == null || serviceRoleKey.isEmpty()) {
+            throw new RuntimeException("Supabase service role key is not set in .env");
         }
-        catch (IOException ex) {
-            throw new RuntimeException("Failed to save portfolio via Supabase REST API", ex);
+    }
+
+    /**
+     * A balance, the ETag the server sent with it, and when it was stored.
+     */
+    private static final class CachedBalance {
+        private final double balance;
+        private final String etag;
+        private final long storedAt = System.nanoTime();
+
+        CachedBalance(double balance, String etag) {
+            this.balance = balance;
+            this.etag = etag;
         }
     }
 }
@@ -2,31 +2,116 @@
 package dataaccess;
 
 import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 import entity.SimulatedTradeRecord;
+import okhttp3.HttpUrl;
 import okhttp3.MediaType;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import okhttp3.RequestBody;
 import okhttp3.Response;
 import okhttp3.ResponseBody;
+import usecase.portfolio_statistics.PortfolioTradeAggregates;
 import usecase.simulated_trade.SimulatedTradeDataAccessInterface;
 
+/**
+ * Saves simulated trades to, and reads trade history from, the Supabase
+ * {@code trades} table through its PostgREST API.
+ *
+ * <p>Trade history is synced incrementally. Rows are read in pages ordered by
+ * {@code id}, which the database assigns in increasing order as rows are
+ * inserted, and each page starts just after the last row of the previous one,
+ * so a page costs the same however deep into the history it is. Synced rows
+ * are kept per user in memory and in a local cache file, and a later sync
+ * only asks for rows past the cached cursor. A trade uploaded long after it
+ * closed, for example when the trade journal replays it, still gets an id
+ * past the cursor and is picked up.</p>
+ *
+ * <p>Each row carries the client-generated id of its trade in
+ * {@code client_trade_id}, which {@code supabase/trade_ids.sql} makes unique.
+ * Inserts ignore rows whose id is already stored, so a batch that is sent
+ * again, for example when the trade journal replays it after a crash, is
+ * only stored once.</p>
+ */
 public class SupabaseTradeDataAccessObject implements SimulatedTradeDataAccessInterface {
     private static final OkHttpClient client = new OkHttpClient();
     private static final Gson gson = new Gson();
     private static final MediaType JSON = MediaType.get("application/json; charset=utf-8");
+    private static final int PAGE_SIZE = 1000;
+    // Ids below the cursor read again on every sync, for rows whose insert committed after a later one
+    private static final long RESYNC_ID_WINDOW = 100L;
+    private static final Path DEFAULT_CACHE_DIRECTORY = Paths.get("trade-cache");
+    private static final String CACHE_SUFFIX = ".bin";
+    private static final String STATISTICS_FUNCTION = "portfolio_statistics";
+    private static final String TRADE_ID_COLUMN = "client_trade_id";
+
+    private final String baseUrl;
+    private final String serviceRoleKey;
+    private final Path cacheDirectory;
+    private final Map<UUID, TradeHistoryCache> histories = new HashMap<>();
+
+    /**
+     * Creates a data access object for the project configured in the .env
+     * file, caching trade history in the working directory.
+     */
+    public SupabaseTradeDataAccessObject() {
+        this(EnvConfig.getSupabaseUrl(), EnvConfig.getSupabaseServiceRoleKey(), DEFAULT_CACHE_DIRECTORY);
+    }
+
+    /**
+     * Creates a data access object for the given Supabase project.
+     *
+     * @param baseUrl        the project URL, without the REST path
+     * @param serviceRoleKey the key sent with every request
+     * @param cacheDirectory where synced trade history is cached, or null to cache it in memory only
+     */
+    public SupabaseTradeDataAccessObject(String baseUrl, String serviceRoleKey, Path cacheDirectory) {
+        this.baseUrl = baseUrl;
+        this.serviceRoleKey = serviceRoleKey;
+        this.cacheDirectory = cacheDirectory;
+    }
 
     @Override
     public void saveTrade(SimulatedTradeRecord trade, UUID userId) {
+        insert(gson.toJson(toJson(trade, userId)), "trade");
+    }
+
+    /**
+     * Saves a batch of trades with a single PostgREST insert. The rows are
+     * sent as one JSON array, so the batch is stored or rejected as a whole,
+     * and rows already stored under the same trade id are skipped, so a batch
+     * can be sent again without creating duplicates.
+     *
+     * @param trades the records to save, each under the user stored in the record
+     * @throws RuntimeException if the service role key is missing or the insert fails
+     */
+    @Override
+    public void saveTrades(List<SimulatedTradeRecord> trades) {
+        if (!trades.isEmpty()) {
+            final JsonArray rows = new JsonArray();
+            for (SimulatedTradeRecord trade : trades) {
+                rows.add(toJson(trade, UUID.fromString(trade.getUserId())));
+            }
+            insert(gson.toJson(rows), trades.size() + " trades");
+        }
+    }
+
+    private static JsonObject toJson(SimulatedTradeRecord trade, UUID userId) {
         // Build JSON body for Supabase REST API
         JsonObject tradeJson = new JsonObject();
         tradeJson.addProperty("user_id", userId.toString());
@@ -40,19 +125,25 @@ public class SupabaseTradeDataAccessObject implements SimulatedTradeDataAccessIn
         DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
         tradeJson.addProperty("entry_time", trade.getEntryTime().format(formatter));
         tradeJson.addProperty("exit_time", trade.getExitTime().format(formatter));
+        tradeJson.addProperty(TRADE_ID_COLUMN, trade.getTradeId());
+        return tradeJson;
+    }
 
-        String url = EnvConfig.getSupabaseUrl() + "/rest/v1/trades";
-        String serviceRoleKey = EnvConfig.getSupabaseServiceRoleKey();
-        if (serviceRoleKey == null || serviceRoleKey.isEmpty()) {
-            throw new RuntimeException("Supabase service role key is not set in .env");
-        }
+    private void insert(String json, String what) {
+        final String url = HttpUrl.get(baseUrl + "/rest/v1/trades").newBuilder()
+                .addQueryParameter("on_conflict", TRADE_ID_COLUMN)
+                .build()
+                .toString();
+        requireKey();
 
-        RequestBody body = RequestBody.create(gson.toJson(tradeJson), JSON);
+        RequestBody body = RequestBody.create(json, JSON);
         Request request = new Request.Builder()
                 .url(url)
                 .addHeader("apikey", serviceRoleKey)
                 .addHeader("Authorization", "Bearer " + serviceRoleKey)
                 .addHeader("Content-Type", "application/json")
+                // Rows stored by an earlier attempt are skipped, and the inserted rows are not needed back
+                .addHeader("Prefer", "resolution=ignore-duplicates,return=minimal")
                 .post(body)
                 .build();
 
@@ -66,36 +157,158 @@ public class SupabaseTradeDataAccessObject implements SimulatedTradeDataAccessIn
                 else {
                     resp = "";
                 }
-                throw new IOException("Failed to store trade: " + response.code() + " - " + resp);
+                throw new IOException("Failed to store " + what + ": " + response.code() + " - " + resp);
             }
         }
         catch (IOException ex) {
-            throw new RuntimeException("Failed to store trade via Supabase REST API", ex);
+            throw new RuntimeException("Failed to store " + what + " via Supabase REST API", ex);
         }
     }
 
     /**
-     * Retrieves all simulated trade records associated with the specified user.
-     * This method queries the Supabase <code>trades</code> table using the user's
-     * unique identifier and converts the resulting JSON response into a list of
-     * {@link SimulatedTradeRecord} objects.
+     * Retrieves all simulated trade records associated with the specified user,
+     * in the order they were stored. Only rows added since the previous call,
+     * or since the cached history was written, are downloaded.
      *
      * <p>If no trades are found, an empty list is returned. If the Supabase service
      * role key is missing, a {@link RuntimeException} is thrown before any request
-     * is sent.</p>
+     * is sent. Rows that cannot be parsed are skipped.</p>
      *
      * @param userId the unique identifier of the user whose trade history is requested
      * @return a list of the user's simulated trade records, or an empty list if none exist
-     * @throws RuntimeException if the Supabase service role key is not configured
+     * @throws RuntimeException if the Supabase service role key is not configured or a page cannot be fetched
      */
-    public List<SimulatedTradeRecord> fetchTradesForUser(UUID userId) {
-        List<SimulatedTradeRecord> trades = new ArrayList<>();
-        String url = EnvConfig.getSupabaseUrl() + "/rest/v1/trades?user_id=eq." + userId.toString();
-        String serviceRoleKey = EnvConfig.getSupabaseServiceRoleKey();
-        if (serviceRoleKey == null || serviceRoleKey.isEmpty()) {
-            throw new RuntimeException("Supabase service role key is not set in .env");
+    public synchronized List<SimulatedTradeRecord> fetchTradesForUser(UUID userId) {
+        requireKey();
+        TradeHistoryCache history = histories.get(userId);
+        if (history == null) {
+            Path file = null;
+            if (cacheDirectory != null) {
+                file = cacheDirectory.resolve(userId + CACHE_SUFFIX);
+            }
+            history = TradeHistoryCache.load(file);
+            histories.put(userId, history);
+        }
+        sync(userId, history);
+        return new ArrayList<>(history.getTrades());
+    }
+
+    /**
+     * Fetches the rows past the history's cursor page by page.
+     *
+     * <p>Ids are handed out when a row is inserted but the row only becomes
+     * visible when its transaction commits, so a concurrent insert can appear
+     * below a cursor that already passed it. Each sync therefore starts
+     * {@value #RESYNC_ID_WINDOW} ids below the cursor and skips the rows there
+     * whose client trade id is already in the history. A row that commits
+     * later than that is missed. Rows saved before trades carried a client
+     * trade id can't be matched, so below the cursor they are skipped.</p>
+     */
+    private void sync(UUID userId, TradeHistoryCache history) {
+        long cursor = Long.MIN_VALUE;
+        String afterId = null;
+        if (history.getCursorId() != null) {
+            cursor = Long.parseLong(history.getCursorId());
+            afterId = String.valueOf(cursor - RESYNC_ID_WINDOW);
+        }
+        boolean more = true;
+        while (more) {
+            final HttpUrl.Builder url = HttpUrl.get(baseUrl + "/rest/v1/trades").newBuilder()
+                    .addQueryParameter("select", "*")
+                    .addQueryParameter("user_id", "eq." + userId)
+                    .addQueryParameter("order", "id.asc")
+                    .addQueryParameter("limit", String.valueOf(PAGE_SIZE));
+            if (afterId != null) {
+                url.addQueryParameter("id", "gt." + afterId);
+            }
+
+            final JsonArray page = fetchPage(url.build());
+            final List<SimulatedTradeRecord> trades = new ArrayList<>(page.size());
+            final long pageCursor = cursor;
+            for (JsonElement el : page) {
+                final JsonObject obj = el.getAsJsonObject();
+                final long id = obj.get("id").getAsLong();
+                afterId = String.valueOf(id);
+                cursor = Math.max(cursor, id);
+                final SimulatedTradeRecord record = parseTrade(obj);
+                if (record != null && (id > pageCursor
+                        || record.getTradeId() != null && !history.containsTrade(record.getTradeId()))) {
+                    trades.add(record);
+                }
+            }
+            more = page.size() == PAGE_SIZE;
+            // The cursor moves past malformed rows too, so they are not fetched again
+            if (!trades.isEmpty() || cursor > pageCursor) {
+                try {
+                    history.append(trades, String.valueOf(cursor));
+                }
+                catch (IOException ex) {
+                    System.err.println("Failed to cache trade history: " + ex.getMessage());
+                }
+            }
         }
+    }
 
+    /**
+     * Aggregates the user's trades in the database with the
+     * {@code portfolio_statistics} function, defined in
+     * {@code supabase/portfolio_statistics.sql}, so only one row is
+     * transferred however long the history is.
+     *
+     * @param userId the unique identifier of the user
+     * @return the aggregates over all of the user's trades
+     * @throws RuntimeException if the key is missing, or the function is not installed or fails
+     */
+    public PortfolioTradeAggregates fetchTradeAggregates(UUID userId) {
+        requireKey();
+        final JsonObject params = new JsonObject();
+        params.addProperty("p_user_id", userId.toString());
+        Request request = new Request.Builder()
+                .url(baseUrl + "/rest/v1/rpc/" + STATISTICS_FUNCTION)
+                .addHeader("apikey", serviceRoleKey)
+                .addHeader("Authorization", "Bearer " + serviceRoleKey)
+                .addHeader("Content-Type", "application/json")
+                .post(RequestBody.create(gson.toJson(params), JSON))
+                .build();
+
+        try (Response response = client.newCall(request).execute()) {
+            ResponseBody responseBody = response.body();
+            String resp = responseBody != null ? responseBody.string() : "";
+            if (!response.isSuccessful()) {
+                throw new IOException("Failed to aggregate trades: " + response.code() + " - " + resp);
+            }
+            // A set-returning function answers with an array of one row
+            JsonElement result = JsonParser.parseString(resp);
+            if (result.isJsonArray()) {
+                result = result.getAsJsonArray().get(0);
+            }
+            final JsonObject row = result.getAsJsonObject();
+            return new PortfolioTradeAggregates(
+                    row.get("total_profit").getAsDouble(),
+                    row.get("max_gain").getAsDouble(),
+                    row.get("max_loss").getAsDouble(),
+                    row.get("total_trades").getAsInt(),
+                    row.get("winning_trades").getAsInt(),
+                    row.get("losing_trades").getAsInt(),
+                    parseNullableTime(row.get("earliest_entry")),
+                    parseNullableTime(row.get("latest_entry"))
+            );
+        }
+        catch (IOException | RuntimeException ex) {
+            // Also covers a response without the expected columns
+            throw new RuntimeException("Failed to aggregate trades via Supabase RPC", ex);
+        }
+    }
+
+    private static LocalDateTime parseNullableTime(JsonElement value) {
+        LocalDateTime time = null;
+        if (value != null && !value.isJsonNull()) {
+            time = OffsetDateTime.parse(value.getAsString(), DateTimeFormatter.ISO_OFFSET_DATE_TIME).toLocalDateTime();
+        }
+        return time;
+    }
+
+    private JsonArray fetchPage(HttpUrl url) {
         Request request = new Request.Builder()
                 .url(url)
                 .addHeader("apikey", serviceRoleKey)
@@ -104,6 +317,7 @@ public class SupabaseTradeDataAccessObject implements SimulatedTradeDataAccessIn
                 .get()
                 .build();
 
+        JsonArray page = new JsonArray();
         try (Response response = client.newCall(request).execute()) {
             if (!response.isSuccessful()) {
                 ResponseBody errorBody = response.body();
@@ -111,38 +325,51 @@ public class SupabaseTradeDataAccessObject implements SimulatedTradeDataAccessIn
                 throw new IOException("Failed to fetch trades: " + response.code() + " - " + errorResp);
             }
             ResponseBody responseBody = response.body();
-            if (responseBody == null) {
-                return trades;
-            }
-            String resp = responseBody.string();
-            JsonArray arr = gson.fromJson(resp, JsonArray.class);
-            DateTimeFormatter formatter = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
-            for (JsonElement el : arr) {
-                JsonObject obj = el.getAsJsonObject();
-                try {
-                    SimulatedTradeRecord record = new SimulatedTradeRecord(
-                        obj.get("ticker").getAsString(),
-                        obj.get("is_long").getAsBoolean(),
-                        obj.get("quantity").getAsInt(),
-                            obj.get("entry_price").getAsDouble(),
-                        obj.get("exit_price").getAsDouble(),
-                        obj.get("realized_pnl").getAsDouble(),
-                        java.time.OffsetDateTime.parse(obj.get("entry_time").getAsString(),
-                                formatter).toLocalDateTime(),
-                        java.time.OffsetDateTime.parse(obj.get("exit_time").getAsString(), formatter).toLocalDateTime(),
-                        obj.get("user_id").getAsString()
-                    );
-                    trades.add(record);
-                }
-                catch (Exception parseEx) {
-                    System.err.println("Failed to parse trade record: " + parseEx.getMessage());
-                    // skip malformed record
-                }
+            if (responseBody != null) {
+                page = gson.fromJson(responseBody.charStream(), JsonArray.class);
             }
         }
         catch (IOException ex) {
             throw new RuntimeException("Failed to fetch trades via Supabase REST API", ex);
         }
-        return trades;
+        return page;
+    }
+
+    private static SimulatedTradeRecord parseTrade(JsonObject obj) {
+        final DateTimeFormatter formatter = DateTimeFormatter.ISO_OFFSET_DATE_TIME;
+        SimulatedTradeRecord record = null;
+        try {
+            record = new SimulatedTradeRecord(
+                    obj.get("ticker").getAsString(),
+                    obj.get("is_long").getAsBoolean(),
+                    obj.get("quantity").getAsInt(),
+                    obj.get("entry_price").getAsDouble(),
+                    obj.get("exit_price").getAsDouble(),
+                    obj.get("realized_pnl").getAsDouble(),
+                    OffsetDateTime.parse(obj.get("entry_time").getAsString(), formatter).toLocalDateTime(),
+                    OffsetDateTime.parse(obj.get("exit_time").getAsString(), formatter).toLocalDateTime(),
+                    obj.get("user_id").getAsString(),
+                    parseNullableString(obj.get(TRADE_ID_COLUMN))
+            );
+        }
+        catch (Exception parseEx) {
+            System.err.println("Failed to parse trade record: " + parseEx.getMessage());
+            // skip malformed record
+        }
+        return record;
+    }
+
+    private static String parseNullableString(JsonElement value) {
+        String text = null;
+        if (value != null && !value.isJsonNull()) {
+            text = value.getAsString();
+        }
+        return text;
+    }
+
+    private void requireKey() {
+        if (serviceRoleKey == null || serviceRoleKey.isEmpty()) {
+            throw new RuntimeException("Supabase service role key is not set in .env");
+        }
     }
 }
@@ -0,0 +1,214 @@
+package dataaccess;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import entity.SimulatedTradeRecord;
+
+/**
+ * One user's trade history as synced so far, kept in memory and in a local
+ * file so that a later sync only has to fetch rows added since.
+ *
+ * <p>The file starts with a magic number and a format version, followed by
+ * one block per synced page: the number of rows, each trade in
+ * {@link TradeRecordCodec} form, and the database id of the last row fetched.
+ * A block is written with a single call, and one cut short by a crash is
+ * dropped when the file is read, so the cursor never runs ahead of the rows.</p>
+ */
+final class TradeHistoryCache {
+
+    // "SIMH"
+    private static final int MAGIC = 0x53494D48;
+    private static final int VERSION = 1;
+
+    private final Path file;
+    private final List<SimulatedTradeRecord> trades = new ArrayList<>();
+    // Client trade ids of the synced trades, so a row read again is recognized
+    private final Set<String> tradeIds = new HashSet<>();
+    private String cursorId;
+
+    private TradeHistoryCache(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Reads the cached history from a file, or starts an empty one if the
+     * file is missing or unreadable.
+     *
+     * @param file the cache file, or null to keep the history in memory only
+     * @return the cached history
+     */
+    static TradeHistoryCache load(Path file) {
+        final TradeHistoryCache cache = new TradeHistoryCache(file);
+        if (file != null && Files.exists(file)) {
+            try {
+                cache.read();
+            }
+            catch (IOException ex) {
+                // A damaged cache is rebuilt from the database
+                System.err.println("Discarding trade history cache " + file + ": " + ex.getMessage());
+                cache.trades.clear();
+                cache.tradeIds.clear();
+                cache.cursorId = null;
+                deleteQuietly(file);
+            }
+        }
+        return cache;
+    }
+
+    List<SimulatedTradeRecord> getTrades() {
+        return Collections.unmodifiableList(trades);
+    }
+
+    /**
+     * Returns whether a trade with the given client trade id has been synced.
+     *
+     * @param tradeId the client trade id
+     * @return true if the history holds the trade
+     */
+    boolean containsTrade(String tradeId) {
+        return tradeIds.contains(tradeId);
+    }
+
+    /**
+     * Returns the database id of the last synced row.
+     *
+     * @return the cursor, or null if nothing has been synced
+     */
+    String getCursorId() {
+        return cursorId;
+    }
+
+    /**
+     * Adds newly synced rows and moves the cursor past them.
+     *
+     * @param newTrades the rows
+     * @param id        the id of the last row fetched, which becomes the cursor
+     * @throws IOException if the rows could not be written to the cache file;
+     *                     the in-memory history is updated regardless
+     */
+    void append(List<SimulatedTradeRecord> newTrades, String id) throws IOException {
+        add(newTrades);
+        cursorId = id;
+        if (file != null) {
+            final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            final DataOutputStream out = new DataOutputStream(bytes);
+            final boolean created = !Files.exists(file);
+            if (created) {
+                Files.createDirectories(file.toAbsolutePath().getParent());
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+            }
+            out.writeInt(newTrades.size());
+            for (SimulatedTradeRecord trade : newTrades) {
+                TradeRecordCodec.write(out, trade);
+            }
+            out.writeUTF(id);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND)) {
+                final ByteBuffer block = ByteBuffer.wrap(bytes.toByteArray());
+                while (block.hasRemaining()) {
+                    channel.write(block);
+                }
+            }
+        }
+    }
+
+    private void read() throws IOException {
+        long intact;
+        try (CountingInputStream counter = new CountingInputStream(new BufferedInputStream(
+                Files.newInputStream(file)));
+             DataInputStream in = new DataInputStream(counter)) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("not a trade history cache");
+            }
+            intact = counter.count;
+            boolean more = true;
+            while (more) {
+                try {
+                    final int count = in.readInt();
+                    final List<SimulatedTradeRecord> blockTrades = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        blockTrades.add(TradeRecordCodec.read(in));
+                    }
+                    final String id = in.readUTF();
+                    add(blockTrades);
+                    cursorId = id;
+                    intact = counter.count;
+                }
+                catch (EOFException ex) {
+                    // The end of the file, or a block cut short by a crash
+                    more = false;
+                }
+            }
+        }
+        if (intact < Files.size(file)) {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(intact);
+            }
+        }
+    }
+
+    private void add(List<SimulatedTradeRecord> newTrades) {
+        trades.addAll(newTrades);
+        for (SimulatedTradeRecord trade : newTrades) {
+            if (trade.getTradeId() != null) {
+                tradeIds.add(trade.getTradeId());
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        }
+        catch (IOException ex) {
+            System.err.println("Could not delete " + file + ": " + ex.getMessage());
+        }
+    }
+
+    /**
+     * Counts the bytes read through it, so a torn block can be cut off.
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+        private long count;
+
+        CountingInputStream(InputStream source) {
+            super(source);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int value = super.read();
+            if (value >= 0) {
+                count++;
+            }
+            return value;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            final int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
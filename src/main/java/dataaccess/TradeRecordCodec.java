@@ -0,0 +1,78 @@
+package dataaccess;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import entity.SimulatedTradeRecord;
+
+/**
+ * The fixed-width binary form of a {@link SimulatedTradeRecord} shared by the
+ * local trade files: ticker, side, quantity, the three prices, entry and exit
+ * times as epoch seconds and nanos, the user id and the trade id.
+ */
+final class TradeRecordCodec {
+
+    private static final long NULL_TIME = Long.MIN_VALUE;
+    private static final String NULL_ID = "";
+
+    private TradeRecordCodec() {
+    }
+
+    static void write(DataOutputStream out, SimulatedTradeRecord trade) throws IOException {
+        out.writeUTF(trade.getTicker());
+        out.writeBoolean(trade.isLong());
+        out.writeInt(trade.getQuantity());
+        out.writeDouble(trade.getEntryPrice());
+        out.writeDouble(trade.getExitPrice());
+        out.writeDouble(trade.getRealizedPnL());
+        writeTime(out, trade.getEntryTime());
+        writeTime(out, trade.getExitTime());
+        out.writeUTF(trade.getUserId());
+        if (trade.getTradeId() == null) {
+            out.writeUTF(NULL_ID);
+        }
+        else {
+            out.writeUTF(trade.getTradeId());
+        }
+    }
+
+    static SimulatedTradeRecord read(DataInputStream in) throws IOException {
+        final String ticker = in.readUTF();
+        final boolean isLong = in.readBoolean();
+        final int quantity = in.readInt();
+        final double entryPrice = in.readDouble();
+        final double exitPrice = in.readDouble();
+        final double realizedPnL = in.readDouble();
+        final LocalDateTime entryTime = readTime(in);
+        final LocalDateTime exitTime = readTime(in);
+        final String userId = in.readUTF();
+        String tradeId = in.readUTF();
+        if (NULL_ID.equals(tradeId)) {
+            tradeId = null;
+        }
+        return new SimulatedTradeRecord(ticker, isLong, quantity, entryPrice, exitPrice, realizedPnL, entryTime,
+                exitTime, userId, tradeId);
+    }
+
+    private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        if (time == null) {
+            out.writeLong(NULL_TIME);
+        }
+        else {
+            out.writeLong(time.toEpochSecond(ZoneOffset.UTC));
+            out.writeInt(time.getNano());
+        }
+    }
+
+    private static LocalDateTime readTime(DataInputStream in) throws IOException {
+        final long seconds = in.readLong();
+        LocalDateTime time = null;
+        if (seconds != NULL_TIME) {
+            time = LocalDateTime.ofEpochSecond(seconds, in.readInt(), ZoneOffset.UTC);
+        }
+        return time;
+    }
+}
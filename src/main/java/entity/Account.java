@@ -2,6 +2,7 @@ package entity;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -11,6 +12,17 @@ import usecase.simulated_trade.TradeClosedListener;
 /**
  * Represents a trading account tracking balance, positions,
  * trade statistics, and equity performance.
+ *
+ * <p>Cost basis and exposure are kept as running totals. Every open position
+ * remembers the last price it was marked at, and a trade or a new price only
+ * replaces that position's share of the totals, so equity and exposure
+ * queries take constant time however many positions are open. Positions are
+ * marked at their trade price until a market price arrives.</p>
+ *
+ * <p>An account is not thread-safe. It belongs to the thread that runs the
+ * simulation: ticks, resting order fills, strategies and trades from the
+ * trading screen all run there, the latter submitted to the simulation
+ * clock.</p>
  */
 public class Account {
 
@@ -23,7 +35,7 @@ public class Account {
     private double balance;
 
     /** Initial starting balance. */
-    private final double initialBalance;
+    private double initialBalance;
 
     /** Highest historical equity value. */
     private double maxEquity;
@@ -31,6 +43,21 @@ public class Account {
     /** Open positions keyed by ticker symbol. */
     private final Map<String, Position> positions = new HashMap<>();
 
+    /** Assigns the symbol ids the holdings are indexed by. */
+    private final SymbolRegistry symbols = SymbolRegistry.shared();
+
+    /** Open positions and their mark prices, indexed by symbol id; null where flat. */
+    private Holding[] holdings = new Holding[0];
+
+    /** Sum of signed quantity times average entry price over open positions. */
+    private double costBasis;
+
+    /** Sum of signed quantity times mark price over open positions. */
+    private double netExposure;
+
+    /** Sum of quantity times mark price over open positions, shorts included. */
+    private double grossExposure;
+
     /** Listeners to be notified when trades close. */
     private final List<TradeClosedListener> listeners = new ArrayList<>();
 
@@ -40,9 +67,11 @@ public class Account {
     /** Total number of winning trades. */
     private int winningTrades;
 
-    /** Largest single realized gain . */
+    /** Largest single realized gain. */
     private double maxGain = ZERO;
-    private double maxDrawdown = ZERO;
+
+    /** Largest single realized loss, as a positive amount. */
+    private double largestLosingTrade = ZERO;
 
     /**
      * Constructs an Account.
@@ -87,19 +116,20 @@ public class Account {
             balance += transactionValue;
         }
 
-        double entryPriceBefore = ZERO;
-        boolean wasLong = false;
-
-        if (positions.containsKey(ticker)) {
-            final Position existing = positions.get(ticker);
-            entryPriceBefore = existing.getAvgPrice();
-            wasLong = existing.isLong();
+        final int symbolId = symbols.idOf(ticker);
+        Holding holding = holdingOf(symbolId);
+        if (holding == null) {
+            holding = new Holding(new Position(ticker, isBuyAction, 0, 0));
+            putHolding(symbolId, holding);
         }
+        final Position position = holding.position;
+        final double entryPriceBefore = position.getAvgPrice();
+        final boolean wasLong = position.isLong();
 
-        positions.putIfAbsent(ticker, new Position(ticker, isBuyAction, 0, 0));
-        final Position position = positions.get(ticker);
-
+        removeFromTotals(holding);
         final double realizedPnL = position.update(isBuyAction, quantity, price);
+        holding.mark = price;
+        addToTotals(holding);
 
         if (realizedPnL != ZERO) {
             totalTrades++;
@@ -112,8 +142,8 @@ public class Account {
             }
             if (realizedPnL < 0) {
                 final double tradeLoss = Math.abs(realizedPnL);
-                if (tradeLoss > maxDrawdown) {
-                    maxDrawdown = tradeLoss;
+                if (tradeLoss > largestLosingTrade) {
+                    largestLosingTrade = tradeLoss;
                 }
             }
 
@@ -136,34 +166,68 @@ public class Account {
 
         if (position.getQuantity() == 0) {
             positions.remove(ticker);
+            holdings[symbolId] = null;
+            if (positions.isEmpty()) {
+                // Drop the rounding the running totals picked up along the way
+                costBasis = ZERO;
+                netExposure = ZERO;
+                grossExposure = ZERO;
+            }
         }
     }
 
     /**
-     * Calculates current total equity.
+     * Marks the open position in a ticker, if any, to a new market price.
+     * Takes constant time.
      *
-     * @param currentPrice price of the currently updated ticker
-     * @param currentTicker ticker being updated
-     * @return total equity
+     * @param ticker ticker symbol
+     * @param price  latest market price; NaN is ignored
      */
-    public double calculateTotalEquity(double currentPrice, String currentTicker) {
-        double totalUnrealizedPnL = ZERO;
-        double totalCostBasis = ZERO;
-
-        for (Position pos : positions.values()) {
-            final boolean isCurrent = pos.getTicker().equals(currentTicker);
-            final double referencePrice;
-            if (isCurrent) {
-                referencePrice = currentPrice;
-            }
-            else {
-                referencePrice = pos.getAvgPrice();
+    public void markPrice(String ticker, double price) {
+        markPrice(symbols.find(ticker), price);
+    }
+
+    /**
+     * Marks the open position in a symbol, if any, to a new market price.
+     * An array access with no string hashing, for callers on the tick path
+     * that resolved the id once.
+     *
+     * @param symbolId the symbol's id in the {@link SymbolRegistry#shared() shared registry}
+     * @param price    latest market price; NaN is ignored
+     */
+    public void markPrice(int symbolId, double price) {
+        final Holding holding = holdingOf(symbolId);
+        if (holding != null && !Double.isNaN(price)) {
+            final double change = price - holding.mark;
+            netExposure += holding.signedQuantity() * change;
+            grossExposure += holding.position.getQuantity() * change;
+            holding.mark = price;
+        }
+    }
+
+    /**
+     * Marks every open position to the latest price on the board. Positions
+     * whose symbol has no price yet keep their current mark.
+     *
+     * @param board latest prices of all simulated symbols
+     */
+    public void markPrices(PriceBoard board) {
+        for (int symbolId = 0; symbolId < holdings.length; symbolId++) {
+            if (holdings[symbolId] != null) {
+                markPrice(symbolId, board.getPrice(holdings[symbolId].position.getTicker()));
             }
-            totalUnrealizedPnL += pos.getUnrealizedPnL(referencePrice);
-            totalCostBasis += pos.getQuantity() * pos.getAvgPrice();
         }
+    }
 
-        final double currentEquity = balance + totalCostBasis + totalUnrealizedPnL;
+    /**
+     * Calculates current total equity from the running totals: the balance
+     * plus the market value of every position at its mark, with shorts
+     * counting negatively. Takes constant time.
+     *
+     * @return total equity
+     */
+    public double calculateTotalEquity() {
+        final double currentEquity = balance + netExposure;
 
         if (currentEquity > maxEquity) {
             maxEquity = currentEquity;
@@ -172,6 +236,79 @@ public class Account {
         return currentEquity;
     }
 
+    /**
+     * Marks the position in one ticker to a new price and calculates current
+     * total equity. Other positions keep their current mark.
+     *
+     * @param currentPrice price of the currently updated ticker
+     * @param currentTicker ticker being updated
+     * @return total equity
+     */
+    public double calculateTotalEquity(double currentPrice, String currentTicker) {
+        markPrice(currentTicker, currentPrice);
+        return calculateTotalEquity();
+    }
+
+    /**
+     * Calculates current total equity with every open position marked to the
+     * latest price on the board. Positions whose symbol has no price yet keep
+     * their current mark. Takes time proportional to the open positions; code
+     * that already knows which prices changed should use
+     * {@link #markPrice(String, double)} and {@link #calculateTotalEquity()}.
+     *
+     * @param board latest prices of all simulated symbols
+     * @return total equity
+     */
+    public double calculateTotalEquity(PriceBoard board) {
+        markPrices(board);
+        return calculateTotalEquity();
+    }
+
+    /**
+     * Returns the signed cost basis of the open positions: long positions at
+     * their average entry price minus short positions at theirs.
+     *
+     * @return cost basis
+     */
+    public double getCostBasis() {
+        return costBasis;
+    }
+
+    /**
+     * Returns the market value of the open positions at their marks, long
+     * minus short.
+     *
+     * @return net exposure
+     */
+    public double getNetExposure() {
+        return netExposure;
+    }
+
+    /**
+     * Returns the market value of the open positions at their marks, long
+     * plus short.
+     *
+     * @return gross exposure
+     */
+    public double getGrossExposure() {
+        return grossExposure;
+    }
+
+    /**
+     * Returns the open quantity in a ticker, negative for a short position.
+     *
+     * @param ticker ticker symbol
+     * @return signed quantity, or 0 if there is no open position
+     */
+    public int getNetQuantity(String ticker) {
+        final Holding holding = holdingOf(symbols.find(ticker));
+        int result = 0;
+        if (holding != null) {
+            result = holding.signedQuantity();
+        }
+        return result;
+    }
+
     /**
      * Returns available balance.
      *
@@ -209,12 +346,13 @@ public class Account {
     }
 
     /**
-     * Returns maximum drawdown.
+     * Returns the largest single realized loss. This is not the drawdown of
+     * the equity curve, which is tracked by the use case layer.
      *
-     * @return max drawdown
+     * @return the largest losing trade's loss, as a positive amount
      */
-    public double getMaxDrawdown() {
-        return maxDrawdown;
+    public double getLargestLosingTrade() {
+        return largestLosingTrade;
     }
 
     /**
@@ -271,11 +409,111 @@ public class Account {
     }
 
     /**
-     * Returns open positions.
+     * Returns a detached copy of the balances, statistics and open positions.
+     *
+     * @return the current state of the account
+     */
+    public AccountSnapshot snapshot() {
+        final List<Position> open = new ArrayList<>(positions.size());
+        final double[] marks = new double[positions.size()];
+        for (Holding holding : holdings) {
+            if (holding != null) {
+                marks[open.size()] = holding.mark;
+                open.add(holding.position);
+            }
+        }
+        return new AccountSnapshot(initialBalance, balance, maxEquity, maxGain, largestLosingTrade,
+                totalTrades, winningTrades, open, marks, costBasis, netExposure, grossExposure);
+    }
+
+    /**
+     * Replaces the balances, statistics and open positions with those of a
+     * snapshot, for example when a saved session is resumed. The user and the
+     * trade listeners are kept, and no listener is notified.
+     *
+     * @param snapshot the state to restore
+     */
+    public void restore(AccountSnapshot snapshot) {
+        initialBalance = snapshot.getInitialBalance();
+        balance = snapshot.getBalance();
+        maxEquity = snapshot.getMaxEquity();
+        maxGain = snapshot.getMaxGain();
+        largestLosingTrade = snapshot.getLargestLosingTrade();
+        totalTrades = snapshot.getTotalTrades();
+        winningTrades = snapshot.getWinningTrades();
+        positions.clear();
+        Arrays.fill(holdings, null);
+        costBasis = snapshot.getCostBasis();
+        netExposure = snapshot.getNetExposure();
+        grossExposure = snapshot.getGrossExposure();
+        final List<Position> saved = snapshot.getPositions();
+        for (int i = 0; i < saved.size(); i++) {
+            final Position p = saved.get(i);
+            final Holding holding = new Holding(
+                    new Position(p.getTicker(), p.isLong(), p.getQuantity(), p.getAvgPrice()));
+            holding.mark = snapshot.getMark(i);
+            putHolding(symbols.idOf(p.getTicker()), holding);
+        }
+    }
+
+    /**
+     * Returns open positions. The map is live and must not be modified,
+     * otherwise the running totals no longer match it.
      *
      * @return position map
      */
     public Map<String, Position> getPositions() {
         return positions;
     }
+
+    private Holding holdingOf(int symbolId) {
+        Holding holding = null;
+        if (symbolId >= 0 && symbolId < holdings.length) {
+            holding = holdings[symbolId];
+        }
+        return holding;
+    }
+
+    private void putHolding(int symbolId, Holding holding) {
+        if (symbolId >= holdings.length) {
+            holdings = Arrays.copyOf(holdings, Math.max(symbolId + 1, symbols.size()));
+        }
+        holdings[symbolId] = holding;
+        positions.put(holding.position.getTicker(), holding.position);
+    }
+
+    private void removeFromTotals(Holding holding) {
+        final int signedQuantity = holding.signedQuantity();
+        costBasis -= signedQuantity * holding.position.getAvgPrice();
+        netExposure -= signedQuantity * holding.mark;
+        grossExposure -= holding.position.getQuantity() * holding.mark;
+    }
+
+    private void addToTotals(Holding holding) {
+        final int signedQuantity = holding.signedQuantity();
+        costBasis += signedQuantity * holding.position.getAvgPrice();
+        netExposure += signedQuantity * holding.mark;
+        grossExposure += holding.position.getQuantity() * holding.mark;
+    }
+
+    /**
+     * An open position and the price it is currently marked at.
+     */
+    private static final class Holding {
+        private final Position position;
+        private double mark;
+
+        Holding(Position position) {
+            this.position = position;
+        }
+
+        int signedQuantity() {
+            final int quantity = position.getQuantity();
+            int result = -quantity;
+            if (position.isLong()) {
+                result = quantity;
+            }
+            return result;
+        }
+    }
 }
@@ -0,0 +1,131 @@
+package entity;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable copy of an {@link Account}'s balances, statistics, open
+ * positions and running exposure totals at one moment. Taking or restoring a
+ * snapshot does not notify trade listeners.
+ *
+ * <p>The totals are kept as accumulated rather than recomputed, so an account
+ * restored from a snapshot continues bit for bit like the original.</p>
+ */
+public final class AccountSnapshot {
+
+    private final double initialBalance;
+    private final double balance;
+    private final double maxEquity;
+    private final double maxGain;
+    private final double largestLosingTrade;
+    private final int totalTrades;
+    private final int winningTrades;
+    private final List<Position> positions;
+    private final double[] marks;
+    private final double costBasis;
+    private final double netExposure;
+    private final double grossExposure;
+
+    /**
+     * Creates a snapshot. Positions and marks are copied, so later changes to
+     * them do not affect the snapshot.
+     *
+     * @param initialBalance     the starting balance
+     * @param balance            the available balance
+     * @param maxEquity          the highest equity reached
+     * @param maxGain            the largest single realized gain
+     * @param largestLosingTrade the largest single realized loss
+     * @param totalTrades        the number of closed trades
+     * @param winningTrades      the number of winning trades
+     * @param positions          the open positions
+     * @param marks              the price each position is marked at, aligned with the positions
+     * @param costBasis          the running signed cost basis
+     * @param netExposure        the running net exposure
+     * @param grossExposure      the running gross exposure
+     * @throws IllegalArgumentException if there is not one mark per position
+     */
+    public AccountSnapshot(double initialBalance, double balance, double maxEquity, double maxGain,
+                           double largestLosingTrade, int totalTrades, int winningTrades, List<Position> positions,
+                           double[] marks, double costBasis, double netExposure, double grossExposure) {
+        if (marks.length != positions.size()) {
+            throw new IllegalArgumentException(marks.length + " marks for " + positions.size() + " positions");
+        }
+        this.initialBalance = initialBalance;
+        this.balance = balance;
+        this.maxEquity = maxEquity;
+        this.maxGain = maxGain;
+        this.largestLosingTrade = largestLosingTrade;
+        this.totalTrades = totalTrades;
+        this.winningTrades = winningTrades;
+        final List<Position> copies = new ArrayList<>(positions.size());
+        for (Position p : positions) {
+            copies.add(new Position(p.getTicker(), p.isLong(), p.getQuantity(), p.getAvgPrice()));
+        }
+        this.positions = Collections.unmodifiableList(copies);
+        this.marks = marks.clone();
+        this.costBasis = costBasis;
+        this.netExposure = netExposure;
+        this.grossExposure = grossExposure;
+    }
+
+    public double getInitialBalance() {
+        return initialBalance;
+    }
+
+    public double getBalance() {
+        return balance;
+    }
+
+    public double getMaxEquity() {
+        return maxEquity;
+    }
+
+    public double getMaxGain() {
+        return maxGain;
+    }
+
+    public double getLargestLosingTrade() {
+        return largestLosingTrade;
+    }
+
+    public int getTotalTrades() {
+        return totalTrades;
+    }
+
+    public int getWinningTrades() {
+        return winningTrades;
+    }
+
+    /**
+     * Returns the open positions. They are shared with the snapshot and must
+     * not be modified.
+     *
+     * @return the open positions, in no particular order
+     */
+    public List<Position> getPositions() {
+        return positions;
+    }
+
+    /**
+     * Returns the mark price of a position.
+     *
+     * @param index the position's index in {@link #getPositions()}
+     * @return the price the position is marked at
+     */
+    public double getMark(int index) {
+        return marks[index];
+    }
+
+    public double getCostBasis() {
+        return costBasis;
+    }
+
+    public double getNetExposure() {
+        return netExposure;
+    }
+
+    public double getGrossExposure() {
+        return grossExposure;
+    }
+}
@@ -18,6 +18,7 @@ public class ChartViewModel {
     private final List<Double> highPrices;
     private final List<Double> lowPrices;
     private final List<Double> closePrices;
+    private final List<Double> volumes;
     private final boolean isCandlestick;
 
     // Constructor for line chart (simple price data)
@@ -30,6 +31,7 @@ public class ChartViewModel {
         this.highPrices = null;
         this.lowPrices = null;
         this.closePrices = null;
+        this.volumes = null;
         this.isCandlestick = false;
     }
 
@@ -37,6 +39,14 @@ public class ChartViewModel {
     public ChartViewModel(String title, List<String> labels, 
                          List<Double> openPrices, List<Double> highPrices, 
                          List<Double> lowPrices, List<Double> closePrices, TimeInterval interval) {
+        this(title, labels, openPrices, highPrices, lowPrices, closePrices, null, interval);
+    }
+
+    // Constructor for candlestick chart with volumes (used by volume-weighted indicators)
+    public ChartViewModel(String title, List<String> labels,
+                         List<Double> openPrices, List<Double> highPrices,
+                         List<Double> lowPrices, List<Double> closePrices,
+                         List<Double> volumes, TimeInterval interval) {
         this.title = title;
         this.labels = labels;
         this.prices = null;
@@ -46,6 +56,7 @@ public class ChartViewModel {
         this.highPrices = highPrices;
         this.lowPrices = lowPrices;
         this.closePrices = closePrices;
+        this.volumes = volumes;
         this.isCandlestick = true;
     }
 
@@ -77,6 +88,10 @@ public class ChartViewModel {
         return closePrices;
     }
 
+    public List<Double> getVolumes() {
+        return volumes;
+    }
+
     public boolean isCandlestick() {
         return isCandlestick;
     }
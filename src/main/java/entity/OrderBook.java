@@ -0,0 +1,249 @@
+package entity;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Resting limit, stop and stop-limit orders, kept per ticker in price-sorted
+ * maps so that a tick only touches the orders it triggers.
+ *
+ * <p>Each ticker has four maps, each ordered so that the order closest to
+ * triggering is first: buy limits highest first, sell limits lowest first,
+ * buy stops lowest first and sell stops highest first. Matching a tick polls
+ * each map from the front until the first price level that does not trigger,
+ * so it costs O(log n + k) for n resting orders and k triggered ones. Orders
+ * at the same price trigger in the order they were placed.</p>
+ *
+ * <p>Not thread-safe; it is owned by the simulation thread.</p>
+ */
+public class OrderBook {
+
+    private final SymbolRegistry symbols = SymbolRegistry.shared();
+    // Per-ticker books indexed by symbol id, so a tick finds its book without hashing
+    private TickerBook[] books = new TickerBook[0];
+    private final Map<String, SimulatedOrder> openOrders = new LinkedHashMap<>();
+
+    /**
+     * Adds a resting order.
+     *
+     * @param order a limit, stop or stop-limit order
+     * @throws IllegalArgumentException if the order is a market order or its prices are missing
+     */
+    public void add(SimulatedOrder order) {
+        final OrderType type = order.getOrderType();
+        if (type == OrderType.MARKET) {
+            throw new IllegalArgumentException("Market orders do not rest in the book.");
+        }
+        if (type.hasLimit() && !(order.getLimitPrice() > 0) || type.hasStop() && !(order.getStopPrice() > 0)) {
+            throw new IllegalArgumentException("Order " + order.getOrderId() + " is missing a positive price.");
+        }
+        final int symbolId = symbols.idOf(order.getTicker());
+        if (symbolId >= books.length) {
+            books = Arrays.copyOf(books, Math.max(symbolId + 1, symbols.size()));
+        }
+        if (books[symbolId] == null) {
+            books[symbolId] = new TickerBook();
+        }
+        books[symbolId].add(order);
+        openOrders.put(order.getOrderId(), order);
+    }
+
+    /**
+     * Cancels a resting order.
+     *
+     * @param orderId the id of the order
+     * @return true if the order was resting and has been removed
+     */
+    public boolean cancel(String orderId) {
+        final SimulatedOrder order = openOrders.remove(orderId);
+        if (order != null) {
+            bookOf(symbols.find(order.getTicker())).remove(order);
+        }
+        return order != null;
+    }
+
+    /**
+     * Removes and returns every order triggered by a new price. Stop-limit
+     * orders whose stop is reached become limit orders and are returned in
+     * the same call if the price also satisfies their limit.
+     *
+     * @param ticker the ticker that traded
+     * @param price  the new price
+     * @return the orders to fill now, in trigger order; empty if none
+     */
+    public List<SimulatedOrder> match(String ticker, double price) {
+        return match(symbols.find(ticker), price);
+    }
+
+    /**
+     * Removes and returns every order triggered by a new price, looking the
+     * ticker up by its id in the {@link SymbolRegistry#shared() shared
+     * registry}.
+     *
+     * @param symbolId the id of the ticker that traded
+     * @param price    the new price
+     * @return the orders to fill now, in trigger order; empty if none
+     */
+    public List<SimulatedOrder> match(int symbolId, double price) {
+        final TickerBook book = bookOf(symbolId);
+        List<SimulatedOrder> fills = Collections.emptyList();
+        if (book != null && book.mightTrigger(price, price)) {
+            fills = book.match(price);
+            for (SimulatedOrder order : fills) {
+                openOrders.remove(order.getOrderId());
+            }
+        }
+        return fills;
+    }
+
+    /**
+     * Returns whether any resting order of a ticker would trigger at some price
+     * between low and high. Looks only at the first level of each map, so it
+     * costs O(1) per map regardless of how many orders rest.
+     *
+     * @param ticker the ticker
+     * @param low    the lowest price that may trade
+     * @param high   the highest price that may trade
+     * @return false only if no order can trigger anywhere in the range
+     */
+    public boolean mightTrigger(String ticker, double low, double high) {
+        final TickerBook book = bookOf(symbols.find(ticker));
+        return book != null && book.mightTrigger(low, high);
+    }
+
+    /**
+     * Returns the resting orders, oldest first.
+     *
+     * @return an unmodifiable snapshot of the open orders
+     */
+    public List<SimulatedOrder> getOpenOrders() {
+        return List.copyOf(openOrders.values());
+    }
+
+    /**
+     * Returns whether an order with the given id is resting.
+     *
+     * @param orderId the id of the order
+     * @return true if the order is in the book
+     */
+    public boolean contains(String orderId) {
+        return openOrders.containsKey(orderId);
+    }
+
+    /**
+     * Removes every resting order.
+     */
+    public void clear() {
+        Arrays.fill(books, null);
+        openOrders.clear();
+    }
+
+    public int size() {
+        return openOrders.size();
+    }
+
+    private TickerBook bookOf(int symbolId) {
+        TickerBook book = null;
+        if (symbolId >= 0 && symbolId < books.length) {
+            book = books[symbolId];
+        }
+        return book;
+    }
+
+    /**
+     * The four trigger-ordered maps of one ticker.
+     */
+    private static final class TickerBook {
+        private final NavigableMap<Double, ArrayDeque<SimulatedOrder>> buyLimits =
+                new TreeMap<>(Comparator.reverseOrder());
+        private final NavigableMap<Double, ArrayDeque<SimulatedOrder>> sellLimits = new TreeMap<>();
+        private final NavigableMap<Double, ArrayDeque<SimulatedOrder>> buyStops = new TreeMap<>();
+        private final NavigableMap<Double, ArrayDeque<SimulatedOrder>> sellStops =
+                new TreeMap<>(Comparator.reverseOrder());
+
+        void add(SimulatedOrder order) {
+            final NavigableMap<Double, ArrayDeque<SimulatedOrder>> side = sideOf(order);
+            side.computeIfAbsent(keyOf(order), price -> new ArrayDeque<>()).addLast(order);
+        }
+
+        void remove(SimulatedOrder order) {
+            final NavigableMap<Double, ArrayDeque<SimulatedOrder>> side = sideOf(order);
+            final Double key = keyOf(order);
+            final ArrayDeque<SimulatedOrder> level = side.get(key);
+            level.remove(order);
+            if (level.isEmpty()) {
+                side.remove(key);
+            }
+        }
+
+        /**
+         * Returns whether any order could trigger at a price between low and high.
+         */
+        boolean mightTrigger(double low, double high) {
+            return !buyLimits.isEmpty() && low <= buyLimits.firstKey()
+                    || !sellLimits.isEmpty() && high >= sellLimits.firstKey()
+                    || !buyStops.isEmpty() && high >= buyStops.firstKey()
+                    || !sellStops.isEmpty() && low <= sellStops.firstKey();
+        }
+
+        List<SimulatedOrder> match(double price) {
+            final List<SimulatedOrder> fills = new ArrayList<>();
+            // Stops first, so stop-limits that trigger here can also fill on this price
+            triggerStops(buyStops, price, true, fills);
+            triggerStops(sellStops, price, false, fills);
+            while (!buyLimits.isEmpty() && price <= buyLimits.firstKey()) {
+                fills.addAll(buyLimits.pollFirstEntry().getValue());
+            }
+            while (!sellLimits.isEmpty() && price >= sellLimits.firstKey()) {
+                fills.addAll(sellLimits.pollFirstEntry().getValue());
+            }
+            return fills;
+        }
+
+        private void triggerStops(NavigableMap<Double, ArrayDeque<SimulatedOrder>> stops, double price,
+                                  boolean isBuy, List<SimulatedOrder> fills) {
+            while (!stops.isEmpty() && (isBuy && price >= stops.firstKey() || !isBuy && price <= stops.firstKey())) {
+                for (SimulatedOrder order : stops.pollFirstEntry().getValue()) {
+                    if (order.getOrderType() == OrderType.STOP_LIMIT) {
+                        order.setTriggered(true);
+                        add(order);
+                    }
+                    else {
+                        fills.add(order);
+                    }
+                }
+            }
+        }
+
+        private NavigableMap<Double, ArrayDeque<SimulatedOrder>> sideOf(SimulatedOrder order) {
+            final boolean resting = order.getOrderType() == OrderType.LIMIT || order.isTriggered();
+            final NavigableMap<Double, ArrayDeque<SimulatedOrder>> side;
+            if (resting) {
+                side = order.isLong() ? buyLimits : sellLimits;
+            }
+            else {
+                side = order.isLong() ? buyStops : sellStops;
+            }
+            return side;
+        }
+
+        private static Double keyOf(SimulatedOrder order) {
+            final double key;
+            if (order.getOrderType() == OrderType.LIMIT || order.isTriggered()) {
+                key = order.getLimitPrice();
+            }
+            else {
+                key = order.getStopPrice();
+            }
+            return key;
+        }
+    }
+}
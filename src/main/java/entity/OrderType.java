@@ -0,0 +1,49 @@
+package entity;
+
+/**
+ * How an order is executed: immediately, or resting in the order book until
+ * the price reaches its limit or stop.
+ */
+public enum OrderType {
+    /** Fills immediately at the current price. */
+    MARKET("Market"),
+    /** Rests until the price is at or better than the limit, then fills. */
+    LIMIT("Limit"),
+    /** Rests until the price reaches the stop, then fills at the market. */
+    STOP("Stop"),
+    /** Rests until the price reaches the stop, then becomes a limit order. */
+    STOP_LIMIT("Stop-Limit");
+
+    private final String label;
+
+    OrderType(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the label shown on selection controls.
+     *
+     * @return the display label
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns whether orders of this type use a limit price.
+     *
+     * @return true for limit and stop-limit orders
+     */
+    public boolean hasLimit() {
+        return this == LIMIT || this == STOP_LIMIT;
+    }
+
+    /**
+     * Returns whether orders of this type use a stop price.
+     *
+     * @return true for stop and stop-limit orders
+     */
+    public boolean hasStop() {
+        return this == STOP || this == STOP_LIMIT;
+    }
+}
@@ -0,0 +1,129 @@
+package entity;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Latest price of every simulated symbol, shared between the simulation
+ * thread that writes it and any thread that reads it.
+ *
+ * <p>The symbol set is fixed at construction and each symbol owns one slot,
+ * so updates and reads are single atomic array operations with no locking.
+ * Hot loops can resolve a slot once with {@link #slotOf(String)} and use the
+ * int-indexed methods from then on. Symbols are found through their id in the
+ * {@link SymbolRegistry#shared() shared registry}, so a lookup is one array
+ * access after the id is known.</p>
+ */
+public class PriceBoard {
+
+    /** Returned for a slot that has not been priced yet. */
+    public static final double NO_PRICE = Double.NaN;
+
+    private final List<String> symbols;
+    // Slot of every symbol id up to the largest one on the board, -1 where absent
+    private final int[] slotsBySymbolId;
+    private final AtomicLongArray prices;
+
+    /**
+     * Creates a board for a fixed set of symbols.
+     *
+     * @param symbols the symbols to track; duplicates are ignored
+     */
+    public PriceBoard(List<String> symbols) {
+        final SymbolRegistry registry = SymbolRegistry.shared();
+        final List<String> ordered = new ArrayList<>();
+        int[] slotTable = new int[0];
+        for (String symbol : symbols) {
+            final int symbolId = registry.idOf(symbol);
+            if (symbolId >= slotTable.length) {
+                final int oldLength = slotTable.length;
+                slotTable = Arrays.copyOf(slotTable, symbolId + 1);
+                Arrays.fill(slotTable, oldLength, slotTable.length, -1);
+            }
+            if (slotTable[symbolId] < 0) {
+                slotTable[symbolId] = ordered.size();
+                ordered.add(symbol);
+            }
+        }
+        this.symbols = Collections.unmodifiableList(ordered);
+        this.slotsBySymbolId = slotTable;
+        this.prices = new AtomicLongArray(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            prices.set(i, Double.doubleToRawLongBits(NO_PRICE));
+        }
+    }
+
+    /**
+     * Returns the slot of a symbol.
+     *
+     * @param symbol the ticker symbol
+     * @return the slot index, or -1 if the symbol is not on the board
+     */
+    public int slotOf(String symbol) {
+        return slotOfSymbol(SymbolRegistry.shared().find(symbol));
+    }
+
+    /**
+     * Returns the slot of a symbol given its id.
+     *
+     * @param symbolId the symbol's id in the shared registry
+     * @return the slot index, or -1 if the symbol is not on the board
+     */
+    public int slotOfSymbol(int symbolId) {
+        int slot = -1;
+        if (symbolId >= 0 && symbolId < slotsBySymbolId.length) {
+            slot = slotsBySymbolId[symbolId];
+        }
+        return slot;
+    }
+
+    /**
+     * Publishes the latest price of a slot.
+     *
+     * @param slot  the slot returned by {@link #slotOf(String)}
+     * @param price the new price
+     */
+    public void update(int slot, double price) {
+        prices.set(slot, Double.doubleToRawLongBits(price));
+    }
+
+    /**
+     * Returns the latest price of a slot.
+     *
+     * @param slot the slot returned by {@link #slotOf(String)}
+     * @return the price, or {@link #NO_PRICE} if none has been published
+     */
+    public double getPrice(int slot) {
+        return Double.longBitsToDouble(prices.get(slot));
+    }
+
+    /**
+     * Returns the latest price of a symbol.
+     *
+     * @param symbol the ticker symbol
+     * @return the price, or {@link #NO_PRICE} if the symbol is unknown or unpriced
+     */
+    public double getPrice(String symbol) {
+        final int slot = slotOf(symbol);
+        if (slot < 0) {
+            return NO_PRICE;
+        }
+        return getPrice(slot);
+    }
+
+    /**
+     * Returns the symbols on the board in slot order.
+     *
+     * @return an unmodifiable list of symbols
+     */
+    public List<String> getSymbols() {
+        return symbols;
+    }
+
+    public int size() {
+        return symbols.size();
+    }
+}
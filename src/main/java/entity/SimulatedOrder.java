@@ -8,22 +8,59 @@ public class SimulatedOrder {
     private final boolean isLong;
     private final int quantity;
     private final double limitPrice;
+    private final OrderType orderType;
+    private final double stopPrice;
     private LocalDateTime entryTime;
     private double entryPrice;
     private boolean isFilled;
+    private boolean isTriggered;
 
     public SimulatedOrder(String orderId, String ticker, boolean isLong, int quantity,
                           double limitPrice, LocalDateTime entryTime) {
+        this(orderId, ticker, isLong, quantity, OrderType.LIMIT, limitPrice, Double.NaN, entryTime);
+    }
+
+    /**
+     * Creates an order of any type.
+     *
+     * @param orderId    unique id of the order
+     * @param ticker     the ticker to trade
+     * @param isLong     true to buy, false to sell
+     * @param quantity   the number of shares
+     * @param orderType  how the order is executed
+     * @param limitPrice the limit price, or NaN if the type has none
+     * @param stopPrice  the stop price, or NaN if the type has none
+     * @param entryTime  when the order was placed
+     */
+    public SimulatedOrder(String orderId, String ticker, boolean isLong, int quantity, OrderType orderType,
+                          double limitPrice, double stopPrice, LocalDateTime entryTime) {
         this.orderId = orderId;
         this.ticker = ticker;
         this.isLong = isLong;
         this.quantity = quantity;
         this.limitPrice = limitPrice;
+        this.orderType = orderType;
+        this.stopPrice = stopPrice;
         this.entryTime = entryTime;
         this.entryPrice = 0.0;
         this.isFilled = false;
     }
 
+    /**
+     * Returns an independent copy of this order, including its fill and
+     * trigger state.
+     *
+     * @return the copy
+     */
+    public SimulatedOrder copy() {
+        final SimulatedOrder copy = new SimulatedOrder(orderId, ticker, isLong, quantity, orderType, limitPrice,
+                stopPrice, entryTime);
+        copy.entryPrice = entryPrice;
+        copy.isFilled = isFilled;
+        copy.isTriggered = isTriggered;
+        return copy;
+    }
+
     public String getOrderId() {
         return orderId;
     }
@@ -44,6 +81,28 @@ public class SimulatedOrder {
         return limitPrice;
     }
 
+    public OrderType getOrderType() {
+        return orderType;
+    }
+
+    public double getStopPrice() {
+        return stopPrice;
+    }
+
+    /**
+     * Returns whether a stop-limit order's stop has been reached, turning it
+     * into a resting limit order.
+     *
+     * @return true once the stop has triggered
+     */
+    public boolean isTriggered() {
+        return isTriggered;
+    }
+
+    public void setTriggered(boolean triggered) {
+        this.isTriggered = triggered;
+    }
+
     public LocalDateTime getEntryTime() {
         return entryTime;
     }
@@ -1,6 +1,7 @@
 package entity;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * Represents a completed simulated trade, including entry/exit data and
@@ -23,9 +24,10 @@ public class SimulatedTradeRecord {
     private final LocalDateTime entryTime;
     private final LocalDateTime exitTime;
     private final String userId;
+    private final String tradeId;
 
     /**
-     * Creates a new immutable simulated trade record.
+     * Creates a new immutable simulated trade record with a fresh trade id.
      *
      * @param ticker the stock ticker
      * @param isLong true if long, false if short
@@ -46,6 +48,34 @@ public class SimulatedTradeRecord {
                                 LocalDateTime entryTime,
                                 LocalDateTime exitTime,
                                 String userId) {
+        this(ticker, isLong, quantity, entryPrice, exitPrice, realizedPnL, entryTime, exitTime, userId,
+                UUID.randomUUID().toString());
+    }
+
+    /**
+     * Creates a new immutable simulated trade record with a known trade id.
+     *
+     * @param ticker the stock ticker
+     * @param isLong true if long, false if short
+     * @param quantity number of shares
+     * @param entryPrice trade entry price
+     * @param exitPrice trade exit price
+     * @param realizedPnL realized profit/loss of the trade
+     * @param entryTime time the trade was opened
+     * @param exitTime time the trade was closed
+     * @param userId the ID of the user who executed the trade
+     * @param tradeId the id given to the trade when it closed, or null if it has none
+     */
+    public SimulatedTradeRecord(String ticker,
+                                boolean isLong,
+                                int quantity,
+                                double entryPrice,
+                                double exitPrice,
+                                double realizedPnL,
+                                LocalDateTime entryTime,
+                                LocalDateTime exitTime,
+                                String userId,
+                                String tradeId) {
         this.ticker = ticker;
         this.isLong = isLong;
         this.quantity = quantity;
@@ -55,6 +85,7 @@ public class SimulatedTradeRecord {
         this.entryTime = entryTime;
         this.exitTime = exitTime;
         this.userId = userId;
+        this.tradeId = tradeId;
     }
 
     public String getTicker() {
@@ -93,6 +124,17 @@ public class SimulatedTradeRecord {
         return userId;
     }
 
+    /**
+     * Returns the id the trade was given when it closed. It stays the same
+     * however often the trade is saved, so a save that is repeated after a
+     * crash does not store the trade twice.
+     *
+     * @return the trade id, or null for a trade stored before ids were kept
+     */
+    public String getTradeId() {
+        return tradeId;
+    }
+
     /**
      * Calculates the percentage return rate (ROI) for this trade.
      *
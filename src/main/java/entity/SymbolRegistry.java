@@ -0,0 +1,109 @@
+package entity;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Gives every ticker symbol a small dense int id the first time it is seen,
+ * so hot paths can keep per-symbol state in arrays indexed by id instead of
+ * hashing and comparing strings on every tick.
+ *
+ * <p>Ids start at 0, are never reused and never change, so they can be
+ * resolved once, for example when a feed is created, and used from then on.
+ * Lookups are lock-free and may come from any thread; only assigning a new id
+ * takes a lock. The {@link #shared()} registry is used by every account and
+ * order book, so ids agree across a session.</p>
+ */
+public final class SymbolRegistry {
+
+    /** Returned by {@link #find(String)} for a symbol that has no id. */
+    public static final int UNKNOWN = -1;
+
+    private static final int INITIAL_CAPACITY = 64;
+    private static final SymbolRegistry SHARED = new SymbolRegistry();
+
+    private final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private volatile String[] symbols = new String[INITIAL_CAPACITY];
+    private volatile int size;
+
+    /**
+     * Returns the registry shared by the whole application.
+     *
+     * @return the shared registry
+     */
+    public static SymbolRegistry shared() {
+        return SHARED;
+    }
+
+    /**
+     * Returns the id of a symbol, assigning the next free one on first sight.
+     *
+     * @param symbol the ticker symbol
+     * @return the symbol's id
+     */
+    public int idOf(String symbol) {
+        final Integer id = ids.get(symbol);
+        final int result;
+        if (id == null) {
+            result = assign(symbol);
+        }
+        else {
+            result = id;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the id of a symbol without assigning one.
+     *
+     * @param symbol the ticker symbol
+     * @return the symbol's id, or {@link #UNKNOWN} if it has never been seen
+     */
+    public int find(String symbol) {
+        final Integer id = ids.get(symbol);
+        int result = UNKNOWN;
+        if (id != null) {
+            result = id;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the symbol an id was assigned to.
+     *
+     * @param id an id returned by {@link #idOf(String)}
+     * @return the ticker symbol
+     * @throws IndexOutOfBoundsException if the id has not been assigned
+     */
+    public String symbolOf(int id) {
+        if (id < 0 || id >= size) {
+            throw new IndexOutOfBoundsException("Unknown symbol id " + id);
+        }
+        return symbols[id];
+    }
+
+    /**
+     * Returns how many ids have been assigned, which bounds every id.
+     *
+     * @return the number of symbols seen
+     */
+    public int size() {
+        return size;
+    }
+
+    private synchronized int assign(String symbol) {
+        Integer id = ids.get(symbol);
+        if (id == null) {
+            id = size;
+            if (id == symbols.length) {
+                symbols = Arrays.copyOf(symbols, symbols.length * 2);
+            }
+            symbols[id] = symbol;
+            // The name is stored before the size and the map publish the id
+            size = id + 1;
+            ids.put(symbol, id);
+        }
+        return id;
+    }
+}
@@ -8,7 +8,9 @@ import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
 import java.text.DecimalFormat;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import javax.swing.BorderFactory;
 import javax.swing.JLabel;
@@ -18,8 +20,10 @@ import javax.swing.SwingUtilities;
 
 import org.knowm.xchart.CategoryChart;
 import org.knowm.xchart.CategoryChartBuilder;
+import org.knowm.xchart.CategorySeries;
 import org.knowm.xchart.XChartPanel;
 import org.knowm.xchart.style.Styler;
+import org.knowm.xchart.style.markers.SeriesMarkers;
 
 import dataaccess.AlphaVantagePriceGateway;
 import entity.ChartViewModel;
@@ -28,6 +32,8 @@ import interfaceadapter.controller.IntervalController;
 import interfaceadapter.presenter.PriceChartPresenter;
 import usecase.price_chart.GetPriceByIntervalInteractor;
 import usecase.price_chart.PriceChartOutputBoundary;
+import usecase.indicator.IndicatorSet;
+import usecase.indicator.IndicatorType;
 import usecase.price_chart.PriceDataAccessInterface;
 
 @SuppressWarnings({"checkstyle:ClassDataAbstractionCoupling", "checkstyle:SuppressWarnings"})
@@ -63,10 +69,19 @@ public class ChartPanel extends JPanel {
     private static final int GRAY_COLOR_R = 80;
     private static final int GRAY_COLOR_G = 80;
     private static final int GRAY_COLOR_B = 80;
+    private static final Color[] OVERLAY_COLORS = {
+        new Color(155, 89, 182),
+        new Color(243, 156, 18),
+        new Color(26, 188, 156),
+        new Color(231, 76, 60),
+        new Color(127, 140, 141),
+    };
 
     private JPanel chartContainer;
     private JLabel infoLabel;
     private String linkedTicker;
+    private ChartViewModel lastViewModel;
+    private List<IndicatorType> selectedIndicators = Collections.emptyList();
 
     private final Color textColor = new Color(GRAY_COLOR_R, GRAY_COLOR_G, GRAY_COLOR_B);
     private final Color bgColor = Color.WHITE;
@@ -158,6 +173,7 @@ public class ChartPanel extends JPanel {
      */
     @SuppressWarnings("checkstyle:IllegalCatch")
     public void updateChart(ChartViewModel viewModel) {
+        lastViewModel = viewModel;
         chartContainer.removeAll();
         try {
             final CategoryChart chart = createLineChart(viewModel);
@@ -193,6 +209,18 @@ public class ChartPanel extends JPanel {
         }
     }
 
+    /**
+     * Sets the indicators drawn over the price line and redraws the current chart.
+     *
+     * @param indicators the selected indicator types
+     */
+    public void setIndicators(List<IndicatorType> indicators) {
+        this.selectedIndicators = new ArrayList<>(indicators);
+        if (lastViewModel != null) {
+            updateChart(lastViewModel);
+        }
+    }
+
     private void updateInfoLabel(ChartViewModel viewModel) {
         final List<Double> prices;
         if (viewModel.isCandlestick()) {
@@ -221,13 +249,14 @@ public class ChartPanel extends JPanel {
                 sign = "";
             }
 
-            final String infoText = String.format("Close: %s   Chg: %s%s (%s%s%%)",
+            final StringBuilder infoText = new StringBuilder(String.format("Close: %s   Chg: %s%s (%s%s%%)",
                     df.format(currentPrice),
                     sign, df.format(change),
                     sign, df.format(changePercent)
-            );
+            ));
+            appendOscillatorReadouts(infoText, prices, viewModel.getVolumes(), df);
 
-            infoLabel.setText(infoText);
+            infoLabel.setText(infoText.toString());
             if (change >= 0) {
                 infoLabel.setForeground(new Color(
                     COLOR_GREEN_R, COLOR_GREEN_G, COLOR_GREEN_B));
@@ -242,6 +271,24 @@ public class ChartPanel extends JPanel {
         }
     }
 
+    private void appendOscillatorReadouts(StringBuilder infoText, List<Double> prices,
+                                          List<Double> volumes, DecimalFormat df) {
+        final List<IndicatorType> oscillators = new ArrayList<>();
+        for (IndicatorType type : selectedIndicators) {
+            if (!type.isOverlay()) {
+                oscillators.add(type);
+            }
+        }
+        final Map<String, List<Double>> series = IndicatorSet.computeSeries(oscillators, prices, volumes);
+        for (Map.Entry<String, List<Double>> entry : series.entrySet()) {
+            final List<Double> values = entry.getValue();
+            final Double latest = values.get(values.size() - 1);
+            if (latest != null) {
+                infoText.append("   ").append(entry.getKey()).append(": ").append(df.format(latest));
+            }
+        }
+    }
+
     /**
      * Displays an error message on the chart panel.
      *
@@ -308,9 +355,54 @@ public class ChartPanel extends JPanel {
             sparsifyLabels(formattedLabels, targetLabelCount);
 
         chart.addSeries("StockPrice", finalLabels, sampledPrices);
+        addIndicatorOverlays(chart, finalLabels, prices, viewModel.getVolumes(), labels.size());
         return chart;
     }
 
+    private void addIndicatorOverlays(CategoryChart chart, List<String> finalLabels, List<Double> prices,
+                                      List<Double> volumes, int dataSize) {
+        final List<IndicatorType> overlays = new ArrayList<>();
+        for (IndicatorType type : selectedIndicators) {
+            if (type.isOverlay()) {
+                overlays.add(type);
+            }
+        }
+        if (overlays.isEmpty()) {
+            return;
+        }
+        chart.getStyler().setLegendVisible(true);
+
+        final Map<String, List<Double>> series = IndicatorSet.computeSeries(overlays, prices, volumes);
+        int colorIndex = 0;
+        for (Map.Entry<String, List<Double>> entry : series.entrySet()) {
+            final List<Double> sampled = sampleValues(entry.getValue(), dataSize, MAX_POINTS);
+            final CategorySeries overlay = chart.addSeries(entry.getKey(), finalLabels, sampled);
+            overlay.setMarker(SeriesMarkers.NONE);
+            overlay.setLineColor(OVERLAY_COLORS[colorIndex % OVERLAY_COLORS.length]);
+            colorIndex++;
+        }
+    }
+
+    /**
+     * Samples a value series with exactly the same index selection as {@link #sampleData}.
+     */
+    private List<Double> sampleValues(List<Double> values, int dataSize, int maxPoints) {
+        final List<Double> sampled = new ArrayList<>();
+        if (dataSize > maxPoints) {
+            final int step = (int) Math.ceil((double) dataSize / maxPoints);
+            for (int i = 0; i < dataSize; i += step) {
+                sampled.add(values.get(i));
+            }
+            if ((dataSize - 1) % step != 0) {
+                sampled.add(values.get(dataSize - 1));
+            }
+        }
+        else {
+            sampled.addAll(values);
+        }
+        return sampled;
+    }
+
     private String formatLabel(String raw, TimeInterval interval) {
         final String formattedLabel;
         if (raw == null || raw.isEmpty()) {
@@ -6,20 +6,25 @@ import java.awt.Dimension;
 import java.awt.FlowLayout;
 import java.awt.Font;
 import java.awt.event.ActionEvent;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.swing.BorderFactory;
 import javax.swing.JButton;
+import javax.swing.JCheckBox;
 import javax.swing.JFrame;
 import javax.swing.JLabel;
 import javax.swing.JPanel;
 
 import entity.ChartViewModel;
 import interfaceadapter.controller.IntervalController;
+import usecase.indicator.IndicatorType;
 
 public class ChartWindow extends JFrame {
 
     private ChartPanel chartPanel;
     private IntervalController controller;
+    private final List<JCheckBox> indicatorBoxes = new ArrayList<>();
     
     // UI Constants
     private final Color ACCENT_BLACK = new Color(20, 20, 20);
@@ -96,11 +101,38 @@ public class ChartWindow extends JFrame {
         rightControlPanel.add(backButton);
 
         panel.add(intervalPanel, BorderLayout.WEST);
+        panel.add(createIndicatorPanel(), BorderLayout.CENTER);
         panel.add(rightControlPanel, BorderLayout.EAST);
         
         return panel;
     }
 
+    private JPanel createIndicatorPanel() {
+        JPanel panel = new JPanel(new FlowLayout(FlowLayout.CENTER, 6, 0));
+        panel.setBackground(Color.WHITE);
+
+        for (IndicatorType type : IndicatorType.values()) {
+            JCheckBox box = new JCheckBox(type.getLabel());
+            box.setBackground(Color.WHITE);
+            box.setFont(new Font("SansSerif", Font.PLAIN, 11));
+            box.addActionListener((ActionEvent e) -> chartPanel.setIndicators(getSelectedIndicators()));
+            indicatorBoxes.add(box);
+            panel.add(box);
+        }
+        return panel;
+    }
+
+    private List<IndicatorType> getSelectedIndicators() {
+        List<IndicatorType> selected = new ArrayList<>();
+        IndicatorType[] types = IndicatorType.values();
+        for (int i = 0; i < types.length; i++) {
+            if (indicatorBoxes.get(i).isSelected()) {
+                selected.add(types[i]);
+            }
+        }
+        return selected;
+    }
+
     private void createIntervalButton(JPanel panel, String label, String command) {
         JButton button = new JButton(label);
         // Style: Light Grey background, Black text (like screenshot unselected state)
@@ -0,0 +1,62 @@
+package interfaceadapter.backtest;
+
+import java.util.List;
+
+import usecase.backtest.BacktestInputBoundary;
+import usecase.backtest.BacktestInputData;
+import usecase.strategy.StrategyFactory;
+
+/**
+ * Controller that packages command-line parameters into a backtest request.
+ */
+public class BacktestController {
+
+    private final BacktestInputBoundary backtestInteractor;
+
+    /**
+     * Creates a new {@code BacktestController}.
+     *
+     * @param backtestInteractor the interactor that runs the backtest
+     */
+    public BacktestController(BacktestInputBoundary backtestInteractor) {
+        this.backtestInteractor = backtestInteractor;
+    }
+
+    /**
+     * Runs a backtest for the given ticker.
+     *
+     * @param ticker         the stock ticker to replay
+     * @param initialBalance the starting cash balance
+     * @param seed           seed of the tick paths
+     */
+    public void execute(String ticker, double initialBalance, long seed) {
+        execute(ticker, initialBalance, seed, List.of());
+    }
+
+    /**
+     * Runs a backtest for the given ticker with automated strategies trading.
+     *
+     * @param ticker         the stock ticker to replay
+     * @param initialBalance the starting cash balance
+     * @param seed           seed of the tick paths
+     * @param strategies     factories of the strategies to run
+     */
+    public void execute(String ticker, double initialBalance, long seed, List<StrategyFactory> strategies) {
+        execute(ticker, initialBalance, seed, strategies, false);
+    }
+
+    /**
+     * Runs a backtest for the given ticker with automated strategies trading,
+     * optionally skipping candles in which nothing can trade.
+     *
+     * @param ticker         the stock ticker to replay
+     * @param initialBalance the starting cash balance
+     * @param seed           seed of the tick paths
+     * @param strategies     factories of the strategies to run
+     * @param fastForward    true to skip the ticks of uneventful candles
+     */
+    public void execute(String ticker, double initialBalance, long seed, List<StrategyFactory> strategies,
+                        boolean fastForward) {
+        backtestInteractor.execute(new BacktestInputData(ticker, initialBalance, seed, strategies, fastForward));
+    }
+}
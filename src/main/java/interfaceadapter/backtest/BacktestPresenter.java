@@ -0,0 +1,92 @@
+package interfaceadapter.backtest;
+
+import java.text.DecimalFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import interfaceadapter.simulated_trading.TradingPresenter;
+import usecase.backtest.BacktestOutputBoundary;
+import usecase.backtest.BacktestOutputData;
+import usecase.strategy.StrategyStats;
+import usecase.update_market.UpdateMarketOutputData;
+
+/**
+ * Presenter that formats backtest results with the same statistics and
+ * number formats as the interactive trading screen, plus throughput.
+ */
+public class BacktestPresenter implements BacktestOutputBoundary {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_MICRO = 1_000.0;
+
+    private final BacktestViewModel viewModel;
+
+    private final DecimalFormat moneyFormat = new DecimalFormat("$#,##0.00");
+    private final DecimalFormat pctFormat = new DecimalFormat("0.00%");
+    private final DecimalFormat countFormat = new DecimalFormat("#,##0");
+    private final DecimalFormat millisFormat = new DecimalFormat("#,##0.0");
+
+    /**
+     * Constructs a BacktestPresenter.
+     *
+     * @param viewModel the view model to populate
+     */
+    public BacktestPresenter(BacktestViewModel viewModel) {
+        this.viewModel = viewModel;
+    }
+
+    @Override
+    public void prepareSuccessView(BacktestOutputData outputData) {
+        final UpdateMarketOutputData data = outputData.getFinalState();
+        final Map<String, String> report = new LinkedHashMap<>();
+
+        report.put("Ticker", data.getTicker());
+        report.put("Last Price", moneyFormat.format(data.getCurrentPrice()));
+        report.put("Available Cash", moneyFormat.format(data.getAvailableCash()));
+        report.put("Total Equity", moneyFormat.format(data.getTotalEquity()));
+        report.put("Total Return Rate", pctFormat.format(data.getTotalReturnRate()));
+        report.put("Max Gain", moneyFormat.format(data.getMaxGain()));
+        report.put("Largest Losing Trade", moneyFormat.format(data.getLargestLosingTrade()));
+        report.put("Max Drawdown", pctFormat.format(data.getEquityDrawdown()));
+        report.put("Longest Drawdown", TradingPresenter.formatDuration(data.getLongestDrawdownTicks()));
+        report.put("Time Underwater", pctFormat.format(data.getUnderwaterRatio()));
+        report.put("Total Trades", String.valueOf(data.getTotalTrades()));
+        report.put("Winning Trades", String.valueOf(data.getWinningTrades()));
+        report.put("Losing Trades", String.valueOf(data.getLosingTrades()));
+        report.put("Win Rate", pctFormat.format(data.getWinRate()));
+        report.put("Candles", countFormat.format(outputData.getCandleCount()));
+        report.put("Ticks", countFormat.format(outputData.getTickCount()));
+        if (outputData.getSkippedCandles() > 0) {
+            report.put("Candles Skipped", countFormat.format(outputData.getSkippedCandles()));
+        }
+        report.put("Elapsed (ms)", millisFormat.format(outputData.getElapsedNanos() / NANOS_PER_MILLI));
+        report.put("Ticks/sec", countFormat.format(outputData.getTicksPerSecond()));
+        final StringBuilder slow = new StringBuilder();
+        for (StrategyStats stats : outputData.getStrategyStats()) {
+            String latency = String.format("mean %s us, max %s us, %d of %d calls over %s us",
+                    millisFormat.format(stats.getMeanNanos() / NANOS_PER_MICRO),
+                    millisFormat.format(stats.getMaxNanos() / NANOS_PER_MICRO),
+                    stats.getOverBudgetCalls(), stats.getCalls(),
+                    countFormat.format(stats.getBudgetNanos() / NANOS_PER_MICRO));
+            if (stats.isSlow()) {
+                latency += " (SLOW)";
+                slow.append(slow.length() == 0 ? "" : ", ").append(stats.getName());
+            }
+            report.put(stats.getName(), latency);
+        }
+        if (!outputData.getStrategyStats().isEmpty()) {
+            report.put("Over-Budget Calls", countFormat.format(outputData.getOverBudgetCalls()));
+        }
+        if (slow.length() > 0) {
+            report.put("Warning", "over latency budget: " + slow);
+        }
+
+        viewModel.setReport(report);
+        viewModel.setError(null);
+    }
+
+    @Override
+    public void prepareFailView(String error) {
+        viewModel.setError(error);
+    }
+}
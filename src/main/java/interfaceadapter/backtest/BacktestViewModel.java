@@ -0,0 +1,41 @@
+package interfaceadapter.backtest;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * View model for a headless backtest. Holds the formatted report rows in
+ * display order, or the error that stopped the run.
+ */
+public class BacktestViewModel {
+
+    private Map<String, String> report = new LinkedHashMap<>();
+    private String error;
+
+    /**
+     * Returns the formatted statistics, keyed by label in display order.
+     *
+     * @return an unmodifiable view of the report rows
+     */
+    public Map<String, String> getReport() {
+        return Collections.unmodifiableMap(report);
+    }
+
+    /**
+     * Replaces the formatted statistics.
+     *
+     * @param report the report rows keyed by label
+     */
+    public void setReport(Map<String, String> report) {
+        this.report = new LinkedHashMap<>(report);
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
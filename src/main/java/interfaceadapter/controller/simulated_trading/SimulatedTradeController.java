@@ -17,15 +17,13 @@ public class SimulatedTradeController {
      * @param ticker the stock ticker symbol
      * @param isBuy true if this is a buy order, false if sell
      * @param amount the trade amount
-     * @param currentPrice the current price at the time of trade
      */
-    public void saveTrade(String ticker, boolean isBuy, double amount, double currentPrice) {
+    public void saveTrade(String ticker, boolean isBuy, double amount) {
         // This method now matches the Clean Architecture input style
         SimulatedTradeInputData input = new SimulatedTradeInputData(
             ticker,
             isBuy,
-            amount,
-            currentPrice
+            amount
         );
         interactor.executeTrade(input);
     }
@@ -0,0 +1,38 @@
+package interfaceadapter.monte_carlo;
+
+import java.util.List;
+
+import usecase.monte_carlo.MonteCarloInputBoundary;
+import usecase.monte_carlo.MonteCarloInputData;
+import usecase.monte_carlo.RecordedOrder;
+
+/**
+ * Controller that packages command-line parameters into a Monte Carlo request.
+ */
+public class MonteCarloController {
+
+    private final MonteCarloInputBoundary monteCarloInteractor;
+
+    /**
+     * Creates a new {@code MonteCarloController}.
+     *
+     * @param monteCarloInteractor the interactor that runs the paths
+     */
+    public MonteCarloController(MonteCarloInputBoundary monteCarloInteractor) {
+        this.monteCarloInteractor = monteCarloInteractor;
+    }
+
+    /**
+     * Replays the orders over the given number of randomized paths.
+     *
+     * @param ticker         the ticker whose candles are replayed
+     * @param initialBalance the starting cash balance of every path
+     * @param pathCount      how many paths to simulate
+     * @param orders         the order sequence to replay
+     * @param seed           seed of the random paths
+     */
+    public void execute(String ticker, double initialBalance, int pathCount,
+                        List<RecordedOrder> orders, long seed) {
+        monteCarloInteractor.execute(new MonteCarloInputData(ticker, initialBalance, pathCount, orders, seed));
+    }
+}
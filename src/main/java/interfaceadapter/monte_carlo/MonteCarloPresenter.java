@@ -0,0 +1,69 @@
+package interfaceadapter.monte_carlo;
+
+import java.text.DecimalFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import interfaceadapter.simulated_trading.TradingPresenter;
+import usecase.monte_carlo.MonteCarloOutputBoundary;
+import usecase.monte_carlo.MonteCarloOutputData;
+
+/**
+ * Presenter that formats the Monte Carlo distribution as percentile rows.
+ */
+public class MonteCarloPresenter implements MonteCarloOutputBoundary {
+
+    private static final double[] EQUITY_PERCENTILES = {0.05, 0.25, 0.50, 0.75, 0.95};
+    private static final double[] DRAWDOWN_PERCENTILES = {0.50, 0.95, 1.0};
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final int PERCENT = 100;
+
+    private final MonteCarloViewModel viewModel;
+
+    private final DecimalFormat moneyFormat = new DecimalFormat("$#,##0.00");
+    private final DecimalFormat pctFormat = new DecimalFormat("0.00%");
+    private final DecimalFormat countFormat = new DecimalFormat("#,##0");
+    private final DecimalFormat millisFormat = new DecimalFormat("#,##0.0");
+
+    /**
+     * Constructs a MonteCarloPresenter.
+     *
+     * @param viewModel the view model to populate
+     */
+    public MonteCarloPresenter(MonteCarloViewModel viewModel) {
+        this.viewModel = viewModel;
+    }
+
+    @Override
+    public void prepareSuccessView(MonteCarloOutputData outputData) {
+        final Map<String, String> report = new LinkedHashMap<>();
+
+        report.put("Ticker", outputData.getTicker());
+        report.put("Paths", countFormat.format(outputData.getPathCount()));
+        report.put("Candles", countFormat.format(outputData.getCandleCount()));
+        report.put("Initial Balance", moneyFormat.format(outputData.getInitialBalance()));
+        report.put("Mean Final Equity", moneyFormat.format(outputData.getMeanFinalEquity()));
+        for (double percentile : EQUITY_PERCENTILES) {
+            report.put("Final Equity P" + Math.round(percentile * PERCENT),
+                    moneyFormat.format(outputData.getFinalEquityPercentile(percentile)));
+        }
+        report.put("Probability of Loss", pctFormat.format(outputData.getLossProbability()));
+        for (double percentile : DRAWDOWN_PERCENTILES) {
+            report.put("Max Drawdown P" + Math.round(percentile * PERCENT),
+                    pctFormat.format(outputData.getDrawdownPercentile(percentile)));
+        }
+        for (double percentile : DRAWDOWN_PERCENTILES) {
+            report.put("Longest Drawdown P" + Math.round(percentile * PERCENT),
+                    TradingPresenter.formatDuration(outputData.getLongestDrawdownPercentile(percentile)));
+        }
+        report.put("Elapsed (ms)", millisFormat.format(outputData.getElapsedNanos() / NANOS_PER_MILLI));
+
+        viewModel.setReport(report);
+        viewModel.setError(null);
+    }
+
+    @Override
+    public void prepareFailView(String error) {
+        viewModel.setError(error);
+    }
+}
@@ -0,0 +1,46 @@
+package interfaceadapter.optimizer;
+
+import java.util.List;
+
+import usecase.optimizer.OptimizerInputBoundary;
+import usecase.optimizer.OptimizerInputData;
+import usecase.optimizer.ParameterRange;
+import usecase.optimizer.ParameterizedStrategyFactory;
+import usecase.optimizer.SearchMode;
+
+/**
+ * Controller that packages command-line parameters into an optimization request.
+ */
+public class OptimizerController {
+
+    private final OptimizerInputBoundary optimizerInteractor;
+
+    /**
+     * Creates a new {@code OptimizerController}.
+     *
+     * @param optimizerInteractor the interactor that runs the parameter search
+     */
+    public OptimizerController(OptimizerInputBoundary optimizerInteractor) {
+        this.optimizerInteractor = optimizerInteractor;
+    }
+
+    /**
+     * Searches the parameter ranges of a strategy on the given ticker.
+     *
+     * @param ticker          the ticker whose candles are replayed
+     * @param initialBalance  the starting cash balance of every run
+     * @param strategyFactory creates the strategy for each combination
+     * @param ranges          the parameter ranges to search
+     * @param sampleCount     combinations to sample at random, or 0 to search the full grid
+     * @param seed            seed of the tick path and of the random sample
+     */
+    public void execute(String ticker, double initialBalance, ParameterizedStrategyFactory strategyFactory,
+                        List<ParameterRange> ranges, int sampleCount, long seed) {
+        SearchMode mode = SearchMode.GRID;
+        if (sampleCount > 0) {
+            mode = SearchMode.RANDOM;
+        }
+        optimizerInteractor.execute(new OptimizerInputData(
+                ticker, initialBalance, strategyFactory, ranges, mode, sampleCount, seed));
+    }
+}
@@ -0,0 +1,91 @@
+package interfaceadapter.optimizer;
+
+import java.text.DecimalFormat;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import interfaceadapter.simulated_trading.TradingPresenter;
+import usecase.optimizer.OptimizationResult;
+import usecase.optimizer.OptimizerOutputBoundary;
+import usecase.optimizer.OptimizerOutputData;
+
+/**
+ * Presenter that formats optimizer results as a ranked table.
+ */
+public class OptimizerPresenter implements OptimizerOutputBoundary {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final OptimizerViewModel viewModel;
+
+    private final DecimalFormat moneyFormat = new DecimalFormat("$#,##0.00");
+    private final DecimalFormat pctFormat = new DecimalFormat("0.00%");
+    private final DecimalFormat countFormat = new DecimalFormat("#,##0");
+    private final DecimalFormat millisFormat = new DecimalFormat("#,##0.0");
+    private final DecimalFormat parameterFormat = new DecimalFormat("0.####");
+
+    /**
+     * Constructs an OptimizerPresenter.
+     *
+     * @param viewModel the view model to populate
+     */
+    public OptimizerPresenter(OptimizerViewModel viewModel) {
+        this.viewModel = viewModel;
+    }
+
+    @Override
+    public void prepareSuccessView(OptimizerOutputData outputData) {
+        final int evaluated = outputData.getRankedResults().size();
+        final Map<String, String> summary = new LinkedHashMap<>();
+        summary.put("Ticker", outputData.getTicker());
+        summary.put("Candles", countFormat.format(outputData.getCandleCount()));
+        summary.put("Initial Balance", moneyFormat.format(outputData.getInitialBalance()));
+        summary.put("Combinations", countFormat.format(evaluated));
+        summary.put("Skipped (invalid)", countFormat.format(outputData.getSkippedCount()));
+        summary.put("Elapsed (ms)", millisFormat.format(outputData.getElapsedNanos() / NANOS_PER_MILLI));
+        if (outputData.getElapsedNanos() > 0) {
+            summary.put("Runs/sec", millisFormat.format(
+                    evaluated * NANOS_PER_SECOND / outputData.getElapsedNanos()));
+        }
+
+        final List<String> columns = new ArrayList<>();
+        columns.add("Rank");
+        columns.addAll(outputData.getParameterNames());
+        columns.add("Final Equity");
+        columns.add("Return");
+        columns.add("Max Drawdown");
+        columns.add("Longest Drawdown");
+        columns.add("Trades");
+        columns.add("Win Rate");
+
+        final List<List<String>> rows = new ArrayList<>(evaluated);
+        int rank = 1;
+        for (OptimizationResult result : outputData.getRankedResults()) {
+            final List<String> row = new ArrayList<>(columns.size());
+            row.add(Integer.toString(rank));
+            for (String name : outputData.getParameterNames()) {
+                row.add(parameterFormat.format(result.getParameters().get(name)));
+            }
+            row.add(moneyFormat.format(result.getFinalEquity()));
+            row.add(pctFormat.format(result.getReturnRate()));
+            row.add(pctFormat.format(result.getMaxDrawdown()));
+            row.add(TradingPresenter.formatDuration(result.getLongestDrawdownTicks()));
+            row.add(Integer.toString(result.getTotalTrades()));
+            row.add(pctFormat.format(result.getWinRate()));
+            rows.add(row);
+            rank++;
+        }
+
+        viewModel.setSummary(summary);
+        viewModel.setTable(columns, rows);
+        viewModel.setError(null);
+    }
+
+    @Override
+    public void prepareFailView(String error) {
+        viewModel.setError(error);
+    }
+}
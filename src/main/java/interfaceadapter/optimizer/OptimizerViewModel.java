@@ -0,0 +1,74 @@
+package interfaceadapter.optimizer;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * View model for an optimization run. Holds the run summary, the ranked
+ * results table as formatted cells, or the error that stopped the run.
+ */
+public class OptimizerViewModel {
+
+    private Map<String, String> summary = new LinkedHashMap<>();
+    private List<String> columns = new ArrayList<>();
+    private List<List<String>> rows = new ArrayList<>();
+    private String error;
+
+    /**
+     * Returns the formatted run statistics, keyed by label in display order.
+     *
+     * @return an unmodifiable view of the summary rows
+     */
+    public Map<String, String> getSummary() {
+        return Collections.unmodifiableMap(summary);
+    }
+
+    /**
+     * Replaces the formatted run statistics.
+     *
+     * @param summary the summary rows keyed by label
+     */
+    public void setSummary(Map<String, String> summary) {
+        this.summary = new LinkedHashMap<>(summary);
+    }
+
+    /**
+     * Returns the headers of the results table.
+     *
+     * @return an unmodifiable list of column names
+     */
+    public List<String> getColumns() {
+        return Collections.unmodifiableList(columns);
+    }
+
+    /**
+     * Returns the results table, best combination first.
+     *
+     * @return an unmodifiable list of rows, each aligned with the columns
+     */
+    public List<List<String>> getRows() {
+        return Collections.unmodifiableList(rows);
+    }
+
+    /**
+     * Replaces the results table.
+     *
+     * @param columns the column names
+     * @param rows    the formatted rows, best first
+     */
+    public void setTable(List<String> columns, List<List<String>> rows) {
+        this.columns = new ArrayList<>(columns);
+        this.rows = new ArrayList<>(rows);
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
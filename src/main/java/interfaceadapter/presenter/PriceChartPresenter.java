@@ -51,11 +51,14 @@ public class PriceChartPresenter implements PriceChartOutputBoundary {
             List<Double> closePrices = priceData.stream()
                     .map(p -> p.getClose() != null ? p.getClose() : 0.0)
                     .collect(Collectors.toList());
+            List<Double> volumes = priceData.stream()
+                    .map(p -> p.getVolume() != null ? p.getVolume() : 0.0)
+                    .collect(Collectors.toList());
 
             viewModel = new ChartViewModel(
                     ticker + " | " + interval.name(), 
                     labels, 
-                    openPrices, highPrices, lowPrices, closePrices, interval
+                    openPrices, highPrices, lowPrices, closePrices, volumes, interval
             );
         }
         else {
@@ -1,7 +1,12 @@
 package interfaceadapter.setup_simulation;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import usecase.setup_simulation.SetupInputBoundary;
 import usecase.setup_simulation.SetupInputData;
+import usecase.simulated_trade.SimulationSeed;
+import usecase.tick_model.TickModelType;
 
 /**
  * Controller for handling the setup of a new simulation session.
@@ -23,15 +28,47 @@ public class SetupController {
     }
 
     /**
-     * Executes the setup simulation use case with the provided parameters.
+     * Executes the setup simulation use case with the provided parameters and
+     * the default price path model.
+     *
+     * @param tickers the ticker symbols to simulate, separated by commas or spaces;
+     *                the first one is charted
+     * @param initialBalance the initial balance for the trading account
+     * @param speedMultiplier the speed multiplier for the simulation
+     * @param seed the seed of the tick paths, or null to pick a fresh one
+     */
+    public void execute(String tickers, double initialBalance, int speedMultiplier, Long seed) {
+        execute(tickers, initialBalance, speedMultiplier, seed, TickModelType.DEFAULT);
+    }
+
+    /**
+     * Executes the setup simulation use case with a chosen price path model.
      *
-     * @param ticker the stock ticker symbol for the simulation
+     * @param tickers the ticker symbols to simulate, separated by commas or spaces;
+     *                the first one is charted
      * @param initialBalance the initial balance for the trading account
      * @param speedMultiplier the speed multiplier for the simulation
+     * @param seed the seed of the tick paths, or null to pick a fresh one
+     * @param tickModel how prices move inside each candle
      */
-    public void execute(String ticker, double initialBalance, int speedMultiplier) {
+    public void execute(String tickers, double initialBalance, int speedMultiplier, Long seed,
+                        TickModelType tickModel) {
+        final List<String> symbols = new ArrayList<>();
+        for (String symbol : tickers.split("[,\\s]+")) {
+            final String normalized = symbol.trim().toUpperCase();
+            if (!normalized.isEmpty() && !symbols.contains(normalized)) {
+                symbols.add(normalized);
+            }
+        }
+        final long sessionSeed;
+        if (seed == null) {
+            sessionSeed = SimulationSeed.randomSeed();
+        }
+        else {
+            sessionSeed = seed;
+        }
         final SetupInputData inputData =
-                new SetupInputData(ticker, initialBalance, speedMultiplier);
+                new SetupInputData(symbols, initialBalance, speedMultiplier, sessionSeed, tickModel);
         setupInteractor.execute(inputData);
     }
 }
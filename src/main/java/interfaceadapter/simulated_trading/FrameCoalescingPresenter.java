@@ -0,0 +1,75 @@
+package interfaceadapter.simulated_trading;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+
+import usecase.checkpoint.CheckpointOutputBoundary;
+import usecase.checkpoint.CheckpointOutputData;
+import usecase.simulated_trade.SimulatedTradeOutputBoundary;
+import usecase.simulated_trade.SimulatedTradeOutputData;
+import usecase.update_market.UpdateMarketOutputBoundary;
+import usecase.update_market.UpdateMarketOutputData;
+
+/**
+ * Sits between the simulation thread and the {@link TradingPresenter}.
+ *
+ * <p>Market updates only keep the most recent state, so however many ticks run
+ * between two display frames, the view is refreshed at most once per frame.
+ * Trade results, checkpoint results and errors are queued in order, because
+ * each of them carries a message the user needs to see. {@link #flush()} must
+ * be called on the UI thread.</p>
+ */
+public class FrameCoalescingPresenter implements UpdateMarketOutputBoundary,
+        SimulatedTradeOutputBoundary, CheckpointOutputBoundary {
+
+    private final TradingPresenter delegate;
+    private final AtomicReference<UpdateMarketOutputData> latestMarket = new AtomicReference<>();
+    private final Queue<Runnable> pendingEvents = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Creates a presenter that forwards coalesced updates to the given presenter.
+     *
+     * @param delegate the presenter that updates the view model
+     */
+    public FrameCoalescingPresenter(TradingPresenter delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void prepareSuccessView(UpdateMarketOutputData outputData) {
+        latestMarket.set(outputData);
+    }
+
+    @Override
+    public void prepareSuccessView(SimulatedTradeOutputData outputData) {
+        pendingEvents.add(() -> delegate.prepareSuccessView(outputData));
+    }
+
+    @Override
+    public void prepareSuccessView(CheckpointOutputData outputData) {
+        pendingEvents.add(() -> delegate.prepareSuccessView(outputData));
+    }
+
+    @Override
+    public void prepareFailView(String error) {
+        pendingEvents.add(() -> delegate.prepareFailView(error));
+    }
+
+    /**
+     * Delivers queued events and the latest market state to the view model.
+     * Called once per display frame on the UI thread.
+     */
+    public void flush() {
+        Runnable event = pendingEvents.poll();
+        while (event != null) {
+            event.run();
+            event = pendingEvents.poll();
+        }
+
+        final UpdateMarketOutputData market = latestMarket.getAndSet(null);
+        if (market != null) {
+            delegate.prepareSuccessView(market);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package interfaceadapter.simulated_trading;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import usecase.update_market.UpdateMarketInputBoundary;
+
+/**
+ * Drives the market simulation on its own scheduled thread.
+ *
+ * <p>The clock wakes up at a fixed period and advances the interactor by however
+ * many ticks are due since the simulation started, so high tick rates are served
+ * in batches instead of one wake-up per tick. Everything that mutates simulation
+ * state (ticks, trades, indicator changes) is submitted to this single thread, so
+ * the interactor and the account never see concurrent writers.</p>
+ *
+ * <p>At unlimited speed the clock does not sleep at all. It runs batches back
+ * to back, sized so that each takes about one display frame. The interactor
+ * presents its state once per batch, so the view still refreshes about once
+ * per frame while the ticks in between are skipped on screen. Each batch is
+ * queued behind pending commands, so trades stay responsive.</p>
+ */
+public class SimulationClock {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long MIN_PERIOD_NANOS = 1_000_000L;
+    private static final int MAX_TICKS_PER_WAKEUP = 50_000;
+    private static final long UNLIMITED_SLICE_NANOS = 16_000_000L;
+    private static final int MIN_UNLIMITED_BATCH = 100;
+
+    private final UpdateMarketInputBoundary interactor;
+    private final ScheduledExecutorService executor;
+
+    private ScheduledFuture<?> task;
+    private double ticksPerSecond;
+    private long baselineNanos;
+    private long ticksSinceBaseline;
+    // Bumped whenever ticking stops, so a stale unlimited batch chain ends itself
+    private int generation;
+    private int unlimitedBatch = MIN_UNLIMITED_BATCH;
+
+    /**
+     * Creates a clock for the given market interactor.
+     *
+     * @param interactor the interactor advanced on every wake-up
+     */
+    public SimulationClock(UpdateMarketInputBoundary interactor) {
+        this.interactor = interactor;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "simulation-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Starts ticking at the rate the interactor reports for the chosen speed.
+     */
+    public void start() {
+        executor.execute(() -> {
+            cancelTask();
+            ticksPerSecond = interactor.getTicksPerSecond();
+            if (Double.isInfinite(ticksPerSecond)) {
+                final int run = generation;
+                executor.execute(() -> advanceUnlimited(run));
+            }
+            else {
+                resetBaseline();
+                final long period = Math.max(MIN_PERIOD_NANOS, (long) (NANOS_PER_SECOND / ticksPerSecond));
+                task = executor.scheduleAtFixedRate(this::advance, 0, period, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    /**
+     * Stops ticking. Commands already submitted still run.
+     */
+    public void stop() {
+        executor.execute(this::cancelTask);
+    }
+
+    /**
+     * Stops the clock and releases its thread.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs a command on the simulation thread, after any tick currently in progress.
+     *
+     * @param command the state-changing command to run
+     */
+    public void submit(Runnable command) {
+        if (!executor.isShutdown()) {
+            executor.execute(command);
+        }
+    }
+
+    private void advance() {
+        if (interactor.isFinished()) {
+            cancelTask();
+            return;
+        }
+
+        final long elapsed = System.nanoTime() - baselineNanos;
+        final long due = (long) (elapsed * ticksPerSecond / NANOS_PER_SECOND) + 1;
+        final long behind = due - ticksSinceBaseline;
+
+        if (behind > MAX_TICKS_PER_WAKEUP) {
+            // The machine cannot keep up; run a full batch and drop the rest of the
+            // backlog instead of spiralling further behind.
+            interactor.executeTicks(MAX_TICKS_PER_WAKEUP);
+            resetBaseline();
+        }
+        else if (behind > 0) {
+            interactor.executeTicks((int) behind);
+            ticksSinceBaseline += behind;
+        }
+    }
+
+    /**
+     * Runs one frame-sized batch and queues the next one, doubling or halving
+     * the batch size to keep each batch near one frame.
+     *
+     * @param run the generation this chain was started in
+     */
+    private void advanceUnlimited(int run) {
+        if (run != generation || interactor.isFinished()) {
+            return;
+        }
+
+        final long start = System.nanoTime();
+        interactor.executeTicks(unlimitedBatch);
+        final long elapsed = System.nanoTime() - start;
+
+        if (elapsed < UNLIMITED_SLICE_NANOS / 2 && unlimitedBatch <= MAX_TICKS_PER_WAKEUP / 2) {
+            unlimitedBatch *= 2;
+        }
+        else if (elapsed > UNLIMITED_SLICE_NANOS * 2 && unlimitedBatch >= MIN_UNLIMITED_BATCH * 2) {
+            unlimitedBatch /= 2;
+        }
+        submit(() -> advanceUnlimited(run));
+    }
+
+    private void resetBaseline() {
+        baselineNanos = System.nanoTime();
+        ticksSinceBaseline = 0;
+    }
+
+    private void cancelTask() {
+        generation++;
+        if (task != null) {
+            task.cancel(false);
+            task = null;
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package interfaceadapter.simulated_trading;
 
+import java.util.List;
+
 import dataaccess.InMemorySessionDataAccessObject;
+import entity.OrderType;
+import usecase.checkpoint.CheckpointInputBoundary;
+import usecase.indicator.IndicatorType;
 import usecase.simulated_trade.SimulatedTradeInputBoundary;
 import usecase.simulated_trade.SimulatedTradeInputData;
+import usecase.simulated_trade.WriteBehindTradeQueue;
 import usecase.update_market.UpdateMarketInputBoundary;
 
 /**
@@ -23,6 +29,18 @@ public class TradingController {
     /** Current logged-in user session. */
     private final InMemorySessionDataAccessObject sessionDAO;
 
+    /** Thread that owns the simulation state. */
+    private final SimulationClock clock;
+
+    /** Buffers simulation output until the next display frame. */
+    private final FrameCoalescingPresenter framePresenter;
+
+    /** Interactor for saving and resuming sessions, or null if unavailable. */
+    private final CheckpointInputBoundary checkpointInteractor;
+
+    /** Queue saving closed trades in the background, or null if its backlog is not shown. */
+    private WriteBehindTradeQueue tradeWriter;
+
     /**
      * Constructs a TradingController.
      *
@@ -30,40 +48,154 @@ public class TradingController {
      * @param tradeInteractor        trade execution interactor
      * @param tradingPresenter       presenter handling UI updates
      * @param sessionDAO             user's session data access
+     * @param clock                  simulation thread driving the market
+     * @param framePresenter         presenter buffering output between frames
+     */
+    public TradingController(UpdateMarketInputBoundary updateMarketInteractor,
+                             SimulatedTradeInputBoundary tradeInteractor,
+                             TradingPresenter tradingPresenter,
+                             InMemorySessionDataAccessObject sessionDAO,
+                             SimulationClock clock,
+                             FrameCoalescingPresenter framePresenter) {
+        this(updateMarketInteractor, tradeInteractor, tradingPresenter, sessionDAO, clock, framePresenter, null);
+    }
+
+    /**
+     * Constructs a TradingController that can also save and resume sessions.
+     *
+     * @param updateMarketInteractor market update interactor
+     * @param tradeInteractor        trade execution interactor
+     * @param tradingPresenter       presenter handling UI updates
+     * @param sessionDAO             user's session data access
+     * @param clock                  simulation thread driving the market
+     * @param framePresenter         presenter buffering output between frames
+     * @param checkpointInteractor   session save and resume interactor
      */
     public TradingController(UpdateMarketInputBoundary updateMarketInteractor,
                              SimulatedTradeInputBoundary tradeInteractor,
                              TradingPresenter tradingPresenter,
-                             InMemorySessionDataAccessObject sessionDAO) {
+                             InMemorySessionDataAccessObject sessionDAO,
+                             SimulationClock clock,
+                             FrameCoalescingPresenter framePresenter,
+                             CheckpointInputBoundary checkpointInteractor) {
         this.updateMarketInteractor = updateMarketInteractor;
         this.tradeInteractor = tradeInteractor;
         this.tradingPresenter = tradingPresenter;
         this.sessionDAO = sessionDAO;
+        this.clock = clock;
+        this.framePresenter = framePresenter;
+        this.checkpointInteractor = checkpointInteractor;
+    }
+
+    /**
+     * Sets the queue whose unsaved trades are shown with each frame.
+     *
+     * @param tradeWriter the background trade writer
+     */
+    public void setTradeWriter(WriteBehindTradeQueue tradeWriter) {
+        this.tradeWriter = tradeWriter;
+    }
+
+    /**
+     * Loads history on the simulation thread and starts the clock once it is ready.
+     */
+    public void startSimulation() {
+        clock.submit(updateMarketInteractor::loadData);
+        clock.start();
+    }
+
+    /**
+     * Stops the simulation clock and releases its thread, along with any
+     * background tick generation.
+     */
+    public void stopSimulation() {
+        clock.shutdown();
+        updateMarketInteractor.shutdown();
+    }
+
+    /**
+     * Triggered by the UI frame timer to push the latest simulation state to the view.
+     */
+    public void executeRenderFrame() {
+        framePresenter.flush();
+        if (tradeWriter != null) {
+            tradingPresenter.preparePendingUploads(tradeWriter.getBacklog());
+        }
     }
 
     /**
-     * Triggered by UI timer (e.g., every second) to update market data.
+     * Triggered by the indicator checkboxes to change which overlays are computed.
+     *
+     * @param indicators the selected indicator types
      */
-    public void executeTimerTick() {
-        updateMarketInteractor.executeExecuteTick();
+    public void executeSelectIndicators(List<IndicatorType> indicators) {
+        final List<IndicatorType> selection = List.copyOf(indicators);
+        clock.submit(() -> updateMarketInteractor.selectIndicators(selection));
     }
 
     /**
-     * Triggered by Buy/Sell buttons to place a trade.
+     * Triggered by Buy/Sell buttons to place a market order. It fills at the
+     * price current when it runs on the simulation thread.
      *
-     * @param ticker       stock ticker
-     * @param amount       number of shares
-     * @param isBuy        true for buy, false for sell
-     * @param currentPrice current market price
+     * @param ticker stock ticker
+     * @param amount dollar amount of the order
+     * @param isBuy  true for buy, false for sell
      */
-    public void executeTrade(String ticker, double amount, boolean isBuy, double currentPrice) {
+    public void executeTrade(String ticker, double amount, boolean isBuy) {
+        executeOrder(ticker, amount, isBuy, OrderType.MARKET, Double.NaN, Double.NaN);
+    }
+
+    /**
+     * Triggered by Buy/Sell buttons to place an order of the selected type.
+     *
+     * @param ticker     stock ticker
+     * @param amount     dollar amount of the order
+     * @param isBuy      true for buy, false for sell
+     * @param orderType  market, limit, stop or stop-limit
+     * @param limitPrice limit price, or NaN if the type has none
+     * @param stopPrice  stop price, or NaN if the type has none
+     */
+    public void executeOrder(String ticker, double amount, boolean isBuy,
+                             OrderType orderType, double limitPrice, double stopPrice) {
         final SimulatedTradeInputData inputData = new SimulatedTradeInputData(
                 ticker,
                 isBuy,
                 amount,
-                currentPrice
+                orderType,
+                limitPrice,
+                stopPrice
         );
-        tradeInteractor.executeTrade(inputData);
+        clock.submit(() -> tradeInteractor.executeTrade(inputData));
+    }
+
+    /**
+     * Returns whether sessions can be saved and resumed.
+     *
+     * @return true if a checkpoint interactor is wired in
+     */
+    public boolean canSaveSessions() {
+        return checkpointInteractor != null;
+    }
+
+    /**
+     * Triggered by the "Save Session" button. The state is captured between
+     * two ticks on the simulation thread.
+     *
+     * @param path the file to save to
+     */
+    public void executeSaveSession(String path) {
+        clock.submit(() -> checkpointInteractor.save(path));
+    }
+
+    /**
+     * Triggered by the "Load Session" button. The clock is restarted
+     * afterwards, since it stops by itself once a session has ended.
+     *
+     * @param path the file to resume from
+     */
+    public void executeLoadSession(String path) {
+        clock.submit(() -> checkpointInteractor.load(path));
+        clock.start();
     }
 
     /**
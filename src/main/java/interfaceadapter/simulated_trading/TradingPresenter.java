@@ -4,6 +4,8 @@ import java.text.DecimalFormat;
 
 import interfaceadapter.setup_simulation.SetupViewModel;
 import interfaceadapter.view_model.ViewManagerModel;
+import usecase.checkpoint.CheckpointOutputBoundary;
+import usecase.checkpoint.CheckpointOutputData;
 import usecase.simulated_trade.SimulatedTradeOutputBoundary;
 import usecase.simulated_trade.SimulatedTradeOutputData;
 import usecase.update_market.UpdateMarketOutputBoundary;
@@ -14,7 +16,12 @@ import usecase.update_market.UpdateMarketOutputData;
  * market updates and simulated trade results.
  */
 public class TradingPresenter implements UpdateMarketOutputBoundary,
-        SimulatedTradeOutputBoundary {
+        SimulatedTradeOutputBoundary, CheckpointOutputBoundary {
+
+    private static final double BYTES_PER_KB = 1024.0;
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+    private static final long SECONDS_PER_MINUTE = 60;
+    private static final long SECONDS_PER_HOUR = 3600;
 
     private final TradingViewModel viewModel;
     private final ViewManagerModel viewManagerModel;
@@ -46,6 +53,23 @@ public class TradingPresenter implements UpdateMarketOutputBoundary,
         viewManagerModel.firePropertyChanged();
     }
 
+    /**
+     * Shows how many closed trades are still waiting to be saved. The view is
+     * only refreshed when the number changes.
+     *
+     * @param backlog the number of unsaved trades
+     */
+    public void preparePendingUploads(int backlog) {
+        final TradingState state = viewModel.getState();
+        final String pending = String.valueOf(backlog);
+        if (!pending.equals(state.getPendingUploads())) {
+            state.setPendingUploads(pending);
+            // Errors were shown when they were reported
+            state.setError(null);
+            viewModel.firePropertyChanged();
+        }
+    }
+
     @Override
     public void prepareSuccessView(UpdateMarketOutputData data) {
         final TradingState state = viewModel.getState();
@@ -54,7 +78,9 @@ public class TradingPresenter implements UpdateMarketOutputBoundary,
         state.setAvailableCash(moneyFormat.format(data.getAvailableCash()));
         state.setTotalProfit(moneyFormat.format(data.getTotalEquity()));
         state.setTotalReturnRate(pctFormat.format(data.getTotalReturnRate()));
-        state.setMaxDrawdown(moneyFormat.format(data.getMaxDrawdown()));
+        state.setMaxDrawdown(pctFormat.format(data.getEquityDrawdown()));
+        state.setLongestDrawdown(formatDuration(data.getLongestDrawdownTicks()));
+        state.setTimeUnderwater(pctFormat.format(data.getUnderwaterRatio()));
         state.setTotalTrades(String.valueOf(data.getTotalTrades()));
         state.setWinningTrades(String.valueOf(data.getWinningTrades()));
         state.setLosingTrades(String.valueOf(data.getLosingTrades()));
@@ -62,6 +88,9 @@ public class TradingPresenter implements UpdateMarketOutputBoundary,
         state.setWinRate(pctFormat.format(data.getWinRate()));
         state.setPositions(data.getPositions());
         state.setChartData(data.getChartData());
+        state.setOverlaySeries(data.getOverlaySeries());
+        state.setIndicatorValues(data.getIndicatorValues());
+        state.setPrices(data.getPrices());
         state.setError(null);
         state.setTicker(data.getTicker());
 
@@ -69,6 +98,17 @@ public class TradingPresenter implements UpdateMarketOutputBoundary,
         viewModel.firePropertyChanged();
     }
 
+    /**
+     * Formats simulated seconds as hours, minutes and seconds.
+     *
+     * @param seconds the simulated seconds
+     * @return the duration as h:mm:ss
+     */
+    public static String formatDuration(long seconds) {
+        return String.format("%d:%02d:%02d", seconds / SECONDS_PER_HOUR,
+                seconds % SECONDS_PER_HOUR / SECONDS_PER_MINUTE, seconds % SECONDS_PER_MINUTE);
+    }
+
     @Override
     public void prepareSuccessView(SimulatedTradeOutputData data) {
         final TradingState state = viewModel.getState();
@@ -78,6 +118,23 @@ public class TradingPresenter implements UpdateMarketOutputBoundary,
         viewModel.firePropertyChanged();
     }
 
+    @Override
+    public void prepareSuccessView(CheckpointOutputData data) {
+        final String action;
+        if (data.isRestored()) {
+            action = "Resumed session from";
+        }
+        else {
+            action = "Saved session to";
+        }
+        final TradingState state = viewModel.getState();
+        state.setMessage(String.format("%s %s (%,d ticks, %.1f KB in %.1f ms)", action, data.getPath(),
+                data.getTicksProcessed(), data.getSizeBytes() / BYTES_PER_KB,
+                data.getElapsedNanos() / NANOS_PER_MILLI));
+        viewModel.firePropertyChanged();
+        state.setMessage(null);
+    }
+
     @Override
     public void prepareFailView(String error) {
         final TradingState state = viewModel.getState();
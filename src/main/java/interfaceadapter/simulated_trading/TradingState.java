@@ -1,8 +1,7 @@
 package interfaceadapter.simulated_trading;
 
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.List;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import entity.Position;
@@ -18,26 +17,35 @@ public class TradingState {
     private static final String DEFAULT_LOADING = "Loading...";
     private static final String DEFAULT_TICKER = "AAPL";
     private static final String ZERO_STRING = "0";
+    private static final String DEFAULT_DURATION = "0:00:00";
 
     // --- Top-level displayed values ---
     private String availableCash = "$100,000.00";
     private String ticker = DEFAULT_TICKER;
     private String currentPrice = DEFAULT_LOADING;
-    private List<Double> chartData = new ArrayList<>();
+    // Chart arrays are read-only snapshots from the simulation, so copies share them
+    private double[] chartData = new double[0];
+    private Map<String, double[]> overlaySeries = new LinkedHashMap<>();
+    private Map<String, Double> indicatorValues = new LinkedHashMap<>();
+    private Map<String, Double> prices = new LinkedHashMap<>();
 
     // --- Summary statistics ---
     private String totalProfit = DEFAULT_MONEY;
     private String totalReturnRate = DEFAULT_RATE;
-    private String maxDrawdown = DEFAULT_MONEY;
+    private String maxDrawdown = DEFAULT_RATE;
+    private String longestDrawdown = DEFAULT_DURATION;
+    private String timeUnderwater = DEFAULT_RATE;
     private String maxGain = DEFAULT_MONEY;
     private String totalTrades = ZERO_STRING;
     private String winningTrades = ZERO_STRING;
     private String losingTrades = ZERO_STRING;
     private String winRate = DEFAULT_RATE;
+    private String pendingUploads = ZERO_STRING;
 
     // --- Positions and errors ---
     private Map<String, Position> positions = new HashMap<>();
     private String error;
+    private String message;
 
     /**
      * Creates a new TradingState by copying values from an existing instance.
@@ -48,17 +56,24 @@ public class TradingState {
         this.availableCash = copy.availableCash;
         this.ticker = copy.ticker;
         this.currentPrice = copy.currentPrice;
-        this.chartData = new ArrayList<>(copy.chartData);
+        this.chartData = copy.chartData;
+        this.overlaySeries = new LinkedHashMap<>(copy.overlaySeries);
+        this.indicatorValues = new LinkedHashMap<>(copy.indicatorValues);
+        this.prices = new LinkedHashMap<>(copy.prices);
         this.totalProfit = copy.totalProfit;
         this.totalReturnRate = copy.totalReturnRate;
         this.maxDrawdown = copy.maxDrawdown;
+        this.longestDrawdown = copy.longestDrawdown;
+        this.timeUnderwater = copy.timeUnderwater;
         this.maxGain = copy.maxGain;
         this.totalTrades = copy.totalTrades;
         this.winningTrades = copy.winningTrades;
         this.losingTrades = copy.losingTrades;
         this.winRate = copy.winRate;
+        this.pendingUploads = copy.pendingUploads;
         this.positions = new HashMap<>(copy.positions);
         this.error = copy.error;
+        this.message = copy.message;
     }
 
     /**
@@ -122,23 +137,77 @@ public class TradingState {
     }
 
     /**
-     * Returns the list of chart data points.
+     * Returns the chart data points, oldest first. The array must not be modified.
      *
-     * @return the chart data list
+     * @return the chart data
      */
-    public List<Double> getChartData() {
+    public double[] getChartData() {
         return chartData;
     }
 
     /**
-     * Sets the chart data list.
+     * Sets the chart data points.
      *
-     * @param chartData the new chart data list
+     * @param chartData the new chart data, oldest first
      */
-    public void setChartData(List<Double> chartData) {
+    public void setChartData(double[] chartData) {
         this.chartData = chartData;
     }
 
+    /**
+     * Returns the indicator overlay lines drawn on the price chart, keyed by line name.
+     *
+     * @return the overlay series
+     */
+    public Map<String, double[]> getOverlaySeries() {
+        return overlaySeries;
+    }
+
+    /**
+     * Sets the indicator overlay lines drawn on the price chart.
+     *
+     * @param overlaySeries the overlay series keyed by line name
+     */
+    public void setOverlaySeries(Map<String, double[]> overlaySeries) {
+        this.overlaySeries = overlaySeries;
+    }
+
+    /**
+     * Returns the latest price of every simulated ticker.
+     *
+     * @return prices keyed by ticker symbol, in simulation order
+     */
+    public Map<String, Double> getPrices() {
+        return prices;
+    }
+
+    /**
+     * Sets the latest price of every simulated ticker.
+     *
+     * @param prices prices keyed by ticker symbol
+     */
+    public void setPrices(Map<String, Double> prices) {
+        this.prices = prices;
+    }
+
+    /**
+     * Returns the latest reading of every selected indicator line.
+     *
+     * @return the indicator readings keyed by line name
+     */
+    public Map<String, Double> getIndicatorValues() {
+        return indicatorValues;
+    }
+
+    /**
+     * Sets the latest reading of every selected indicator line.
+     *
+     * @param indicatorValues the indicator readings keyed by line name
+     */
+    public void setIndicatorValues(Map<String, Double> indicatorValues) {
+        this.indicatorValues = indicatorValues;
+    }
+
     /**
      * Returns the formatted total profit.
      *
@@ -176,7 +245,7 @@ public class TradingState {
     }
 
     /**
-     * Returns the maximum drawdown.
+     * Returns the maximum peak-to-trough drawdown of total equity.
      *
      * @return the maximum drawdown
      */
@@ -185,7 +254,7 @@ public class TradingState {
     }
 
     /**
-     * Sets the maximum drawdown.
+     * Sets the maximum peak-to-trough drawdown of total equity.
      *
      * @param maxDrawdown the maximum drawdown
      */
@@ -193,6 +262,42 @@ public class TradingState {
         this.maxDrawdown = maxDrawdown;
     }
 
+    /**
+     * Returns the longest time spent below an equity peak.
+     *
+     * @return the longest drawdown duration
+     */
+    public String getLongestDrawdown() {
+        return longestDrawdown;
+    }
+
+    /**
+     * Sets the longest time spent below an equity peak.
+     *
+     * @param longestDrawdown the longest drawdown duration
+     */
+    public void setLongestDrawdown(String longestDrawdown) {
+        this.longestDrawdown = longestDrawdown;
+    }
+
+    /**
+     * Returns the share of the session spent below an equity peak.
+     *
+     * @return the time under water
+     */
+    public String getTimeUnderwater() {
+        return timeUnderwater;
+    }
+
+    /**
+     * Sets the share of the session spent below an equity peak.
+     *
+     * @param timeUnderwater the time under water
+     */
+    public void setTimeUnderwater(String timeUnderwater) {
+        this.timeUnderwater = timeUnderwater;
+    }
+
     /**
      * Returns the maximum single gain.
      *
@@ -283,6 +388,24 @@ public class TradingState {
         this.winRate = winRate;
     }
 
+    /**
+     * Returns how many closed trades are waiting to be saved.
+     *
+     * @return the formatted upload backlog
+     */
+    public String getPendingUploads() {
+        return pendingUploads;
+    }
+
+    /**
+     * Sets how many closed trades are waiting to be saved.
+     *
+     * @param pendingUploads the formatted upload backlog
+     */
+    public void setPendingUploads(String pendingUploads) {
+        this.pendingUploads = pendingUploads;
+    }
+
     /**
      * Returns the map of positions held.
      *
@@ -318,4 +441,22 @@ public class TradingState {
     public void setError(String error) {
         this.error = error;
     }
+
+    /**
+     * Returns the latest informational message, such as a saved session notice.
+     *
+     * @return the message, or null if there is none to show
+     */
+    public String getMessage() {
+        return message;
+    }
+
+    /**
+     * Sets the latest informational message.
+     *
+     * @param message the message, or null once it has been shown
+     */
+    public void setMessage(String message) {
+        this.message = message;
+    }
 }
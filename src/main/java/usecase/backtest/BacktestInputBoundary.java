@@ -0,0 +1,17 @@
+package usecase.backtest;
+
+/**
+ * Input boundary for the Backtest use case.
+ *
+ * <p>A backtest replays the full price history of a ticker through the
+ * simulation engine without any user interface or wall-clock pacing.</p>
+ */
+public interface BacktestInputBoundary {
+
+    /**
+     * Runs a backtest with the given parameters.
+     *
+     * @param inputData the ticker and starting balance to test with
+     */
+    void execute(BacktestInputData inputData);
+}
@@ -0,0 +1,90 @@
+package usecase.backtest;
+
+import java.util.List;
+
+import usecase.simulated_trade.SimulationSeed;
+import usecase.strategy.StrategyFactory;
+
+/**
+ * Input data for a headless backtest run.
+ */
+public class BacktestInputData {
+    private final String ticker;
+    private final double initialBalance;
+    private final long seed;
+    private final List<StrategyFactory> strategies;
+    private final boolean fastForward;
+
+    /**
+     * Creates the input for a backtest with a fresh random seed.
+     *
+     * @param ticker         the stock ticker to replay
+     * @param initialBalance the starting cash balance of the account
+     */
+    public BacktestInputData(String ticker, double initialBalance) {
+        this(ticker, initialBalance, SimulationSeed.randomSeed());
+    }
+
+    /**
+     * Creates the input for a reproducible backtest.
+     *
+     * @param ticker         the stock ticker to replay
+     * @param initialBalance the starting cash balance of the account
+     * @param seed           seed of the tick paths; equal seeds give identical runs
+     */
+    public BacktestInputData(String ticker, double initialBalance, long seed) {
+        this(ticker, initialBalance, seed, List.of());
+    }
+
+    /**
+     * Creates the input for a reproducible backtest of automated strategies.
+     *
+     * @param ticker         the stock ticker to replay
+     * @param initialBalance the starting cash balance of the account
+     * @param seed           seed of the tick paths; equal seeds give identical runs
+     * @param strategies     factories of the strategies that trade during the run
+     */
+    public BacktestInputData(String ticker, double initialBalance, long seed,
+                             List<StrategyFactory> strategies) {
+        this(ticker, initialBalance, seed, strategies, false);
+    }
+
+    /**
+     * Creates the input for a reproducible backtest of automated strategies,
+     * optionally skipping candles in which nothing can trade.
+     *
+     * @param ticker         the stock ticker to replay
+     * @param initialBalance the starting cash balance of the account
+     * @param seed           seed of the tick paths; equal seeds give identical runs
+     * @param strategies     factories of the strategies that trade during the run
+     * @param fastForward    true to skip the ticks of uneventful candles
+     */
+    public BacktestInputData(String ticker, double initialBalance, long seed,
+                             List<StrategyFactory> strategies, boolean fastForward) {
+        this.ticker = ticker;
+        this.initialBalance = initialBalance;
+        this.seed = seed;
+        this.strategies = List.copyOf(strategies);
+        this.fastForward = fastForward;
+    }
+
+    public String getTicker() {
+        return ticker;
+    }
+
+    public double getInitialBalance() {
+        return initialBalance;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public List<StrategyFactory> getStrategies() {
+        return strategies;
+    }
+
+    public boolean isFastForward() {
+        return fastForward;
+    }
+}
@@ -0,0 +1,100 @@
+package usecase.backtest;
+
+import entity.Account;
+import usecase.simulated_trade.SimulationDataAccessInterface;
+import usecase.strategy.StrategyFactory;
+import usecase.update_market.UpdateMarketInteractor;
+import usecase.update_market.UpdateMarketOutputBoundary;
+import usecase.update_market.UpdateMarketOutputData;
+
+/**
+ * Interactor for the Backtest use case.
+ *
+ * <p>Drives the same {@link UpdateMarketInteractor} and {@link Account} used by
+ * the interactive simulation, but in large batches on the calling thread with
+ * chart history disabled, so throughput is bounded only by the CPU. Automated
+ * strategies, if any, trade on every tick.</p>
+ */
+public class BacktestInteractor implements BacktestInputBoundary {
+
+    // Ticks per executeTicks call; large enough that building the snapshot is noise
+    private static final int BATCH_SIZE = 100_000;
+    private static final String BACKTEST_USER = "backtest";
+
+    private final SimulationDataAccessInterface dataAccess;
+    private final BacktestOutputBoundary presenter;
+
+    /**
+     * Creates a backtest interactor.
+     *
+     * @param dataAccess the source of historical candles and ticks
+     * @param presenter  the presenter that receives the results
+     */
+    public BacktestInteractor(SimulationDataAccessInterface dataAccess,
+                              BacktestOutputBoundary presenter) {
+        this.dataAccess = dataAccess;
+        this.presenter = presenter;
+    }
+
+    @Override
+    public void execute(BacktestInputData inputData) {
+        if (inputData.getInitialBalance() <= 0) {
+            presenter.prepareFailView("Initial balance must be positive.");
+            return;
+        }
+
+        final Account account = new Account(inputData.getInitialBalance(), BACKTEST_USER);
+        final LatestResult result = new LatestResult();
+        final UpdateMarketInteractor market = new UpdateMarketInteractor(
+                dataAccess, result, account, inputData.getTicker());
+        market.setRecordChartHistory(false);
+        market.setFastForward(inputData.isFastForward());
+        market.setSeed(inputData.getSeed());
+        for (StrategyFactory factory : inputData.getStrategies()) {
+            market.addStrategy(factory.create());
+        }
+
+        final long start = System.nanoTime();
+        market.loadData();
+        while (result.error == null && !market.isFinished()) {
+            market.executeTicks(BATCH_SIZE);
+        }
+        final long elapsed = System.nanoTime() - start;
+
+        if (result.latest == null) {
+            String error = result.error;
+            if (error == null) {
+                error = "No historical data for " + inputData.getTicker();
+            }
+            presenter.prepareFailView(error);
+        }
+        else {
+            presenter.prepareSuccessView(new BacktestOutputData(
+                    result.latest, market.getCandleCount(), market.getTicksProcessed(), elapsed,
+                    market.getStrategyStats(), market.getSkippedCandles()));
+        }
+    }
+
+    /**
+     * Keeps only the most recent market update; the end-of-data message is
+     * expected when the final batch overruns the history and is not an error.
+     */
+    private static final class LatestResult implements UpdateMarketOutputBoundary {
+        private static final String DATA_ENDED = "Simulation Data Ended";
+
+        private UpdateMarketOutputData latest;
+        private String error;
+
+        @Override
+        public void prepareSuccessView(UpdateMarketOutputData outputData) {
+            latest = outputData;
+        }
+
+        @Override
+        public void prepareFailView(String message) {
+            if (!DATA_ENDED.equals(message)) {
+                error = message;
+            }
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package usecase.backtest;
+
+/**
+ * Output boundary for the Backtest use case.
+ */
+public interface BacktestOutputBoundary {
+
+    /**
+     * Presents the results of a completed backtest.
+     *
+     * @param outputData the final statistics and throughput of the run
+     */
+    void prepareSuccessView(BacktestOutputData outputData);
+
+    /**
+     * Presents an error that stopped the backtest.
+     *
+     * @param error the error message to present
+     */
+    void prepareFailView(String error);
+}
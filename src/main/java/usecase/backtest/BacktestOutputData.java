@@ -0,0 +1,92 @@
+package usecase.backtest;
+
+import java.util.List;
+
+import usecase.strategy.StrategyStats;
+import usecase.update_market.UpdateMarketOutputData;
+
+/**
+ * Result of a headless backtest: the final market snapshot of the run
+ * together with how much history was replayed and how long it took.
+ */
+public class BacktestOutputData {
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final UpdateMarketOutputData finalState;
+    private final int candleCount;
+    private final long tickCount;
+    private final long elapsedNanos;
+    private final List<StrategyStats> strategyStats;
+    private final long skippedCandles;
+
+    /**
+     * Creates the output of a backtest.
+     *
+     * @param finalState   the market data after the last tick
+     * @param candleCount  the number of candles replayed
+     * @param tickCount    the number of ticks simulated
+     * @param elapsedNanos the wall-clock duration of the run in nanoseconds
+     * @param strategyStats latency statistics of each strategy that ran
+     * @param skippedCandles candle steps fast-forwarded without generating ticks
+     */
+    public BacktestOutputData(UpdateMarketOutputData finalState, int candleCount,
+                              long tickCount, long elapsedNanos, List<StrategyStats> strategyStats,
+                              long skippedCandles) {
+        this.finalState = finalState;
+        this.candleCount = candleCount;
+        this.tickCount = tickCount;
+        this.elapsedNanos = elapsedNanos;
+        this.strategyStats = List.copyOf(strategyStats);
+        this.skippedCandles = skippedCandles;
+    }
+
+    public UpdateMarketOutputData getFinalState() {
+        return finalState;
+    }
+
+    public int getCandleCount() {
+        return candleCount;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public List<StrategyStats> getStrategyStats() {
+        return strategyStats;
+    }
+
+    /**
+     * Returns how many strategy calls ran over their strategy's budget.
+     *
+     * @return the number of over-budget calls, across all strategies
+     */
+    public long getOverBudgetCalls() {
+        long total = 0;
+        for (StrategyStats stats : strategyStats) {
+            total += stats.getOverBudgetCalls();
+        }
+        return total;
+    }
+
+    public long getSkippedCandles() {
+        return skippedCandles;
+    }
+
+    /**
+     * Returns the simulation throughput of the run.
+     *
+     * @return ticks simulated per wall-clock second
+     */
+    public double getTicksPerSecond() {
+        if (elapsedNanos <= 0) {
+            return 0.0;
+        }
+        return tickCount * NANOS_PER_SECOND / elapsedNanos;
+    }
+}
@@ -0,0 +1,30 @@
+package usecase.checkpoint;
+
+import java.io.IOException;
+
+import usecase.update_market.SimulationCheckpoint;
+
+/**
+ * Stores simulation checkpoints.
+ */
+public interface CheckpointDataAccessInterface {
+
+    /**
+     * Writes a checkpoint, replacing any previous one at the same path.
+     *
+     * @param checkpoint the state to write
+     * @param path       where to write it
+     * @return the number of bytes written
+     * @throws IOException if the checkpoint cannot be written
+     */
+    long save(SimulationCheckpoint checkpoint, String path) throws IOException;
+
+    /**
+     * Reads a checkpoint.
+     *
+     * @param path where to read it from
+     * @return the stored state
+     * @throws IOException if the file cannot be read or is not a valid checkpoint
+     */
+    SimulationCheckpoint load(String path) throws IOException;
+}
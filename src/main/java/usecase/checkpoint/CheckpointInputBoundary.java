@@ -0,0 +1,24 @@
+package usecase.checkpoint;
+
+/**
+ * Input boundary for saving and resuming simulation sessions.
+ *
+ * <p>Both operations change or read engine state, so they must run on the
+ * thread that owns the simulation.</p>
+ */
+public interface CheckpointInputBoundary {
+
+    /**
+     * Saves the running simulation to a file.
+     *
+     * @param path the file to write; an existing file is replaced
+     */
+    void save(String path);
+
+    /**
+     * Replaces the running simulation's state with a saved session.
+     *
+     * @param path the file to read
+     */
+    void load(String path);
+}
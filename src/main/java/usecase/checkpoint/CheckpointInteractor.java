@@ -0,0 +1,64 @@
+package usecase.checkpoint;
+
+import java.io.File;
+import java.io.IOException;
+
+import usecase.update_market.SimulationCheckpoint;
+import usecase.update_market.UpdateMarketInteractor;
+
+/**
+ * Interactor that saves the running simulation to a checkpoint and resumes
+ * it from one. Loading needs no network access: the candles travel inside
+ * the checkpoint and tick paths are regenerated from the seed.
+ */
+public class CheckpointInteractor implements CheckpointInputBoundary {
+
+    private final UpdateMarketInteractor simulation;
+    private final CheckpointDataAccessInterface dataAccess;
+    private final CheckpointOutputBoundary presenter;
+
+    /**
+     * Creates the interactor.
+     *
+     * @param simulation the simulation whose state is saved and restored
+     * @param dataAccess where checkpoints are stored
+     * @param presenter  the presenter that receives the results
+     */
+    public CheckpointInteractor(UpdateMarketInteractor simulation, CheckpointDataAccessInterface dataAccess,
+                                CheckpointOutputBoundary presenter) {
+        this.simulation = simulation;
+        this.dataAccess = dataAccess;
+        this.presenter = presenter;
+    }
+
+    @Override
+    public void save(String path) {
+        final long start = System.nanoTime();
+        final SimulationCheckpoint checkpoint = simulation.createCheckpoint();
+        try {
+            final long size = dataAccess.save(checkpoint, path);
+            presenter.prepareSuccessView(new CheckpointOutputData(path, false, size,
+                    checkpoint.getTicksProcessed(), System.nanoTime() - start));
+        }
+        catch (IOException ex) {
+            presenter.prepareFailView("Could not save the session: " + ex.getMessage());
+        }
+    }
+
+    @Override
+    public void load(String path) {
+        final long start = System.nanoTime();
+        try {
+            final SimulationCheckpoint checkpoint = dataAccess.load(path);
+            simulation.restoreCheckpoint(checkpoint);
+            presenter.prepareSuccessView(new CheckpointOutputData(path, true, new File(path).length(),
+                    checkpoint.getTicksProcessed(), System.nanoTime() - start));
+        }
+        catch (IOException ex) {
+            presenter.prepareFailView("Could not load the session: " + ex.getMessage());
+        }
+        catch (IllegalArgumentException ex) {
+            presenter.prepareFailView(ex.getMessage());
+        }
+    }
+}
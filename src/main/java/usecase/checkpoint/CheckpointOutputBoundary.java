@@ -0,0 +1,21 @@
+package usecase.checkpoint;
+
+/**
+ * Output boundary for saving and resuming simulation sessions.
+ */
+public interface CheckpointOutputBoundary {
+
+    /**
+     * Presents a completed save or load.
+     *
+     * @param outputData where the session was written or read and how long it took
+     */
+    void prepareSuccessView(CheckpointOutputData outputData);
+
+    /**
+     * Presents an error that stopped the save or load.
+     *
+     * @param error the error message to present
+     */
+    void prepareFailView(String error);
+}
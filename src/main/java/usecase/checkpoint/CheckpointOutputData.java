@@ -0,0 +1,51 @@
+package usecase.checkpoint;
+
+/**
+ * Result of saving or loading a simulation session.
+ */
+public class CheckpointOutputData {
+
+    private final String path;
+    private final boolean restored;
+    private final long sizeBytes;
+    private final long ticksProcessed;
+    private final long elapsedNanos;
+
+    /**
+     * Creates the result of a save or load.
+     *
+     * @param path           the checkpoint file
+     * @param restored       true if the session was loaded, false if it was saved
+     * @param sizeBytes      the size of the checkpoint in bytes
+     * @param ticksProcessed the number of ticks simulated at the checkpoint
+     * @param elapsedNanos   how long the save or load took
+     */
+    public CheckpointOutputData(String path, boolean restored, long sizeBytes, long ticksProcessed,
+                                long elapsedNanos) {
+        this.path = path;
+        this.restored = restored;
+        this.sizeBytes = sizeBytes;
+        this.ticksProcessed = ticksProcessed;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public boolean isRestored() {
+        return restored;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public long getTicksProcessed() {
+        return ticksProcessed;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,115 @@
+package usecase.indicator;
+
+/**
+ * Bollinger Bands: a simple moving average with bands a fixed number of
+ * standard deviations above and below it.
+ *
+ * <p>The mean and variance of the window are maintained with Welford's method,
+ * extended to remove the sample that falls out of the window, so each update is
+ * O(1) and numerically stable.</p>
+ */
+public class BollingerBands implements Indicator {
+
+    /** Index of the middle band (the moving average). */
+    public static final int MIDDLE_LINE = 0;
+
+    /** Index of the upper band. */
+    public static final int UPPER_LINE = 1;
+
+    /** Index of the lower band. */
+    public static final int LOWER_LINE = 2;
+
+    private static final int LINE_COUNT = 3;
+
+    private final int period;
+    private final double width;
+    private final double[] window;
+    private final String[] names;
+
+    private int count;
+    private int head;
+    private double mean;
+    private double sumSquares;
+
+    /**
+     * Creates Bollinger Bands.
+     *
+     * @param period the window length, typically 20
+     * @param width the number of standard deviations for the bands, typically 2
+     */
+    public BollingerBands(int period, double width) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive.");
+        }
+        this.period = period;
+        this.width = width;
+        this.window = new double[period];
+        final String suffix = "(" + period + ")";
+        this.names = new String[] {"BB Mid" + suffix, "BB Upper" + suffix, "BB Lower" + suffix};
+    }
+
+    @Override
+    public void update(double price, double volume) {
+        if (count < period) {
+            count++;
+            final double delta = price - mean;
+            mean += delta / count;
+            sumSquares += delta * (price - mean);
+        }
+        else {
+            final double evicted = window[head];
+            final double oldMean = mean;
+            mean += (price - evicted) / period;
+            sumSquares += (price - evicted) * (price - mean + evicted - oldMean);
+            if (sumSquares < 0.0) {
+                sumSquares = 0.0;
+            }
+        }
+        window[head] = price;
+        head++;
+        if (head == period) {
+            head = 0;
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return count == period;
+    }
+
+    @Override
+    public int getLineCount() {
+        return LINE_COUNT;
+    }
+
+    @Override
+    public String getLineName(int line) {
+        return names[line];
+    }
+
+    @Override
+    public double getValue(int line) {
+        double result = Double.NaN;
+        if (isReady()) {
+            final double deviation = Math.sqrt(sumSquares / period);
+            if (line == MIDDLE_LINE) {
+                result = mean;
+            }
+            else if (line == UPPER_LINE) {
+                result = mean + width * deviation;
+            }
+            else {
+                result = mean - width * deviation;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        count = 0;
+        head = 0;
+        mean = 0.0;
+        sumSquares = 0.0;
+    }
+}
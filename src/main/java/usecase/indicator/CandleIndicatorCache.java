@@ -0,0 +1,84 @@
+package usecase.indicator;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import entity.PricePoint;
+
+/**
+ * Indicator values over one ticker's candle closes, computed once and shared.
+ *
+ * <p>Used when the same history is replayed many times, for example by the
+ * parameter optimizer: every run that asks for SMA(20) reads the same array
+ * instead of recomputing it. Series are computed with the same incremental
+ * indicators as the live simulation, so cached and live values are identical.
+ * Safe for concurrent use; each series is computed at most once.</p>
+ */
+public class CandleIndicatorCache {
+
+    private final String ticker;
+    private final double[] closes;
+    private final double[] volumes;
+    private final Map<String, double[]> series = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a cache over a ticker's candles.
+     *
+     * @param ticker  the ticker the candles belong to
+     * @param candles the candles, oldest first
+     */
+    public CandleIndicatorCache(String ticker, List<PricePoint> candles) {
+        this.ticker = ticker;
+        this.closes = new double[candles.size()];
+        this.volumes = new double[candles.size()];
+        for (int i = 0; i < closes.length; i++) {
+            final PricePoint candle = candles.get(i);
+            closes[i] = candle.getClose();
+            if (candle.getVolume() != null) {
+                volumes[i] = candle.getVolume();
+            }
+        }
+    }
+
+    public String getTicker() {
+        return ticker;
+    }
+
+    public int getCandleCount() {
+        return closes.length;
+    }
+
+    /**
+     * Returns the simple moving average of the closes after each candle.
+     *
+     * @param period the number of candles averaged
+     * @return one value per candle, NaN until the average is ready; must not be modified
+     */
+    public double[] sma(int period) {
+        return values(() -> new SimpleMovingAverage(period), 0);
+    }
+
+    /**
+     * Returns one line of an indicator after each candle. Indicators are keyed
+     * by line name, which includes their parameters (for example "SMA(20)").
+     *
+     * @param factory creates a fresh indicator if the series is not cached yet
+     * @param line    the line of the indicator to record
+     * @return one value per candle, NaN while the indicator is warming up; must not be modified
+     */
+    public double[] values(Supplier<Indicator> factory, int line) {
+        final Indicator indicator = factory.get();
+        return series.computeIfAbsent(indicator.getLineName(line), key -> compute(indicator, line));
+    }
+
+    private double[] compute(Indicator indicator, int line) {
+        final double[] result = new double[closes.length];
+        for (int i = 0; i < closes.length; i++) {
+            indicator.update(closes[i], volumes[i]);
+            result[i] = indicator.getValue(line);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,75 @@
+package usecase.indicator;
+
+/**
+ * Donchian Channel: the highest and lowest price over a sliding window and the
+ * midpoint between them.
+ */
+public class DonchianChannel implements Indicator {
+
+    /** Index of the upper channel line. */
+    public static final int UPPER_LINE = 0;
+
+    /** Index of the lower channel line. */
+    public static final int LOWER_LINE = 1;
+
+    /** Index of the middle line. */
+    public static final int MIDDLE_LINE = 2;
+
+    private static final int LINE_COUNT = 3;
+
+    private final RollingExtremes extremes;
+    private final String[] names;
+
+    /**
+     * Creates a Donchian Channel.
+     *
+     * @param period the window length, typically 20
+     */
+    public DonchianChannel(int period) {
+        this.extremes = new RollingExtremes(period);
+        final String suffix = "(" + period + ")";
+        this.names = new String[] {"DC Upper" + suffix, "DC Lower" + suffix, "DC Mid" + suffix};
+    }
+
+    @Override
+    public void update(double price, double volume) {
+        extremes.add(price);
+    }
+
+    @Override
+    public boolean isReady() {
+        return extremes.isFull();
+    }
+
+    @Override
+    public int getLineCount() {
+        return LINE_COUNT;
+    }
+
+    @Override
+    public String getLineName(int line) {
+        return names[line];
+    }
+
+    @Override
+    public double getValue(int line) {
+        double result = Double.NaN;
+        if (isReady()) {
+            if (line == UPPER_LINE) {
+                result = extremes.getMax();
+            }
+            else if (line == LOWER_LINE) {
+                result = extremes.getMin();
+            }
+            else {
+                result = (extremes.getMax() + extremes.getMin()) / 2.0;
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        extremes.clear();
+    }
+}
@@ -0,0 +1,85 @@
+package usecase.indicator;
+
+/**
+ * Exponential moving average with the conventional smoothing factor
+ * {@code 2 / (period + 1)}. The average is seeded with the simple mean of the
+ * first {@code period} samples.
+ */
+public class ExponentialMovingAverage implements Indicator {
+
+    private final int period;
+    private final double alpha;
+    private final String name;
+
+    private int count;
+    private double seedSum;
+    private double value;
+
+    /**
+     * Creates an exponential moving average.
+     *
+     * @param period the smoothing period
+     */
+    public ExponentialMovingAverage(int period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive.");
+        }
+        this.period = period;
+        this.alpha = 2.0 / (period + 1);
+        this.name = "EMA(" + period + ")";
+    }
+
+    @Override
+    public void update(double price, double volume) {
+        if (count < period) {
+            count++;
+            seedSum += price;
+            if (count == period) {
+                value = seedSum / period;
+            }
+        }
+        else {
+            value += alpha * (price - value);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return count == period;
+    }
+
+    @Override
+    public int getLineCount() {
+        return 1;
+    }
+
+    @Override
+    public String getLineName(int line) {
+        return name;
+    }
+
+    @Override
+    public double getValue(int line) {
+        double result = Double.NaN;
+        if (isReady()) {
+            result = value;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the current average without the line-index indirection.
+     *
+     * @return the current value, or {@link Double#NaN} while not ready
+     */
+    public double getValue() {
+        return getValue(0);
+    }
+
+    @Override
+    public void reset() {
+        count = 0;
+        seedSum = 0.0;
+        value = 0.0;
+    }
+}
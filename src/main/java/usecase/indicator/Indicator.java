@@ -0,0 +1,55 @@
+package usecase.indicator;
+
+/**
+ * A technical indicator that is updated incrementally, one price sample at a time.
+ *
+ * <p>Implementations keep only the rolling state they need (running sums, smoothed
+ * averages, fixed-size windows), so {@link #update(double, double)} is O(1) and never
+ * walks back over history. Indicators that produce more than one line (for example
+ * Bollinger Bands or MACD) expose each line by index.</p>
+ */
+public interface Indicator {
+
+    /**
+     * Feeds the next sample into the indicator.
+     *
+     * @param price the latest traded price
+     * @param volume the volume traded at that price, or 0 if unknown
+     */
+    void update(double price, double volume);
+
+    /**
+     * Returns whether enough samples have been seen for the values to be meaningful.
+     *
+     * @return true once the indicator has warmed up
+     */
+    boolean isReady();
+
+    /**
+     * Returns the number of output lines this indicator produces.
+     *
+     * @return the line count
+     */
+    int getLineCount();
+
+    /**
+     * Returns the display name of the given output line.
+     *
+     * @param line the line index, between 0 and {@link #getLineCount()} - 1
+     * @return the line name
+     */
+    String getLineName(int line);
+
+    /**
+     * Returns the current value of the given output line.
+     *
+     * @param line the line index, between 0 and {@link #getLineCount()} - 1
+     * @return the current value, or {@link Double#NaN} while not ready
+     */
+    double getValue(int line);
+
+    /**
+     * Clears all accumulated state so the indicator can be reused.
+     */
+    void reset();
+}
@@ -0,0 +1,148 @@
+package usecase.indicator;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A group of selected indicators that are updated together from one price stream.
+ *
+ * <p>The indicators are held in a plain array so the per-tick loop does no
+ * allocation and no iterator creation. With k selected indicators each update
+ * costs O(k), independent of how many samples have been seen.</p>
+ */
+public class IndicatorSet {
+
+    private final IndicatorType[] types;
+    private final Indicator[] indicators;
+
+    /**
+     * Creates a set containing one fresh indicator per selected type.
+     *
+     * @param selected the indicator types to track
+     */
+    public IndicatorSet(List<IndicatorType> selected) {
+        this.types = selected.toArray(new IndicatorType[0]);
+        this.indicators = new Indicator[types.length];
+        for (int i = 0; i < types.length; i++) {
+            indicators[i] = types[i].create();
+        }
+    }
+
+    /**
+     * Creates an empty set.
+     */
+    public IndicatorSet() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * Feeds one sample to every indicator in the set.
+     *
+     * @param price the latest price
+     * @param volume the volume at that price, or 0 if unknown
+     */
+    public void update(double price, double volume) {
+        for (Indicator indicator : indicators) {
+            indicator.update(price, volume);
+        }
+    }
+
+    /**
+     * Returns whether the set contains no indicators.
+     *
+     * @return true if nothing is selected
+     */
+    public boolean isEmpty() {
+        return indicators.length == 0;
+    }
+
+    /**
+     * Returns the number of indicators in the set.
+     *
+     * @return the indicator count
+     */
+    public int size() {
+        return indicators.length;
+    }
+
+    /**
+     * Returns the type of the indicator at the given position.
+     *
+     * @param index the position in the set
+     * @return the indicator type
+     */
+    public IndicatorType getType(int index) {
+        return types[index];
+    }
+
+    /**
+     * Returns the indicator at the given position.
+     *
+     * @param index the position in the set
+     * @return the indicator
+     */
+    public Indicator get(int index) {
+        return indicators[index];
+    }
+
+    /**
+     * Returns the current value of every line in the set, keyed by line name.
+     * Lines that are still warming up are omitted.
+     *
+     * @return the latest indicator readings in selection order
+     */
+    public Map<String, Double> latestValues() {
+        final Map<String, Double> values = new LinkedHashMap<>();
+        for (Indicator indicator : indicators) {
+            if (indicator.isReady()) {
+                for (int line = 0; line < indicator.getLineCount(); line++) {
+                    values.put(indicator.getLineName(line), indicator.getValue(line));
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Computes full indicator series over a price history in a single pass.
+     * Samples before an indicator is ready are {@code null} so charts render a gap.
+     *
+     * @param selected the indicator types to compute
+     * @param prices the price series
+     * @param volumes the matching volumes, or null if not available
+     * @return every line of every selected indicator, keyed by line name
+     */
+    public static Map<String, List<Double>> computeSeries(List<IndicatorType> selected,
+                                                          List<Double> prices,
+                                                          List<Double> volumes) {
+        final IndicatorSet set = new IndicatorSet(selected);
+        final Map<String, List<Double>> series = new LinkedHashMap<>();
+        for (Indicator indicator : set.indicators) {
+            for (int line = 0; line < indicator.getLineCount(); line++) {
+                series.put(indicator.getLineName(line), new ArrayList<>(prices.size()));
+            }
+        }
+
+        for (int i = 0; i < prices.size(); i++) {
+            double volume = 0.0;
+            if (volumes != null && i < volumes.size() && volumes.get(i) != null) {
+                volume = volumes.get(i);
+            }
+            set.update(prices.get(i), volume);
+
+            for (Indicator indicator : set.indicators) {
+                for (int line = 0; line < indicator.getLineCount(); line++) {
+                    Double value = null;
+                    if (indicator.isReady()) {
+                        value = indicator.getValue(line);
+                    }
+                    series.get(indicator.getLineName(line)).add(value);
+                }
+            }
+        }
+        return series;
+    }
+}
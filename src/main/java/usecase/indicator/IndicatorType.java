@@ -0,0 +1,82 @@
+package usecase.indicator;
+
+/**
+ * The indicators that can be selected as chart overlays, with the default
+ * parameters used by the application.
+ */
+public enum IndicatorType {
+    SMA_20("SMA 20", true),
+    EMA_20("EMA 20", true),
+    BOLLINGER_20("Bollinger 20", true),
+    DONCHIAN_20("Donchian 20", true),
+    VWAP("VWAP", true),
+    RSI_14("RSI 14", false),
+    MACD("MACD", false);
+
+    private static final int SHORT_PERIOD = 20;
+    private static final int RSI_PERIOD = 14;
+    private static final int MACD_FAST = 12;
+    private static final int MACD_SLOW = 26;
+    private static final int MACD_SIGNAL = 9;
+    private static final double BOLLINGER_WIDTH = 2.0;
+
+    private final String label;
+    private final boolean overlay;
+
+    IndicatorType(String label, boolean overlay) {
+        this.label = label;
+        this.overlay = overlay;
+    }
+
+    /**
+     * Returns the label shown on selection controls.
+     *
+     * @return the display label
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns whether this indicator is drawn on the price axis. Oscillators such
+     * as RSI and MACD live on their own scale and are shown as readouts instead.
+     *
+     * @return true for price-scale overlays
+     */
+    public boolean isOverlay() {
+        return overlay;
+    }
+
+    /**
+     * Creates a fresh indicator instance of this type.
+     *
+     * @return a new indicator with no accumulated state
+     */
+    public Indicator create() {
+        final Indicator indicator;
+        switch (this) {
+            case SMA_20:
+                indicator = new SimpleMovingAverage(SHORT_PERIOD);
+                break;
+            case EMA_20:
+                indicator = new ExponentialMovingAverage(SHORT_PERIOD);
+                break;
+            case BOLLINGER_20:
+                indicator = new BollingerBands(SHORT_PERIOD, BOLLINGER_WIDTH);
+                break;
+            case DONCHIAN_20:
+                indicator = new DonchianChannel(SHORT_PERIOD);
+                break;
+            case VWAP:
+                indicator = new VolumeWeightedAveragePrice();
+                break;
+            case RSI_14:
+                indicator = new RelativeStrengthIndex(RSI_PERIOD);
+                break;
+            default:
+                indicator = new MovingAverageConvergenceDivergence(MACD_FAST, MACD_SLOW, MACD_SIGNAL);
+                break;
+        }
+        return indicator;
+    }
+}
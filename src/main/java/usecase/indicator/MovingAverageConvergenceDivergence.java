@@ -0,0 +1,88 @@
+package usecase.indicator;
+
+/**
+ * MACD: the difference between a fast and a slow EMA, a signal EMA of that
+ * difference, and the histogram between the two.
+ */
+public class MovingAverageConvergenceDivergence implements Indicator {
+
+    /** Index of the MACD line. */
+    public static final int MACD_LINE = 0;
+
+    /** Index of the signal line. */
+    public static final int SIGNAL_LINE = 1;
+
+    /** Index of the histogram line. */
+    public static final int HISTOGRAM_LINE = 2;
+
+    private static final int LINE_COUNT = 3;
+
+    private final ExponentialMovingAverage fast;
+    private final ExponentialMovingAverage slow;
+    private final ExponentialMovingAverage signal;
+    private final String[] names;
+
+    /**
+     * Creates a MACD indicator.
+     *
+     * @param fastPeriod period of the fast EMA, typically 12
+     * @param slowPeriod period of the slow EMA, typically 26
+     * @param signalPeriod period of the signal EMA, typically 9
+     */
+    public MovingAverageConvergenceDivergence(int fastPeriod, int slowPeriod, int signalPeriod) {
+        this.fast = new ExponentialMovingAverage(fastPeriod);
+        this.slow = new ExponentialMovingAverage(slowPeriod);
+        this.signal = new ExponentialMovingAverage(signalPeriod);
+        final String suffix = "(" + fastPeriod + "," + slowPeriod + "," + signalPeriod + ")";
+        this.names = new String[] {"MACD" + suffix, "Signal" + suffix, "Histogram" + suffix};
+    }
+
+    @Override
+    public void update(double price, double volume) {
+        fast.update(price, volume);
+        slow.update(price, volume);
+        if (slow.isReady() && fast.isReady()) {
+            signal.update(fast.getValue() - slow.getValue(), volume);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return signal.isReady();
+    }
+
+    @Override
+    public int getLineCount() {
+        return LINE_COUNT;
+    }
+
+    @Override
+    public String getLineName(int line) {
+        return names[line];
+    }
+
+    @Override
+    public double getValue(int line) {
+        double result = Double.NaN;
+        if (isReady()) {
+            final double macd = fast.getValue() - slow.getValue();
+            if (line == MACD_LINE) {
+                result = macd;
+            }
+            else if (line == SIGNAL_LINE) {
+                result = signal.getValue();
+            }
+            else {
+                result = macd - signal.getValue();
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        fast.reset();
+        slow.reset();
+        signal.reset();
+    }
+}
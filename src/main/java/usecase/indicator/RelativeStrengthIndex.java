@@ -0,0 +1,92 @@
+package usecase.indicator;
+
+/**
+ * Relative Strength Index using Wilder's smoothing of average gains and losses.
+ * Values range from 0 to 100.
+ */
+public class RelativeStrengthIndex implements Indicator {
+
+    private static final double HUNDRED = 100.0;
+
+    private final int period;
+    private final String name;
+
+    private boolean hasPrevious;
+    private double previous;
+    private int changes;
+    private double avgGain;
+    private double avgLoss;
+
+    /**
+     * Creates an RSI indicator.
+     *
+     * @param period the smoothing period, typically 14
+     */
+    public RelativeStrengthIndex(int period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive.");
+        }
+        this.period = period;
+        this.name = "RSI(" + period + ")";
+    }
+
+    @Override
+    public void update(double price, double volume) {
+        if (hasPrevious) {
+            final double change = price - previous;
+            final double gain = Math.max(change, 0.0);
+            final double loss = Math.max(-change, 0.0);
+
+            if (changes < period) {
+                changes++;
+                avgGain += gain / period;
+                avgLoss += loss / period;
+            }
+            else {
+                avgGain = (avgGain * (period - 1) + gain) / period;
+                avgLoss = (avgLoss * (period - 1) + loss) / period;
+            }
+        }
+        previous = price;
+        hasPrevious = true;
+    }
+
+    @Override
+    public boolean isReady() {
+        return changes == period;
+    }
+
+    @Override
+    public int getLineCount() {
+        return 1;
+    }
+
+    @Override
+    public String getLineName(int line) {
+        return name;
+    }
+
+    @Override
+    public double getValue(int line) {
+        double result = Double.NaN;
+        if (isReady()) {
+            if (avgLoss == 0.0) {
+                result = HUNDRED;
+            }
+            else {
+                final double relativeStrength = avgGain / avgLoss;
+                result = HUNDRED - HUNDRED / (1.0 + relativeStrength);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        hasPrevious = false;
+        previous = 0.0;
+        changes = 0;
+        avgGain = 0.0;
+        avgLoss = 0.0;
+    }
+}
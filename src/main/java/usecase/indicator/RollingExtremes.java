@@ -0,0 +1,123 @@
+package usecase.indicator;
+
+/**
+ * Tracks the highest and lowest value over a sliding window of samples using a
+ * pair of monotonic deques.
+ *
+ * <p>Each sample is pushed onto and popped from each deque at most once, so
+ * updates are amortised O(1) and queries are O(1). The deques are fixed-size
+ * circular arrays, so no allocation happens after construction.</p>
+ */
+public class RollingExtremes {
+
+    private final int period;
+
+    private final long[] maxSeq;
+    private final double[] maxValues;
+    private int maxHead;
+    private int maxSize;
+
+    private final long[] minSeq;
+    private final double[] minValues;
+    private int minHead;
+    private int minSize;
+
+    private long sequence;
+
+    /**
+     * Creates a rolling extremes tracker.
+     *
+     * @param period the window length
+     */
+    public RollingExtremes(int period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive.");
+        }
+        this.period = period;
+        this.maxSeq = new long[period];
+        this.maxValues = new double[period];
+        this.minSeq = new long[period];
+        this.minValues = new double[period];
+    }
+
+    /**
+     * Adds a sample to the window, evicting the oldest one once the window is full.
+     *
+     * @param value the new sample
+     */
+    public void add(double value) {
+        final long oldest = sequence - period;
+
+        if (maxSize > 0 && maxSeq[maxHead] <= oldest) {
+            maxHead = (maxHead + 1) % period;
+            maxSize--;
+        }
+        while (maxSize > 0 && maxValues[(maxHead + maxSize - 1) % period] <= value) {
+            maxSize--;
+        }
+        final int maxTail = (maxHead + maxSize) % period;
+        maxSeq[maxTail] = sequence;
+        maxValues[maxTail] = value;
+        maxSize++;
+
+        if (minSize > 0 && minSeq[minHead] <= oldest) {
+            minHead = (minHead + 1) % period;
+            minSize--;
+        }
+        while (minSize > 0 && minValues[(minHead + minSize - 1) % period] >= value) {
+            minSize--;
+        }
+        final int minTail = (minHead + minSize) % period;
+        minSeq[minTail] = sequence;
+        minValues[minTail] = value;
+        minSize++;
+
+        sequence++;
+    }
+
+    /**
+     * Returns whether the window has been filled at least once.
+     *
+     * @return true once {@code period} samples have been added
+     */
+    public boolean isFull() {
+        return sequence >= period;
+    }
+
+    /**
+     * Returns the highest value in the current window.
+     *
+     * @return the window maximum, or {@link Double#NaN} if empty
+     */
+    public double getMax() {
+        double result = Double.NaN;
+        if (maxSize > 0) {
+            result = maxValues[maxHead];
+        }
+        return result;
+    }
+
+    /**
+     * Returns the lowest value in the current window.
+     *
+     * @return the window minimum, or {@link Double#NaN} if empty
+     */
+    public double getMin() {
+        double result = Double.NaN;
+        if (minSize > 0) {
+            result = minValues[minHead];
+        }
+        return result;
+    }
+
+    /**
+     * Empties the window.
+     */
+    public void clear() {
+        maxHead = 0;
+        maxSize = 0;
+        minHead = 0;
+        minSize = 0;
+        sequence = 0;
+    }
+}
@@ -0,0 +1,77 @@
+package usecase.indicator;
+
+/**
+ * Simple moving average over a fixed number of samples, maintained with a
+ * circular window and a running sum.
+ */
+public class SimpleMovingAverage implements Indicator {
+
+    private final int period;
+    private final double[] window;
+    private final String name;
+
+    private int count;
+    private int head;
+    private double sum;
+
+    /**
+     * Creates a simple moving average.
+     *
+     * @param period the number of samples to average over
+     */
+    public SimpleMovingAverage(int period) {
+        if (period <= 0) {
+            throw new IllegalArgumentException("Period must be positive.");
+        }
+        this.period = period;
+        this.window = new double[period];
+        this.name = "SMA(" + period + ")";
+    }
+
+    @Override
+    public void update(double price, double volume) {
+        if (count == period) {
+            sum -= window[head];
+        }
+        else {
+            count++;
+        }
+        window[head] = price;
+        sum += price;
+        head++;
+        if (head == period) {
+            head = 0;
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return count == period;
+    }
+
+    @Override
+    public int getLineCount() {
+        return 1;
+    }
+
+    @Override
+    public String getLineName(int line) {
+        return name;
+    }
+
+    @Override
+    public double getValue(int line) {
+        double result = Double.NaN;
+        if (isReady()) {
+            result = sum / period;
+        }
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        count = 0;
+        head = 0;
+        sum = 0.0;
+    }
+}
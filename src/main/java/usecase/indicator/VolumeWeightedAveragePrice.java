@@ -0,0 +1,51 @@
+package usecase.indicator;
+
+/**
+ * Session volume-weighted average price, accumulated from the first sample
+ * since the last {@link #reset()}.
+ */
+public class VolumeWeightedAveragePrice implements Indicator {
+
+    private static final String NAME = "VWAP";
+
+    private double priceVolume;
+    private double totalVolume;
+
+    @Override
+    public void update(double price, double volume) {
+        if (volume > 0.0) {
+            priceVolume += price * volume;
+            totalVolume += volume;
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return totalVolume > 0.0;
+    }
+
+    @Override
+    public int getLineCount() {
+        return 1;
+    }
+
+    @Override
+    public String getLineName(int line) {
+        return NAME;
+    }
+
+    @Override
+    public double getValue(int line) {
+        double result = Double.NaN;
+        if (isReady()) {
+            result = priceVolume / totalVolume;
+        }
+        return result;
+    }
+
+    @Override
+    public void reset() {
+        priceVolume = 0.0;
+        totalVolume = 0.0;
+    }
+}
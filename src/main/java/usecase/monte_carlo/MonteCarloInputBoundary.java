@@ -0,0 +1,14 @@
+package usecase.monte_carlo;
+
+/**
+ * Input boundary for the Monte Carlo use case.
+ */
+public interface MonteCarloInputBoundary {
+
+    /**
+     * Replays the given orders over many randomized tick paths.
+     *
+     * @param inputData the ticker, orders and number of paths
+     */
+    void execute(MonteCarloInputData inputData);
+}
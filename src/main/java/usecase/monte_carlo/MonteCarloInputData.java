@@ -0,0 +1,77 @@
+package usecase.monte_carlo;
+
+import java.util.List;
+
+import usecase.strategy.StrategyFactory;
+
+/**
+ * Input data for a Monte Carlo run.
+ */
+public class MonteCarloInputData {
+    private final String ticker;
+    private final double initialBalance;
+    private final int pathCount;
+    private final List<RecordedOrder> orders;
+    private final long seed;
+    private final List<StrategyFactory> strategies;
+
+    /**
+     * Creates the input for a Monte Carlo run.
+     *
+     * @param ticker         the ticker whose candles are replayed
+     * @param initialBalance the starting cash balance of every path
+     * @param pathCount      how many randomized tick paths to simulate
+     * @param orders         the order sequence replayed on every path
+     * @param seed           seed of the random paths; equal seeds give equal results
+     */
+    public MonteCarloInputData(String ticker, double initialBalance, int pathCount,
+                               List<RecordedOrder> orders, long seed) {
+        this(ticker, initialBalance, pathCount, orders, seed, List.of());
+    }
+
+    /**
+     * Creates the input for a Monte Carlo run in which automated strategies
+     * trade alongside the recorded orders. Each path gets fresh strategy
+     * instances, so strategies may keep per-run state.
+     *
+     * @param ticker         the ticker whose candles are replayed
+     * @param initialBalance the starting cash balance of every path
+     * @param pathCount      how many randomized tick paths to simulate
+     * @param orders         the order sequence replayed on every path
+     * @param seed           seed of the random paths; equal seeds give equal results
+     * @param strategies     factories of the strategies that trade on every path
+     */
+    public MonteCarloInputData(String ticker, double initialBalance, int pathCount,
+                               List<RecordedOrder> orders, long seed, List<StrategyFactory> strategies) {
+        this.ticker = ticker;
+        this.initialBalance = initialBalance;
+        this.pathCount = pathCount;
+        this.orders = List.copyOf(orders);
+        this.seed = seed;
+        this.strategies = List.copyOf(strategies);
+    }
+
+    public String getTicker() {
+        return ticker;
+    }
+
+    public double getInitialBalance() {
+        return initialBalance;
+    }
+
+    public int getPathCount() {
+        return pathCount;
+    }
+
+    public List<RecordedOrder> getOrders() {
+        return orders;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public List<StrategyFactory> getStrategies() {
+        return strategies;
+    }
+}
@@ -0,0 +1,203 @@
+package usecase.monte_carlo;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import entity.Account;
+import entity.PriceBoard;
+import entity.PricePoint;
+import usecase.parallel.IndexRangeTask;
+import usecase.simulated_trade.SimulationDataAccessInterface;
+import usecase.simulated_trade.SimulationSeed;
+import usecase.strategy.StrategyContext;
+import usecase.strategy.StrategyFactory;
+import usecase.strategy.StrategyRunner;
+import usecase.update_market.EquityCurveTracker;
+import usecase.update_market.UpdateMarketInteractor;
+
+/**
+ * Interactor for the Monte Carlo use case.
+ *
+ * <p>Loads a ticker's candles once and replays a recorded order sequence over
+ * many independently randomized intra-candle tick paths. Paths are split
+ * across a fork/join pool. Each path derives its own seed from the run's seed
+ * and its path number, and each candle of the path its own stream from that,
+ * so workers never share a random source and a given seed produces the same
+ * distribution however the paths are scheduled. A single path can be
+ * reproduced in the live simulation with {@link SimulationSeed#forPath}.</p>
+ */
+public class MonteCarloInteractor implements MonteCarloInputBoundary {
+
+    private static final int TICKS_PER_CANDLE = UpdateMarketInteractor.CANDLE_SECONDS;
+
+    // Paths per leaf task; small enough to balance, large enough to amortize forking
+    private static final int PATHS_PER_TASK = 8;
+    private static final String MONTE_CARLO_USER = "monte-carlo";
+
+    private final SimulationDataAccessInterface dataAccess;
+    private final MonteCarloOutputBoundary presenter;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates an interactor that runs on the common fork/join pool.
+     *
+     * @param dataAccess the source of candles and tick paths
+     * @param presenter  the presenter that receives the results
+     */
+    public MonteCarloInteractor(SimulationDataAccessInterface dataAccess,
+                                MonteCarloOutputBoundary presenter) {
+        this(dataAccess, presenter, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an interactor that runs on the given pool.
+     *
+     * @param dataAccess the source of candles and tick paths
+     * @param presenter  the presenter that receives the results
+     * @param pool       the pool the paths are simulated on
+     */
+    public MonteCarloInteractor(SimulationDataAccessInterface dataAccess,
+                                MonteCarloOutputBoundary presenter,
+                                ForkJoinPool pool) {
+        this.dataAccess = dataAccess;
+        this.presenter = presenter;
+        this.pool = pool;
+    }
+
+    @Override
+    public void execute(MonteCarloInputData inputData) {
+        if (inputData.getPathCount() < 1) {
+            presenter.prepareFailView("Path count must be positive.");
+            return;
+        }
+        if (inputData.getInitialBalance() <= 0) {
+            presenter.prepareFailView("Initial balance must be positive.");
+            return;
+        }
+
+        final List<PricePoint> candles = dataAccess.loadHistory(inputData.getTicker());
+        if (candles == null || candles.isEmpty()) {
+            presenter.prepareFailView("No historical data for " + inputData.getTicker());
+            return;
+        }
+
+        final List<RecordedOrder> orders = new ArrayList<>(inputData.getOrders());
+        orders.sort(Comparator.comparingInt(RecordedOrder::getCandleIndex)
+                .thenComparingInt(RecordedOrder::getSecond));
+
+        final int paths = inputData.getPathCount();
+        final double[] finalEquities = new double[paths];
+        final double[] maxDrawdowns = new double[paths];
+        final long[] longestDrawdowns = new long[paths];
+        final PathSimulation simulation = new PathSimulation(
+                inputData.getTicker(), inputData.getInitialBalance(), candles, orders,
+                inputData.getStrategies(), inputData.getSeed(), finalEquities, maxDrawdowns, longestDrawdowns);
+
+        final long start = System.nanoTime();
+        pool.invoke(new IndexRangeTask((from, to) -> {
+            final double[] ticks = new double[TICKS_PER_CANDLE];
+            for (int path = from; path < to; path++) {
+                simulation.run(path, ticks);
+            }
+        }, 0, paths, PATHS_PER_TASK));
+        final long elapsed = System.nanoTime() - start;
+
+        presenter.prepareSuccessView(new MonteCarloOutputData(
+                inputData.getTicker(), inputData.getInitialBalance(), candles.size(),
+                finalEquities, maxDrawdowns, longestDrawdowns, elapsed));
+    }
+
+    /**
+     * Read-only description of the replay shared by all workers; each path
+     * writes only its own slot of the result arrays.
+     */
+    private final class PathSimulation {
+        private final String ticker;
+        private final double initialBalance;
+        private final List<PricePoint> candles;
+        private final List<RecordedOrder> orders;
+        private final List<StrategyFactory> strategies;
+        private final long seed;
+        private final double[] finalEquities;
+        private final double[] maxDrawdowns;
+        private final long[] longestDrawdowns;
+
+        PathSimulation(String ticker, double initialBalance, List<PricePoint> candles,
+                       List<RecordedOrder> orders, List<StrategyFactory> strategies, long seed,
+                       double[] finalEquities, double[] maxDrawdowns, long[] longestDrawdowns) {
+            this.ticker = ticker;
+            this.initialBalance = initialBalance;
+            this.candles = candles;
+            this.orders = orders;
+            this.strategies = strategies;
+            this.seed = seed;
+            this.finalEquities = finalEquities;
+            this.maxDrawdowns = maxDrawdowns;
+            this.longestDrawdowns = longestDrawdowns;
+        }
+
+        void run(int path, double[] ticks) {
+            final long pathSeed = SimulationSeed.forPath(seed, path);
+            final Account account = new Account(initialBalance, MONTE_CARLO_USER);
+            final EquityCurveTracker equityCurve = EquityCurveTracker.forStatistics(initialBalance);
+            double equity = initialBalance;
+            int nextOrder = 0;
+
+            // Strategy instances are per path, so their state never crosses workers
+            final PriceBoard board = new PriceBoard(List.of(ticker));
+            final StrategyRunner runner = new StrategyRunner(new StrategyContext(account, board));
+            for (StrategyFactory factory : strategies) {
+                runner.addStrategy(factory.create());
+            }
+
+            for (int candleIndex = 0; candleIndex < candles.size(); candleIndex++) {
+                final PricePoint candle = candles.get(candleIndex);
+                dataAccess.generateTicks(candles, candleIndex, ticks, TICKS_PER_CANDLE,
+                        SimulationSeed.candleStream(pathSeed, ticker, candleIndex));
+
+                for (int second = 0; second < TICKS_PER_CANDLE; second++) {
+                    final double price = ticks[second];
+                    while (nextOrder < orders.size() && isDue(orders.get(nextOrder), candleIndex, second)) {
+                        fill(account, orders.get(nextOrder), price, candle, second);
+                        nextOrder++;
+                    }
+                    if (!runner.isEmpty()) {
+                        board.update(0, price);
+                        runner.onTick(ticker, price);
+                    }
+
+                    equity = account.calculateTotalEquity(price, ticker);
+                    equityCurve.update(equity, 1);
+                }
+                if (!runner.isEmpty()) {
+                    runner.onCandle(ticker, candle);
+                }
+            }
+
+            finalEquities[path] = equity;
+            maxDrawdowns[path] = equityCurve.getMaxDrawdown();
+            longestDrawdowns[path] = equityCurve.getLongestDrawdownTicks();
+        }
+
+        private boolean isDue(RecordedOrder order, int candleIndex, int second) {
+            return order.getCandleIndex() < candleIndex
+                    || order.getCandleIndex() == candleIndex && order.getSecond() <= second;
+        }
+
+        private void fill(Account account, RecordedOrder order, double price, PricePoint candle, int second) {
+            // Buys the path cannot afford are skipped, as the trade interactor would reject them
+            final boolean affordable = !order.isBuyAction()
+                    || account.getBalance() >= order.getQuantity() * price;
+            if (affordable && order.getQuantity() > 0) {
+                LocalDateTime time = null;
+                if (candle.getTimestamp() != null) {
+                    time = candle.getTimestamp().plusSeconds(second);
+                }
+                account.executeTrade(ticker, order.isBuyAction(), order.getQuantity(), price, time);
+            }
+        }
+    }
+}
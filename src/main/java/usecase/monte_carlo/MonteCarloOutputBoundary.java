@@ -0,0 +1,21 @@
+package usecase.monte_carlo;
+
+/**
+ * Output boundary for the Monte Carlo use case.
+ */
+public interface MonteCarloOutputBoundary {
+
+    /**
+     * Presents the distribution of outcomes across all paths.
+     *
+     * @param outputData the per-path results and summary statistics
+     */
+    void prepareSuccessView(MonteCarloOutputData outputData);
+
+    /**
+     * Presents an error that stopped the run.
+     *
+     * @param error the error message to present
+     */
+    void prepareFailView(String error);
+}
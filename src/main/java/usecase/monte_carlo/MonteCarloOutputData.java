@@ -0,0 +1,132 @@
+package usecase.monte_carlo;
+
+import java.util.Arrays;
+
+/**
+ * Distribution of outcomes of a Monte Carlo run: the final equity, the
+ * maximum peak-to-trough drawdown and the longest drawdown of every path,
+ * kept sorted ascending.
+ */
+public class MonteCarloOutputData {
+
+    private final String ticker;
+    private final double initialBalance;
+    private final int candleCount;
+    private final double[] finalEquities;
+    private final double[] maxDrawdowns;
+    private final long[] longestDrawdowns;
+    private final long elapsedNanos;
+
+    /**
+     * Creates the output of a Monte Carlo run.
+     *
+     * @param ticker           the replayed ticker
+     * @param initialBalance   the starting balance of every path
+     * @param candleCount      the number of candles in each path
+     * @param finalEquities    final equity of each path, in any order
+     * @param maxDrawdowns     maximum drawdown of each path as a fraction of its peak, in any order
+     * @param longestDrawdowns longest drawdown of each path in simulated seconds, in any order
+     * @param elapsedNanos     wall-clock duration of the run in nanoseconds
+     */
+    public MonteCarloOutputData(String ticker, double initialBalance, int candleCount, double[] finalEquities,
+                                double[] maxDrawdowns, long[] longestDrawdowns, long elapsedNanos) {
+        this.ticker = ticker;
+        this.initialBalance = initialBalance;
+        this.candleCount = candleCount;
+        this.finalEquities = finalEquities.clone();
+        this.maxDrawdowns = maxDrawdowns.clone();
+        Arrays.sort(this.finalEquities);
+        this.longestDrawdowns = longestDrawdowns.clone();
+        Arrays.sort(this.maxDrawdowns);
+        Arrays.sort(this.longestDrawdowns);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getTicker() {
+        return ticker;
+    }
+
+    public double getInitialBalance() {
+        return initialBalance;
+    }
+
+    public int getCandleCount() {
+        return candleCount;
+    }
+
+    public int getPathCount() {
+        return finalEquities.length;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * Returns a percentile of final equity.
+     *
+     * @param percentile       between 0 and 1
+     * @return the final equity at that percentile
+     */
+    public double getFinalEquityPercentile(double percentile) {
+        return percentile(finalEquities, percentile);
+    }
+
+    /**
+     * Returns a percentile of maximum drawdown.
+     *
+     * @param percentile       between 0 and 1
+     * @return the drawdown fraction at that percentile
+     */
+    public double getDrawdownPercentile(double percentile) {
+        return percentile(maxDrawdowns, percentile);
+    }
+
+    /**
+     * Returns a percentile of the longest drawdown.
+     *
+     * @param percentile       between 0 and 1
+     * @return the longest drawdown at that percentile, in simulated seconds
+     */
+    public long getLongestDrawdownPercentile(double percentile) {
+        return longestDrawdowns[percentileIndex(longestDrawdowns.length, percentile)];
+    }
+
+    /**
+     * Returns the mean final equity over all paths.
+     *
+     * @return the mean final equity
+     */
+    public double getMeanFinalEquity() {
+        double sum = 0.0;
+        for (double equity : finalEquities) {
+            sum += equity;
+        }
+        return sum / finalEquities.length;
+    }
+
+    /**
+     * Returns the share of paths that ended below the starting balance.
+     *
+     * @return the probability of a loss, between 0 and 1
+     */
+    public double getLossProbability() {
+        int losses = 0;
+        while (losses < finalEquities.length && finalEquities[losses] < initialBalance) {
+            losses++;
+        }
+        return (double) losses / finalEquities.length;
+    }
+
+    /**
+     * Nearest-rank percentile of a sorted array.
+     */
+    private static double percentile(double[] sorted, double percentile) {
+        return sorted[percentileIndex(sorted.length, percentile)];
+    }
+
+    private static int percentileIndex(int length, double percentile) {
+        final int rank = (int) Math.ceil(percentile * length);
+        return Math.min(length - 1, Math.max(0, rank - 1));
+    }
+}
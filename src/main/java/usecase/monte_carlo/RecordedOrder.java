@@ -0,0 +1,44 @@
+package usecase.monte_carlo;
+
+/**
+ * A market order placed at a fixed point of a replayed session, identified by
+ * candle and second within the candle rather than by price, so the same
+ * sequence can be replayed against any randomized tick path.
+ */
+public class RecordedOrder {
+    private final int candleIndex;
+    private final int second;
+    private final boolean isBuyAction;
+    private final int quantity;
+
+    /**
+     * Creates a recorded order.
+     *
+     * @param candleIndex index of the candle the order was placed in
+     * @param second      second within the candle, from 0
+     * @param isBuyAction true for a buy, false for a sell
+     * @param quantity    number of shares
+     */
+    public RecordedOrder(int candleIndex, int second, boolean isBuyAction, int quantity) {
+        this.candleIndex = candleIndex;
+        this.second = second;
+        this.isBuyAction = isBuyAction;
+        this.quantity = quantity;
+    }
+
+    public int getCandleIndex() {
+        return candleIndex;
+    }
+
+    public int getSecond() {
+        return second;
+    }
+
+    public boolean isBuyAction() {
+        return isBuyAction;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+}
@@ -0,0 +1,68 @@
+package usecase.optimizer;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Outcome of running the strategy with one parameter combination.
+ */
+public class OptimizationResult {
+    private final Map<String, Double> parameters;
+    private final double finalEquity;
+    private final double returnRate;
+    private final double maxDrawdown;
+    private final long longestDrawdownTicks;
+    private final int totalTrades;
+    private final double winRate;
+
+    /**
+     * Creates a result.
+     *
+     * @param parameters           the parameter values, in range order
+     * @param finalEquity          the equity after the last tick
+     * @param returnRate           the return on the initial balance, as a fraction
+     * @param maxDrawdown          the largest peak-to-trough fall of equity, as a fraction of the peak
+     * @param longestDrawdownTicks the longest time equity spent below a previous peak, in simulated seconds
+     * @param totalTrades          the number of closed trades
+     * @param winRate              the fraction of closed trades that were profitable
+     */
+    public OptimizationResult(Map<String, Double> parameters, double finalEquity, double returnRate,
+                              double maxDrawdown, long longestDrawdownTicks, int totalTrades, double winRate) {
+        this.parameters = Collections.unmodifiableMap(new LinkedHashMap<>(parameters));
+        this.finalEquity = finalEquity;
+        this.returnRate = returnRate;
+        this.maxDrawdown = maxDrawdown;
+        this.longestDrawdownTicks = longestDrawdownTicks;
+        this.totalTrades = totalTrades;
+        this.winRate = winRate;
+    }
+
+    public Map<String, Double> getParameters() {
+        return parameters;
+    }
+
+    public double getFinalEquity() {
+        return finalEquity;
+    }
+
+    public double getReturnRate() {
+        return returnRate;
+    }
+
+    public double getMaxDrawdown() {
+        return maxDrawdown;
+    }
+
+    public long getLongestDrawdownTicks() {
+        return longestDrawdownTicks;
+    }
+
+    public int getTotalTrades() {
+        return totalTrades;
+    }
+
+    public double getWinRate() {
+        return winRate;
+    }
+}
@@ -0,0 +1,14 @@
+package usecase.optimizer;
+
+/**
+ * Input boundary for the parameter optimizer use case.
+ */
+public interface OptimizerInputBoundary {
+
+    /**
+     * Evaluates a strategy over many parameter combinations.
+     *
+     * @param inputData the ticker, parameter ranges and search settings
+     */
+    void execute(OptimizerInputData inputData);
+}
@@ -0,0 +1,66 @@
+package usecase.optimizer;
+
+import java.util.List;
+
+/**
+ * Input data for a parameter optimization run.
+ */
+public class OptimizerInputData {
+    private final String ticker;
+    private final double initialBalance;
+    private final ParameterizedStrategyFactory strategyFactory;
+    private final List<ParameterRange> ranges;
+    private final SearchMode searchMode;
+    private final int sampleCount;
+    private final long seed;
+
+    /**
+     * Creates the input for an optimization run.
+     *
+     * @param ticker          the ticker whose candles are replayed
+     * @param initialBalance  the starting cash balance of every run
+     * @param strategyFactory creates the strategy for each combination
+     * @param ranges          the parameter ranges to search
+     * @param searchMode      whether to search the full grid or a random sample of it
+     * @param sampleCount     how many combinations a random search evaluates
+     * @param seed            seed of the tick path and of the random sample
+     */
+    public OptimizerInputData(String ticker, double initialBalance, ParameterizedStrategyFactory strategyFactory,
+                              List<ParameterRange> ranges, SearchMode searchMode, int sampleCount, long seed) {
+        this.ticker = ticker;
+        this.initialBalance = initialBalance;
+        this.strategyFactory = strategyFactory;
+        this.ranges = List.copyOf(ranges);
+        this.searchMode = searchMode;
+        this.sampleCount = sampleCount;
+        this.seed = seed;
+    }
+
+    public String getTicker() {
+        return ticker;
+    }
+
+    public double getInitialBalance() {
+        return initialBalance;
+    }
+
+    public ParameterizedStrategyFactory getStrategyFactory() {
+        return strategyFactory;
+    }
+
+    public List<ParameterRange> getRanges() {
+        return ranges;
+    }
+
+    public SearchMode getSearchMode() {
+        return searchMode;
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
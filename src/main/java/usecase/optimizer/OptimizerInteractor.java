@@ -0,0 +1,263 @@
+package usecase.optimizer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+
+import entity.Account;
+import entity.PriceBoard;
+import entity.PricePoint;
+import usecase.indicator.CandleIndicatorCache;
+import usecase.parallel.IndexRangeTask;
+import usecase.simulated_trade.SimulationDataAccessInterface;
+import usecase.simulated_trade.SimulationSeed;
+import usecase.strategy.StrategyContext;
+import usecase.strategy.StrategyRunner;
+import usecase.strategy.TradingStrategy;
+import usecase.update_market.EquityCurveTracker;
+import usecase.update_market.UpdateMarketInteractor;
+
+/**
+ * Interactor for the parameter optimizer use case.
+ *
+ * <p>Everything that does not depend on the parameters is prepared once: the
+ * candles are loaded, one seeded tick path is generated for the whole history,
+ * and indicators are cached for strategies to share. Each combination then
+ * replays that path with its own {@link Account} and strategy instance.
+ * Combinations are split across a fork/join pool, whose work stealing keeps
+ * every core busy even though runs that trade more take longer.</p>
+ */
+public class OptimizerInteractor implements OptimizerInputBoundary {
+
+    private static final int TICKS_PER_CANDLE = UpdateMarketInteractor.CANDLE_SECONDS;
+
+    // Combinations per leaf task; each run replays the full history, so forking is cheap by comparison
+    private static final int RUNS_PER_TASK = 2;
+    private static final int MAX_COMBINATIONS = 100_000;
+    private static final String OPTIMIZER_USER = "optimizer";
+
+    private final SimulationDataAccessInterface dataAccess;
+    private final OptimizerOutputBoundary presenter;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates an interactor that runs on the common fork/join pool.
+     *
+     * @param dataAccess the source of candles and tick paths
+     * @param presenter  the presenter that receives the results
+     */
+    public OptimizerInteractor(SimulationDataAccessInterface dataAccess, OptimizerOutputBoundary presenter) {
+        this(dataAccess, presenter, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates an interactor that runs on the given pool.
+     *
+     * @param dataAccess the source of candles and tick paths
+     * @param presenter  the presenter that receives the results
+     * @param pool       the pool the combinations are evaluated on
+     */
+    public OptimizerInteractor(SimulationDataAccessInterface dataAccess, OptimizerOutputBoundary presenter,
+                               ForkJoinPool pool) {
+        this.dataAccess = dataAccess;
+        this.presenter = presenter;
+        this.pool = pool;
+    }
+
+    @Override
+    public void execute(OptimizerInputData inputData) {
+        final String error = validate(inputData);
+        if (error != null) {
+            presenter.prepareFailView(error);
+            return;
+        }
+
+        final List<PricePoint> candles = dataAccess.loadHistory(inputData.getTicker());
+        if (candles == null || candles.isEmpty()) {
+            presenter.prepareFailView("No historical data for " + inputData.getTicker());
+            return;
+        }
+
+        final long start = System.nanoTime();
+        final double[] ticks = generatePath(inputData.getTicker(), candles, inputData.getSeed());
+        final CandleIndicatorCache cache = new CandleIndicatorCache(inputData.getTicker(), candles);
+        final List<Map<String, Double>> combinations = combinations(inputData);
+
+        final OptimizationResult[] results = new OptimizationResult[combinations.size()];
+        final Replay replay = new Replay(inputData, candles, ticks, cache, combinations, results);
+        pool.invoke(new IndexRangeTask((from, to) -> {
+            for (int i = from; i < to; i++) {
+                replay.run(i);
+            }
+        }, 0, combinations.size(), RUNS_PER_TASK));
+
+        final List<OptimizationResult> ranked = new ArrayList<>(results.length);
+        for (OptimizationResult result : results) {
+            if (result != null) {
+                ranked.add(result);
+            }
+        }
+        ranked.sort(Comparator.comparingDouble(OptimizationResult::getFinalEquity).reversed());
+        final long elapsed = System.nanoTime() - start;
+
+        final List<String> names = new ArrayList<>();
+        for (ParameterRange range : inputData.getRanges()) {
+            names.add(range.getName());
+        }
+        presenter.prepareSuccessView(new OptimizerOutputData(
+                inputData.getTicker(), inputData.getInitialBalance(), names, ranked, candles.size(),
+                results.length - ranked.size(), elapsed));
+    }
+
+    private String validate(OptimizerInputData inputData) {
+        String error = null;
+        if (inputData.getInitialBalance() <= 0) {
+            error = "Initial balance must be positive.";
+        }
+        else if (inputData.getRanges().isEmpty()) {
+            error = "Give at least one parameter range.";
+        }
+        else if (inputData.getSearchMode() == SearchMode.RANDOM
+                && (inputData.getSampleCount() < 1 || inputData.getSampleCount() > MAX_COMBINATIONS)) {
+            error = "Random search needs between 1 and " + MAX_COMBINATIONS + " samples.";
+        }
+        else if (inputData.getSearchMode() == SearchMode.GRID && gridSize(inputData) > MAX_COMBINATIONS) {
+            error = "The parameter grid has more than " + MAX_COMBINATIONS
+                    + " combinations. Use random search instead.";
+        }
+        return error;
+    }
+
+    private double[] generatePath(String ticker, List<PricePoint> candles, long seed) {
+        final double[] ticks = new double[candles.size() * TICKS_PER_CANDLE];
+        final double[] candleTicks = new double[TICKS_PER_CANDLE];
+        for (int i = 0; i < candles.size(); i++) {
+            dataAccess.generateTicks(candles, i, candleTicks, TICKS_PER_CANDLE,
+                    SimulationSeed.candleStream(seed, ticker, i));
+            System.arraycopy(candleTicks, 0, ticks, i * TICKS_PER_CANDLE, TICKS_PER_CANDLE);
+        }
+        return ticks;
+    }
+
+    /**
+     * Returns the number of grid combinations, or the first partial product
+     * above the limit if the grid is larger than that.
+     */
+    private static long gridSize(OptimizerInputData inputData) {
+        long size = 1;
+        for (ParameterRange range : inputData.getRanges()) {
+            size *= range.size();
+            if (size > MAX_COMBINATIONS) {
+                break;
+            }
+        }
+        return size;
+    }
+
+    private static List<Map<String, Double>> combinations(OptimizerInputData inputData) {
+        final List<ParameterRange> ranges = inputData.getRanges();
+        final long gridSize = gridSize(inputData);
+        final List<Map<String, Double>> result;
+        if (inputData.getSearchMode() == SearchMode.RANDOM && inputData.getSampleCount() < gridSize) {
+            final SplittableRandom random = new SplittableRandom(inputData.getSeed());
+            final Set<Map<String, Double>> sample = new LinkedHashSet<>();
+            while (sample.size() < inputData.getSampleCount()) {
+                final Map<String, Double> combination = new LinkedHashMap<>();
+                for (ParameterRange range : ranges) {
+                    combination.put(range.getName(), range.valueAt(random.nextInt(range.size())));
+                }
+                sample.add(combination);
+            }
+            result = new ArrayList<>(sample);
+        }
+        else {
+            result = new ArrayList<>((int) gridSize);
+            final int[] indices = new int[ranges.size()];
+            for (long n = 0; n < gridSize; n++) {
+                final Map<String, Double> combination = new LinkedHashMap<>();
+                for (int r = 0; r < ranges.size(); r++) {
+                    combination.put(ranges.get(r).getName(), ranges.get(r).valueAt(indices[r]));
+                }
+                result.add(combination);
+                // Odometer increment, last range fastest
+                for (int r = ranges.size() - 1; r >= 0; r--) {
+                    indices[r]++;
+                    if (indices[r] < ranges.get(r).size()) {
+                        break;
+                    }
+                    indices[r] = 0;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Read-only inputs shared by all workers; each run writes only its own
+     * slot of the result array.
+     */
+    private static final class Replay {
+        private final String ticker;
+        private final double initialBalance;
+        private final ParameterizedStrategyFactory factory;
+        private final List<PricePoint> candles;
+        private final double[] ticks;
+        private final CandleIndicatorCache cache;
+        private final List<Map<String, Double>> combinations;
+        private final OptimizationResult[] results;
+
+        Replay(OptimizerInputData inputData, List<PricePoint> candles, double[] ticks, CandleIndicatorCache cache,
+               List<Map<String, Double>> combinations, OptimizationResult[] results) {
+            this.ticker = inputData.getTicker();
+            this.initialBalance = inputData.getInitialBalance();
+            this.factory = inputData.getStrategyFactory();
+            this.candles = candles;
+            this.ticks = ticks;
+            this.cache = cache;
+            this.combinations = combinations;
+            this.results = results;
+        }
+
+        void run(int index) {
+            final Map<String, Double> parameters = combinations.get(index);
+            final TradingStrategy strategy;
+            try {
+                strategy = factory.create(parameters, cache);
+            }
+            catch (IllegalArgumentException ex) {
+                // Invalid combinations, such as a fast period above the slow one, are skipped
+                return;
+            }
+
+            final Account account = new Account(initialBalance, OPTIMIZER_USER);
+            final PriceBoard board = new PriceBoard(List.of(ticker));
+            final StrategyRunner runner = new StrategyRunner(new StrategyContext(account, board));
+            runner.addStrategy(strategy);
+
+            final EquityCurveTracker equityCurve = EquityCurveTracker.forStatistics(initialBalance);
+            double equity = initialBalance;
+            for (int candleIndex = 0; candleIndex < candles.size(); candleIndex++) {
+                final int offset = candleIndex * TICKS_PER_CANDLE;
+                for (int second = 0; second < TICKS_PER_CANDLE; second++) {
+                    final double price = ticks[offset + second];
+                    board.update(0, price);
+                    runner.onTick(ticker, price);
+
+                    equity = account.calculateTotalEquity(price, ticker);
+                    equityCurve.update(equity, 1);
+                }
+                runner.onCandle(ticker, candles.get(candleIndex));
+            }
+
+            results[index] = new OptimizationResult(parameters, equity, account.getTotalReturnRate(equity),
+                    equityCurve.getMaxDrawdown(), equityCurve.getLongestDrawdownTicks(), account.getTotalTrades(),
+                    account.getWinRate());
+        }
+    }
+}
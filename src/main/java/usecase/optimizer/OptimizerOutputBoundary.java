@@ -0,0 +1,21 @@
+package usecase.optimizer;
+
+/**
+ * Output boundary for the parameter optimizer use case.
+ */
+public interface OptimizerOutputBoundary {
+
+    /**
+     * Presents the ranked results of every combination evaluated.
+     *
+     * @param outputData the ranked results and run statistics
+     */
+    void prepareSuccessView(OptimizerOutputData outputData);
+
+    /**
+     * Presents an error that stopped the run.
+     *
+     * @param error the error message to present
+     */
+    void prepareFailView(String error);
+}
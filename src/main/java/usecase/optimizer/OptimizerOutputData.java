@@ -0,0 +1,67 @@
+package usecase.optimizer;
+
+import java.util.List;
+
+/**
+ * Output data of an optimization run: every evaluated combination, best first.
+ */
+public class OptimizerOutputData {
+    private final String ticker;
+    private final double initialBalance;
+    private final List<String> parameterNames;
+    private final List<OptimizationResult> rankedResults;
+    private final int candleCount;
+    private final int skippedCount;
+    private final long elapsedNanos;
+
+    /**
+     * Creates the output of an optimization run.
+     *
+     * @param ticker         the ticker that was replayed
+     * @param initialBalance the starting cash balance of every run
+     * @param parameterNames the parameter names, in range order
+     * @param rankedResults  the results sorted by final equity, best first
+     * @param candleCount    the number of candles replayed per run
+     * @param skippedCount   combinations the strategy factory rejected
+     * @param elapsedNanos   the wall-clock duration of the run in nanoseconds
+     */
+    public OptimizerOutputData(String ticker, double initialBalance, List<String> parameterNames,
+                               List<OptimizationResult> rankedResults, int candleCount,
+                               int skippedCount, long elapsedNanos) {
+        this.ticker = ticker;
+        this.initialBalance = initialBalance;
+        this.parameterNames = List.copyOf(parameterNames);
+        this.rankedResults = List.copyOf(rankedResults);
+        this.candleCount = candleCount;
+        this.skippedCount = skippedCount;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public String getTicker() {
+        return ticker;
+    }
+
+    public double getInitialBalance() {
+        return initialBalance;
+    }
+
+    public List<String> getParameterNames() {
+        return parameterNames;
+    }
+
+    public List<OptimizationResult> getRankedResults() {
+        return rankedResults;
+    }
+
+    public int getCandleCount() {
+        return candleCount;
+    }
+
+    public int getSkippedCount() {
+        return skippedCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,57 @@
+package usecase.optimizer;
+
+/**
+ * An evenly stepped range of values for one strategy parameter.
+ */
+public class ParameterRange {
+
+    // Tolerates floating-point error when the step divides the span exactly
+    private static final double STEP_TOLERANCE = 1e-9;
+
+    private final String name;
+    private final double min;
+    private final double max;
+    private final double step;
+
+    /**
+     * Creates a parameter range from {@code min} to {@code max} inclusive.
+     *
+     * @param name the parameter name passed to the strategy factory
+     * @param min  the first value
+     * @param max  the last value; must not be below {@code min}
+     * @param step the distance between values; must be positive
+     * @throws IllegalArgumentException if the bounds or step are invalid
+     */
+    public ParameterRange(String name, double min, double max, double step) {
+        if (step <= 0 || max < min) {
+            throw new IllegalArgumentException("Invalid range for " + name + ": need min <= max and step > 0.");
+        }
+        this.name = name;
+        this.min = min;
+        this.max = max;
+        this.step = step;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns how many values the range holds.
+     *
+     * @return the number of values, at least 1
+     */
+    public int size() {
+        return (int) Math.floor((max - min) / step + STEP_TOLERANCE) + 1;
+    }
+
+    /**
+     * Returns the value at a position in the range.
+     *
+     * @param index the position, from 0 to {@code size() - 1}
+     * @return the parameter value
+     */
+    public double valueAt(int index) {
+        return min + index * step;
+    }
+}
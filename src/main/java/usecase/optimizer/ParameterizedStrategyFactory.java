@@ -0,0 +1,23 @@
+package usecase.optimizer;
+
+import java.util.Map;
+
+import usecase.indicator.CandleIndicatorCache;
+import usecase.strategy.TradingStrategy;
+
+/**
+ * Creates a strategy for one combination of parameter values.
+ */
+@FunctionalInterface
+public interface ParameterizedStrategyFactory {
+
+    /**
+     * Creates a fresh strategy instance.
+     *
+     * @param parameters the parameter values, keyed by range name
+     * @param cache      indicators of the replayed candles, shared by all runs
+     * @return the strategy to evaluate
+     * @throws IllegalArgumentException if the combination is not valid; it is skipped
+     */
+    TradingStrategy create(Map<String, Double> parameters, CandleIndicatorCache cache);
+}
@@ -0,0 +1,11 @@
+package usecase.optimizer;
+
+/**
+ * How the optimizer picks parameter combinations.
+ */
+public enum SearchMode {
+    /** Every combination of the parameter ranges. */
+    GRID,
+    /** A random sample of the grid, for spaces too large to search fully. */
+    RANDOM
+}
@@ -0,0 +1,64 @@
+package usecase.parallel;
+
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Runs a body over a contiguous range of indices on a fork/join pool,
+ * splitting the range in half until it is no larger than the leaf size.
+ *
+ * <p>Each leaf gets its whole sub-range in one call, so a body can set up
+ * per-leaf scratch state once rather than once per index.</p>
+ */
+public final class IndexRangeTask extends RecursiveAction {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The work done for one leaf range.
+     */
+    @FunctionalInterface
+    public interface RangeBody {
+        /**
+         * Processes the indices from {@code from} inclusive to {@code to} exclusive.
+         *
+         * @param from the first index
+         * @param to   one past the last index
+         */
+        void run(int from, int to);
+    }
+
+    private final transient RangeBody body;
+    private final int from;
+    private final int to;
+    private final int leafSize;
+
+    /**
+     * Creates a task for a range of indices.
+     *
+     * @param body     the work for each leaf range
+     * @param from     the first index
+     * @param to       one past the last index
+     * @param leafSize the largest range run without splitting further
+     * @throws IllegalArgumentException if the leaf size is not positive
+     */
+    public IndexRangeTask(RangeBody body, int from, int to, int leafSize) {
+        if (leafSize < 1) {
+            throw new IllegalArgumentException("Leaf size must be positive");
+        }
+        this.body = body;
+        this.from = from;
+        this.to = to;
+        this.leafSize = leafSize;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= leafSize) {
+            body.run(from, to);
+        }
+        else {
+            final int middle = (from + to) >>> 1;
+            invokeAll(new IndexRangeTask(body, from, middle, leafSize),
+                    new IndexRangeTask(body, middle, to, leafSize));
+        }
+    }
+}
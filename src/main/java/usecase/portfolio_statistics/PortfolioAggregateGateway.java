@@ -0,0 +1,19 @@
+package usecase.portfolio_statistics;
+
+import java.util.UUID;
+
+/**
+ * Gateway interface for trade aggregates computed where the trades are
+ * stored, so the history itself never has to be transferred.
+ */
+public interface PortfolioAggregateGateway {
+
+    /**
+     * Returns the aggregates over every trade of the user with the given ID.
+     *
+     * @param userId the unique identifier of the user
+     * @return the user's trade aggregates
+     * @throws RuntimeException if the aggregates are not available
+     */
+    PortfolioTradeAggregates fetchTradeAggregates(UUID userId);
+}
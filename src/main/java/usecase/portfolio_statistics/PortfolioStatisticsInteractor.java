@@ -1,6 +1,5 @@
 package usecase.portfolio_statistics;
 
-import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -8,33 +7,62 @@ import entity.SimulatedTradeRecord;
 
 public class PortfolioStatisticsInteractor implements PortfolioStatisticsInputBoundary {
 
+    private static final double PERCENT = 100.0;
+
     private final PortfolioTradeGateway tradeGateway;
     private final PortfolioBalanceGateway balanceGateway;
+    private final PortfolioAggregateGateway aggregateGateway;
     private final PortfolioStatisticsOutputBoundary outputBoundary;
 
     public PortfolioStatisticsInteractor(PortfolioTradeGateway tradeGateway,
                                          PortfolioBalanceGateway balanceGateway,
                                          PortfolioStatisticsOutputBoundary outputBoundary) {
+        this(tradeGateway, balanceGateway, null, outputBoundary);
+    }
+
+    /**
+     * Creates an interactor that asks the aggregate gateway for the trade
+     * aggregates first, and computes them from the full trade history only
+     * if that fails.
+     *
+     * @param tradeGateway     the source of the trade history, used as the fallback
+     * @param balanceGateway   the source of the initial balance
+     * @param aggregateGateway the source of precomputed aggregates, or null to always use the history
+     * @param outputBoundary   where the statistics are presented
+     */
+    public PortfolioStatisticsInteractor(PortfolioTradeGateway tradeGateway,
+                                         PortfolioBalanceGateway balanceGateway,
+                                         PortfolioAggregateGateway aggregateGateway,
+                                         PortfolioStatisticsOutputBoundary outputBoundary) {
         this.tradeGateway = tradeGateway;
         this.balanceGateway = balanceGateway;
+        this.aggregateGateway = aggregateGateway;
         this.outputBoundary = outputBoundary;
     }
 
     // Default no-arg constructor for tests and backward compatibility.
     public PortfolioStatisticsInteractor() {
-        this.tradeGateway = null;
-        this.balanceGateway = null;
-        this.outputBoundary = null;
+        this(null, null, null, null);
     }
 
     @Override
     public void requestPortfolioSummary(UUID userId) {
-        List<SimulatedTradeRecord> trades = tradeGateway.fetchTradesForUser(userId);
+        PortfolioTradeAggregates aggregates = null;
+        if (aggregateGateway != null) {
+            try {
+                aggregates = aggregateGateway.fetchTradeAggregates(userId);
+            }
+            catch (RuntimeException ex) {
+                System.err.println("Server-side portfolio statistics unavailable, computing locally: "
+                        + ex.getMessage());
+            }
+        }
+        if (aggregates == null) {
+            aggregates = PortfolioTradeAggregates.fromTrades(tradeGateway.fetchTradesForUser(userId));
+        }
         double initialBalance = balanceGateway.getInitialBalance(userId);
 
-        PortfolioStatisticsInputData input = new PortfolioStatisticsInputData(trades, initialBalance);
-        PortfolioStatisticsOutputData stats = calculateStatistics(input);
-        outputBoundary.present(stats);
+        outputBoundary.present(toOutputData(aggregates, initialBalance));
     }
 
     /**
@@ -46,63 +74,24 @@ public class PortfolioStatisticsInteractor implements PortfolioStatisticsInputBo
      */
     public PortfolioStatisticsOutputData calculateStatistics(PortfolioStatisticsInputData input) {
         List<SimulatedTradeRecord> trades = input.getTrades();
-        double initialBalance = input.getInitialBalance();
-
-        if (trades == null || trades.isEmpty()) {
-            return new PortfolioStatisticsOutputData(0, 0, 0, 0, 0, 0, 0, 0, null, null);
+        if (trades == null) {
+            trades = List.of();
         }
-
-        return computeStatisticsFromTrades(trades, initialBalance);
+        return toOutputData(PortfolioTradeAggregates.fromTrades(trades), input.getInitialBalance());
     }
 
-    private PortfolioStatisticsOutputData computeStatisticsFromTrades(List<SimulatedTradeRecord> trades,
-                                                                       double initialBalance) {
-        // Calculate total profit
-        double totalProfit = trades.stream()
-            .mapToDouble(SimulatedTradeRecord::getRealizedPnL)
-            .sum();
-
-        // Calculate max gain (highest positive PnL)
-        double maxGain = trades.stream()
-            .mapToDouble(SimulatedTradeRecord::getRealizedPnL)
-            .filter(pnl -> pnl > 0)
-            .max()
-            .orElse(0.0);
-
-        // Calculate max drawdown (most negative PnL, but show as positive for display)
-        double maxDrawdown = Math.abs(trades.stream()
-            .mapToDouble(SimulatedTradeRecord::getRealizedPnL)
-            .filter(pnl -> pnl < 0)
-            .min()
-            .orElse(0.0));
-
-        int winningTrades = (int) trades.stream()
-            .filter(t -> t.getRealizedPnL() > 0)
-            .count();
-        int losingTrades = (int) trades.stream()
-            .filter(t -> t.getRealizedPnL() < 0)
-            .count();
-
-        // Calculate win rate (trades is guaranteed non-empty here)
-        double winRate = (double) winningTrades / trades.size() * 100;
-
-        // Calculate total return rate
-        double totalReturnRate = initialBalance > 0 ? (totalProfit / initialBalance) * 100 : 0;
-
-        // Find trading span
-        LocalDateTime earliest = trades.stream()
-            .map(SimulatedTradeRecord::getEntryTime)
-            .min(LocalDateTime::compareTo)
-            .orElse(null);
+    private PortfolioStatisticsOutputData toOutputData(PortfolioTradeAggregates aggregates, double initialBalance) {
+        if (aggregates.getTotalTrades() == 0) {
+            return new PortfolioStatisticsOutputData(0, 0, 0, 0, 0, 0, 0, 0, null, null);
+        }
 
-        LocalDateTime latest = trades.stream()
-            .map(SimulatedTradeRecord::getEntryTime)
-            .max(LocalDateTime::compareTo)
-            .orElse(null);
+        double winRate = (double) aggregates.getWinningTrades() / aggregates.getTotalTrades() * PERCENT;
+        double totalReturnRate = initialBalance > 0 ? (aggregates.getTotalProfit() / initialBalance) * PERCENT : 0;
 
         return new PortfolioStatisticsOutputData(
-            totalProfit, maxGain, maxDrawdown, trades.size(),
-            winningTrades, losingTrades, winRate, totalReturnRate, earliest, latest
+            aggregates.getTotalProfit(), aggregates.getMaxGain(), aggregates.getMaxLoss(),
+            aggregates.getTotalTrades(), aggregates.getWinningTrades(), aggregates.getLosingTrades(),
+            winRate, totalReturnRate, aggregates.getEarliestEntry(), aggregates.getLatestEntry()
         );
     }
 }
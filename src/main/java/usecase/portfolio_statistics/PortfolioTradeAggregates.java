@@ -0,0 +1,117 @@
+package usecase.portfolio_statistics;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import entity.SimulatedTradeRecord;
+
+/**
+ * Sums, counts and extremes over a user's trade history, from which the
+ * portfolio statistics are derived. They can be computed from the trades
+ * themselves or aggregated by the database.
+ */
+public class PortfolioTradeAggregates {
+
+    private final double totalProfit;
+    private final double maxGain;
+    private final double maxLoss;
+    private final int totalTrades;
+    private final int winningTrades;
+    private final int losingTrades;
+    private final LocalDateTime earliestEntry;
+    private final LocalDateTime latestEntry;
+
+    /**
+     * Creates a set of aggregates.
+     *
+     * @param totalProfit   the sum of realized PnL
+     * @param maxGain       the largest positive PnL, or 0 if there is none
+     * @param maxLoss       the magnitude of the most negative PnL, or 0 if there is none
+     * @param totalTrades   the number of trades
+     * @param winningTrades the number of trades with positive PnL
+     * @param losingTrades  the number of trades with negative PnL
+     * @param earliestEntry the earliest entry time, or null without trades
+     * @param latestEntry   the latest entry time, or null without trades
+     */
+    public PortfolioTradeAggregates(double totalProfit, double maxGain, double maxLoss, int totalTrades,
+                                    int winningTrades, int losingTrades, LocalDateTime earliestEntry,
+                                    LocalDateTime latestEntry) {
+        this.totalProfit = totalProfit;
+        this.maxGain = maxGain;
+        this.maxLoss = maxLoss;
+        this.totalTrades = totalTrades;
+        this.winningTrades = winningTrades;
+        this.losingTrades = losingTrades;
+        this.earliestEntry = earliestEntry;
+        this.latestEntry = latestEntry;
+    }
+
+    /**
+     * Aggregates a list of trades in a single pass.
+     *
+     * @param trades the trades
+     * @return their aggregates
+     */
+    public static PortfolioTradeAggregates fromTrades(List<SimulatedTradeRecord> trades) {
+        double totalProfit = 0.0;
+        double maxGain = 0.0;
+        double maxLoss = 0.0;
+        int winning = 0;
+        int losing = 0;
+        LocalDateTime earliest = null;
+        LocalDateTime latest = null;
+        for (SimulatedTradeRecord trade : trades) {
+            final double pnl = trade.getRealizedPnL();
+            totalProfit += pnl;
+            if (pnl > 0) {
+                winning++;
+                maxGain = Math.max(maxGain, pnl);
+            }
+            else if (pnl < 0) {
+                losing++;
+                maxLoss = Math.max(maxLoss, -pnl);
+            }
+            final LocalDateTime entry = trade.getEntryTime();
+            if (earliest == null || entry.isBefore(earliest)) {
+                earliest = entry;
+            }
+            if (latest == null || entry.isAfter(latest)) {
+                latest = entry;
+            }
+        }
+        return new PortfolioTradeAggregates(totalProfit, maxGain, maxLoss, trades.size(), winning, losing,
+                earliest, latest);
+    }
+
+    public double getTotalProfit() {
+        return totalProfit;
+    }
+
+    public double getMaxGain() {
+        return maxGain;
+    }
+
+    public double getMaxLoss() {
+        return maxLoss;
+    }
+
+    public int getTotalTrades() {
+        return totalTrades;
+    }
+
+    public int getWinningTrades() {
+        return winningTrades;
+    }
+
+    public int getLosingTrades() {
+        return losingTrades;
+    }
+
+    public LocalDateTime getEarliestEntry() {
+        return earliestEntry;
+    }
+
+    public LocalDateTime getLatestEntry() {
+        return latestEntry;
+    }
+}
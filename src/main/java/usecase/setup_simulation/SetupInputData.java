@@ -1,18 +1,76 @@
 package usecase.setup_simulation;
 
+import java.util.List;
+
+import usecase.simulated_trade.SimulationSeed;
+import usecase.tick_model.TickModelType;
+
 public class SetupInputData {
-    private final String ticker;
+    private final List<String> tickers;
     private final double initialBalance;
     private final int speedMultiplier;
+    private final long seed;
+    private final TickModelType tickModel;
 
     public SetupInputData(String ticker, double initialBalance, int speedMultiplier) {
-        this.ticker = ticker;
+        this(List.of(ticker), initialBalance, speedMultiplier);
+    }
+
+    /**
+     * Creates setup input for a session that simulates several tickers.
+     *
+     * @param tickers the tickers to simulate; the first one is charted and traded by default
+     * @param initialBalance the starting cash balance
+     * @param speedMultiplier how many simulated seconds pass per real second
+     */
+    public SetupInputData(List<String> tickers, double initialBalance, int speedMultiplier) {
+        this(tickers, initialBalance, speedMultiplier, SimulationSeed.randomSeed());
+    }
+
+    /**
+     * Creates setup input for a reproducible session with the default price path model.
+     *
+     * @param tickers the tickers to simulate; the first one is charted and traded by default
+     * @param initialBalance the starting cash balance
+     * @param speedMultiplier how many simulated seconds pass per real second
+     * @param seed seed of the tick paths; the same seed replays the same prices
+     */
+    public SetupInputData(List<String> tickers, double initialBalance, int speedMultiplier, long seed) {
+        this(tickers, initialBalance, speedMultiplier, seed, TickModelType.DEFAULT);
+    }
+
+    /**
+     * Creates setup input for a reproducible session with a chosen price path model.
+     *
+     * @param tickers the tickers to simulate; the first one is charted and traded by default
+     * @param initialBalance the starting cash balance
+     * @param speedMultiplier how many simulated seconds pass per real second
+     * @param seed seed of the tick paths; the same seed replays the same prices
+     * @param tickModel how prices move inside each candle
+     */
+    public SetupInputData(List<String> tickers, double initialBalance, int speedMultiplier, long seed,
+                          TickModelType tickModel) {
+        this.tickers = List.copyOf(tickers);
         this.initialBalance = initialBalance;
         this.speedMultiplier = speedMultiplier;
+        this.seed = seed;
+        this.tickModel = tickModel;
     }
 
+    /**
+     * Returns the primary ticker, or an empty string if none was entered.
+     *
+     * @return the first ticker
+     */
     public String getTicker() {
-        return ticker;
+        if (tickers.isEmpty()) {
+            return "";
+        }
+        return tickers.get(0);
+    }
+
+    public List<String> getTickers() {
+        return tickers;
     }
 
     public double getInitialBalance() {
@@ -22,4 +80,12 @@ public class SetupInputData {
     public int getSpeedMultiplier() {
         return speedMultiplier;
     }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public TickModelType getTickModel() {
+        return tickModel;
+    }
 }
@@ -1,6 +1,7 @@
 package usecase.setup_simulation;
 
 import usecase.simulated_trade.SimulationDataAccessInterface;
+import usecase.update_market.UpdateMarketInteractor;
 
 /**
  * Interactor for handling the setup simulation use case.
@@ -10,6 +11,7 @@ public class SetupInteractor implements SetupInputBoundary {
     private static final int MIN_SPEED = 5;
     private static final int MAX_SPEED = 30;
     private static final int SPEED_STEP = 5;
+    private static final int MAX_TICKERS = 50;
 
     private final SetupOutputBoundary presenter;
     private final SimulationDataAccessInterface dataAccess;
@@ -22,19 +24,29 @@ public class SetupInteractor implements SetupInputBoundary {
     @Override
     public void execute(SetupInputData input) {
 
-        final boolean hasInvalidSpeed =
-                input.getSpeedMultiplier() < MIN_SPEED
-                        || input.getSpeedMultiplier() > MAX_SPEED
-                        || input.getSpeedMultiplier() % SPEED_STEP != 0;
+        final int speed = input.getSpeedMultiplier();
+        final boolean hasInvalidSpeed = speed != UpdateMarketInteractor.UNLIMITED_SPEED
+                && (speed < MIN_SPEED || speed > MAX_SPEED || speed % SPEED_STEP != 0);
 
         final boolean hasInvalidBalance = input.getInitialBalance() <= 0;
 
+        boolean hasBlankTicker = input.getTickers().isEmpty();
+        for (String ticker : input.getTickers()) {
+            hasBlankTicker |= ticker == null || ticker.isBlank();
+        }
+
         if (hasInvalidSpeed) {
-            presenter.prepareFailView("Invalid speed. Must be 5x, 10x, 20x, or 30x.");
+            presenter.prepareFailView("Invalid speed. Must be 5x, 10x, 20x, 30x, or Max.");
         }
         else if (hasInvalidBalance) {
             presenter.prepareFailView("Initial balance must be positive.");
         }
+        else if (hasBlankTicker) {
+            presenter.prepareFailView("Enter at least one ticker symbol.");
+        }
+        else if (input.getTickers().size() > MAX_TICKERS) {
+            presenter.prepareFailView("At most " + MAX_TICKERS + " tickers can be simulated at once.");
+        }
         else {
             presenter.prepareSuccessView(input);
         }
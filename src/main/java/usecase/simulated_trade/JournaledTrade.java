@@ -0,0 +1,34 @@
+package usecase.simulated_trade;
+
+import entity.SimulatedTradeRecord;
+
+/**
+ * A closed trade together with its position in the trade journal.
+ */
+public final class JournaledTrade {
+
+    /** The sequence of a trade that could not be written to the journal. */
+    public static final long UNJOURNALED = -1L;
+
+    private final long sequence;
+    private final SimulatedTradeRecord trade;
+
+    /**
+     * Creates a journaled trade.
+     *
+     * @param sequence the journal sequence number, or {@link #UNJOURNALED}
+     * @param trade    the closed trade
+     */
+    public JournaledTrade(long sequence, SimulatedTradeRecord trade) {
+        this.sequence = sequence;
+        this.trade = trade;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public SimulatedTradeRecord getTrade() {
+        return trade;
+    }
+}
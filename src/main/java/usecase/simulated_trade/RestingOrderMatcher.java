@@ -0,0 +1,111 @@
+package usecase.simulated_trade;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import entity.Account;
+import entity.OrderBook;
+import entity.SimulatedOrder;
+
+/**
+ * Fills resting orders when a new price reaches them. Called by the market
+ * simulation for every published price; the cost is proportional to the
+ * number of orders triggered, not the number resting.
+ */
+public class RestingOrderMatcher {
+
+    private final OrderBook orderBook;
+    private final Account account;
+    private final SimulatedTradeOutputBoundary presenter;
+
+    /**
+     * Creates a matcher that fills orders from a book on an account without
+     * reporting cancellations.
+     *
+     * @param orderBook the resting orders
+     * @param account   the account the fills are executed on
+     */
+    public RestingOrderMatcher(OrderBook orderBook, Account account) {
+        this(orderBook, account, null);
+    }
+
+    /**
+     * Creates a matcher that fills orders from a book on an account and
+     * reports orders it has to cancel.
+     *
+     * @param orderBook the resting orders
+     * @param account   the account the fills are executed on
+     * @param presenter where cancellations are reported, or null to drop them silently
+     */
+    public RestingOrderMatcher(OrderBook orderBook, Account account, SimulatedTradeOutputBoundary presenter) {
+        this.orderBook = orderBook;
+        this.account = account;
+        this.presenter = presenter;
+    }
+
+    public OrderBook getOrderBook() {
+        return orderBook;
+    }
+
+    /**
+     * Returns whether any resting order of a ticker could fill within a price range.
+     *
+     * @param ticker the ticker
+     * @param low    the lowest price that may trade
+     * @param high   the highest price that may trade
+     * @return false only if no order can trigger anywhere in the range
+     */
+    public boolean mightTrigger(String ticker, double low, double high) {
+        return orderBook.mightTrigger(ticker, low, high);
+    }
+
+    /**
+     * Fills every order triggered by a new price, at that price. A buy that
+     * the account can no longer afford is cancelled instead, and reported
+     * like a rejected market order.
+     *
+     * @param ticker the ticker that traded
+     * @param price  the new price
+     * @return the number of orders filled
+     */
+    public int match(String ticker, double price) {
+        return fill(orderBook.match(ticker, price), price);
+    }
+
+    /**
+     * Fills every order triggered by a new price, with the ticker given by its
+     * id in the {@link entity.SymbolRegistry#shared() shared registry}. Used
+     * on the tick path, where the id is resolved once per feed.
+     *
+     * @param symbolId the id of the ticker that traded
+     * @param price    the new price
+     * @return the number of orders filled
+     */
+    public int match(int symbolId, double price) {
+        return fill(orderBook.match(symbolId, price), price);
+    }
+
+    private int fill(List<SimulatedOrder> triggered, double price) {
+        int filled = 0;
+        LocalDateTime tradeTime = null;
+        if (!triggered.isEmpty()) {
+            tradeTime = LocalDateTime.now();
+        }
+        for (SimulatedOrder order : triggered) {
+            if (order.isLong() && account.getBalance() < order.getQuantity() * price) {
+                if (presenter != null) {
+                    presenter.prepareFailView(String.format(
+                            "Cancelled order %s for %d shares of %s: insufficient funds at $%.2f.",
+                            order.getOrderId(), order.getQuantity(), order.getTicker(), price));
+                }
+            }
+            else {
+                account.executeTrade(order.getTicker(), order.isLong(), order.getQuantity(), price, tradeTime);
+                order.setEntryPrice(price);
+                order.setFilled(true);
+                filled++;
+            }
+        }
+        return filled;
+    }
+}
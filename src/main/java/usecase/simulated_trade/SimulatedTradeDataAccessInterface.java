@@ -1,5 +1,6 @@
 package usecase.simulated_trade;
 
+import java.util.List;
 import java.util.UUID;
 
 import entity.SimulatedTradeRecord;
@@ -16,4 +17,17 @@ public interface SimulatedTradeDataAccessInterface {
      * @param userId the unique identifier of the user who executed the trade
      */
     void saveTrade(SimulatedTradeRecord trade, UUID userId);
+
+    /**
+     * Saves a batch of simulated trade records, each under the user stored in
+     * the record. Implementations that can store the whole batch in one round
+     * trip should override this; the default saves the records one by one.
+     *
+     * @param trades the records to save, in the order they were closed
+     */
+    default void saveTrades(List<SimulatedTradeRecord> trades) {
+        for (SimulatedTradeRecord trade : trades) {
+            saveTrade(trade, UUID.fromString(trade.getUserId()));
+        }
+    }
 }
@@ -1,32 +1,56 @@
 package usecase.simulated_trade;
 
+import entity.OrderType;
+
 /**
  * Input data required to execute a simulated trade.
- * Contains trade direction, amount, and the current market price.
+ * Contains the ticker, trade direction, amount and order type. Market orders
+ * carry no price: they fill at the latest price when they are executed.
  */
 public class SimulatedTradeInputData {
 
     private final String ticker;
     private final boolean isBuyAction;
     private final double amount;
-    private final double currentPrice;
+    private final OrderType orderType;
+    private final double limitPrice;
+    private final double stopPrice;
+
+    /**
+     * Creates the input data for a market order.
+     *
+     * @param ticker the stock ticker symbol
+     * @param isBuyAction true if the trade is a buy order, false if sell
+     * @param amount the dollar amount of the order
+     */
+    public SimulatedTradeInputData(String ticker,
+                                   boolean isBuyAction,
+                                   double amount) {
+        this(ticker, isBuyAction, amount, OrderType.MARKET, Double.NaN, Double.NaN);
+    }
 
     /**
-     * Creates an object representing the input data for a simulated trade.
+     * Creates the input data for an order of any type.
      *
      * @param ticker the stock ticker symbol
      * @param isBuyAction true if the trade is a buy order, false if sell
-     * @param amount the number of units involved in the trade
-     * @param currentPrice the current market price of the asset
+     * @param amount the dollar amount of the order
+     * @param orderType how the order is executed
+     * @param limitPrice the limit price, or NaN if the type has none
+     * @param stopPrice the stop price, or NaN if the type has none
      */
     public SimulatedTradeInputData(String ticker,
                                    boolean isBuyAction,
                                    double amount,
-                                   double currentPrice) {
+                                   OrderType orderType,
+                                   double limitPrice,
+                                   double stopPrice) {
         this.ticker = ticker;
         this.isBuyAction = isBuyAction;
         this.amount = amount;
-        this.currentPrice = currentPrice;
+        this.orderType = orderType;
+        this.limitPrice = limitPrice;
+        this.stopPrice = stopPrice;
     }
 
     /**
@@ -57,11 +81,29 @@ public class SimulatedTradeInputData {
     }
 
     /**
-     * Returns the current market price.
+     * Returns how the order is executed.
+     *
+     * @return the order type
+     */
+    public OrderType getOrderType() {
+        return orderType;
+    }
+
+    /**
+     * Returns the limit price.
+     *
+     * @return the limit price, or NaN for market and stop orders
+     */
+    public double getLimitPrice() {
+        return limitPrice;
+    }
+
+    /**
+     * Returns the stop price.
      *
-     * @return the price
+     * @return the stop price, or NaN for market and limit orders
      */
-    public double getCurrentPrice() {
-        return currentPrice;
+    public double getStopPrice() {
+        return stopPrice;
     }
 }
@@ -3,31 +3,79 @@ package usecase.simulated_trade;
 import java.time.LocalDateTime;
 
 import entity.Account;
+import entity.OrderBook;
+import entity.OrderType;
+import entity.PriceBoard;
+import entity.SimulatedOrder;
 
 /**
- * Interactor responsible for executing a simulated trade.
+ * Interactor responsible for executing a simulated trade. Market orders fill
+ * immediately at the ticker's latest price on the {@link PriceBoard}, read
+ * when the order runs on the simulation thread rather than when it was
+ * entered; limit, stop and stop-limit orders are placed in the order book
+ * and filled by {@link RestingOrderMatcher} when the price reaches them.
  */
 public class SimulatedTradeInteractor implements SimulatedTradeInputBoundary {
 
+    private static final String ORDER_ID_PREFIX = "ORD-";
+
     private final SimulatedTradeOutputBoundary presenter;
     private final Account account;
+    private final PriceBoard priceBoard;
+    private final OrderBook orderBook;
+    private long orderSequence;
+
+    /**
+     * Creates an interactor for market orders only.
+     *
+     * @param presenter the presenter for trade results
+     * @param account the account orders are executed on
+     * @param priceBoard the latest prices market orders fill at
+     */
+    public SimulatedTradeInteractor(SimulatedTradeOutputBoundary presenter,
+                                    Account account,
+                                    PriceBoard priceBoard) {
+        this(presenter, account, priceBoard, null);
+    }
 
+    /**
+     * Creates an interactor that can also place resting orders.
+     *
+     * @param presenter the presenter for trade results
+     * @param account the account orders are executed on
+     * @param priceBoard the latest prices market orders fill at
+     * @param orderBook the book resting orders are placed in, or null to allow market orders only
+     */
     public SimulatedTradeInteractor(SimulatedTradeOutputBoundary presenter,
-                                    Account account) {
+                                    Account account,
+                                    PriceBoard priceBoard,
+                                    OrderBook orderBook) {
         this.presenter = presenter;
         this.account = account;
+        this.priceBoard = priceBoard;
+        this.orderBook = orderBook;
     }
 
     @Override
     public void executeTrade(SimulatedTradeInputData inputData) {
+        if (inputData.getOrderType() != OrderType.MARKET) {
+            placeRestingOrder(inputData);
+            return;
+        }
 
         final String ticker = inputData.getTicker();
-        final double price = inputData.getCurrentPrice();
+        final double price = priceBoard.getPrice(ticker);
         final double amount = inputData.getAmount();
         final boolean isBuyAction = inputData.isBuyAction();
         final LocalDateTime tradeTime = LocalDateTime.now();
 
-        String errorMessage = validateInput(amount, price, isBuyAction);
+        String errorMessage;
+        if (Double.isNaN(price)) {
+            errorMessage = ticker + " has no price yet.";
+        }
+        else {
+            errorMessage = validateInput(amount, price, isBuyAction);
+        }
 
         boolean success = false;
         SimulatedTradeOutputData outputData = null;
@@ -74,6 +122,68 @@ public class SimulatedTradeInteractor implements SimulatedTradeInputBoundary {
         }
     }
 
+    /**
+     * Validates a limit, stop or stop-limit order and adds it to the book.
+     * Buys are checked against the balance at their limit or stop price, and
+     * again when they fill.
+     *
+     * @param inputData the order to place
+     */
+    private void placeRestingOrder(SimulatedTradeInputData inputData) {
+        final OrderType type = inputData.getOrderType();
+        final boolean isBuyAction = inputData.isBuyAction();
+        final double limit = inputData.getLimitPrice();
+        final double stop = inputData.getStopPrice();
+
+        double referencePrice = stop;
+        if (type.hasLimit()) {
+            referencePrice = limit;
+        }
+
+        String errorMessage = null;
+        if (orderBook == null) {
+            errorMessage = "Limit and stop orders are not available.";
+        }
+        else if (type.hasLimit() && !(limit > 0) || type.hasStop() && !(stop > 0)) {
+            errorMessage = "Enter a positive " + type.getLabel().toLowerCase() + " price.";
+        }
+        else {
+            errorMessage = validateInput(inputData.getAmount(), referencePrice, isBuyAction);
+        }
+
+        final int quantity = (int) (inputData.getAmount() / referencePrice);
+        if (errorMessage == null && isBuyAction && account.getBalance() < quantity * referencePrice) {
+            errorMessage = "Insufficient funds.";
+        }
+
+        if (errorMessage == null) {
+            // Ids of orders restored from a saved session are skipped
+            orderSequence++;
+            while (orderBook.contains(ORDER_ID_PREFIX + orderSequence)) {
+                orderSequence++;
+            }
+            final SimulatedOrder order = new SimulatedOrder(ORDER_ID_PREFIX + orderSequence, inputData.getTicker(),
+                    isBuyAction, quantity, type, limit, stop, LocalDateTime.now());
+            orderBook.add(order);
+
+            String sideLabel = "sell";
+            if (isBuyAction) {
+                sideLabel = "buy";
+            }
+            String priceLabel = String.format("at $%.2f", referencePrice);
+            if (type == OrderType.STOP_LIMIT) {
+                priceLabel = String.format("stop $%.2f, limit $%.2f", stop, limit);
+            }
+            final String message = String.format("Placed %s %s order %s for %d shares of %s, %s",
+                    type.getLabel().toLowerCase(), sideLabel, order.getOrderId(), quantity,
+                    inputData.getTicker(), priceLabel);
+            presenter.prepareSuccessView(new SimulatedTradeOutputData(account.getBalance(), message));
+        }
+        else {
+            presenter.prepareFailView(errorMessage);
+        }
+    }
+
     /**
      * Validates trade parameters.
      *
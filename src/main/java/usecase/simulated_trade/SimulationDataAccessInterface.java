@@ -1,8 +1,10 @@
 package usecase.simulated_trade;
 
 import java.util.List;
+import java.util.SplittableRandom;
 
 import entity.PricePoint;
+import usecase.tick_model.TickModelType;
 
 /**
  * Provides access to historical price data and generated tick data
@@ -19,11 +21,66 @@ public interface SimulationDataAccessInterface {
     List<PricePoint> loadHistory(String ticker);
 
     /**
-     * Generates a list of simulated tick prices based on a given price point.
+     * Generates simulated tick prices for a price point into a caller-supplied
+     * buffer, so the buffer can be reused for every candle without allocating.
      *
      * @param point the base price point used for tick generation
+     * @param buffer the array to fill; must hold at least {@code numberOfTicks} values
      * @param numberOfTicks the number of tick values to generate
-     * @return a list of generated price values
+     * @throws IllegalArgumentException if the buffer is too small or no ticks are requested
      */
-    List<Double> generateTicks(PricePoint point, int numberOfTicks);
+    void generateTicks(PricePoint point, double[] buffer, int numberOfTicks);
+
+    /**
+     * Generates simulated tick prices using the caller's random source instead of
+     * a shared one. Implementations must be safe to call from many threads at
+     * once as long as each thread passes its own buffer and random source.
+     *
+     * <p>The default ignores the random source, which suits deterministic sources.</p>
+     *
+     * @param point the base price point used for tick generation
+     * @param buffer the array to fill; must hold at least {@code numberOfTicks} values
+     * @param numberOfTicks the number of tick values to generate
+     * @param random the random source that decides the intra-candle path
+     * @throws IllegalArgumentException if the buffer is too small or no ticks are requested
+     */
+    default void generateTicks(PricePoint point, double[] buffer, int numberOfTicks, SplittableRandom random) {
+        generateTicks(point, buffer, numberOfTicks);
+    }
+
+    /**
+     * Generates the ticks of one candle of a history, so models can take the
+     * candles around it into account, such as its volume relative to recent
+     * candles. The default generates from the candle alone.
+     *
+     * @param candles the candle history
+     * @param candleIndex the candle to generate ticks for
+     * @param buffer the array to fill; must hold at least {@code numberOfTicks} values
+     * @param numberOfTicks the number of tick values to generate
+     * @param random the random source that decides the intra-candle path
+     * @throws IllegalArgumentException if the buffer is too small or no ticks are requested
+     */
+    default void generateTicks(List<PricePoint> candles, int candleIndex, double[] buffer, int numberOfTicks,
+                               SplittableRandom random) {
+        generateTicks(candles.get(candleIndex), buffer, numberOfTicks, random);
+    }
+
+    /**
+     * Returns the intra-candle price path model ticks are generated with.
+     *
+     * @return the model type; {@link TickModelType#LINEAR} unless the source says otherwise
+     */
+    default TickModelType getTickModel() {
+        return TickModelType.LINEAR;
+    }
+
+    /**
+     * Switches the intra-candle price path model, for example to the one a
+     * resumed session was saved with. Ticks generated afterwards use the new
+     * model. The default does nothing, which suits sources with a fixed path.
+     *
+     * @param tickModel the model type to generate ticks with
+     */
+    default void setTickModel(TickModelType tickModel) {
+    }
 }
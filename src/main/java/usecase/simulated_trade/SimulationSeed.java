@@ -0,0 +1,71 @@
+package usecase.simulated_trade;
+
+import java.util.SplittableRandom;
+
+/**
+ * Derives independent, reproducible random streams from one simulation seed.
+ *
+ * <p>Every candle of every ticker gets its own stream, keyed only by
+ * (seed, ticker, candle index). A tick path therefore never depends on how
+ * many other tickers are simulated, in which order candles are generated,
+ * or on which thread, so sequential and parallel runs of the same seed
+ * produce bit-identical ticks. Keys are combined with the SplitMix64
+ * finalizer, which spreads nearby inputs across the whole 64-bit range.</p>
+ */
+public final class SimulationSeed {
+
+    // 2^64 divided by the golden ratio, the SplitMix64 increment
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+    private static final long MIX_MULTIPLIER_1 = 0xbf58476d1ce4e5b9L;
+    private static final long MIX_MULTIPLIER_2 = 0x94d049bb133111ebL;
+    private static final int SHIFT_1 = 30;
+    private static final int SHIFT_2 = 27;
+    private static final int SHIFT_3 = 31;
+
+    private SimulationSeed() {
+    }
+
+    /**
+     * Returns a seed that has not been used before, for runs where the user
+     * did not choose one.
+     *
+     * @return a fresh seed
+     */
+    public static long randomSeed() {
+        return mix(System.nanoTime() + GOLDEN_GAMMA * Thread.currentThread().getId());
+    }
+
+    /**
+     * Returns the random stream for one candle of one ticker.
+     *
+     * @param seed        the simulation seed
+     * @param ticker      the ticker symbol
+     * @param candleIndex the index of the candle in the ticker's history
+     * @return a new stream; equal arguments always give an equal stream
+     */
+    public static SplittableRandom candleStream(long seed, String ticker, int candleIndex) {
+        long key = mix(seed + GOLDEN_GAMMA);
+        key = mix(key ^ ticker.hashCode());
+        key = mix(key + GOLDEN_GAMMA * (candleIndex + 1L));
+        return new SplittableRandom(key);
+    }
+
+    /**
+     * Returns the seed of one Monte Carlo path. Running the live simulation
+     * with this seed replays exactly that path.
+     *
+     * @param seed the run's seed
+     * @param path the path number
+     * @return the path's own simulation seed
+     */
+    public static long forPath(long seed, int path) {
+        return mix(mix(seed) + GOLDEN_GAMMA * (path + 1L));
+    }
+
+    private static long mix(long value) {
+        long z = value;
+        z = (z ^ (z >>> SHIFT_1)) * MIX_MULTIPLIER_1;
+        z = (z ^ (z >>> SHIFT_2)) * MIX_MULTIPLIER_2;
+        return z ^ (z >>> SHIFT_3);
+    }
+}
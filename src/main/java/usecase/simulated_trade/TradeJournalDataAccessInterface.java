@@ -0,0 +1,42 @@
+package usecase.simulated_trade;
+
+import java.io.IOException;
+import java.util.List;
+
+import entity.SimulatedTradeRecord;
+
+/**
+ * Local write-ahead log of closed trades that have not been uploaded yet.
+ *
+ * <p>Every trade is appended before it is uploaded, and acknowledged once
+ * the upload has succeeded. Trades that were appended but never acknowledged,
+ * for example because the app exited or the database was unreachable, are
+ * returned by {@link #readPending()} the next time the journal is opened.</p>
+ */
+public interface TradeJournalDataAccessInterface {
+
+    /**
+     * Appends a trade to the journal.
+     *
+     * @param trade the closed trade
+     * @return the trade's sequence number; sequence numbers increase by one per trade
+     * @throws IOException if the trade could not be written
+     */
+    long append(SimulatedTradeRecord trade) throws IOException;
+
+    /**
+     * Returns every trade that has been appended but not acknowledged, oldest first.
+     *
+     * @return the pending trades with their sequence numbers
+     * @throws IOException if the journal could not be read
+     */
+    List<JournaledTrade> readPending() throws IOException;
+
+    /**
+     * Marks every trade up to and including a sequence number as uploaded.
+     *
+     * @param sequence the sequence number of the newest uploaded trade
+     * @throws IOException if the acknowledgement could not be stored
+     */
+    void acknowledge(long sequence) throws IOException;
+}
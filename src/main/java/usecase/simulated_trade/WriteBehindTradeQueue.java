@@ -0,0 +1,355 @@
+package usecase.simulated_trade;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import entity.SimulatedTradeRecord;
+
+/**
+ * Persists closed trades in the background so that executing a trade never
+ * waits for the database.
+ *
+ * <p>{@link #onTradeClosed(SimulatedTradeRecord)} only appends the record to
+ * an in-memory queue. A single writer thread takes up to {@code batchSize}
+ * records at a time and stores them with one
+ * {@link SimulatedTradeDataAccessInterface#saveTrades(List)} call. A batch is
+ * written as soon as it is full, or once its oldest record has waited
+ * {@code maxDelayMillis}, whichever comes first.</p>
+ *
+ * <p>A batch that fails is kept and retried with exponential backoff before
+ * any later record is written, so trades are stored in the order they were
+ * closed. New trades and flush requests do not cut a backoff short, so an
+ * outage costs one save call per backoff rather than one per trade. Once the
+ * queue is closed, every remaining batch gets one last attempt. Records still unsaved after that are reported by
+ * {@link #close(long)}.</p>
+ *
+ * <p>With a {@link TradeJournalDataAccessInterface journal}, each trade is
+ * appended to it before it is queued and acknowledged once its batch is
+ * saved. {@link #start()} queues the trades a previous run left
+ * unacknowledged ahead of new ones, so trades survive the app exiting and
+ * long database outages. A trade whose batch was saved just before a crash,
+ * but not yet acknowledged, is saved again on the next start.</p>
+ */
+public class WriteBehindTradeQueue implements TradeClosedListener {
+
+    private static final long MAX_BACKOFF_FACTOR = 64;
+
+    private final SimulatedTradeDataAccessInterface dataAccess;
+    private final TradeJournalDataAccessInterface journal;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final long retryMillis;
+    private final Thread writer;
+
+    // Guards everything below; the writer waits on it for records and for backoff
+    private final Object lock = new Object();
+    private final Deque<JournaledTrade> pending = new ArrayDeque<>();
+    private int inFlight;
+    private long savedCount;
+    private long droppedCount;
+    private long failedAttempts;
+    private String lastError;
+    private boolean flushRequested;
+    private boolean closed;
+
+    /**
+     * Creates a write-behind queue that keeps unsaved trades in memory only.
+     * Call {@link #start()} to begin writing.
+     *
+     * @param dataAccess     where batches are saved
+     * @param batchSize      the largest number of trades saved in one call
+     * @param maxDelayMillis how long a trade may wait for its batch to fill
+     * @param retryMillis    the wait before the first retry of a failed batch; doubles on each failure
+     * @throws IllegalArgumentException if the batch size is not positive or a delay is negative
+     */
+    public WriteBehindTradeQueue(SimulatedTradeDataAccessInterface dataAccess, int batchSize, long maxDelayMillis,
+                                 long retryMillis) {
+        this(dataAccess, null, batchSize, maxDelayMillis, retryMillis);
+    }
+
+    /**
+     * Creates a write-behind queue backed by a journal. Call {@link #start()}
+     * to replay the journal and begin writing.
+     *
+     * @param dataAccess     where batches are saved
+     * @param journal        where trades are kept until saved, or null to keep them in memory only
+     * @param batchSize      the largest number of trades saved in one call
+     * @param maxDelayMillis how long a trade may wait for its batch to fill
+     * @param retryMillis    the wait before the first retry of a failed batch; doubles on each failure
+     * @throws IllegalArgumentException if the batch size is not positive or a delay is negative
+     */
+    public WriteBehindTradeQueue(SimulatedTradeDataAccessInterface dataAccess,
+                                 TradeJournalDataAccessInterface journal, int batchSize, long maxDelayMillis,
+                                 long retryMillis) {
+        if (batchSize <= 0 || maxDelayMillis < 0 || retryMillis < 0) {
+            throw new IllegalArgumentException("Batch size must be positive and delays non-negative");
+        }
+        this.dataAccess = dataAccess;
+        this.journal = journal;
+        this.batchSize = batchSize;
+        this.maxDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxDelayMillis);
+        this.retryMillis = retryMillis;
+        this.writer = new Thread(this::writeLoop, "trade-writer");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * Queues the trades the journal holds from earlier runs and starts the
+     * background writer thread.
+     */
+    public void start() {
+        if (journal != null) {
+            try {
+                synchronized (lock) {
+                    final List<JournaledTrade> replayed = journal.readPending();
+                    // Trades closed since the queue was created are already queued; older ones go ahead of them
+                    long queuedFrom = Long.MAX_VALUE;
+                    for (JournaledTrade queued : pending) {
+                        if (queued.getSequence() != JournaledTrade.UNJOURNALED) {
+                            queuedFrom = Math.min(queuedFrom, queued.getSequence());
+                        }
+                    }
+                    for (int i = replayed.size() - 1; i >= 0; i--) {
+                        if (replayed.get(i).getSequence() < queuedFrom) {
+                            pending.addFirst(replayed.get(i));
+                        }
+                    }
+                }
+            }
+            catch (IOException ex) {
+                System.err.println("Trade journal replay failed: " + ex.getMessage());
+            }
+        }
+        writer.start();
+    }
+
+    /**
+     * Appends a closed trade to the journal, if there is one, and queues it
+     * for saving. Returns without waiting for the database.
+     *
+     * @param record the closed trade
+     */
+    @Override
+    public void onTradeClosed(SimulatedTradeRecord record) {
+        synchronized (lock) {
+            // Appending under the lock keeps sequence numbers in queue order
+            long sequence = JournaledTrade.UNJOURNALED;
+            if (journal != null) {
+                try {
+                    sequence = journal.append(record);
+                }
+                catch (IOException ex) {
+                    System.err.println("Trade journal write failed: " + ex.getMessage());
+                }
+            }
+            pending.addLast(new JournaledTrade(sequence, record));
+            // The first record starts the batch delay, a full batch ends it
+            if (pending.size() == 1 || pending.size() >= batchSize) {
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Asks the writer to save everything queued now, without waiting for
+     * batches to fill, and waits until the queue is empty.
+     *
+     * @param timeoutMillis the longest time to wait
+     * @return true if every queued trade was saved within the timeout
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public boolean flush(long timeoutMillis) throws InterruptedException {
+        final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        synchronized (lock) {
+            flushRequested = true;
+            lock.notifyAll();
+            long remaining = deadline - System.nanoTime();
+            while (backlog() > 0 && remaining > 0) {
+                TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                remaining = deadline - System.nanoTime();
+            }
+            return backlog() == 0;
+        }
+    }
+
+    /**
+     * Closes the queue. Remaining batches are written without waiting to
+     * fill, each gets one final save attempt, and then the writer exits.
+     *
+     * @param timeoutMillis the longest time to wait for the writer to finish
+     * @return the number of trades that were not saved
+     * @throws InterruptedException if the calling thread is interrupted while waiting
+     */
+    public long close(long timeoutMillis) throws InterruptedException {
+        synchronized (lock) {
+            closed = true;
+            lock.notifyAll();
+        }
+        writer.join(timeoutMillis);
+        synchronized (lock) {
+            return backlog() + droppedCount;
+        }
+    }
+
+    /**
+     * Returns how many trades are waiting to be saved, including a batch that
+     * is being written or retried.
+     *
+     * @return the number of unsaved trades
+     */
+    public int getBacklog() {
+        synchronized (lock) {
+            return backlog();
+        }
+    }
+
+    /**
+     * Returns how many trades have been saved.
+     *
+     * @return the number of saved trades
+     */
+    public long getSavedCount() {
+        synchronized (lock) {
+            return savedCount;
+        }
+    }
+
+    /**
+     * Returns how many save calls have failed, counting every retry.
+     *
+     * @return the number of failed attempts
+     */
+    public long getFailedAttempts() {
+        synchronized (lock) {
+            return failedAttempts;
+        }
+    }
+
+    /**
+     * Returns the message of the most recent failure.
+     *
+     * @return the last error, or null if no save has failed
+     */
+    public String getLastError() {
+        synchronized (lock) {
+            return lastError;
+        }
+    }
+
+    private int backlog() {
+        return pending.size() + inFlight;
+    }
+
+    private void writeLoop() {
+        try {
+            List<JournaledTrade> batch = nextBatch();
+            while (batch != null) {
+                persist(batch);
+                batch = nextBatch();
+            }
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits for a full batch, an expired delay, a flush or a close, and takes
+     * the next batch off the queue.
+     *
+     * @return the batch, or null once the queue is closed and empty
+     */
+    private List<JournaledTrade> nextBatch() throws InterruptedException {
+        synchronized (lock) {
+            while (pending.isEmpty() && !closed) {
+                lock.wait();
+            }
+            List<JournaledTrade> batch = null;
+            if (!pending.isEmpty()) {
+                final long deadline = System.nanoTime() + maxDelayNanos;
+                long remaining = maxDelayNanos;
+                while (pending.size() < batchSize && !flushRequested && !closed && remaining > 0) {
+                    TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                    remaining = deadline - System.nanoTime();
+                }
+                final int size = Math.min(batchSize, pending.size());
+                batch = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    batch.add(pending.removeFirst());
+                }
+                inFlight = size;
+                if (pending.isEmpty()) {
+                    flushRequested = false;
+                }
+            }
+            return batch;
+        }
+    }
+
+    /**
+     * Saves a batch, retrying with backoff until it succeeds or, after the
+     * queue is closed, until one final attempt has failed. A saved batch is
+     * acknowledged in the journal.
+     */
+    private void persist(List<JournaledTrade> batch) throws InterruptedException {
+        final List<SimulatedTradeRecord> trades = new ArrayList<>(batch.size());
+        long newestSequence = JournaledTrade.UNJOURNALED;
+        for (JournaledTrade entry : batch) {
+            trades.add(entry.getTrade());
+            newestSequence = Math.max(newestSequence, entry.getSequence());
+        }
+        long backoff = retryMillis;
+        boolean stored = false;
+        boolean lastAttempt = false;
+        while (!stored && !lastAttempt) {
+            lastAttempt = isClosed();
+            try {
+                dataAccess.saveTrades(trades);
+                stored = true;
+            }
+            catch (RuntimeException ex) {
+                synchronized (lock) {
+                    failedAttempts++;
+                    lastError = ex.getMessage();
+                    System.err.println("DB Save Failed (" + backlog() + " trades pending): " + lastError);
+                    // Notifications for new trades wake this wait too, so it runs to its deadline
+                    final long retryAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(1, backoff));
+                    long remaining = retryAt - System.nanoTime();
+                    while (!lastAttempt && !closed && remaining > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(lock, remaining);
+                        remaining = retryAt - System.nanoTime();
+                    }
+                }
+                backoff = Math.min(backoff * 2, retryMillis * MAX_BACKOFF_FACTOR);
+            }
+        }
+        if (stored && newestSequence != JournaledTrade.UNJOURNALED) {
+            try {
+                journal.acknowledge(newestSequence);
+            }
+            catch (IOException ex) {
+                System.err.println("Trade journal acknowledgement failed: " + ex.getMessage());
+            }
+        }
+        synchronized (lock) {
+            inFlight = 0;
+            if (stored) {
+                savedCount += batch.size();
+            }
+            else {
+                droppedCount += batch.size();
+            }
+            lock.notifyAll();
+        }
+    }
+
+    private boolean isClosed() {
+        synchronized (lock) {
+            return closed;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package usecase.strategy;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import entity.PricePoint;
+import usecase.indicator.CandleIndicatorCache;
+import usecase.indicator.SimpleMovingAverage;
+
+/**
+ * Classic trend-following strategy on candle closes: goes long a fixed dollar
+ * amount when the fast moving average crosses above the slow one and closes
+ * the position when it crosses back below. Each ticker is traded independently.
+ * When created over a {@link CandleIndicatorCache}, the cached ticker reads its
+ * averages from the cache instead of recomputing them.
+ */
+public class MovingAverageCrossStrategy implements TradingStrategy {
+
+    private final int fastPeriod;
+    private final int slowPeriod;
+    private final double tradeAmount;
+    private final Map<String, SimpleMovingAverage[]> averages = new HashMap<>();
+    private final Map<String, Boolean> fastAbove = new HashMap<>();
+    private final CandleIndicatorCache cache;
+    private final double[] cachedFast;
+    private final double[] cachedSlow;
+    private int cachedCandles;
+
+    /**
+     * Creates the strategy.
+     *
+     * @param fastPeriod  candles in the fast average
+     * @param slowPeriod  candles in the slow average; must exceed the fast period
+     * @param tradeAmount dollar amount bought on each entry
+     * @throws IllegalArgumentException if the periods are not increasing or the amount is not positive
+     */
+    public MovingAverageCrossStrategy(int fastPeriod, int slowPeriod, double tradeAmount) {
+        this(fastPeriod, slowPeriod, tradeAmount, null);
+    }
+
+    /**
+     * Creates the strategy over precomputed averages. The cache must hold the
+     * candles that will be replayed, in order, starting with the first one.
+     *
+     * @param fastPeriod  candles in the fast average
+     * @param slowPeriod  candles in the slow average; must exceed the fast period
+     * @param tradeAmount dollar amount bought on each entry
+     * @param cache       precomputed indicators of one ticker, or null to compute them incrementally
+     * @throws IllegalArgumentException if the periods are not increasing or the amount is not positive
+     */
+    public MovingAverageCrossStrategy(int fastPeriod, int slowPeriod, double tradeAmount,
+                                      CandleIndicatorCache cache) {
+        if (fastPeriod <= 0 || slowPeriod <= fastPeriod) {
+            throw new IllegalArgumentException("Need 0 < fast period < slow period.");
+        }
+        if (tradeAmount <= 0) {
+            throw new IllegalArgumentException("Trade amount must be positive.");
+        }
+        this.fastPeriod = fastPeriod;
+        this.slowPeriod = slowPeriod;
+        this.tradeAmount = tradeAmount;
+        this.cache = cache;
+        if (cache != null) {
+            this.cachedFast = cache.sma(fastPeriod);
+            this.cachedSlow = cache.sma(slowPeriod);
+        }
+        else {
+            this.cachedFast = null;
+            this.cachedSlow = null;
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "MA Cross(" + fastPeriod + "/" + slowPeriod + ")";
+    }
+
+    @Override
+    public void onTick(StrategyContext context, String ticker, double price) {
+        // Decisions are made on candle closes only
+    }
+
+    @Override
+    public boolean mightActWithin(String ticker, double low, double high) {
+        return false;
+    }
+
+    @Override
+    public void onCandle(StrategyContext context, String ticker, PricePoint candle) {
+        if (cache != null && cache.getTicker().equals(ticker)) {
+            if (cachedCandles < cachedSlow.length) {
+                final double fastValue = cachedFast[cachedCandles];
+                final double slowValue = cachedSlow[cachedCandles];
+                cachedCandles++;
+                if (!Double.isNaN(slowValue)) {
+                    onAverages(context, ticker, fastValue, slowValue);
+                }
+            }
+        }
+        else {
+            final SimpleMovingAverage[] pair = averages.computeIfAbsent(ticker, key -> new SimpleMovingAverage[] {
+                new SimpleMovingAverage(fastPeriod), new SimpleMovingAverage(slowPeriod),
+            });
+            final SimpleMovingAverage fast = pair[0];
+            final SimpleMovingAverage slow = pair[1];
+            fast.update(candle.getClose(), 0.0);
+            slow.update(candle.getClose(), 0.0);
+            if (slow.isReady()) {
+                onAverages(context, ticker, fast.getValue(0), slow.getValue(0));
+            }
+        }
+    }
+
+    private void onAverages(StrategyContext context, String ticker, double fastValue, double slowValue) {
+        final boolean above = fastValue > slowValue;
+        final Boolean wasAbove = fastAbove.put(ticker, above);
+        if (wasAbove != null && above != wasAbove) {
+            if (above && context.getPositionQuantity(ticker) <= 0) {
+                context.closePosition(ticker);
+                context.buy(ticker, tradeAmount);
+            }
+            else if (!above && context.getPositionQuantity(ticker) > 0) {
+                context.closePosition(ticker);
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package usecase.strategy;
+
+import entity.Account;
+import entity.PriceBoard;
+import usecase.simulated_trade.SimulatedTradeInputBoundary;
+import usecase.simulated_trade.SimulatedTradeInputData;
+import usecase.simulated_trade.SimulatedTradeInteractor;
+import usecase.simulated_trade.SimulatedTradeOutputBoundary;
+import usecase.simulated_trade.SimulatedTradeOutputData;
+
+/**
+ * What a strategy can see and do: read prices and the account, and submit
+ * market orders. Orders go through {@link SimulatedTradeInteractor}, so they
+ * are validated and filled exactly like orders from the trading screen, at
+ * the latest price on the board.
+ */
+public class StrategyContext {
+
+    // Closing sizes the order by amount; half a share of slack absorbs rounding
+    private static final double ROUNDING_SLACK = 0.5;
+
+    private final Account account;
+    private final PriceBoard priceBoard;
+    private final SimulatedTradeInputBoundary tradeInteractor;
+    private final OrderResult lastResult = new OrderResult();
+
+    /**
+     * Creates a context over an account and the board it is marked against.
+     *
+     * @param account    the account orders are executed on
+     * @param priceBoard the latest prices of all simulated tickers
+     */
+    public StrategyContext(Account account, PriceBoard priceBoard) {
+        this.account = account;
+        this.priceBoard = priceBoard;
+        this.tradeInteractor = new SimulatedTradeInteractor(lastResult, account, priceBoard);
+    }
+
+    /**
+     * Returns the latest price of a ticker.
+     *
+     * @param ticker the ticker symbol
+     * @return the price, or NaN if the ticker has not traded yet
+     */
+    public double getPrice(String ticker) {
+        return priceBoard.getPrice(ticker);
+    }
+
+    public double getBalance() {
+        return account.getBalance();
+    }
+
+    /**
+     * Returns the signed size of the open position in a ticker.
+     *
+     * @param ticker the ticker symbol
+     * @return shares held, positive for long, negative for short, 0 if flat
+     */
+    public int getPositionQuantity(String ticker) {
+        return account.getNetQuantity(ticker);
+    }
+
+    /**
+     * Buys a dollar amount of a ticker at its latest price.
+     *
+     * @param ticker the ticker symbol
+     * @param amount the dollar amount to spend
+     * @return true if the order was filled
+     */
+    public boolean buy(String ticker, double amount) {
+        return submit(ticker, true, amount);
+    }
+
+    /**
+     * Sells (or sells short) a dollar amount of a ticker at its latest price.
+     *
+     * @param ticker the ticker symbol
+     * @param amount the dollar amount to sell
+     * @return true if the order was filled
+     */
+    public boolean sell(String ticker, double amount) {
+        return submit(ticker, false, amount);
+    }
+
+    /**
+     * Closes the whole open position in a ticker, if any.
+     *
+     * @param ticker the ticker symbol
+     * @return true if a position was closed
+     */
+    public boolean closePosition(String ticker) {
+        final int quantity = getPositionQuantity(ticker);
+        final double price = getPrice(ticker);
+        boolean closed = false;
+        if (quantity != 0 && !Double.isNaN(price)) {
+            closed = submit(ticker, quantity < 0, (Math.abs(quantity) + ROUNDING_SLACK) * price);
+        }
+        return closed;
+    }
+
+    /**
+     * Returns the confirmation or rejection message of the last order.
+     *
+     * @return the last order's message, or null if no order was placed
+     */
+    public String getLastMessage() {
+        return lastResult.message;
+    }
+
+    private boolean submit(String ticker, boolean isBuyAction, double amount) {
+        tradeInteractor.executeTrade(new SimulatedTradeInputData(ticker, isBuyAction, amount));
+        return lastResult.filled;
+    }
+
+    /**
+     * Captures the trade interactor's answer for the strategy.
+     */
+    private static final class OrderResult implements SimulatedTradeOutputBoundary {
+        private boolean filled;
+        private String message;
+
+        @Override
+        public void prepareSuccessView(SimulatedTradeOutputData outputData) {
+            filled = true;
+            message = outputData.getMessage();
+        }
+
+        @Override
+        public void prepareFailView(String error) {
+            filled = false;
+            message = error;
+        }
+    }
+}
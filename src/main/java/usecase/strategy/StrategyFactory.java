@@ -0,0 +1,16 @@
+package usecase.strategy;
+
+/**
+ * Creates fresh strategy instances, so runs that replay the same history
+ * several times (backtests, Monte Carlo paths) never share strategy state.
+ */
+@FunctionalInterface
+public interface StrategyFactory {
+
+    /**
+     * Creates a new strategy in its initial state.
+     *
+     * @return a new strategy
+     */
+    TradingStrategy create();
+}
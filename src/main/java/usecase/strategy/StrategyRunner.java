@@ -0,0 +1,109 @@
+package usecase.strategy;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import entity.PricePoint;
+
+/**
+ * Calls a set of strategies on every tick and candle and times each call
+ * against the strategy's budget. The runner only records; the statistics,
+ * including which strategies ran over budget, are left to reports.
+ */
+public class StrategyRunner {
+
+    private final StrategyContext context;
+    private final List<TradingStrategy> strategies = new ArrayList<>();
+    private final List<StrategyStats> stats = new ArrayList<>();
+
+    /**
+     * Creates a runner whose strategies trade through the given context.
+     *
+     * @param context the context passed to every strategy call
+     */
+    public StrategyRunner(StrategyContext context) {
+        this.context = context;
+    }
+
+    /**
+     * Adds a strategy. Strategies are called in the order they were added.
+     *
+     * @param strategy the strategy to run
+     */
+    public void addStrategy(TradingStrategy strategy) {
+        strategies.add(strategy);
+        stats.add(new StrategyStats(strategy.getName(), strategy.getTickBudgetNanos()));
+    }
+
+    public boolean isEmpty() {
+        return strategies.isEmpty();
+    }
+
+    /**
+     * Passes a tick to every strategy.
+     *
+     * @param ticker the ticker whose price was published
+     * @param price  the price for this second
+     */
+    public void onTick(String ticker, double price) {
+        for (int i = 0; i < strategies.size(); i++) {
+            final long start = System.nanoTime();
+            strategies.get(i).onTick(context, ticker, price);
+            stats.get(i).record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Passes a completed candle to every strategy.
+     *
+     * @param ticker the ticker whose candle completed
+     * @param candle the completed candle
+     */
+    public void onCandle(String ticker, PricePoint candle) {
+        for (int i = 0; i < strategies.size(); i++) {
+            final long start = System.nanoTime();
+            strategies.get(i).onCandle(context, ticker, candle);
+            stats.get(i).record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Returns whether any strategy might act on ticks within a price range.
+     *
+     * @param ticker the ticker
+     * @param low    the lowest price the ticker may trade at
+     * @param high   the highest price the ticker may trade at
+     * @return false only if every strategy can skip ticks in the range
+     */
+    public boolean mightActWithin(String ticker, double low, double high) {
+        for (TradingStrategy strategy : strategies) {
+            if (strategy.mightActWithin(ticker, low, high)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the latency statistics of every strategy, in the order added.
+     *
+     * @return an unmodifiable list of statistics
+     */
+    public List<StrategyStats> getStats() {
+        return Collections.unmodifiableList(stats);
+    }
+
+    /**
+     * Returns how many calls ran over their strategy's budget, across all strategies.
+     *
+     * @return the number of over-budget calls
+     */
+    public long getOverBudgetCalls() {
+        long total = 0;
+        for (StrategyStats strategyStats : stats) {
+            total += strategyStats.getOverBudgetCalls();
+        }
+        return total;
+    }
+}
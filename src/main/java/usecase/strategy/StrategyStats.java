@@ -0,0 +1,91 @@
+package usecase.strategy;
+
+/**
+ * Latency instrumentation for one strategy: how often it was called, how long
+ * the calls took and how many ran over the strategy's budget.
+ */
+public class StrategyStats {
+
+    // A strategy is slow once more than 1% of its calls run over budget
+    private static final double SLOW_FRACTION = 0.01;
+    private static final long MIN_CALLS_FOR_SLOW = 100;
+
+    private final String name;
+    private final long budgetNanos;
+    private long calls;
+    private long totalNanos;
+    private long maxNanos;
+    private long overBudgetCalls;
+
+    /**
+     * Creates empty statistics.
+     *
+     * @param name        the strategy's name
+     * @param budgetNanos the strategy's per-call budget
+     */
+    public StrategyStats(String name, long budgetNanos) {
+        this.name = name;
+        this.budgetNanos = budgetNanos;
+    }
+
+    /**
+     * Records one call.
+     *
+     * @param nanos how long the call took
+     * @return true if the call ran over budget
+     */
+    public boolean record(long nanos) {
+        calls++;
+        totalNanos += nanos;
+        if (nanos > maxNanos) {
+            maxNanos = nanos;
+        }
+        final boolean overBudget = nanos > budgetNanos;
+        if (overBudget) {
+            overBudgetCalls++;
+        }
+        return overBudget;
+    }
+
+    /**
+     * Returns whether the strategy regularly exceeds its budget. Isolated
+     * overruns, such as a garbage collection pause, do not count.
+     *
+     * @return true if the strategy is flagged as slow
+     */
+    public boolean isSlow() {
+        return calls >= MIN_CALLS_FOR_SLOW && overBudgetCalls > calls * SLOW_FRACTION;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getBudgetNanos() {
+        return budgetNanos;
+    }
+
+    public long getCalls() {
+        return calls;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getOverBudgetCalls() {
+        return overBudgetCalls;
+    }
+
+    /**
+     * Returns the mean call duration.
+     *
+     * @return the mean in nanoseconds, or 0 before the first call
+     */
+    public double getMeanNanos() {
+        if (calls == 0) {
+            return 0.0;
+        }
+        return (double) totalNanos / calls;
+    }
+}
@@ -0,0 +1,69 @@
+package usecase.strategy;
+
+import entity.PricePoint;
+
+/**
+ * An automated trading strategy driven by the simulation clock.
+ *
+ * <p>Strategies are called on the simulation thread after every ticker's price
+ * for the current second has been published, and place orders through the
+ * {@link StrategyContext}, which applies the same rules as manual trades.
+ * Each call should finish within {@link #getTickBudgetNanos()}; calls that
+ * run over are counted and slow strategies are flagged.</p>
+ */
+public interface TradingStrategy {
+
+    /** Default per-call latency budget: 50 microseconds. */
+    long DEFAULT_TICK_BUDGET_NANOS = 50_000L;
+
+    /**
+     * Returns a short name used in reports.
+     *
+     * @return the strategy name
+     */
+    String getName();
+
+    /**
+     * Called once per simulated second for every ticker that is trading.
+     *
+     * @param context access to prices, the account and order entry
+     * @param ticker  the ticker whose price was published
+     * @param price   the ticker's price for this second
+     */
+    void onTick(StrategyContext context, String ticker, double price);
+
+    /**
+     * Called when a ticker's candle has been fully replayed.
+     *
+     * @param context access to prices, the account and order entry
+     * @param ticker  the ticker whose candle completed
+     * @param candle  the completed candle
+     */
+    default void onCandle(StrategyContext context, String ticker, PricePoint candle) {
+    }
+
+    /**
+     * Returns whether {@code onTick} might trade (or needs to observe prices)
+     * while the ticker moves within a range. Fast-forward skips a candle's
+     * ticks only when every strategy returns false for its high and low;
+     * {@code onCandle} is still called for skipped candles. The default is
+     * the conservative answer.
+     *
+     * @param ticker the ticker
+     * @param low    the lowest price the ticker may trade at
+     * @param high   the highest price the ticker may trade at
+     * @return true unless skipping the ticks is certain to make no difference
+     */
+    default boolean mightActWithin(String ticker, double low, double high) {
+        return true;
+    }
+
+    /**
+     * Returns how long a single {@code onTick} or {@code onCandle} call may take.
+     *
+     * @return the latency budget in nanoseconds
+     */
+    default long getTickBudgetNanos() {
+        return DEFAULT_TICK_BUDGET_NANOS;
+    }
+}
@@ -0,0 +1,156 @@
+package usecase.tick_model;
+
+import java.util.SplittableRandom;
+
+import entity.PricePoint;
+
+/**
+ * Joins open, high, low and close with Brownian bridges, so the path wanders
+ * like a random walk while still matching the candle exactly.
+ *
+ * <p>The high and low are placed at random ticks, with the low more likely to
+ * come first in an up candle and the high in a down candle. Each of the three
+ * segments between anchors is a random walk pinned to its two ends: walk
+ * increments are drawn and summed in one pass, and the linear trend between
+ * the anchors plus the walk minus its pro-rated end value is written in a
+ * second. Values beyond the high or low are reflected back into the range.
+ * Both passes run over the caller's buffer, so nothing is allocated, and the
+ * normal increments are approximated from a single random draw each, so a
+ * path costs little more than a straight line.</p>
+ */
+public class BrownianBridgeTickModel implements TickModel {
+
+    // Open, first extreme, second extreme, close
+    private static final int MIN_TICKS_FOR_EXTREMES = 4;
+
+    // Standard deviation of a whole unpinned walk, as a share of the candle's range
+    private static final double RANGE_VOLATILITY = 0.5;
+    private static final int UNIFORM_BITS = 16;
+    private static final long UNIFORM_MASK = (1L << UNIFORM_BITS) - 1;
+    private static final double UNIFORM_SCALE = 1.0 / (1L << UNIFORM_BITS);
+    // Four uniforms on [0, 1) sum to mean 2 and variance 1/3
+    private static final double UNIFORM_SUM_MEAN = 2.0;
+    private static final double UNIFORM_SUM_TO_NORMAL = Math.sqrt(3.0);
+    private static final double HALF = 0.5;
+
+    private final double activityPersistence;
+    private final double activityVolatility;
+
+    /**
+     * Creates a model whose ticks all move with the same volatility.
+     */
+    public BrownianBridgeTickModel() {
+        this(0.0, 0.0);
+    }
+
+    /**
+     * Creates a model whose volatility follows a trading activity level. The
+     * log of the level moves as a mean-reverting process, and each tick's
+     * increment is scaled by the level, so busy stretches move further than
+     * quiet ones.
+     *
+     * @param activityPersistence how much of the activity level carries over to the next tick, from 0 to 1
+     * @param activityVolatility  how strongly the activity level changes per tick; 0 keeps it constant
+     */
+    protected BrownianBridgeTickModel(double activityPersistence, double activityVolatility) {
+        this.activityPersistence = activityPersistence;
+        this.activityVolatility = activityVolatility;
+    }
+
+    @Override
+    public void generate(PricePoint candle, double[] buffer, int numberOfTicks, SplittableRandom random) {
+        generate(candle, RelativeVolume.NEUTRAL, buffer, numberOfTicks, random);
+    }
+
+    @Override
+    public void generate(PricePoint candle, double relativeVolume, double[] buffer, int numberOfTicks,
+                         SplittableRandom random) {
+        TickPaths.checkBuffer(buffer, numberOfTicks);
+
+        final double open = candle.getOpen();
+        final double high = candle.getHigh();
+        final double low = candle.getLow();
+        final double close = candle.getClose();
+        final double range = high - low;
+
+        buffer[0] = open;
+        buffer[numberOfTicks - 1] = close;
+
+        if (numberOfTicks < MIN_TICKS_FOR_EXTREMES) {
+            // Too short to visit both extremes; no noise gives a straight line
+            fillBridge(buffer, 0, numberOfTicks - 1, 0.0, low, high, random);
+        }
+        else {
+            final int idx1 = 1 + random.nextInt(numberOfTicks - 3);
+            final int idx2 = idx1 + 1 + random.nextInt(numberOfTicks - idx1 - 2);
+
+            double trend = 0.0;
+            if (range > 0) {
+                trend = (close - open) / range;
+            }
+            final boolean lowFirst = random.nextDouble() < HALF * (1.0 + trend);
+            buffer[idx1] = lowFirst ? low : high;
+            buffer[idx2] = lowFirst ? high : low;
+
+            final double stepDeviation = range * RANGE_VOLATILITY * volatilityScale(relativeVolume)
+                    / Math.sqrt(numberOfTicks);
+            fillBridge(buffer, 0, idx1, stepDeviation, low, high, random);
+            fillBridge(buffer, idx1, idx2, stepDeviation, low, high, random);
+            fillBridge(buffer, idx2, numberOfTicks - 1, stepDeviation, low, high, random);
+        }
+    }
+
+    /**
+     * Returns the factor applied to every tick's standard deviation for a
+     * candle of the given relative volume. The volume is ignored by default.
+     *
+     * @param relativeVolume the candle's volume relative to recent candles
+     * @return the volatility factor
+     */
+    protected double volatilityScale(double relativeVolume) {
+        return 1.0;
+    }
+
+    private void fillBridge(double[] buffer, int startIndex, int endIndex, double stepDeviation,
+                            double low, double high, SplittableRandom random) {
+        final int steps = endIndex - startIndex;
+        final double startValue = buffer[startIndex];
+        final double endValue = buffer[endIndex];
+
+        // Pass 1: an unpinned walk from 0, kept in the segment's own slots
+        double walk = 0.0;
+        double activity = 0.0;
+        for (int k = startIndex + 1; k <= endIndex; k++) {
+            // Sum of four 16-bit uniforms from one draw: close to a standard
+            // normal, bounded, and far cheaper than Box-Muller
+            final long bits = random.nextLong();
+            final long sum = (bits & UNIFORM_MASK) + (bits >>> UNIFORM_BITS & UNIFORM_MASK)
+                    + (bits >>> 2 * UNIFORM_BITS & UNIFORM_MASK) + (bits >>> 3 * UNIFORM_BITS);
+            final double normal = (sum * UNIFORM_SCALE - UNIFORM_SUM_MEAN) * UNIFORM_SUM_TO_NORMAL;
+
+            double deviation = stepDeviation;
+            if (activityVolatility > 0) {
+                activity = activityPersistence * activity + activityVolatility * (random.nextDouble() - HALF);
+                deviation *= Math.exp(activity);
+            }
+            walk += deviation * normal;
+            if (k < endIndex) {
+                buffer[k] = walk;
+            }
+        }
+
+        // Pass 2: pin the walk to both anchors and keep it inside the candle
+        // Trend between the anchors minus the walk's end value, pro-rated per tick
+        final double slope = (endValue - startValue - walk) / steps;
+        for (int k = startIndex + 1; k < endIndex; k++) {
+            double value = startValue + slope * (k - startIndex) + buffer[k];
+            if (value > high) {
+                value = high - (value - high);
+            }
+            else if (value < low) {
+                value = low + (low - value);
+            }
+            buffer[k] = Math.max(low, Math.min(high, value));
+        }
+    }
+}
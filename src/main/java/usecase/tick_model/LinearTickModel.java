@@ -0,0 +1,56 @@
+package usecase.tick_model;
+
+import java.util.SplittableRandom;
+
+import entity.PricePoint;
+
+/**
+ * Places the high and low at random ticks and joins open, extremes and close
+ * with straight lines. Cheap and predictable, but the path looks like a
+ * sawtooth ramp.
+ */
+public class LinearTickModel implements TickModel {
+
+    // Open, first extreme, second extreme, close
+    private static final int MIN_TICKS_FOR_EXTREMES = 4;
+
+    @Override
+    public void generate(PricePoint candle, double[] buffer, int numberOfTicks, SplittableRandom random) {
+        TickPaths.checkBuffer(buffer, numberOfTicks);
+
+        // 1. Anchor
+        buffer[0] = candle.getOpen();
+        buffer[numberOfTicks - 1] = candle.getClose();
+
+        // 2. Randomize positions (ensure valid bounds)
+        if (numberOfTicks < MIN_TICKS_FOR_EXTREMES) {
+            fillInterpolation(buffer, 0, numberOfTicks - 1);
+        }
+        else {
+            final int idx1 = 1 + random.nextInt(numberOfTicks - 3);
+            // The second extreme must stay clear of the close anchor in the last slot
+            final int idx2 = idx1 + 1 + random.nextInt(numberOfTicks - idx1 - 2);
+
+            final boolean highFirst = random.nextBoolean();
+            buffer[idx1] = highFirst ? candle.getHigh() : candle.getLow();
+            buffer[idx2] = highFirst ? candle.getLow() : candle.getHigh();
+
+            fillInterpolation(buffer, 0, idx1);
+            fillInterpolation(buffer, idx1, idx2);
+            fillInterpolation(buffer, idx2, numberOfTicks - 1);
+        }
+    }
+
+    private static void fillInterpolation(double[] array, int startIndex, int endIndex) {
+        final double startVal = array[startIndex];
+        final double endVal = array[endIndex];
+        final int steps = endIndex - startIndex;
+
+        if (steps > 0) {
+            final double stepValue = (endVal - startVal) / steps;
+            for (int i = 1; i < steps; i++) {
+                array[startIndex + i] = startVal + (stepValue * i);
+            }
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package usecase.tick_model;
+
+import java.util.List;
+
+import entity.PricePoint;
+
+/**
+ * Measures how busy a candle was compared with the candles just before it.
+ */
+public final class RelativeVolume {
+
+    /** Returned when the candle or the candles before it carry no volume. */
+    public static final double NEUTRAL = 1.0;
+
+    // About an hour and a half of five-minute candles
+    private static final int WINDOW = 20;
+
+    private RelativeVolume() {
+    }
+
+    /**
+     * Returns a candle's volume divided by the mean volume of up to
+     * {@value #WINDOW} candles before it. The result depends only on the
+     * candles, so it is the same whichever thread asks and in whatever order.
+     *
+     * @param candles     the candle history
+     * @param candleIndex the candle to measure
+     * @return the relative volume, or {@link #NEUTRAL} if there is nothing to compare
+     */
+    public static double of(List<PricePoint> candles, int candleIndex) {
+        final double volume = volumeOf(candles.get(candleIndex));
+        double total = 0.0;
+        int counted = 0;
+        for (int i = Math.max(0, candleIndex - WINDOW); i < candleIndex; i++) {
+            final double earlier = volumeOf(candles.get(i));
+            if (earlier > 0) {
+                total += earlier;
+                counted++;
+            }
+        }
+        double relative = NEUTRAL;
+        if (volume > 0 && counted > 0) {
+            relative = volume * counted / total;
+        }
+        return relative;
+    }
+
+    private static double volumeOf(PricePoint candle) {
+        double volume = 0.0;
+        if (candle.getVolume() != null) {
+            volume = candle.getVolume();
+        }
+        return volume;
+    }
+}
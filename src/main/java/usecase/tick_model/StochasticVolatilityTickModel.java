@@ -0,0 +1,23 @@
+package usecase.tick_model;
+
+/**
+ * A Brownian bridge path whose volatility follows a random activity level:
+ * trading comes in bursts, and price moves scale with the activity of each
+ * tick. Quiet stretches drift sideways and busy ones swing, as real intraday
+ * tape does, while the path still matches the candle's open, high, low and
+ * close. The bursts are random; {@link VolumeWeightedTickModel} is the model
+ * shaped by the candle's volume.
+ */
+public class StochasticVolatilityTickModel extends BrownianBridgeTickModel {
+
+    // Activity bursts last a few dozen ticks and scale volatility by up to about 3x either way
+    private static final double ACTIVITY_PERSISTENCE = 0.95;
+    private static final double ACTIVITY_VOLATILITY = 0.6;
+
+    /**
+     * Creates the model.
+     */
+    public StochasticVolatilityTickModel() {
+        super(ACTIVITY_PERSISTENCE, ACTIVITY_VOLATILITY);
+    }
+}
@@ -0,0 +1,44 @@
+package usecase.tick_model;
+
+import java.util.SplittableRandom;
+
+import entity.PricePoint;
+
+/**
+ * Generates the path prices take inside one candle. Every path starts at the
+ * candle's open, ends at its close and reaches its high and low, without
+ * leaving that range.
+ *
+ * <p>Implementations keep no state between calls, so one instance may be used
+ * from many threads at once as long as each thread passes its own buffer and
+ * random source.</p>
+ */
+public interface TickModel {
+
+    /**
+     * Fills a buffer with a candle's ticks.
+     *
+     * @param candle        the candle the path must match
+     * @param buffer        the array to fill; must hold at least {@code numberOfTicks} values
+     * @param numberOfTicks the number of ticks to generate
+     * @param random        the random source that decides the path
+     * @throws IllegalArgumentException if the buffer is too small or no ticks are requested
+     */
+    void generate(PricePoint candle, double[] buffer, int numberOfTicks, SplittableRandom random);
+
+    /**
+     * Fills a buffer with a candle's ticks, given how busy the candle was.
+     * The default ignores the volume.
+     *
+     * @param candle         the candle the path must match
+     * @param relativeVolume the candle's volume relative to recent candles, see {@link RelativeVolume}
+     * @param buffer         the array to fill; must hold at least {@code numberOfTicks} values
+     * @param numberOfTicks  the number of ticks to generate
+     * @param random         the random source that decides the path
+     * @throws IllegalArgumentException if the buffer is too small or no ticks are requested
+     */
+    default void generate(PricePoint candle, double relativeVolume, double[] buffer, int numberOfTicks,
+                          SplittableRandom random) {
+        generate(candle, buffer, numberOfTicks, random);
+    }
+}
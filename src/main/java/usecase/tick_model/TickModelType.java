@@ -0,0 +1,73 @@
+package usecase.tick_model;
+
+/**
+ * The intra-candle price path models that can be chosen for a simulation.
+ */
+public enum TickModelType {
+    LINEAR("Linear"),
+    BROWNIAN_BRIDGE("Brownian Bridge"),
+    STOCHASTIC_VOLATILITY("Stochastic Volatility"),
+    VOLUME_WEIGHTED("Volume Weighted");
+
+    /** The model a session uses unless another one is chosen. */
+    public static final TickModelType DEFAULT = BROWNIAN_BRIDGE;
+
+    private final String label;
+
+    TickModelType(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the label shown on selection controls.
+     *
+     * @return the display label
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Creates the model. Models are stateless and may be shared.
+     *
+     * @return a new model of this type
+     */
+    public TickModel create() {
+        final TickModel model;
+        switch (this) {
+            case BROWNIAN_BRIDGE:
+                model = new BrownianBridgeTickModel();
+                break;
+            case STOCHASTIC_VOLATILITY:
+                model = new StochasticVolatilityTickModel();
+                break;
+            case VOLUME_WEIGHTED:
+                model = new VolumeWeightedTickModel();
+                break;
+            default:
+                model = new LinearTickModel();
+                break;
+        }
+        return model;
+    }
+
+    /**
+     * Returns the type with the given label.
+     *
+     * @param label a label returned by {@link #getLabel()}
+     * @return the matching type
+     * @throws IllegalArgumentException if no type has that label
+     */
+    public static TickModelType fromLabel(String label) {
+        TickModelType match = null;
+        for (TickModelType type : values()) {
+            if (type.label.equals(label)) {
+                match = type;
+            }
+        }
+        if (match == null) {
+            throw new IllegalArgumentException("Unknown price path model: " + label);
+        }
+        return match;
+    }
+}
@@ -0,0 +1,24 @@
+package usecase.tick_model;
+
+/**
+ * Checks shared by the tick models.
+ */
+final class TickPaths {
+
+    private TickPaths() {
+    }
+
+    /**
+     * Rejects requests the buffer cannot hold.
+     *
+     * @param buffer        the buffer to fill
+     * @param numberOfTicks the number of ticks requested
+     * @throws IllegalArgumentException if no ticks are requested or the buffer is too small
+     */
+    static void checkBuffer(double[] buffer, int numberOfTicks) {
+        if (numberOfTicks < 1 || buffer.length < numberOfTicks) {
+            throw new IllegalArgumentException("Tick buffer of " + buffer.length
+                    + " cannot hold " + numberOfTicks + " ticks");
+        }
+    }
+}
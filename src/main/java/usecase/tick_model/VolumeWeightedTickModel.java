@@ -0,0 +1,22 @@
+package usecase.tick_model;
+
+/**
+ * A Brownian bridge path whose volatility follows the candle's volume. Per
+ * tick variance grows in proportion to the candle's volume relative to the
+ * candles before it, as when price moves come from trades and a busy candle
+ * simply has more of them. A busy candle therefore swings back and forth
+ * across its range more than a quiet one with the same open, high, low and
+ * close.
+ */
+public class VolumeWeightedTickModel extends BrownianBridgeTickModel {
+
+    // Beyond these, a volume spike or lull would only pin the path to its anchors or its extremes
+    private static final double MIN_RELATIVE_VOLUME = 0.25;
+    private static final double MAX_RELATIVE_VOLUME = 4.0;
+
+    @Override
+    protected double volatilityScale(double relativeVolume) {
+        final double clamped = Math.max(MIN_RELATIVE_VOLUME, Math.min(MAX_RELATIVE_VOLUME, relativeVolume));
+        return Math.sqrt(clamped);
+    }
+}
@@ -0,0 +1,106 @@
+package usecase.update_market;
+
+/**
+ * Fixed-capacity ring buffer of primitive doubles. Once full, every add
+ * overwrites the oldest value, so memory and per-add cost stay constant
+ * however long the simulation runs.
+ *
+ * <p>Not thread-safe; the simulation thread owns it and hands other threads
+ * detached arrays from {@link #window(int, int)}.</p>
+ */
+public class DoubleRingBuffer {
+
+    private final double[] values;
+    private int start;
+    private int size;
+
+    /**
+     * Creates an empty buffer.
+     *
+     * @param capacity the maximum number of values retained
+     * @throws IllegalArgumentException if capacity is not positive
+     */
+    public DoubleRingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.values = new double[capacity];
+    }
+
+    /**
+     * Appends a value, evicting the oldest one if the buffer is full.
+     *
+     * @param value the value to append
+     */
+    public void add(double value) {
+        if (size < values.length) {
+            values[(start + size) % values.length] = value;
+            size++;
+        }
+        else {
+            values[start] = value;
+            start = (start + 1) % values.length;
+        }
+    }
+
+    /**
+     * Returns a retained value by age.
+     *
+     * @param index 0 for the oldest retained value, {@code size() - 1} for the newest
+     * @return the value at that position
+     * @throws IndexOutOfBoundsException if the index is outside the retained range
+     */
+    public double get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " outside size " + size);
+        }
+        return values[(start + index) % values.length];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return values.length;
+    }
+
+    /**
+     * Discards all values.
+     */
+    public void clear() {
+        start = 0;
+        size = 0;
+    }
+
+    /**
+     * Returns the most recent values, decimated to at most {@code maxPoints}
+     * samples. Each sample is the last value of an equal-width bucket, so the
+     * newest value is always included and buffers of equal size decimated with
+     * the same arguments stay aligned index for index. The cost depends only on
+     * {@code maxPoints}, not on how many values are retained.
+     *
+     * @param windowSize how many of the newest values to cover
+     * @param maxPoints  the maximum number of samples to return
+     * @return a new array, oldest sample first
+     */
+    public double[] window(int windowSize, int maxPoints) {
+        final int count = Math.min(windowSize, size);
+        final int first = size - count;
+        final double[] result;
+        if (count <= maxPoints) {
+            result = new double[count];
+            for (int i = 0; i < count; i++) {
+                result[i] = get(first + i);
+            }
+        }
+        else {
+            result = new double[maxPoints];
+            for (int i = 0; i < maxPoints; i++) {
+                final int bucketEnd = (int) ((long) (i + 1) * count / maxPoints) - 1;
+                result[i] = get(first + bucketEnd);
+            }
+        }
+        return result;
+    }
+}
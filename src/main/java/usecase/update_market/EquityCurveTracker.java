@@ -0,0 +1,216 @@
+package usecase.update_market;
+
+/**
+ * Follows the equity curve of a running simulation and keeps its drawdown
+ * statistics current.
+ *
+ * <p>Every update only compares the new equity with the running peak, so the
+ * maximum peak-to-trough drawdown, the longest drawdown and the time spent
+ * under water are exact however long the session runs, at constant cost per
+ * tick. The curve itself is kept for display as one sample per
+ * {@code sampleTicks} ticks in a bounded ring buffer; the statistics do not
+ * depend on it.</p>
+ *
+ * <p>Time is counted in ticks, which are simulated seconds. Not thread-safe;
+ * the simulation thread owns it.</p>
+ */
+public class EquityCurveTracker {
+
+    // A batch run reads only the statistics, so the curve keeps its latest sample
+    private static final int STATISTICS_ONLY_CAPACITY = 1;
+
+    private final DoubleRingBuffer samples;
+    private final int sampleTicks;
+    private int ticksUntilSample;
+    private double peak = Double.NEGATIVE_INFINITY;
+    private double maxDrawdown;
+    private long drawdownTicks;
+    private long longestDrawdownTicks;
+    private long underwaterTicks;
+    private long trackedTicks;
+
+    /**
+     * Creates a tracker that has not seen any equity yet.
+     *
+     * @param sampleTicks how many ticks each curve sample stands for
+     * @param capacity    the maximum number of curve samples retained
+     * @throws IllegalArgumentException if either argument is not positive
+     */
+    public EquityCurveTracker(int sampleTicks, int capacity) {
+        if (sampleTicks < 1) {
+            throw new IllegalArgumentException("Sample interval must be positive: " + sampleTicks);
+        }
+        this.samples = new DoubleRingBuffer(capacity);
+        this.sampleTicks = sampleTicks;
+    }
+
+    /**
+     * Creates a tracker for a run nobody charts, such as one path of a batch
+     * replay. It keeps the drawdown statistics but not the curve.
+     *
+     * @param initialEquity the equity the run starts from, its first peak
+     * @return a tracker positioned at the start of the run
+     */
+    public static EquityCurveTracker forStatistics(double initialEquity) {
+        final EquityCurveTracker tracker = new EquityCurveTracker(Integer.MAX_VALUE, STATISTICS_ONLY_CAPACITY);
+        tracker.update(initialEquity, 0);
+        return tracker;
+    }
+
+    /**
+     * Records the equity reached after some ticks. An update with zero ticks
+     * corrects the equity of the current moment, for example after a trade,
+     * without adding time.
+     *
+     * @param equity the current total equity
+     * @param ticks  the ticks elapsed since the previous update
+     */
+    public void update(double equity, int ticks) {
+        if (equity >= peak) {
+            peak = equity;
+            drawdownTicks = 0;
+        }
+        else {
+            if (peak > 0) {
+                maxDrawdown = Math.max(maxDrawdown, (peak - equity) / peak);
+            }
+            drawdownTicks += ticks;
+            underwaterTicks += ticks;
+            longestDrawdownTicks = Math.max(longestDrawdownTicks, drawdownTicks);
+        }
+        trackedTicks += ticks;
+
+        ticksUntilSample -= ticks;
+        if (ticksUntilSample <= 0) {
+            samples.add(equity);
+            ticksUntilSample += sampleTicks;
+            if (ticksUntilSample <= 0) {
+                // A long jump stands for several samples; only the latest is kept
+                ticksUntilSample = sampleTicks;
+            }
+        }
+    }
+
+    /**
+     * Returns the highest equity seen.
+     *
+     * @return the peak, or negative infinity before the first update
+     */
+    public double getPeak() {
+        return peak;
+    }
+
+    /**
+     * Returns the largest fall from a running peak, as a fraction of that peak.
+     *
+     * @return the maximum drawdown between 0 and 1
+     */
+    public double getMaxDrawdown() {
+        return maxDrawdown;
+    }
+
+    /**
+     * Returns the longest time spent below a previous peak, including a
+     * drawdown that has not recovered yet.
+     *
+     * @return the longest drawdown in ticks
+     */
+    public long getLongestDrawdownTicks() {
+        return longestDrawdownTicks;
+    }
+
+    /**
+     * Returns how long the equity has been below its peak right now.
+     *
+     * @return the current drawdown in ticks, or 0 at a new peak
+     */
+    public long getDrawdownTicks() {
+        return drawdownTicks;
+    }
+
+    /**
+     * Returns the total time spent below a previous peak.
+     *
+     * @return the time under water in ticks
+     */
+    public long getUnderwaterTicks() {
+        return underwaterTicks;
+    }
+
+    /**
+     * Returns the total time tracked.
+     *
+     * @return the tracked time in ticks
+     */
+    public long getTrackedTicks() {
+        return trackedTicks;
+    }
+
+    /**
+     * Returns the share of the tracked time spent below a previous peak.
+     *
+     * @return a fraction between 0 and 1
+     */
+    public double getUnderwaterRatio() {
+        double ratio = 0.0;
+        if (trackedTicks > 0) {
+            ratio = (double) underwaterTicks / trackedTicks;
+        }
+        return ratio;
+    }
+
+    /**
+     * Returns the retained curve, decimated for display.
+     *
+     * @param maxPoints the maximum number of samples to return
+     * @return a new array, oldest sample first
+     */
+    public double[] curve(int maxPoints) {
+        return samples.window(samples.capacity(), maxPoints);
+    }
+
+    /**
+     * Captures the statistics and all retained samples.
+     *
+     * @return a detached copy of the tracker's state
+     */
+    public SimulationCheckpoint.EquityCurveState snapshot() {
+        return new SimulationCheckpoint.EquityCurveState(peak, maxDrawdown, drawdownTicks, longestDrawdownTicks,
+                underwaterTicks, trackedTicks, ticksUntilSample, samples.window(samples.capacity(),
+                samples.capacity()));
+    }
+
+    /**
+     * Replaces the state with a snapshot. Samples beyond this tracker's
+     * capacity are dropped, oldest first.
+     *
+     * @param state the state to restore
+     */
+    public void restore(SimulationCheckpoint.EquityCurveState state) {
+        peak = state.getPeak();
+        maxDrawdown = state.getMaxDrawdown();
+        drawdownTicks = state.getDrawdownTicks();
+        longestDrawdownTicks = state.getLongestDrawdownTicks();
+        underwaterTicks = state.getUnderwaterTicks();
+        trackedTicks = state.getTrackedTicks();
+        ticksUntilSample = state.getTicksUntilSample();
+        samples.clear();
+        for (double sample : state.getSamples()) {
+            samples.add(sample);
+        }
+    }
+
+    /**
+     * Forgets everything seen so far.
+     */
+    public void clear() {
+        peak = Double.NEGATIVE_INFINITY;
+        maxDrawdown = 0.0;
+        drawdownTicks = 0;
+        longestDrawdownTicks = 0;
+        underwaterTicks = 0;
+        trackedTicks = 0;
+        ticksUntilSample = 0;
+        samples.clear();
+    }
+}
@@ -0,0 +1,250 @@
+package usecase.update_market;
+
+import java.util.List;
+
+import entity.AccountSnapshot;
+import entity.PricePoint;
+import entity.SimulatedOrder;
+import usecase.indicator.IndicatorType;
+import usecase.tick_model.TickModelType;
+
+/**
+ * Everything needed to resume a simulation exactly where it was saved: the
+ * account, the equity curve, resting orders, each ticker's candles and replay
+ * position, the seed, the price path model and the chart history.
+ *
+ * <p>Tick paths are not stored. Every candle's ticks come from their own
+ * random stream derived from the seed, so with the saved model the ticks of
+ * the candle in progress are regenerated identically on restore. Strategies are not part of a
+ * checkpoint; they are added again by whoever resumes the session.</p>
+ */
+public final class SimulationCheckpoint {
+
+    private final long seed;
+    private final TickModelType tickModel;
+    private final long ticksProcessed;
+    private final long skippedCandles;
+    private final double lastPrice;
+    private final double lastEquity;
+    private final AccountSnapshot account;
+    private final EquityCurveState equityCurve;
+    private final List<SimulatedOrder> openOrders;
+    private final List<IndicatorType> indicators;
+    private final List<FeedState> feeds;
+    private final double[] chartTicks;
+    private final double[] chartVolumes;
+
+    /**
+     * Creates a checkpoint. Lists are copied; arrays are kept as given.
+     *
+     * @param seed           the seed the tick paths are derived from
+     * @param tickModel      the model the tick paths are generated with
+     * @param ticksProcessed the number of ticks simulated so far
+     * @param skippedCandles the number of candles fast-forwarded so far
+     * @param lastPrice      the latest price of the primary ticker
+     * @param lastEquity     the latest total equity
+     * @param account        the account state
+     * @param equityCurve    the equity curve and its drawdown statistics, or null if not recorded
+     * @param openOrders     the resting orders, oldest first
+     * @param indicators     the selected indicators, in display order
+     * @param feeds          the replay state of every ticker, primary first
+     * @param chartTicks     the retained chart prices, oldest first
+     * @param chartVolumes   the retained chart volumes, aligned with the prices
+     */
+    public SimulationCheckpoint(long seed, TickModelType tickModel, long ticksProcessed, long skippedCandles,
+                                double lastPrice, double lastEquity, AccountSnapshot account,
+                                EquityCurveState equityCurve, List<SimulatedOrder> openOrders,
+                                List<IndicatorType> indicators, List<FeedState> feeds, double[] chartTicks,
+                                double[] chartVolumes) {
+        this.seed = seed;
+        this.tickModel = tickModel;
+        this.ticksProcessed = ticksProcessed;
+        this.skippedCandles = skippedCandles;
+        this.lastPrice = lastPrice;
+        this.lastEquity = lastEquity;
+        this.account = account;
+        this.equityCurve = equityCurve;
+        this.openOrders = List.copyOf(openOrders);
+        this.indicators = List.copyOf(indicators);
+        this.feeds = List.copyOf(feeds);
+        this.chartTicks = chartTicks;
+        this.chartVolumes = chartVolumes;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public TickModelType getTickModel() {
+        return tickModel;
+    }
+
+    public long getTicksProcessed() {
+        return ticksProcessed;
+    }
+
+    public long getSkippedCandles() {
+        return skippedCandles;
+    }
+
+    public double getLastPrice() {
+        return lastPrice;
+    }
+
+    public double getLastEquity() {
+        return lastEquity;
+    }
+
+    public AccountSnapshot getAccount() {
+        return account;
+    }
+
+    /**
+     * Returns the equity curve state. Checkpoints written before the curve
+     * was tracked have none.
+     *
+     * @return the equity curve state, or null
+     */
+    public EquityCurveState getEquityCurve() {
+        return equityCurve;
+    }
+
+    public List<SimulatedOrder> getOpenOrders() {
+        return openOrders;
+    }
+
+    public List<IndicatorType> getIndicators() {
+        return indicators;
+    }
+
+    public List<FeedState> getFeeds() {
+        return feeds;
+    }
+
+    public double[] getChartTicks() {
+        return chartTicks;
+    }
+
+    public double[] getChartVolumes() {
+        return chartVolumes;
+    }
+
+    /**
+     * Replay state of one ticker.
+     */
+    public static final class FeedState {
+        private final String ticker;
+        private final List<PricePoint> candles;
+        private final int candleIndex;
+        private final int tickIndex;
+        private final double lastPrice;
+
+        /**
+         * Creates the state of one ticker.
+         *
+         * @param ticker      the ticker symbol
+         * @param candles     the loaded candles, oldest first; empty if none were loaded
+         * @param candleIndex the candle being replayed
+         * @param tickIndex   the next tick within that candle
+         * @param lastPrice   the ticker's latest published price, or NaN if none
+         */
+        public FeedState(String ticker, List<PricePoint> candles, int candleIndex, int tickIndex,
+                         double lastPrice) {
+            this.ticker = ticker;
+            this.candles = List.copyOf(candles);
+            this.candleIndex = candleIndex;
+            this.tickIndex = tickIndex;
+            this.lastPrice = lastPrice;
+        }
+
+        public String getTicker() {
+            return ticker;
+        }
+
+        public List<PricePoint> getCandles() {
+            return candles;
+        }
+
+        public int getCandleIndex() {
+            return candleIndex;
+        }
+
+        public int getTickIndex() {
+            return tickIndex;
+        }
+
+        public double getLastPrice() {
+            return lastPrice;
+        }
+    }
+
+    /**
+     * Drawdown statistics and retained samples of the equity curve.
+     */
+    public static final class EquityCurveState {
+        private final double peak;
+        private final double maxDrawdown;
+        private final long drawdownTicks;
+        private final long longestDrawdownTicks;
+        private final long underwaterTicks;
+        private final long trackedTicks;
+        private final int ticksUntilSample;
+        private final double[] samples;
+
+        /**
+         * Creates the state of an equity curve. The array is kept as given.
+         *
+         * @param peak                 the highest equity seen
+         * @param maxDrawdown          the largest fall from a peak, as a fraction of it
+         * @param drawdownTicks        the ticks spent below the peak right now
+         * @param longestDrawdownTicks the longest stretch of ticks below a peak
+         * @param underwaterTicks      the total ticks spent below a peak
+         * @param trackedTicks         the total ticks tracked
+         * @param ticksUntilSample     the ticks left until the next curve sample
+         * @param samples              the retained curve samples, oldest first
+         */
+        public EquityCurveState(double peak, double maxDrawdown, long drawdownTicks, long longestDrawdownTicks,
+                                long underwaterTicks, long trackedTicks, int ticksUntilSample, double[] samples) {
+            this.peak = peak;
+            this.maxDrawdown = maxDrawdown;
+            this.drawdownTicks = drawdownTicks;
+            this.longestDrawdownTicks = longestDrawdownTicks;
+            this.underwaterTicks = underwaterTicks;
+            this.trackedTicks = trackedTicks;
+            this.ticksUntilSample = ticksUntilSample;
+            this.samples = samples;
+        }
+
+        public double getPeak() {
+            return peak;
+        }
+
+        public double getMaxDrawdown() {
+            return maxDrawdown;
+        }
+
+        public long getDrawdownTicks() {
+            return drawdownTicks;
+        }
+
+        public long getLongestDrawdownTicks() {
+            return longestDrawdownTicks;
+        }
+
+        public long getUnderwaterTicks() {
+            return underwaterTicks;
+        }
+
+        public long getTrackedTicks() {
+            return trackedTicks;
+        }
+
+        public int getTicksUntilSample() {
+            return ticksUntilSample;
+        }
+
+        public double[] getSamples() {
+            return samples;
+        }
+    }
+}
@@ -0,0 +1,216 @@
+package usecase.update_market;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import entity.PricePoint;
+import usecase.simulated_trade.SimulationDataAccessInterface;
+import usecase.simulated_trade.SimulationSeed;
+
+/**
+ * Generates the ticks of upcoming candles on a background thread, so the
+ * simulation thread only picks up finished buffers at candle boundaries.
+ *
+ * <p>A fixed set of buffers circulates between two bounded queues: the
+ * producer takes a free buffer, fills it with the next candle's ticks and
+ * puts it on the ready queue; the consumer takes it from there and hands the
+ * previous one back. The producer therefore runs at most {@code depth}
+ * candles ahead and nothing is allocated once it is running. Every candle's
+ * ticks come from their own seeded stream, so prefetched ticks are identical
+ * to ticks generated on demand.</p>
+ *
+ * <p>{@link #take(int)} is called only by the simulation thread;
+ * {@link #stop()} may be called from any thread. Starting and stopping the
+ * producer happen under one lock, and a stopped prefetcher never starts
+ * again, so no producer outlives {@code stop()} and {@code take()} falls
+ * back to generating on the calling thread instead of waiting.</p>
+ */
+final class TickPrefetcher {
+
+    // One buffer in use by the consumer and one being filled by the producer
+    private static final int BUFFERS_IN_FLIGHT = 2;
+    private static final long WAIT_MILLIS = 10;
+
+    private final SimulationDataAccessInterface dataAccess;
+    private final String ticker;
+    private final List<PricePoint> candles;
+    private final long seed;
+    private final int ticksPerCandle;
+    private final BlockingQueue<PreparedCandle> ready;
+    private final BlockingQueue<double[]> free;
+    // Guards producer and stopped
+    private final Object lifecycle = new Object();
+    private Thread producer;
+    private boolean stopped;
+    private double[] current;
+
+    /**
+     * Creates a prefetcher. Nothing is generated until {@link #start(int)}.
+     *
+     * @param dataAccess     the source of ticks; must allow generation from another thread
+     * @param ticker         the ticker, part of every candle's random stream
+     * @param candles        the candles, oldest first
+     * @param seed           the simulation seed
+     * @param ticksPerCandle the number of ticks per candle
+     * @param depth          how many candles may be prepared ahead of the consumer
+     */
+    TickPrefetcher(SimulationDataAccessInterface dataAccess, String ticker, List<PricePoint> candles, long seed,
+                   int ticksPerCandle, int depth) {
+        this.dataAccess = dataAccess;
+        this.ticker = ticker;
+        this.candles = candles;
+        this.seed = seed;
+        this.ticksPerCandle = ticksPerCandle;
+        this.ready = new ArrayBlockingQueue<>(depth);
+        this.free = new ArrayBlockingQueue<>(depth + BUFFERS_IN_FLIGHT);
+        for (int i = 0; i < depth + BUFFERS_IN_FLIGHT; i++) {
+            free.add(new double[ticksPerCandle]);
+        }
+    }
+
+    /**
+     * Starts preparing candles from the given one onwards, discarding any
+     * prepared earlier. Does nothing once the prefetcher has been stopped.
+     *
+     * @param fromCandle the first candle to prepare
+     */
+    void start(int fromCandle) {
+        synchronized (lifecycle) {
+            if (!stopped) {
+                haltProducer();
+                PreparedCandle stale = ready.poll();
+                while (stale != null) {
+                    free.add(stale.ticks);
+                    stale = ready.poll();
+                }
+                final Thread thread = new Thread(() -> produce(fromCandle), "tick-prefetch-" + ticker);
+                thread.setDaemon(true);
+                producer = thread;
+                thread.start();
+            }
+        }
+    }
+
+    /**
+     * Stops the background thread for good and waits for it to exit.
+     */
+    void stop() {
+        synchronized (lifecycle) {
+            stopped = true;
+            haltProducer();
+        }
+    }
+
+    /**
+     * Returns the ticks of a candle, waiting only if the producer has not
+     * caught up yet. Candles prepared before it, for example ones that were
+     * fast-forwarded, are recycled unread. Once the pipeline is stopped the
+     * ticks are generated on the calling thread. The previously returned
+     * buffer is handed back to the producer, so it must no longer be read.
+     *
+     * @param candleIndex the candle about to be replayed
+     * @return the candle's ticks
+     */
+    double[] take(int candleIndex) {
+        if (current != null) {
+            free.add(current);
+            current = null;
+        }
+        PreparedCandle next = null;
+        try {
+            // Poll rather than block, so a pipeline stopped from another thread is noticed
+            while (next == null && isRunning()) {
+                next = ready.poll(WAIT_MILLIS, TimeUnit.MILLISECONDS);
+                if (next != null && next.candleIndex != candleIndex) {
+                    free.add(next.ticks);
+                    if (next.candleIndex > candleIndex) {
+                        // The consumer moved backwards; start over from where it is now
+                        start(candleIndex);
+                    }
+                    next = null;
+                }
+            }
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (next != null) {
+            current = next.ticks;
+        }
+        else {
+            // The pipeline was stopped; finish without it
+            current = free.remove();
+            generate(candleIndex, current);
+        }
+        return current;
+    }
+
+    private boolean isRunning() {
+        synchronized (lifecycle) {
+            return producer != null;
+        }
+    }
+
+    /**
+     * Interrupts the producer and waits for it to exit. Called with the
+     * lifecycle lock held; the producer never takes it, so the join cannot
+     * deadlock.
+     */
+    private void haltProducer() {
+        final Thread running = producer;
+        if (running != null) {
+            producer = null;
+            running.interrupt();
+            boolean interrupted = false;
+            while (running.isAlive()) {
+                try {
+                    running.join();
+                }
+                catch (InterruptedException ex) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private void produce(int fromCandle) {
+        double[] held = null;
+        try {
+            for (int i = fromCandle; i < candles.size(); i++) {
+                held = free.take();
+                generate(i, held);
+                ready.put(new PreparedCandle(i, held));
+                held = null;
+            }
+        }
+        catch (InterruptedException ex) {
+            if (held != null) {
+                free.add(held);
+            }
+        }
+    }
+
+    private void generate(int candleIndex, double[] buffer) {
+        dataAccess.generateTicks(candles, candleIndex, buffer, ticksPerCandle,
+                SimulationSeed.candleStream(seed, ticker, candleIndex));
+    }
+
+    /**
+     * A filled buffer and the candle it belongs to.
+     */
+    private static final class PreparedCandle {
+        private final int candleIndex;
+        private final double[] ticks;
+
+        PreparedCandle(int candleIndex, double[] ticks) {
+            this.candleIndex = candleIndex;
+            this.ticks = ticks;
+        }
+    }
+}
@@ -0,0 +1,264 @@
+package usecase.update_market;
+
+import java.util.List;
+
+import entity.PricePoint;
+import entity.SymbolRegistry;
+import usecase.simulated_trade.SimulationDataAccessInterface;
+import usecase.simulated_trade.SimulationSeed;
+
+/**
+ * Replay state of one simulated ticker: its candles, the ticks of the current
+ * candle and the position within them. All feeds advance on the same clock,
+ * one tick per simulated second. A candle's ticks are generated when its first
+ * tick is read, so candles that are skipped whole never pay for generation,
+ * unless prefetching is on, in which case a {@link TickPrefetcher} prepares
+ * them ahead on a background thread.
+ */
+class TickerFeed {
+
+    private final String ticker;
+    private final int slot;
+    private final int symbolId;
+    private final int ticksInCandle;
+    private double[] tickBuffer;
+
+    private SimulationDataAccessInterface dataAccess;
+    private List<PricePoint> candles;
+    private long seed;
+    private boolean ticksReady;
+    private int candleIndex;
+    private int tickIndex;
+    private int prefetchDepth;
+    private volatile TickPrefetcher prefetcher;
+
+    /**
+     * Creates a feed for a ticker.
+     *
+     * @param ticker         the ticker symbol
+     * @param slot           the ticker's slot on the price board
+     * @param ticksPerCandle the number of ticks generated per candle
+     */
+    TickerFeed(String ticker, int slot, int ticksPerCandle) {
+        this.ticker = ticker;
+        this.slot = slot;
+        this.symbolId = SymbolRegistry.shared().idOf(ticker);
+        this.tickBuffer = new double[ticksPerCandle];
+        this.ticksInCandle = ticksPerCandle;
+    }
+
+    /**
+     * Sets how many upcoming candles are generated ahead on a background
+     * thread. Takes effect at the next load or restore.
+     *
+     * @param depth the number of candles to prepare ahead, or 0 to generate on demand
+     */
+    void setPrefetchDepth(int depth) {
+        this.prefetchDepth = depth;
+    }
+
+    /**
+     * Stops background generation, if any. Safe to call from any thread; the
+     * feed keeps working and generates remaining candles on demand.
+     */
+    void close() {
+        final TickPrefetcher running = prefetcher;
+        if (running != null) {
+            running.stop();
+        }
+    }
+
+    /**
+     * Loads the ticker's history.
+     *
+     * @param dataAccess the source of candles and ticks
+     * @param simulationSeed the seed every candle's random stream is derived from
+     * @return true if any history was found
+     */
+    boolean load(SimulationDataAccessInterface dataAccess, long simulationSeed) {
+        this.dataAccess = dataAccess;
+        seed = simulationSeed;
+        candles = dataAccess.loadHistory(ticker);
+        candleIndex = 0;
+        tickIndex = 0;
+        ticksReady = false;
+        startPrefetch();
+        return candles != null && !candles.isEmpty();
+    }
+
+    /**
+     * Resumes the feed at a saved position without loading anything. The
+     * current candle's ticks are regenerated from its random stream when the
+     * next tick is read.
+     *
+     * @param dataAccess     the source of ticks
+     * @param simulationSeed the seed every candle's random stream is derived from
+     * @param savedCandles   the candles, oldest first
+     * @param savedCandle    the candle being replayed
+     * @param savedTick      the next tick within that candle
+     * @throws IllegalArgumentException if the position lies outside the candles
+     */
+    void restore(SimulationDataAccessInterface dataAccess, long simulationSeed, List<PricePoint> savedCandles,
+                 int savedCandle, int savedTick) {
+        if (!isValidPosition(savedCandles, savedCandle, savedTick)) {
+            throw new IllegalArgumentException("Saved position of " + ticker + " is outside its candles.");
+        }
+        this.dataAccess = dataAccess;
+        seed = simulationSeed;
+        candles = savedCandles;
+        candleIndex = savedCandle;
+        tickIndex = savedTick;
+        ticksReady = false;
+        startPrefetch();
+    }
+
+    private void startPrefetch() {
+        close();
+        prefetcher = null;
+        if (prefetchDepth > 0 && candles != null && candleIndex < candles.size()) {
+            prefetcher = new TickPrefetcher(dataAccess, ticker, candles, seed, ticksInCandle, prefetchDepth);
+            prefetcher.start(candleIndex);
+        }
+    }
+
+    /**
+     * Returns whether a saved position can be resumed over the given candles.
+     *
+     * @param savedCandles the candles, oldest first
+     * @param savedCandle  the candle being replayed
+     * @param savedTick    the next tick within that candle
+     * @return true if the position is a tick of one of the candles, or the end of the history
+     */
+    boolean isValidPosition(List<PricePoint> savedCandles, int savedCandle, int savedTick) {
+        final boolean inCandle = savedCandle >= 0 && savedCandle < savedCandles.size()
+                && savedTick >= 0 && savedTick < ticksInCandle;
+        return inCandle || savedCandle == savedCandles.size() && savedTick == 0;
+    }
+
+    boolean isFinished() {
+        return candles == null || candleIndex >= candles.size();
+    }
+
+    /**
+     * Returns the current tick's price without advancing.
+     *
+     * @return the current price
+     */
+    double currentPrice() {
+        if (!ticksReady) {
+            fillCandleTicks();
+        }
+        return tickBuffer[tickIndex];
+    }
+
+    /**
+     * Returns whether no tick of the current candle has been replayed yet.
+     *
+     * @return true at a candle boundary
+     */
+    boolean isAtCandleStart() {
+        return tickIndex == 0;
+    }
+
+    /**
+     * Returns the candle being replayed.
+     *
+     * @return the current candle
+     */
+    PricePoint currentCandle() {
+        return candles.get(candleIndex);
+    }
+
+    /**
+     * Skips the whole current candle without generating its ticks. Later
+     * candles replay exactly as they would have, because each candle's ticks
+     * come from their own random stream.
+     *
+     * @return the skipped candle
+     */
+    PricePoint skipCandle() {
+        final PricePoint skipped = candles.get(candleIndex);
+        tickIndex = 0;
+        candleIndex++;
+        ticksReady = false;
+        return skipped;
+    }
+
+    /**
+     * Returns the share of the current candle's volume traded in one tick.
+     *
+     * @return the per-tick volume, or 0 if the candle has none
+     */
+    double currentTickVolume() {
+        final Double candleVolume = candles.get(candleIndex).getVolume();
+        double volume = 0.0;
+        if (candleVolume != null && ticksInCandle > 0) {
+            volume = candleVolume / ticksInCandle;
+        }
+        return volume;
+    }
+
+    /**
+     * Moves to the next tick.
+     *
+     * @return the candle that was just completed, or null if it is still in progress
+     */
+    PricePoint advance() {
+        PricePoint completed = null;
+        tickIndex++;
+        if (tickIndex >= ticksInCandle) {
+            completed = skipCandle();
+        }
+        return completed;
+    }
+
+    private void fillCandleTicks() {
+        ticksReady = true;
+        if (prefetcher != null) {
+            tickBuffer = prefetcher.take(candleIndex);
+        }
+        else {
+            dataAccess.generateTicks(candles, candleIndex, tickBuffer, ticksInCandle,
+                    SimulationSeed.candleStream(seed, ticker, candleIndex));
+        }
+    }
+
+    String getTicker() {
+        return ticker;
+    }
+
+    int getSlot() {
+        return slot;
+    }
+
+    int getSymbolId() {
+        return symbolId;
+    }
+
+    /**
+     * Returns the loaded candles.
+     *
+     * @return the candles, oldest first; empty if nothing is loaded
+     */
+    List<PricePoint> getCandles() {
+        if (candles == null) {
+            return List.of();
+        }
+        return candles;
+    }
+
+    int getCandleIndex() {
+        return candleIndex;
+    }
+
+    int getTickIndex() {
+        return tickIndex;
+    }
+
+    int getCandleCount() {
+        if (candles == null) {
+            return 0;
+        }
+        return candles.size();
+    }
+}
@@ -1,5 +1,9 @@
 package usecase.update_market;
 
+import java.util.List;
+
+import usecase.indicator.IndicatorType;
+
 /**
  * Input boundary for triggering simulated market update ticks.
  *
@@ -8,8 +12,49 @@ package usecase.update_market;
  */
 public interface UpdateMarketInputBoundary {
 
+    /**
+     * Loads the historical candles of every simulated ticker.
+     */
+    void loadData();
+
     /**
      * Executes a single simulated market tick update.
      */
     void executeExecuteTick();
+
+    /**
+     * Advances the simulation by several ticks and presents only the final state.
+     * Used by callers that run faster than the display can refresh.
+     *
+     * @param count the number of ticks to advance
+     */
+    void executeTicks(int count);
+
+    /**
+     * Returns whether the loaded history has been fully replayed (or failed to load).
+     *
+     * @return true when no further ticks can be produced
+     */
+    boolean isFinished();
+
+    /**
+     * Returns how many ticks per wall-clock second the chosen speed calls for.
+     *
+     * @return the target tick rate, or positive infinity to run as fast as possible
+     */
+    double getTicksPerSecond();
+
+    /**
+     * Stops any background work started by the simulation. The default does
+     * nothing, for simulations that run entirely on the calling thread.
+     */
+    default void shutdown() {
+    }
+
+    /**
+     * Replaces the set of indicators computed on every tick.
+     *
+     * @param indicators the indicator types to track, in display order
+     */
+    void selectIndicators(List<IndicatorType> indicators);
 }
@@ -1,91 +1,609 @@
 package usecase.update_market;
 
 import entity.Account;
+import entity.OrderBook;
+import entity.PriceBoard;
 import entity.PricePoint;
 import entity.Position;
+import entity.SimulatedOrder;
+import usecase.indicator.Indicator;
+import usecase.indicator.IndicatorSet;
+import usecase.indicator.IndicatorType;
+import usecase.simulated_trade.RestingOrderMatcher;
 import usecase.simulated_trade.SimulationDataAccessInterface;
+import usecase.simulated_trade.SimulationSeed;
+import usecase.strategy.StrategyContext;
+import usecase.strategy.StrategyRunner;
+import usecase.strategy.StrategyStats;
+import usecase.strategy.TradingStrategy;
 
-import javax.swing.SwingUtilities;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 public class UpdateMarketInteractor implements UpdateMarketInputBoundary {
 
+    /** Candles are 5-minute bars, replayed as one tick per simulated second. */
+    public static final int CANDLE_SECONDS = 300;
+
+    /** Speed setting that replays as fast as the machine allows. */
+    public static final int UNLIMITED_SPEED = 0;
+
+    // The chart keeps the last two hours of simulated seconds and is drawn with
+    // at most CHART_POINTS samples, so a frame costs the same at any session length.
+    private static final int CHART_CAPACITY = 7200;
+    private static final int CHART_POINTS = 600;
+
+    // Open, first extreme, second extreme, close
+    private static final int SKIP_PATH_POINTS = 4;
+
+    // One equity sample per simulated minute, five trading weeks retained
+    private static final int EQUITY_SAMPLE_SECONDS = 60;
+    private static final int EQUITY_CURVE_CAPACITY = 9750;
+
     private final SimulationDataAccessInterface dataAccess;
     private final UpdateMarketOutputBoundary presenter;
     private final Account account;
     private final String simulationTicker;
 
-    // Simulation State
-    private List<PricePoint> allCandles;
-    private List<Double> currentMinuteTicks;
-    private int candleIndex = 0;
-    private int tickIndex = 0;
+    // Simulation State: every ticker advances on the same clock and publishes
+    // to the board; the first (primary) ticker also drives the chart.
+    private final PriceBoard priceBoard;
+    private final TickerFeed[] feeds;
+    private final TickerFeed primaryFeed;
+    // Per-feed scratch for the current second, reused to keep ticks allocation-free
+    private final boolean[] tickedThisSecond;
+    private final PricePoint[] completedCandles;
+    private StrategyRunner strategyRunner;
+    private RestingOrderMatcher orderMatcher;
     private int currentSpeed = 5;
+    private long seed = SimulationSeed.randomSeed();
+    private double lastPrice;
+    private double lastEquity;
+    private long ticksProcessed;
+    private boolean recordChartHistory = true;
+    private boolean fastForward;
+    private long skippedCandles;
 
-    private final List<Double> historyTicksForChart = new ArrayList<>();
+    private final DoubleRingBuffer historyTicksForChart = new DoubleRingBuffer(CHART_CAPACITY);
+    private final DoubleRingBuffer historyVolumesForChart = new DoubleRingBuffer(CHART_CAPACITY);
+    private final EquityCurveTracker equityCurve = new EquityCurveTracker(EQUITY_SAMPLE_SECONDS,
+            EQUITY_CURVE_CAPACITY);
+
+    // Indicators are updated incrementally on every tick; overlay lines are kept
+    // aligned with historyTicksForChart so the chart can draw them together.
+    private IndicatorSet indicatorSet = new IndicatorSet();
+    private Map<String, DoubleRingBuffer> overlayHistory = new LinkedHashMap<>();
 
     public UpdateMarketInteractor(SimulationDataAccessInterface dataAccess,
                                   UpdateMarketOutputBoundary presenter,
                                   Account account,
                                   String ticker) {
+        this(dataAccess, presenter, account, List.of(ticker));
+    }
+
+    /**
+     * Creates an interactor that simulates several tickers on one clock.
+     *
+     * @param dataAccess the source of candles and ticks
+     * @param presenter  the presenter receiving market updates
+     * @param account    the account whose positions are marked to market
+     * @param tickers    the simulated tickers; the first one is charted
+     * @throws IllegalArgumentException if no ticker is given
+     */
+    public UpdateMarketInteractor(SimulationDataAccessInterface dataAccess,
+                                  UpdateMarketOutputBoundary presenter,
+                                  Account account,
+                                  List<String> tickers) {
+        if (tickers.isEmpty()) {
+            throw new IllegalArgumentException("At least one ticker is required");
+        }
         this.dataAccess = dataAccess;
         this.presenter = presenter;
         this.account = account;
-        this.simulationTicker = ticker;
+        this.simulationTicker = tickers.get(0);
+        this.priceBoard = new PriceBoard(tickers);
+
+        final int ticksPerCandle = calculateTicksPerCandle();
+        this.feeds = new TickerFeed[priceBoard.size()];
+        for (int i = 0; i < feeds.length; i++) {
+            feeds[i] = new TickerFeed(priceBoard.getSymbols().get(i), i, ticksPerCandle);
+        }
+        this.primaryFeed = feeds[0];
+        this.tickedThisSecond = new boolean[feeds.length];
+        this.completedCandles = new PricePoint[feeds.length];
     }
 
     private int calculateTicksPerCandle() {
-        if (currentSpeed < 1) currentSpeed = 1;
-        return 300 / currentSpeed;
+        // One tick per simulated second; speed only changes how fast ticks are played.
+        return CANDLE_SECONDS;
     }
 
+    /**
+     * Sets how many simulated seconds pass per real second.
+     *
+     * @param speed the speed multiplier, or {@link #UNLIMITED_SPEED} to run as fast as possible
+     */
     public void setSpeed(int speed) {
         this.currentSpeed = speed;
     }
 
-    public void loadData(String ticker) {
-        this.allCandles = dataAccess.loadHistory(ticker);
+    /**
+     * Sets the seed the tick paths are derived from. Two runs over the same
+     * history with the same seed produce identical ticks. Must be called
+     * before {@link #loadData()}.
+     *
+     * @param seed the simulation seed
+     */
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Controls whether every tick is kept for the chart. Headless runs turn this
+     * off so memory stays flat no matter how much history is replayed.
+     *
+     * @param recordChartHistory true to keep chart and overlay history
+     */
+    public void setRecordChartHistory(boolean recordChartHistory) {
+        this.recordChartHistory = recordChartHistory;
+    }
+
+    /**
+     * Generates the ticks of upcoming candles on background threads, one per
+     * ticker, instead of on the simulation thread at each candle boundary.
+     * The ticks are identical either way. Must be called before
+     * {@link #loadData()}; {@link #shutdown()} stops the threads.
+     *
+     * @param candlesAhead how many candles each ticker prepares ahead, or 0 to generate on demand
+     */
+    public void setTickPrefetch(int candlesAhead) {
+        for (TickerFeed feed : feeds) {
+            feed.setPrefetchDepth(candlesAhead);
+        }
+    }
+
+    /**
+     * Returns how many ticks have been simulated since the data was loaded.
+     *
+     * @return the number of processed ticks
+     */
+    public long getTicksProcessed() {
+        return ticksProcessed;
+    }
+
+    /**
+     * Enables skipping whole candles in which nothing can happen. A candle is
+     * skipped when, for every ticker, no resting order can trigger and no
+     * strategy wants ticks anywhere between the candle's low and high. Its
+     * ticks are never generated. The account is marked to market along an
+     * open, high/low, close path so drawdown still sees the extremes, and
+     * strategies still receive the completed candle. Indicators and the chart
+     * see only those four points for a skipped candle, so this is meant for
+     * headless runs.
+     *
+     * @param fastForward true to skip uneventful candles
+     */
+    public void setFastForward(boolean fastForward) {
+        this.fastForward = fastForward;
+    }
+
+    /**
+     * Returns how many candle boundaries were crossed by skipping instead of
+     * replaying ticks.
+     *
+     * @return the number of skipped candle steps
+     */
+    public long getSkippedCandles() {
+        return skippedCandles;
+    }
+
+    /**
+     * Returns how many candles were loaded for the primary ticker.
+     *
+     * @return the number of loaded candles, or 0 if nothing is loaded
+     */
+    public int getCandleCount() {
+        return primaryFeed.getCandleCount();
+    }
+
+    /**
+     * Returns the board holding the latest price of every simulated ticker.
+     * It can be read from any thread.
+     *
+     * @return the shared price board
+     */
+    public PriceBoard getPriceBoard() {
+        return priceBoard;
+    }
+
+    /**
+     * Sets the matcher that fills resting limit and stop orders as prices are
+     * published. Orders are matched on every tick of their ticker, before
+     * strategies run.
+     *
+     * @param orderMatcher the matcher, or null to disable resting orders
+     */
+    public void setOrderMatcher(RestingOrderMatcher orderMatcher) {
+        this.orderMatcher = orderMatcher;
+    }
+
+    /**
+     * Adds an automated strategy that is called on every tick and completed
+     * candle, after all prices for that second are on the board. Strategies
+     * run on the simulation thread and trade through the same rules as the
+     * trading screen.
+     *
+     * @param strategy the strategy to run
+     */
+    public void addStrategy(TradingStrategy strategy) {
+        if (strategyRunner == null) {
+            strategyRunner = new StrategyRunner(new StrategyContext(account, priceBoard));
+        }
+        strategyRunner.addStrategy(strategy);
+    }
+
+    /**
+     * Returns the latency statistics of the added strategies.
+     *
+     * @return one entry per strategy, in the order added
+     */
+    public List<StrategyStats> getStrategyStats() {
+        if (strategyRunner == null) {
+            return List.of();
+        }
+        return strategyRunner.getStats();
+    }
+
+    /**
+     * Captures the complete simulation state. Must be called on the simulation
+     * thread; the checkpoint shares nothing mutable with the running engine,
+     * so resting orders are copied.
+     *
+     * @return a checkpoint that {@link #restoreCheckpoint} can resume from
+     */
+    public SimulationCheckpoint createCheckpoint() {
+        final List<SimulationCheckpoint.FeedState> feedStates = new ArrayList<>(feeds.length);
+        for (TickerFeed feed : feeds) {
+            feedStates.add(new SimulationCheckpoint.FeedState(feed.getTicker(), feed.getCandles(),
+                    feed.getCandleIndex(), feed.getTickIndex(), priceBoard.getPrice(feed.getSlot())));
+        }
+        final List<IndicatorType> indicators = new ArrayList<>(indicatorSet.size());
+        for (int i = 0; i < indicatorSet.size(); i++) {
+            indicators.add(indicatorSet.getType(i));
+        }
+        final List<SimulatedOrder> openOrders = new ArrayList<>();
+        if (orderMatcher != null) {
+            for (SimulatedOrder order : orderMatcher.getOrderBook().getOpenOrders()) {
+                openOrders.add(order.copy());
+            }
+        }
+        return new SimulationCheckpoint(seed, dataAccess.getTickModel(), ticksProcessed, skippedCandles,
+                lastPrice, lastEquity, account.snapshot(), equityCurve.snapshot(), openOrders, indicators, feedStates,
+                historyTicksForChart.window(CHART_CAPACITY, CHART_CAPACITY),
+                historyVolumesForChart.window(CHART_CAPACITY, CHART_CAPACITY));
+    }
+
+    /**
+     * Resumes the simulation from a checkpoint without loading any data, then
+     * presents the restored state. The checkpoint must simulate the same
+     * tickers in the same order. Ticks are generated with the checkpoint's
+     * price path model from here on. Indicators are warmed up again over the
+     * restored chart history. Strategies keep their own state and are not
+     * affected.
+     *
+     * @param checkpoint the state to resume
+     * @throws IllegalArgumentException if the checkpoint does not fit this simulation
+     */
+    public void restoreCheckpoint(SimulationCheckpoint checkpoint) {
+        final List<String> savedTickers = new ArrayList<>();
+        for (SimulationCheckpoint.FeedState state : checkpoint.getFeeds()) {
+            savedTickers.add(state.getTicker());
+        }
+        if (!savedTickers.equals(priceBoard.getSymbols())) {
+            throw new IllegalArgumentException("The saved session simulates " + String.join(", ", savedTickers)
+                    + ", not " + String.join(", ", priceBoard.getSymbols()) + ".");
+        }
+        // Validate every feed before changing any state
+        for (int i = 0; i < feeds.length; i++) {
+            final SimulationCheckpoint.FeedState state = checkpoint.getFeeds().get(i);
+            if (!feeds[i].isValidPosition(state.getCandles(), state.getCandleIndex(), state.getTickIndex())) {
+                throw new IllegalArgumentException("Saved position of " + state.getTicker()
+                        + " is outside its candles.");
+            }
+        }
+        // Before the feeds restart, so prefetched candles use the saved model too
+        dataAccess.setTickModel(checkpoint.getTickModel());
+        for (int i = 0; i < feeds.length; i++) {
+            final SimulationCheckpoint.FeedState state = checkpoint.getFeeds().get(i);
+            feeds[i].restore(dataAccess, checkpoint.getSeed(), state.getCandles(), state.getCandleIndex(),
+                    state.getTickIndex());
+            if (!Double.isNaN(state.getLastPrice())) {
+                priceBoard.update(feeds[i].getSlot(), state.getLastPrice());
+            }
+        }
 
-        if (allCandles != null && !allCandles.isEmpty()) {
-            int ticksNeeded = calculateTicksPerCandle();
-            this.currentMinuteTicks = dataAccess.generateTicks(allCandles.get(0), ticksNeeded);
+        seed = checkpoint.getSeed();
+        ticksProcessed = checkpoint.getTicksProcessed();
+        skippedCandles = checkpoint.getSkippedCandles();
+        lastPrice = checkpoint.getLastPrice();
+        lastEquity = checkpoint.getLastEquity();
+        account.restore(checkpoint.getAccount());
+        account.markPrices(priceBoard);
+        if (checkpoint.getEquityCurve() == null) {
+            equityCurve.clear();
+            equityCurve.update(lastEquity, 0);
+        }
+        else {
+            equityCurve.restore(checkpoint.getEquityCurve());
+        }
+        if (orderMatcher != null) {
+            final OrderBook book = orderMatcher.getOrderBook();
+            book.clear();
+            // Copied, so the same checkpoint can be restored again unchanged
+            for (SimulatedOrder order : checkpoint.getOpenOrders()) {
+                book.add(order.copy());
+            }
+        }
+
+        historyTicksForChart.clear();
+        historyVolumesForChart.clear();
+        final double[] ticks = checkpoint.getChartTicks();
+        final double[] volumes = checkpoint.getChartVolumes();
+        for (int i = 0; i < Math.min(ticks.length, volumes.length); i++) {
+            historyTicksForChart.add(ticks[i]);
+            historyVolumesForChart.add(volumes[i]);
+        }
+        selectIndicators(checkpoint.getIndicators());
+
+        presenter.prepareSuccessView(buildOutputData());
+    }
+
+    @Override
+    public double getTicksPerSecond() {
+        double rate = Math.max(1, currentSpeed);
+        if (currentSpeed == UNLIMITED_SPEED) {
+            rate = Double.POSITIVE_INFINITY;
+        }
+        return rate;
+    }
+
+    @Override
+    public boolean isFinished() {
+        for (TickerFeed feed : feeds) {
+            if (!feed.isFinished()) {
+                return false;
+            }
+        }
+        return true;
+    }
 
-            SwingUtilities.invokeLater(this::executeExecuteTick);
-        } else {
+    @Override
+    public void loadData() {
+        if (!primaryFeed.load(dataAccess, seed)) {
             presenter.prepareFailView("Failed to load historical data. Check API/Network.");
+            return;
+        }
+        for (TickerFeed feed : feeds) {
+            if (feed != primaryFeed && !feed.load(dataAccess, seed)) {
+                presenter.prepareFailView("No historical data for " + feed.getTicker()
+                        + "; it will not be simulated.");
+            }
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        for (TickerFeed feed : feeds) {
+            feed.close();
         }
     }
 
     @Override
     public void executeExecuteTick() {
-        // --- Safety Checks ---
-        if (allCandles == null || allCandles.isEmpty() || candleIndex >= allCandles.size()) {
-            presenter.prepareFailView("Simulation Data Ended");
-            return;
+        executeTicks(1);
+    }
+
+    @Override
+    public void executeTicks(int count) {
+        String error = null;
+        int processed = 0;
+        while (processed < count && error == null) {
+            // --- Safety Checks ---
+            if (isFinished()) {
+                error = "Simulation Data Ended";
+            }
+            else if (fastForward && count - processed >= CANDLE_SECONDS && canSkipCandle()) {
+                skipCandle();
+                processed += CANDLE_SECONDS;
+            }
+            else {
+                advanceOneTick();
+                processed++;
+            }
         }
-        if (currentMinuteTicks == null || tickIndex >= currentMinuteTicks.size()) {
-            presenter.prepareFailView("Tick Data Error");
-            return;
+
+        // Ticks that ran before the batch stopped are still shown
+        if (processed > 0) {
+            presenter.prepareSuccessView(buildOutputData());
+        }
+        if (error != null) {
+            presenter.prepareFailView(error);
+        }
+    }
+
+    private void advanceOneTick() {
+        // Publish this second's price of every ticker, fill resting orders it
+        // reaches, let strategies react, then mark the account to market
+        for (int i = 0; i < feeds.length; i++) {
+            final TickerFeed feed = feeds[i];
+            tickedThisSecond[i] = !feed.isFinished();
+            completedCandles[i] = null;
+            if (tickedThisSecond[i]) {
+                final double price = feed.currentPrice();
+                priceBoard.update(feed.getSlot(), price);
+                if (feed == primaryFeed) {
+                    recordPrimaryTick(price, feed.currentTickVolume());
+                }
+                completedCandles[i] = feed.advance();
+                if (orderMatcher != null) {
+                    orderMatcher.match(feed.getSymbolId(), price);
+                }
+            }
+        }
+        if (strategyRunner != null) {
+            runStrategies();
+        }
+        lastPrice = priceBoard.getPrice(primaryFeed.getSlot());
+        lastEquity = markAccountToMarket();
+        equityCurve.update(lastEquity, 1);
+        ticksProcessed++;
+    }
+
+    /**
+     * Marks the account to the latest price of every ticker. Only the feeds
+     * are visited, so the cost does not grow with the number of positions.
+     */
+    private double markAccountToMarket() {
+        for (TickerFeed feed : feeds) {
+            account.markPrice(feed.getSymbolId(), priceBoard.getPrice(feed.getSlot()));
+        }
+        return account.calculateTotalEquity();
+    }
+
+    private boolean canSkipCandle() {
+        for (TickerFeed feed : feeds) {
+            if (!feed.isFinished()) {
+                if (!feed.isAtCandleStart()) {
+                    return false;
+                }
+                final PricePoint candle = feed.currentCandle();
+                final String ticker = feed.getTicker();
+                if (orderMatcher != null && orderMatcher.mightTrigger(ticker, candle.getLow(), candle.getHigh())
+                        || strategyRunner != null
+                        && strategyRunner.mightActWithin(ticker, candle.getLow(), candle.getHigh())) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces a candle's ticks with its open, extremes and close. Up candles
+     * are assumed to dip first and down candles to rally first, which is the
+     * usual OHLC path convention.
+     */
+    private void skipCandle() {
+        for (int step = 0; step < SKIP_PATH_POINTS; step++) {
+            for (TickerFeed feed : feeds) {
+                if (!feed.isFinished()) {
+                    final double price = skipPathPrice(feed.currentCandle(), step);
+                    priceBoard.update(feed.getSlot(), price);
+                    if (feed == primaryFeed) {
+                        recordPrimaryTick(price, candleVolume(feed.currentCandle()) / SKIP_PATH_POINTS);
+                    }
+                }
+            }
+            lastEquity = markAccountToMarket();
+            equityCurve.update(lastEquity, CANDLE_SECONDS / SKIP_PATH_POINTS);
+        }
+
+        for (int i = 0; i < feeds.length; i++) {
+            tickedThisSecond[i] = false;
+            completedCandles[i] = null;
+            if (!feeds[i].isFinished()) {
+                completedCandles[i] = feeds[i].skipCandle();
+            }
+        }
+        if (strategyRunner != null) {
+            runStrategies();
+            lastEquity = markAccountToMarket();
+            equityCurve.update(lastEquity, 0);
         }
+        lastPrice = priceBoard.getPrice(primaryFeed.getSlot());
+        ticksProcessed += CANDLE_SECONDS;
+        skippedCandles++;
+    }
 
-        double currentPrice = currentMinuteTicks.get(tickIndex);
-        String currentTicker = this.simulationTicker;
+    private static double skipPathPrice(PricePoint candle, int step) {
+        final boolean lowFirst = candle.getClose() >= candle.getOpen();
+        final double price;
+        if (step == 0) {
+            price = candle.getOpen();
+        }
+        else if (step == SKIP_PATH_POINTS - 1) {
+            price = candle.getClose();
+        }
+        else if (step == 1) {
+            price = lowFirst ? candle.getLow() : candle.getHigh();
+        }
+        else {
+            price = lowFirst ? candle.getHigh() : candle.getLow();
+        }
+        return price;
+    }
 
-        // Update Account and Get Equity
-        double currentEquity = account.calculateTotalEquity(currentPrice, currentTicker);
+    private static double candleVolume(PricePoint candle) {
+        double volume = 0.0;
+        if (candle.getVolume() != null) {
+            volume = candle.getVolume();
+        }
+        return volume;
+    }
 
-        // Get Data Needed for Presenter/View
-        Map<String, Position> currentPositions = account.getPositions();
-        historyTicksForChart.add(currentPrice);
+    private void runStrategies() {
+        for (int i = 0; i < feeds.length; i++) {
+            if (tickedThisSecond[i]) {
+                strategyRunner.onTick(feeds[i].getTicker(), priceBoard.getPrice(feeds[i].getSlot()));
+            }
+        }
+        for (int i = 0; i < feeds.length; i++) {
+            if (completedCandles[i] != null) {
+                strategyRunner.onCandle(feeds[i].getTicker(), completedCandles[i]);
+            }
+        }
+    }
 
-        // 3. Package and Send Output Data (13 Arguments total now)
-        UpdateMarketOutputData outputData = new UpdateMarketOutputData(
-                currentPrice,
-                currentEquity,
-                account.getTotalReturnRate(currentEquity),
-                account.getMaxDrawdown(),
+    private void recordPrimaryTick(double price, double volume) {
+        indicatorSet.update(price, volume);
+        if (recordChartHistory) {
+            historyTicksForChart.add(price);
+            historyVolumesForChart.add(volume);
+            recordOverlays();
+        }
+    }
+
+    /**
+     * Packages the current state for the presenter. Everything mutable is copied,
+     * because the presenter may hand the data to another thread while the
+     * simulation keeps running. Chart series are decimated windows, so the copy
+     * is bounded by CHART_POINTS.
+     */
+    private UpdateMarketOutputData buildOutputData() {
+        final Map<String, Position> positionSnapshot = new HashMap<>();
+        for (Map.Entry<String, Position> entry : account.getPositions().entrySet()) {
+            final Position p = entry.getValue();
+            positionSnapshot.put(entry.getKey(),
+                    new Position(p.getTicker(), p.isLong(), p.getQuantity(), p.getAvgPrice()));
+        }
+        final Map<String, double[]> overlaySnapshot = new LinkedHashMap<>();
+        for (Map.Entry<String, DoubleRingBuffer> entry : overlayHistory.entrySet()) {
+            overlaySnapshot.put(entry.getKey(), entry.getValue().window(CHART_CAPACITY, CHART_POINTS));
+        }
+
+        // Package and Send Output Data
+        return new UpdateMarketOutputData(
+                lastPrice,
+                lastEquity,
+                account.getTotalReturnRate(lastEquity),
+                account.getLargestLosingTrade(),
                 account.getBalance(),
 
                 // --- Pass Stats ---
@@ -95,26 +613,69 @@ public class UpdateMarketInteractor implements UpdateMarketInputBoundary {
                 account.getLosingTrades(),
                 account.getWinRate(),
 
-                historyTicksForChart,
-                currentPositions,
+                historyTicksForChart.window(CHART_CAPACITY, CHART_POINTS),
+                positionSnapshot,
                 null, // Error string
-                this.simulationTicker
+                this.simulationTicker,
+                overlaySnapshot,
+                indicatorSet.latestValues(),
+                snapshotPrices(),
+
+                // --- Equity curve ---
+                equityCurve.getMaxDrawdown(),
+                equityCurve.getLongestDrawdownTicks(),
+                equityCurve.getUnderwaterTicks(),
+                equityCurve.getUnderwaterRatio(),
+                equityCurve.curve(CHART_POINTS)
         );
-        presenter.prepareSuccessView(outputData);
+    }
 
-        // Advance Time
-        tickIndex++;
+    private Map<String, Double> snapshotPrices() {
+        final Map<String, Double> prices = new LinkedHashMap<>();
+        for (int slot = 0; slot < priceBoard.size(); slot++) {
+            final double price = priceBoard.getPrice(slot);
+            if (!Double.isNaN(price)) {
+                prices.put(priceBoard.getSymbols().get(slot), price);
+            }
+        }
+        return prices;
+    }
 
-        // Handle Candle Rollover
-        if (tickIndex >= currentMinuteTicks.size()) {
-            tickIndex = 0;
-            candleIndex++;
+    @Override
+    public void selectIndicators(List<IndicatorType> indicators) {
+        final IndicatorSet newSet = new IndicatorSet(indicators);
+        final Map<String, DoubleRingBuffer> newHistory = new LinkedHashMap<>();
+        for (int i = 0; i < newSet.size(); i++) {
+            if (newSet.getType(i).isOverlay()) {
+                final Indicator indicator = newSet.get(i);
+                for (int line = 0; line < indicator.getLineCount(); line++) {
+                    newHistory.put(indicator.getLineName(line), new DoubleRingBuffer(CHART_CAPACITY));
+                }
+            }
+        }
+
+        this.indicatorSet = newSet;
+        this.overlayHistory = newHistory;
 
-            if (candleIndex < allCandles.size()) {
-                int ticks = calculateTicksPerCandle();
-                currentMinuteTicks = dataAccess.generateTicks(allCandles.get(candleIndex), ticks);
+        // Warm the new selection up once over what is still on the chart;
+        // from here on every tick is a single incremental update.
+        for (int i = 0; i < historyTicksForChart.size(); i++) {
+            indicatorSet.update(historyTicksForChart.get(i), historyVolumesForChart.get(i));
+            recordOverlays();
+        }
+    }
 
+    private void recordOverlays() {
+        if (overlayHistory.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < indicatorSet.size(); i++) {
+            if (indicatorSet.getType(i).isOverlay()) {
+                final Indicator indicator = indicatorSet.get(i);
+                for (int line = 0; line < indicator.getLineCount(); line++) {
+                    overlayHistory.get(indicator.getLineName(line)).add(indicator.getValue(line));
+                }
             }
         }
     }
-}
\ No newline at end of file
+}
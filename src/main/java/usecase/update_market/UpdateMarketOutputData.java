@@ -1,14 +1,13 @@
 package usecase.update_market;
 
 import entity.Position;
-import java.util.List;
 import java.util.Map;
 
 public class UpdateMarketOutputData {
     private final double currentPrice;
     private final double totalEquity;
     private final double totalReturnRate;
-    private final double maxDrawdown;
+    private final double largestLosingTrade;
     private final double availableCash;
     private final String ticker;
 
@@ -20,19 +19,34 @@ public class UpdateMarketOutputData {
     private final double winRate;
     // ---
 
-    private final List<Double> chartData;
+    // Decimated chart window; never modified after construction
+    private final double[] chartData;
     private final Map<String, Position> positions;
     private final String error;
+    private final Map<String, double[]> overlaySeries;
+    private final Map<String, Double> indicatorValues;
+    // Latest price of every simulated ticker that has started trading
+    private final Map<String, Double> prices;
+
+    // --- Equity curve: peak-to-trough drawdown and time below the peak ---
+    private final double equityDrawdown;
+    private final long longestDrawdownTicks;
+    private final long underwaterTicks;
+    private final double underwaterRatio;
+    private final double[] equityCurve;
 
     // Must match the order of parameters passed by the Interactor
-    public UpdateMarketOutputData(double currentPrice, double totalEquity, double totalReturnRate, double maxDrawdown,
+    public UpdateMarketOutputData(double currentPrice, double totalEquity, double totalReturnRate, double largestLosingTrade,
                                   double availableCash, int totalTrades, int winningTrades, double maxGain,
-                                  int losingTrades, double winRate, List<Double> chartData, Map<String,
-                    Position> positions, String error, String ticker) {
+                                  int losingTrades, double winRate, double[] chartData, Map<String,
+                    Position> positions, String error, String ticker,
+                                  Map<String, double[]> overlaySeries, Map<String, Double> indicatorValues,
+                                  Map<String, Double> prices, double equityDrawdown, long longestDrawdownTicks,
+                                  long underwaterTicks, double underwaterRatio, double[] equityCurve) {
         this.currentPrice = currentPrice;
         this.totalEquity = totalEquity;
         this.totalReturnRate = totalReturnRate;
-        this.maxDrawdown = maxDrawdown;
+        this.largestLosingTrade = largestLosingTrade;
         this.availableCash = availableCash;
         this.ticker = ticker;
         this.totalTrades = totalTrades;
@@ -44,13 +58,22 @@ public class UpdateMarketOutputData {
         this.chartData = chartData;
         this.positions = positions;
         this.error = error;
+        this.overlaySeries = overlaySeries;
+        this.indicatorValues = indicatorValues;
+        this.prices = prices;
+        this.equityDrawdown = equityDrawdown;
+        this.longestDrawdownTicks = longestDrawdownTicks;
+        this.underwaterTicks = underwaterTicks;
+        this.underwaterRatio = underwaterRatio;
+        this.equityCurve = equityCurve;
     }
 
     // --- Accessors ---
     public double getCurrentPrice() { return currentPrice; }
     public double getTotalEquity() { return totalEquity; }
     public double getTotalReturnRate() { return totalReturnRate; }
-    public double getMaxDrawdown() { return maxDrawdown; }
+    /** Largest single realized loss, as a positive amount; see {@link #getEquityDrawdown()} for drawdown. */
+    public double getLargestLosingTrade() { return largestLosingTrade; }
     public double getAvailableCash() { return availableCash; }
 
     public int getTotalTrades() { return totalTrades; }
@@ -59,8 +82,22 @@ public class UpdateMarketOutputData {
     public int getLosingTrades() { return losingTrades; }
     public double getWinRate() { return winRate; }
 
-    public List<Double> getChartData() { return chartData; }
+    public double[] getChartData() { return chartData; }
     public Map<String, Position> getPositions() { return positions; }
     public String getError() { return error; }
     public String getTicker() { return ticker; }
+    public Map<String, double[]> getOverlaySeries() { return overlaySeries; }
+    public Map<String, Double> getIndicatorValues() { return indicatorValues; }
+    public Map<String, Double> getPrices() { return prices; }
+
+    /** Largest fall of total equity from a running peak, as a fraction of that peak. */
+    public double getEquityDrawdown() { return equityDrawdown; }
+    /** Longest stretch below a previous equity peak, in simulated seconds. */
+    public long getLongestDrawdownTicks() { return longestDrawdownTicks; }
+    /** Total time below a previous equity peak, in simulated seconds. */
+    public long getUnderwaterTicks() { return underwaterTicks; }
+    /** Share of the session spent below a previous equity peak. */
+    public double getUnderwaterRatio() { return underwaterRatio; }
+    /** Decimated equity curve, oldest sample first. */
+    public double[] getEquityCurve() { return equityCurve; }
 }
\ No newline at end of file
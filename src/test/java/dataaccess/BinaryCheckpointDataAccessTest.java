@@ -0,0 +1,216 @@
+package dataaccess;
+
+import entity.Account;
+import entity.OrderBook;
+import entity.OrderType;
+import entity.PricePoint;
+import entity.SimulatedOrder;
+import entity.TimeInterval;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import usecase.checkpoint.CheckpointInteractor;
+import usecase.checkpoint.CheckpointOutputBoundary;
+import usecase.checkpoint.CheckpointOutputData;
+import usecase.indicator.IndicatorType;
+import usecase.price_chart.PriceDataAccessInterface;
+import usecase.simulated_trade.RestingOrderMatcher;
+import usecase.tick_model.TickModelType;
+import usecase.update_market.SimulationCheckpoint;
+import usecase.update_market.UpdateMarketInteractor;
+import usecase.update_market.UpdateMarketOutputBoundary;
+import usecase.update_market.UpdateMarketOutputData;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryCheckpointDataAccessTest {
+
+    private static final List<String> TICKERS = List.of("AAPL", "MSFT");
+
+    @TempDir
+    Path tempDir;
+
+    /**
+     * Candles with real ranges, so tick paths depend on the seed. Counts
+     * requests, which stand in for network calls.
+     */
+    private static class CountingGateway implements PriceDataAccessInterface {
+        int requests;
+
+        @Override
+        public List<PricePoint> getPriceHistory(String ticker, TimeInterval interval) {
+            requests++;
+            List<PricePoint> points = new ArrayList<>();
+            double base = "MSFT".equals(ticker) ? 300.0 : 100.0;
+            LocalDateTime time = LocalDateTime.of(2024, 1, 2, 9, 30);
+            for (int i = 0; i < 6; i++) {
+                double open = base + i;
+                // One candle without volume, to cover missing values
+                Double volume = i == 3 ? null : 3000.0 + i;
+                points.add(new PricePoint(i == 0 ? null : "id-" + i, ticker, time.plusMinutes(5L * i),
+                        TimeInterval.FIVE_MINUTES, open, open + 2.0, open - 2.0, open + 0.5, volume, "test"));
+            }
+            return points;
+        }
+    }
+
+    private static class LastOutputPresenter implements UpdateMarketOutputBoundary {
+        UpdateMarketOutputData last;
+
+        @Override
+        public void prepareSuccessView(UpdateMarketOutputData outputData) {
+            last = outputData;
+        }
+
+        @Override
+        public void prepareFailView(String error) {
+        }
+    }
+
+    private static class Session {
+        final CountingGateway gateway = new CountingGateway();
+        final LastOutputPresenter presenter = new LastOutputPresenter();
+        final Account account = new Account(10000.0, "user");
+        final OrderBook book = new OrderBook();
+        final UpdateMarketInteractor market;
+
+        Session(List<String> tickers) {
+            this(tickers, TickModelType.LINEAR);
+        }
+
+        Session(List<String> tickers, TickModelType tickModel) {
+            market = new UpdateMarketInteractor(new SimulationMarketDataAccess(gateway, tickModel), presenter,
+                    account, tickers);
+            market.setOrderMatcher(new RestingOrderMatcher(book, account));
+            market.setSeed(42L);
+        }
+    }
+
+    @Test
+    void testResumedSessionContinuesExactlyLikeTheOriginal() throws IOException {
+        Session original = new Session(TICKERS);
+        original.market.loadData();
+        original.market.selectIndicators(List.of(IndicatorType.SMA_20, IndicatorType.RSI_14));
+        original.market.executeTicks(450);
+        original.account.executeTrade("AAPL", true, 10, 101.0, LocalDateTime.now());
+        original.book.add(new SimulatedOrder("ORD-1", "MSFT", true, 5, OrderType.LIMIT, 1.0, Double.NaN,
+                LocalDateTime.of(2024, 1, 2, 10, 0)));
+        original.market.executeTicks(100);
+
+        String path = tempDir.resolve("session.sim").toString();
+        BinaryCheckpointDataAccess store = new BinaryCheckpointDataAccess();
+        SimulationCheckpoint checkpoint = original.market.createCheckpoint();
+        // The checkpoint holds its own copy of the resting order
+        original.book.getOpenOrders().get(0).setTriggered(true);
+        assertFalse(checkpoint.getOpenOrders().get(0).isTriggered());
+        original.book.getOpenOrders().get(0).setTriggered(false);
+        store.save(checkpoint, path);
+
+        Session resumed = new Session(TICKERS);
+        resumed.market.restoreCheckpoint(store.load(path));
+
+        assertEquals(0, resumed.gateway.requests);
+        assertEquals(550L, resumed.market.getTicksProcessed());
+        assertEquals(original.presenter.last.getTotalEquity(), resumed.presenter.last.getTotalEquity());
+        assertEquals(1, resumed.book.size());
+        assertEquals(10, resumed.account.getPositions().get("AAPL").getQuantity());
+
+        // Both continue from mid-candle over the same tick paths
+        original.market.executeTicks(700);
+        resumed.market.executeTicks(700);
+        UpdateMarketOutputData expected = original.presenter.last;
+        UpdateMarketOutputData actual = resumed.presenter.last;
+        assertEquals(expected.getCurrentPrice(), actual.getCurrentPrice());
+        assertEquals(expected.getTotalEquity(), actual.getTotalEquity());
+        assertEquals(expected.getPrices(), actual.getPrices());
+        assertArrayEquals(expected.getChartData(), actual.getChartData());
+        assertArrayEquals(expected.getOverlaySeries().get("SMA(20)"), actual.getOverlaySeries().get("SMA(20)"));
+        assertEquals(expected.getIndicatorValues(), actual.getIndicatorValues());
+        assertEquals(expected.getEquityDrawdown(), actual.getEquityDrawdown());
+        assertEquals(expected.getUnderwaterTicks(), actual.getUnderwaterTicks());
+        assertArrayEquals(expected.getEquityCurve(), actual.getEquityCurve());
+    }
+
+    @Test
+    void testResumedSessionKeepsItsPricePathModel() throws IOException {
+        Session original = new Session(TICKERS, TickModelType.BROWNIAN_BRIDGE);
+        original.market.loadData();
+        original.market.executeTicks(450);
+
+        String path = tempDir.resolve("bridge.sim").toString();
+        BinaryCheckpointDataAccess store = new BinaryCheckpointDataAccess();
+        store.save(original.market.createCheckpoint(), path);
+
+        // Resumed in a session set up with the default model
+        Session resumed = new Session(TICKERS);
+        SimulationCheckpoint checkpoint = store.load(path);
+        assertEquals(TickModelType.BROWNIAN_BRIDGE, checkpoint.getTickModel());
+        resumed.market.restoreCheckpoint(checkpoint);
+
+        // The candle in progress and the ones after it follow the saved model
+        original.market.executeTicks(700);
+        resumed.market.executeTicks(700);
+        assertArrayEquals(original.presenter.last.getChartData(), resumed.presenter.last.getChartData());
+        assertEquals(original.presenter.last.getTotalEquity(), resumed.presenter.last.getTotalEquity());
+    }
+
+    @Test
+    void testRejectsCheckpointOfOtherTickersWithoutChangingState() throws IOException {
+        Session original = new Session(TICKERS);
+        original.market.loadData();
+        original.market.executeTicks(10);
+        String path = tempDir.resolve("session.sim").toString();
+        BinaryCheckpointDataAccess store = new BinaryCheckpointDataAccess();
+        store.save(original.market.createCheckpoint(), path);
+
+        Session other = new Session(List.of("MSFT"));
+        other.account.executeTrade("MSFT", true, 1, 300.0, LocalDateTime.now());
+
+        assertThrows(IllegalArgumentException.class, () -> other.market.restoreCheckpoint(store.load(path)));
+        assertEquals(9700.0, other.account.getBalance());
+    }
+
+    @Test
+    void testRejectsOtherFormatVersions() throws IOException {
+        Path path = tempDir.resolve("future.simc");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(path))) {
+            // "SIMC" followed by a version this build does not know
+            out.writeInt(0x53494D43);
+            out.writeInt(2);
+        }
+
+        IOException error = assertThrows(IOException.class,
+                () -> new BinaryCheckpointDataAccess().load(path.toString()));
+        assertTrue(error.getMessage().contains("Unsupported checkpoint version 2"));
+    }
+
+    @Test
+    void testReportsFileThatIsNotACheckpoint() throws IOException {
+        Path path = tempDir.resolve("notes.txt");
+        Files.writeString(path, "not a checkpoint");
+        List<String> errors = new ArrayList<>();
+        Session session = new Session(TICKERS);
+
+        new CheckpointInteractor(session.market, new BinaryCheckpointDataAccess(), new CheckpointOutputBoundary() {
+            @Override
+            public void prepareSuccessView(CheckpointOutputData outputData) {
+                fail("Loading should have failed");
+            }
+
+            @Override
+            public void prepareFailView(String error) {
+                errors.add(error);
+            }
+        }).load(path.toString());
+
+        assertEquals(1, errors.size());
+        assertTrue(errors.get(0).contains("not a simulation checkpoint"));
+    }
+}
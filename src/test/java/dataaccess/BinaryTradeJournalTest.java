@@ -0,0 +1,184 @@
+package dataaccess;
+
+import entity.SimulatedTradeRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import usecase.simulated_trade.JournaledTrade;
+import usecase.simulated_trade.SimulatedTradeDataAccessInterface;
+import usecase.simulated_trade.WriteBehindTradeQueue;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryTradeJournalTest {
+
+    private static final String USER = UUID.randomUUID().toString();
+    private static final LocalDateTime ENTRY = LocalDateTime.of(2024, 1, 2, 9, 30, 0, 123_000_000);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void testPendingTradesSurviveReopenAndTornTail() throws IOException {
+        String path = tempDir.resolve("trades.wal").toString();
+        try (BinaryTradeJournal journal = new BinaryTradeJournal(path)) {
+            for (int i = 0; i < 5; i++) {
+                assertEquals(i, journal.append(trade(i)));
+            }
+            journal.acknowledge(1);
+        }
+        // A crash in the middle of an append leaves half a record behind
+        long intactSize = Files.size(Path.of(path));
+        try (FileChannel channel = FileChannel.open(Path.of(path), StandardOpenOption.APPEND)) {
+            channel.write(java.nio.ByteBuffer.wrap(new byte[] {0, 0, 0, 40, 1, 2, 3}));
+        }
+
+        try (BinaryTradeJournal journal = new BinaryTradeJournal(path)) {
+            assertEquals(intactSize, Files.size(Path.of(path)));
+            List<JournaledTrade> pending = journal.readPending();
+            assertEquals(3, pending.size());
+            for (int i = 0; i < 3; i++) {
+                SimulatedTradeRecord trade = pending.get(i).getTrade();
+                assertEquals(i + 2, pending.get(i).getSequence());
+                assertEquals(i + 2, trade.getQuantity());
+                assertEquals("T" + (i + 2), trade.getTicker());
+                assertEquals(i % 2 == 0, trade.isLong());
+                assertEquals(100.5 + i + 2, trade.getExitPrice());
+                assertEquals(ENTRY, trade.getEntryTime());
+                assertEquals(ENTRY.plusMinutes(i + 2), trade.getExitTime());
+                assertEquals(USER, trade.getUserId());
+                assertEquals("trade-" + (i + 2), trade.getTradeId());
+            }
+            // Sequence numbers carry on after the recovered records
+            assertEquals(5, journal.append(trade(5)));
+            journal.acknowledge(5);
+            assertEquals(0, journal.getPendingCount());
+        }
+    }
+
+    @Test
+    void testCompactionKeepsOnlyUnacknowledgedTrades() throws IOException {
+        String path = tempDir.resolve("trades.wal").toString();
+        int count = 20_000;
+        try (BinaryTradeJournal journal = new BinaryTradeJournal(path)) {
+            for (int i = 0; i < count; i++) {
+                journal.append(trade(i));
+            }
+            long fullSize = Files.size(Path.of(path));
+            journal.acknowledge(count - 4);
+            // Compaction is left to the syncer thread
+            journal.sync();
+
+            assertTrue(Files.size(Path.of(path)) < fullSize / 100);
+            assertEquals(3, journal.getPendingCount());
+            assertEquals(count, journal.append(trade(count)));
+        }
+
+        try (BinaryTradeJournal journal = new BinaryTradeJournal(path)) {
+            List<JournaledTrade> pending = journal.readPending();
+            assertEquals(4, pending.size());
+            assertEquals(count - 3, pending.get(0).getSequence());
+            assertEquals(count - 3, pending.get(0).getTrade().getQuantity());
+            assertEquals(count, pending.get(3).getTrade().getQuantity());
+        }
+    }
+
+    @Test
+    void testAcknowledgementIsWrittenBySyncNotByTheCaller() throws IOException {
+        String path = tempDir.resolve("trades.wal").toString();
+        Path ackPath = tempDir.resolve("trades.wal.ack");
+        try (BinaryTradeJournal journal = new BinaryTradeJournal(path)) {
+            for (int i = 0; i < 3; i++) {
+                journal.append(trade(i));
+            }
+            journal.acknowledge(0);
+            assertEquals(2, journal.getPendingCount());
+            journal.sync();
+            assertTrue(Files.exists(ackPath));
+            journal.acknowledge(1);
+        }
+        // Closing writes the acknowledgement the syncer had not reached yet
+        try (BinaryTradeJournal journal = new BinaryTradeJournal(path)) {
+            List<JournaledTrade> pending = journal.readPending();
+            assertEquals(1, pending.size());
+            assertEquals(2, pending.get(0).getSequence());
+        }
+    }
+
+    @Test
+    void testRejectsOtherFormatVersions() throws IOException {
+        Path path = tempDir.resolve("trades.wal");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(path))) {
+            // "SIMW" followed by a version this build does not know
+            out.writeInt(0x53494D57);
+            out.writeInt(2);
+            out.writeLong(0L);
+        }
+
+        IOException error = assertThrows(IOException.class, () -> new BinaryTradeJournal(path.toString()));
+        assertTrue(error.getMessage().contains("Unsupported trade journal version 2"));
+    }
+
+    @Test
+    void testQueueReplaysTradesAnOutageLeftBehind() throws Exception {
+        String path = tempDir.resolve("trades.wal").toString();
+        try (BinaryTradeJournal journal = new BinaryTradeJournal(path)) {
+            WriteBehindTradeQueue queue = new WriteBehindTradeQueue(new RecordingDataAccess(null), journal, 10,
+                    0L, 1L);
+            queue.start();
+            for (int i = 0; i < 3; i++) {
+                queue.onTradeClosed(trade(i));
+            }
+            assertEquals(3, queue.close(5_000L));
+        }
+
+        List<SimulatedTradeRecord> saved = new ArrayList<>();
+        try (BinaryTradeJournal journal = new BinaryTradeJournal(path)) {
+            WriteBehindTradeQueue queue = new WriteBehindTradeQueue(new RecordingDataAccess(saved), journal, 10,
+                    0L, 1L);
+            queue.onTradeClosed(trade(3));
+            queue.start();
+            assertTrue(queue.flush(5_000L));
+            assertEquals(0, queue.close(5_000L));
+            assertEquals(0, journal.getPendingCount());
+        }
+        assertEquals(4, saved.size());
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, saved.get(i).getQuantity());
+        }
+    }
+
+    /**
+     * Records every saved trade, or fails every save when it has nowhere to record them.
+     */
+    private static class RecordingDataAccess implements SimulatedTradeDataAccessInterface {
+        private final List<SimulatedTradeRecord> saved;
+
+        RecordingDataAccess(List<SimulatedTradeRecord> saved) {
+            this.saved = saved;
+        }
+
+        @Override
+        public void saveTrade(SimulatedTradeRecord trade, UUID userId) {
+            if (saved == null) {
+                throw new IllegalStateException("offline");
+            }
+            saved.add(trade);
+        }
+    }
+
+    private static SimulatedTradeRecord trade(int i) {
+        return new SimulatedTradeRecord("T" + i, i % 2 == 0, i, 100.0 + i, 100.5 + i, 0.5 * i, ENTRY,
+                ENTRY.plusMinutes(i), USER, "trade-" + i);
+    }
+}
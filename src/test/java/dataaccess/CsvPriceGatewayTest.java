@@ -0,0 +1,45 @@
+package dataaccess;
+
+import entity.PricePoint;
+import entity.TimeInterval;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvPriceGatewayTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testParsesAndSortsOldestFirst() throws Exception {
+        Files.writeString(directory.resolve("IBM.csv"),
+                "timestamp,open,high,low,close,volume\n"
+                        + "2024-01-02 09:35:00,101,103,100,102,2000\n"
+                        + "2024-01-02 09:30:00,100,101,99,101,1500\n");
+
+        List<PricePoint> points = new CsvPriceGateway(directory).getPriceHistory("ibm", TimeInterval.FIVE_MINUTES);
+
+        assertEquals(2, points.size());
+        assertEquals(LocalDateTime.of(2024, 1, 2, 9, 30), points.get(0).getTimestamp());
+        assertEquals(101.0, points.get(0).getClose());
+        assertEquals(103.0, points.get(1).getHigh());
+        assertEquals(2000.0, points.get(1).getVolume());
+    }
+
+    @Test
+    void testRejectsMalformedRow() throws Exception {
+        Files.writeString(directory.resolve("IBM.csv"),
+                "timestamp,open,high,low,close,volume\n2024-01-02 09:30:00,100,abc,99,101,1500\n");
+
+        assertThrows(IOException.class,
+                () -> new CsvPriceGateway(directory).getPriceHistory("IBM", TimeInterval.FIVE_MINUTES));
+    }
+}
@@ -0,0 +1,271 @@
+package dataaccess;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * A local stand-in for the parts of a Supabase PostgREST endpoint the data
+ * access objects use: id-ordered keyset reads of the trades table, inserts
+ * that skip trade ids already stored, the portfolio_statistics function, and
+ * upserts and conditional reads of the portfolio table.
+ */
+class PostgrestStub {
+
+    final List<JsonObject> trades = new ArrayList<>();
+    final List<Map<String, String>> queries = new ArrayList<>();
+    final List<String> inserts = new ArrayList<>();
+    final Set<String> storedTradeIds = new HashSet<>();
+    final Map<String, Double> portfolios = new HashMap<>();
+    final List<String> portfolioRequests = new ArrayList<>();
+    int rpcCalls;
+    int notModified;
+    boolean rpcInstalled = true;
+    // When set, portfolio reads wait for it after reading the row, as a slow response would
+    volatile CountDownLatch portfolioReadGate;
+    final CountDownLatch portfolioReadStarted = new CountDownLatch(1);
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    PostgrestStub() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/rest/v1/trades", this::handleTrades);
+        server.createContext("/rest/v1/rpc/portfolio_statistics", this::handleStatistics);
+        server.createContext("/rest/v1/portfolio", this::handlePortfolio);
+        // Requests are served concurrently, so a held read does not block a save
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    void stop() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    void addTrade(String userId, long id, double pnl, OffsetDateTime exit) {
+        JsonObject row = new JsonObject();
+        row.addProperty("id", id);
+        row.addProperty("client_trade_id", UUID.randomUUID().toString());
+        row.addProperty("user_id", userId);
+        row.addProperty("ticker", "AAPL");
+        row.addProperty("is_long", true);
+        row.addProperty("quantity", id);
+        row.addProperty("entry_price", 100.0);
+        row.addProperty("exit_price", 101.0);
+        row.addProperty("realized_pnl", pnl);
+        row.addProperty("entry_time", exit.minusMinutes(5).toString());
+        row.addProperty("exit_time", exit.toString());
+        trades.add(row);
+    }
+
+    private void handleTrades(HttpExchange exchange) throws IOException {
+        if ("POST".equals(exchange.getRequestMethod())) {
+            String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+            inserts.add(body);
+            Map<String, String> query = parse(exchange.getRequestURI().getRawQuery());
+            String prefer = exchange.getRequestHeaders().getFirst("Prefer");
+            boolean ignore = "client_trade_id".equals(query.get("on_conflict")) && prefer != null
+                    && prefer.contains("resolution=ignore-duplicates");
+            JsonElement parsed = JsonParser.parseString(body);
+            JsonArray rows = new JsonArray();
+            if (parsed.isJsonArray()) {
+                rows = parsed.getAsJsonArray();
+            }
+            else {
+                rows.add(parsed);
+            }
+            boolean conflict = false;
+            for (int i = 0; i < rows.size(); i++) {
+                conflict |= !ignore && storedTradeIds.contains(
+                        rows.get(i).getAsJsonObject().get("client_trade_id").getAsString());
+            }
+            if (conflict) {
+                respond(exchange, 409, "{\"message\":\"duplicate key\"}");
+            }
+            else {
+                for (int i = 0; i < rows.size(); i++) {
+                    storedTradeIds.add(rows.get(i).getAsJsonObject().get("client_trade_id").getAsString());
+                }
+                respond(exchange, 201, "");
+            }
+        }
+        else {
+            Map<String, String> query = parse(exchange.getRequestURI().getRawQuery());
+            queries.add(query);
+            List<JsonObject> matching = new ArrayList<>();
+            for (JsonObject row : trades) {
+                if (matches(row, query)) {
+                    matching.add(row);
+                }
+            }
+            matching.sort(Comparator.comparingLong(row -> row.get("id").getAsLong()));
+            JsonArray page = new JsonArray();
+            int limit = Integer.parseInt(query.get("limit"));
+            for (int i = 0; i < Math.min(limit, matching.size()); i++) {
+                page.add(matching.get(i));
+            }
+            respond(exchange, 200, page.toString());
+        }
+    }
+
+    /**
+     * Aggregates like the SQL function in supabase/portfolio_statistics.sql.
+     */
+    private void handleStatistics(HttpExchange exchange) throws IOException {
+        rpcCalls++;
+        if (!rpcInstalled) {
+            respond(exchange, 404, "{\"message\":\"Could not find the function\"}");
+        }
+        else {
+            String userId = JsonParser.parseString(new String(exchange.getRequestBody().readAllBytes(),
+                    StandardCharsets.UTF_8)).getAsJsonObject().get("p_user_id").getAsString();
+            double total = 0.0;
+            double maxGain = 0.0;
+            double maxLoss = 0.0;
+            int count = 0;
+            int winning = 0;
+            int losing = 0;
+            String earliest = null;
+            String latest = null;
+            for (JsonObject row : trades) {
+                if (userId.equals(row.get("user_id").getAsString())) {
+                    double pnl = row.get("realized_pnl").getAsDouble();
+                    String entry = row.get("entry_time").getAsString();
+                    total += pnl;
+                    count++;
+                    if (pnl > 0) {
+                        winning++;
+                        maxGain = Math.max(maxGain, pnl);
+                    }
+                    else if (pnl < 0) {
+                        losing++;
+                        maxLoss = Math.max(maxLoss, -pnl);
+                    }
+                    if (earliest == null || OffsetDateTime.parse(entry).isBefore(OffsetDateTime.parse(earliest))) {
+                        earliest = entry;
+                    }
+                    if (latest == null || OffsetDateTime.parse(entry).isAfter(OffsetDateTime.parse(latest))) {
+                        latest = entry;
+                    }
+                }
+            }
+            JsonObject row = new JsonObject();
+            row.addProperty("total_profit", total);
+            row.addProperty("max_gain", maxGain);
+            row.addProperty("max_loss", maxLoss);
+            row.addProperty("total_trades", count);
+            row.addProperty("winning_trades", winning);
+            row.addProperty("losing_trades", losing);
+            row.addProperty("earliest_entry", earliest);
+            row.addProperty("latest_entry", latest);
+            JsonArray result = new JsonArray();
+            result.add(row);
+            respond(exchange, 200, result.toString());
+        }
+    }
+
+    /**
+     * Upserts need the merge preference and conflict column; reads carry an
+     * ETag and answer 304 when it still matches.
+     */
+    private void handlePortfolio(HttpExchange exchange) throws IOException {
+        Map<String, String> query = parse(exchange.getRequestURI().getRawQuery());
+        portfolioRequests.add(exchange.getRequestMethod() + " " + exchange.getRequestURI().getRawQuery());
+        if ("POST".equals(exchange.getRequestMethod())) {
+            JsonObject row = JsonParser.parseString(new String(exchange.getRequestBody().readAllBytes(),
+                    StandardCharsets.UTF_8)).getAsJsonObject();
+            String user = row.get("user_id").getAsString();
+            String prefer = exchange.getRequestHeaders().getFirst("Prefer");
+            boolean merge = "user_id".equals(query.get("on_conflict")) && prefer != null
+                    && prefer.contains("resolution=merge-duplicates");
+            if (portfolios.containsKey(user) && !merge) {
+                respond(exchange, 409, "{\"message\":\"duplicate key\"}");
+            }
+            else {
+                portfolios.put(user, row.get("cash_balance").getAsDouble());
+                respond(exchange, 201, "");
+            }
+        }
+        else {
+            String user = query.get("user_id").substring("eq.".length());
+            JsonArray rows = new JsonArray();
+            if (portfolios.containsKey(user)) {
+                JsonObject row = new JsonObject();
+                row.addProperty("cash_balance", portfolios.get(user));
+                rows.add(row);
+            }
+            String body = rows.toString();
+            CountDownLatch gate = portfolioReadGate;
+            if (gate != null) {
+                portfolioReadStarted.countDown();
+                try {
+                    gate.await();
+                }
+                catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            String etag = "\"" + Integer.toHexString(body.hashCode()) + "\"";
+            exchange.getResponseHeaders().add("ETag", etag);
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified++;
+                respond(exchange, 304, "");
+            }
+            else {
+                respond(exchange, 200, body);
+            }
+        }
+    }
+
+    private static boolean matches(JsonObject row, Map<String, String> query) {
+        boolean match = ("eq." + row.get("user_id").getAsString()).equals(query.get("user_id"));
+        if (query.containsKey("id")) {
+            match &= row.get("id").getAsLong() > Long.parseLong(query.get("id").substring("gt.".length()));
+        }
+        return match;
+    }
+
+    private static Map<String, String> parse(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        for (String pair : rawQuery == null ? new String[0] : rawQuery.split("&")) {
+            int split = pair.indexOf('=');
+            query.put(URLDecoder.decode(pair.substring(0, split), StandardCharsets.UTF_8),
+                    URLDecoder.decode(pair.substring(split + 1), StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package dataaccess;
+
+import entity.PricePoint;
+import entity.TimeInterval;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationMarketDataAccessTest {
+
+    private final SimulationMarketDataAccess dataAccess = new SimulationMarketDataAccess(null);
+
+    private PricePoint candle() {
+        return new PricePoint(null, "AAPL", LocalDateTime.now(), TimeInterval.FIVE_MINUTES,
+                100.0, 105.0, 95.0, 102.0, 3000.0, "test");
+    }
+
+    @Test
+    void testFillsBufferWithinCandleRange() {
+        double[] buffer = new double[300];
+        for (int run = 0; run < 50; run++) {
+            dataAccess.generateTicks(candle(), buffer, 300);
+
+            assertEquals(100.0, buffer[0]);
+            assertEquals(102.0, buffer[299]);
+            double max = Double.NEGATIVE_INFINITY;
+            double min = Double.POSITIVE_INFINITY;
+            for (double tick : buffer) {
+                max = Math.max(max, tick);
+                min = Math.min(min, tick);
+            }
+            assertEquals(105.0, max);
+            assertEquals(95.0, min);
+        }
+    }
+
+    @Test
+    void testLeavesRestOfLargerBufferUntouched() {
+        double[] buffer = new double[10];
+        buffer[5] = -1.0;
+        dataAccess.generateTicks(candle(), buffer, 2);
+
+        assertEquals(100.0, buffer[0]);
+        assertEquals(102.0, buffer[1]);
+        assertEquals(-1.0, buffer[5]);
+    }
+
+    @Test
+    void testRejectsBufferThatIsTooSmall() {
+        assertThrows(IllegalArgumentException.class,
+                () -> dataAccess.generateTicks(candle(), new double[3], 4));
+    }
+}
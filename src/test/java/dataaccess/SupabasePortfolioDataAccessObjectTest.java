@@ -0,0 +1,87 @@
+package dataaccess;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SupabasePortfolioDataAccessObjectTest {
+
+    private PostgrestStub stub;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        stub = new PostgrestStub();
+    }
+
+    @AfterEach
+    void stopStub() {
+        stub.stop();
+    }
+
+    @Test
+    void testSaveIsOneUpsertAndPrimesTheCache() {
+        UUID user = UUID.randomUUID();
+        SupabasePortfolioDataAccessObject dao = new SupabasePortfolioDataAccessObject(stub.getBaseUrl(), "key",
+                Duration.ofMinutes(1));
+
+        dao.savePortfolio(user, 5000.0);
+        dao.savePortfolio(user, 7500.0);
+        assertEquals(2, stub.portfolioRequests.size());
+        assertTrue(stub.portfolioRequests.get(0).startsWith("POST on_conflict=user_id"));
+        assertEquals(7500.0, stub.portfolios.get(user.toString()));
+
+        // A later instance, as a summary window creates, reads the saved balance without a request
+        SupabasePortfolioDataAccessObject summary = new SupabasePortfolioDataAccessObject(stub.getBaseUrl(), "key",
+                Duration.ofMinutes(1));
+        assertEquals(7500.0, summary.getInitialBalance(user));
+        assertEquals(2, stub.portfolioRequests.size());
+    }
+
+    @Test
+    void testSlowFetchDoesNotOverwriteANewerSave() throws Exception {
+        UUID user = UUID.randomUUID();
+        SupabasePortfolioDataAccessObject dao = new SupabasePortfolioDataAccessObject(stub.getBaseUrl(), "key",
+                Duration.ofMinutes(1));
+        stub.portfolios.put(user.toString(), 2500.0);
+        CountDownLatch gate = new CountDownLatch(1);
+        stub.portfolioReadGate = gate;
+
+        // The fetch reads the old row, then its response is held back while a new balance is saved
+        Thread reader = new Thread(() -> dao.getInitialBalance(user));
+        reader.start();
+        assertTrue(stub.portfolioReadStarted.await(5, TimeUnit.SECONDS));
+        stub.portfolioReadGate = null;
+        dao.savePortfolio(user, 9000.0);
+        gate.countDown();
+        reader.join(5_000L);
+        assertFalse(reader.isAlive());
+
+        int requests = stub.portfolioRequests.size();
+        assertEquals(9000.0, dao.getInitialBalance(user));
+        assertEquals(requests, stub.portfolioRequests.size());
+    }
+
+    @Test
+    void testStaleBalanceIsRevalidatedWithItsETag() {
+        UUID user = UUID.randomUUID();
+        SupabasePortfolioDataAccessObject dao = new SupabasePortfolioDataAccessObject(stub.getBaseUrl(), "key",
+                Duration.ZERO);
+
+        // No row yet: the default balance
+        assertEquals(100000.0, dao.getInitialBalance(user));
+        stub.portfolios.put(user.toString(), 2500.0);
+        assertEquals(2500.0, dao.getInitialBalance(user));
+        // Unchanged: the server answers 304 and the cached value is kept
+        assertEquals(2500.0, dao.getInitialBalance(user));
+        assertEquals(3, stub.portfolioRequests.size());
+        assertEquals(1, stub.notModified);
+    }
+}
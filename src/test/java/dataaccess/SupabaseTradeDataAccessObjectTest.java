@@ -0,0 +1,176 @@
+package dataaccess;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonParser;
+import entity.SimulatedTradeRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import usecase.portfolio_statistics.PortfolioStatisticsInteractor;
+import usecase.portfolio_statistics.PortfolioStatisticsOutputData;
+import usecase.portfolio_statistics.PortfolioTradeAggregates;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SupabaseTradeDataAccessObjectTest {
+
+    private static final UUID USER = UUID.randomUUID();
+    private static final OffsetDateTime START = OffsetDateTime.of(2024, 1, 2, 0, 0, 0, 0, ZoneOffset.UTC);
+
+    @TempDir
+    Path tempDir;
+
+    private PostgrestStub stub;
+
+    @BeforeEach
+    void startStub() throws IOException {
+        stub = new PostgrestStub();
+    }
+
+    @AfterEach
+    void stopStub() {
+        stub.stop();
+    }
+
+    @Test
+    void testHistoryIsPagedThenSyncedIncrementally() {
+        for (int i = 0; i < 2500; i++) {
+            stub.addTrade(USER.toString(), i, i, START.plusMinutes(i));
+        }
+        SupabaseTradeDataAccessObject dao = new SupabaseTradeDataAccessObject(stub.getBaseUrl(), "key", tempDir);
+
+        List<SimulatedTradeRecord> first = dao.fetchTradesForUser(USER);
+        assertEquals(2500, first.size());
+        assertEquals(3, stub.queries.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(i, first.get(i).getQuantity());
+        }
+        assertEquals("1000", stub.queries.get(0).get("limit"));
+        assertEquals("id.asc", stub.queries.get(0).get("order"));
+        assertEquals("gt.1999", stub.queries.get(2).get("id"));
+
+        // Nothing new: one page re-reading the ids just below the cursor
+        stub.queries.clear();
+        assertEquals(2500, dao.fetchTradesForUser(USER).size());
+        assertEquals(1, stub.queries.size());
+        assertEquals("gt.2399", stub.queries.get(0).get("id"));
+
+        // A fresh instance resumes from the cache file, and a trade replayed a day after it closed is picked up
+        stub.addTrade(USER.toString(), 2500, 1.0, START.plusMinutes(2600));
+        stub.addTrade(USER.toString(), 2501, 1.0, START.minusDays(1));
+        stub.queries.clear();
+        List<SimulatedTradeRecord> resumed = new SupabaseTradeDataAccessObject(stub.getBaseUrl(), "key", tempDir)
+                .fetchTradesForUser(USER);
+        assertEquals(1, stub.queries.size());
+        assertEquals(2502, resumed.size());
+        Set<Integer> quantities = new HashSet<>();
+        for (SimulatedTradeRecord trade : resumed) {
+            assertTrue(quantities.add(trade.getQuantity()));
+        }
+        assertEquals(START.minusDays(1).toLocalDateTime(), resumed.get(2501).getExitTime());
+    }
+
+    @Test
+    void testRowCommittedBelowTheCursorIsPickedUpOnce() {
+        for (int i = 0; i < 10; i++) {
+            stub.addTrade(USER.toString(), i * 10, i, START.plusMinutes(i));
+        }
+        SupabaseTradeDataAccessObject dao = new SupabaseTradeDataAccessObject(stub.getBaseUrl(), "key", tempDir);
+        assertEquals(10, dao.fetchTradesForUser(USER).size());
+
+        // Another writer's insert took id 85 but committed after the sync read 90
+        stub.addTrade(USER.toString(), 85, 1.0, START);
+        List<SimulatedTradeRecord> synced = dao.fetchTradesForUser(USER);
+        assertEquals(11, synced.size());
+        assertEquals(85, synced.get(10).getQuantity());
+
+        assertEquals(11, dao.fetchTradesForUser(USER).size());
+        assertEquals(11, new SupabaseTradeDataAccessObject(stub.getBaseUrl(), "key", tempDir)
+                .fetchTradesForUser(USER).size());
+    }
+
+    @Test
+    void testBatchIsInsertedAsOneArray() {
+        SupabaseTradeDataAccessObject dao = new SupabaseTradeDataAccessObject(stub.getBaseUrl(), "key", null);
+        LocalDateTime time = LocalDateTime.of(2024, 1, 2, 9, 30);
+        List<SimulatedTradeRecord> batch = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            batch.add(new SimulatedTradeRecord("AAPL", true, i + 1, 100.0, 101.0, 1.0, time, time,
+                    USER.toString()));
+        }
+
+        dao.saveTrades(batch);
+
+        assertEquals(1, stub.inserts.size());
+        JsonArray body = JsonParser.parseString(stub.inserts.get(0)).getAsJsonArray();
+        assertEquals(3, body.size());
+        assertEquals(3, body.get(2).getAsJsonObject().get("quantity").getAsInt());
+        assertEquals(USER.toString(), body.get(0).getAsJsonObject().get("user_id").getAsString());
+    }
+
+    @Test
+    void testResentBatchIsStoredOnce() {
+        SupabaseTradeDataAccessObject dao = new SupabaseTradeDataAccessObject(stub.getBaseUrl(), "key", null);
+        LocalDateTime time = LocalDateTime.of(2024, 1, 2, 9, 30);
+        List<SimulatedTradeRecord> batch = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            batch.add(new SimulatedTradeRecord("AAPL", true, i + 1, 100.0, 101.0, 1.0, time, time,
+                    USER.toString()));
+        }
+
+        dao.saveTrades(batch);
+        // A replay after a crash sends the batch again, along with a newer trade
+        batch.add(new SimulatedTradeRecord("AAPL", true, 4, 100.0, 101.0, 1.0, time, time, USER.toString()));
+        dao.saveTrades(batch);
+
+        assertEquals(2, stub.inserts.size());
+        assertEquals(4, stub.storedTradeIds.size());
+        JsonArray body = JsonParser.parseString(stub.inserts.get(1)).getAsJsonArray();
+        assertEquals(batch.get(0).getTradeId(), body.get(0).getAsJsonObject().get("client_trade_id").getAsString());
+    }
+
+    @Test
+    void testServerAggregatesMatchClientSideStatistics() {
+        double[] pnls = {12.5, -3.0, 0.0, 40.0, -17.25, 6.0};
+        for (int i = 0; i < pnls.length; i++) {
+            stub.addTrade(USER.toString(), i, pnls[i], START.plusHours(i));
+        }
+        stub.addTrade(UUID.randomUUID().toString(), 99, 500.0, START);
+        SupabaseTradeDataAccessObject dao = new SupabaseTradeDataAccessObject(stub.getBaseUrl(), "key", null);
+
+        PortfolioTradeAggregates server = dao.fetchTradeAggregates(USER);
+        PortfolioTradeAggregates client = PortfolioTradeAggregates.fromTrades(dao.fetchTradesForUser(USER));
+
+        assertEquals(client.getTotalProfit(), server.getTotalProfit(), 1e-9);
+        assertEquals(40.0, server.getMaxGain());
+        assertEquals(17.25, server.getMaxLoss());
+        assertEquals(6, server.getTotalTrades());
+        assertEquals(client.getWinningTrades(), server.getWinningTrades());
+        assertEquals(2, server.getLosingTrades());
+        assertEquals(client.getEarliestEntry(), server.getEarliestEntry());
+        assertEquals(client.getLatestEntry(), server.getLatestEntry());
+
+        // Without the function the summary falls back to the trade history
+        stub.rpcInstalled = false;
+        stub.queries.clear();
+        List<PortfolioStatisticsOutputData> presented = new ArrayList<>();
+        new PortfolioStatisticsInteractor(dao::fetchTradesForUser, user -> 1000.0, dao::fetchTradeAggregates,
+                presented::add).requestPortfolioSummary(USER);
+        assertEquals(2, stub.rpcCalls);
+        assertEquals(1, stub.queries.size());
+        assertEquals(6, presented.get(0).getTotalTrades());
+        assertEquals(client.getTotalProfit() / 10.0, presented.get(0).getTotalReturnRate(), 1e-9);
+    }
+}
@@ -0,0 +1,83 @@
+package entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AccountTest {
+
+    private static final double EPSILON = 1e-6;
+
+    @Test
+    void testShortPositionIsNotCountedTwice() {
+        Account account = new Account(10000.0, "user");
+        account.executeTrade("AAPL", false, 10, 100.0, LocalDateTime.now());
+
+        assertEquals(11000.0, account.getBalance());
+        assertEquals(10000.0, account.calculateTotalEquity(100.0, "AAPL"), EPSILON);
+        // A falling price profits the short
+        assertEquals(10100.0, account.calculateTotalEquity(90.0, "AAPL"), EPSILON);
+        assertEquals(-10, account.getNetQuantity("AAPL"));
+        assertEquals(-1000.0, account.getCostBasis(), EPSILON);
+        assertEquals(-900.0, account.getNetExposure(), EPSILON);
+        assertEquals(900.0, account.getGrossExposure(), EPSILON);
+    }
+
+    @Test
+    void testRunningTotalsMatchFullRevaluation() {
+        List<String> tickers = List.of("AAPL", "MSFT", "TSLA", "AMZN");
+        PriceBoard board = new PriceBoard(tickers);
+        Account account = new Account(100000.0, "user");
+        SplittableRandom random = new SplittableRandom(7L);
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int step = 0; step < 5000; step++) {
+            int slot = random.nextInt(tickers.size());
+            double price = 50.0 + random.nextDouble() * 100.0;
+            board.update(slot, price);
+            account.markPrice(tickers.get(slot), price);
+            if (random.nextInt(4) == 0) {
+                account.executeTrade(tickers.get(slot), random.nextBoolean(), 1 + random.nextInt(20), price, now);
+            }
+
+            double net = 0.0;
+            double gross = 0.0;
+            double cost = 0.0;
+            for (Map.Entry<String, Position> entry : account.getPositions().entrySet()) {
+                Position p = entry.getValue();
+                int signed = p.isLong() ? p.getQuantity() : -p.getQuantity();
+                double mark = board.getPrice(entry.getKey());
+                net += signed * mark;
+                gross += p.getQuantity() * mark;
+                cost += signed * p.getAvgPrice();
+                assertEquals(signed, account.getNetQuantity(entry.getKey()));
+            }
+            assertEquals(net, account.getNetExposure(), EPSILON);
+            assertEquals(gross, account.getGrossExposure(), EPSILON);
+            assertEquals(cost, account.getCostBasis(), EPSILON);
+            assertEquals(account.getBalance() + net, account.calculateTotalEquity(), EPSILON);
+        }
+    }
+
+    @Test
+    void testRestoreKeepsMarksAndTotals() {
+        Account account = new Account(10000.0, "user");
+        account.executeTrade("AAPL", true, 10, 100.0, LocalDateTime.now());
+        account.executeTrade("MSFT", false, 5, 200.0, LocalDateTime.now());
+        account.markPrice("AAPL", 120.0);
+
+        Account restored = new Account(0.0, "user");
+        restored.restore(account.snapshot());
+
+        assertEquals(account.calculateTotalEquity(), restored.calculateTotalEquity());
+        assertEquals(account.getGrossExposure(), restored.getGrossExposure());
+        restored.markPrice("MSFT", 190.0);
+        assertEquals(10250.0, restored.calculateTotalEquity(), EPSILON);
+        assertEquals(0, restored.getNetQuantity("TSLA"));
+    }
+}
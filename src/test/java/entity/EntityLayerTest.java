@@ -84,7 +84,7 @@ class EntityLayerTest {
         // 5. Cover some boundary calculations in Account
         assertEquals(200.0, account.getTotalProfit(10200.0));
         assertTrue(account.getTotalReturnRate(10200.0) > 0);
-        assertEquals(0.0, account.getMaxDrawdown());
+        assertEquals(0.0, account.getLargestLosingTrade());
         // No drawdown
     }
 
@@ -0,0 +1,82 @@
+package entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OrderBookTest {
+
+    private static SimulatedOrder order(String id, boolean buy, OrderType type, double limit, double stop) {
+        return new SimulatedOrder(id, "AAPL", buy, 10, type, limit, stop, LocalDateTime.now());
+    }
+
+    private static List<String> ids(List<SimulatedOrder> orders) {
+        return orders.stream().map(SimulatedOrder::getOrderId).collect(Collectors.toList());
+    }
+
+    @Test
+    void testLimitOrdersFillBestPriceFirstAndFifoWithinLevel() {
+        OrderBook book = new OrderBook();
+        book.add(order("b99", true, OrderType.LIMIT, 99.0, Double.NaN));
+        book.add(order("b100a", true, OrderType.LIMIT, 100.0, Double.NaN));
+        book.add(order("b100b", true, OrderType.LIMIT, 100.0, Double.NaN));
+        book.add(order("s105", false, OrderType.LIMIT, 105.0, Double.NaN));
+
+        assertTrue(book.match("AAPL", 101.0).isEmpty());
+        assertEquals(List.of("b100a", "b100b"), ids(book.match("AAPL", 100.0)));
+        assertEquals(List.of("b99"), ids(book.match("AAPL", 90.0)));
+        assertEquals(List.of("s105"), ids(book.match("AAPL", 106.0)));
+        assertEquals(0, book.size());
+        // Other tickers are never touched
+        assertTrue(book.match("MSFT", 1.0).isEmpty());
+    }
+
+    @Test
+    void testStopsTriggerWhenCrossed() {
+        OrderBook book = new OrderBook();
+        book.add(order("buyStop", true, OrderType.STOP, Double.NaN, 110.0));
+        book.add(order("sellStop", false, OrderType.STOP, Double.NaN, 90.0));
+
+        assertTrue(book.match("AAPL", 100.0).isEmpty());
+        assertEquals(List.of("buyStop"), ids(book.match("AAPL", 111.0)));
+        assertEquals(List.of("sellStop"), ids(book.match("AAPL", 89.0)));
+    }
+
+    @Test
+    void testStopLimitBecomesRestingLimit() {
+        OrderBook book = new OrderBook();
+        SimulatedOrder stopLimit = order("sl", false, OrderType.STOP_LIMIT, 95.0, 98.0);
+        book.add(stopLimit);
+
+        // Stop reached but price already below the sell limit: it rests as a limit order
+        assertTrue(book.match("AAPL", 94.0).isEmpty());
+        assertTrue(stopLimit.isTriggered());
+        assertEquals(1, book.size());
+        assertEquals(List.of("sl"), ids(book.match("AAPL", 96.0)));
+    }
+
+    @Test
+    void testCancelRemovesRestingOrder() {
+        OrderBook book = new OrderBook();
+        book.add(order("a", true, OrderType.LIMIT, 100.0, Double.NaN));
+        book.add(order("b", true, OrderType.LIMIT, 100.0, Double.NaN));
+
+        assertTrue(book.cancel("a"));
+        assertFalse(book.cancel("a"));
+        assertEquals(List.of("b"), ids(book.getOpenOrders()));
+        assertEquals(List.of("b"), ids(book.match("AAPL", 50.0)));
+    }
+
+    @Test
+    void testRejectsMarketOrdersAndMissingPrices() {
+        OrderBook book = new OrderBook();
+        assertThrows(IllegalArgumentException.class,
+                () -> book.add(order("m", true, OrderType.MARKET, Double.NaN, Double.NaN)));
+        assertThrows(IllegalArgumentException.class,
+                () -> book.add(order("s", true, OrderType.STOP_LIMIT, 10.0, Double.NaN)));
+    }
+}
@@ -0,0 +1,42 @@
+package entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PriceBoardTest {
+
+    @Test
+    void testSlotsAndPrices() {
+        PriceBoard board = new PriceBoard(List.of("AAPL", "MSFT", "AAPL"));
+
+        assertEquals(2, board.size());
+        assertEquals(List.of("AAPL", "MSFT"), board.getSymbols());
+        assertEquals(1, board.slotOf("MSFT"));
+        assertEquals(-1, board.slotOf("TSLA"));
+        assertTrue(Double.isNaN(board.getPrice("AAPL")));
+        assertTrue(Double.isNaN(board.getPrice("TSLA")));
+
+        board.update(board.slotOf("AAPL"), 187.5);
+        assertEquals(187.5, board.getPrice("AAPL"));
+        assertEquals(187.5, board.getPrice(0));
+    }
+
+    @Test
+    void testAccountMarksEveryPositionToBoard() {
+        PriceBoard board = new PriceBoard(List.of("AAPL", "MSFT"));
+        Account account = new Account(10000.0, "user");
+        account.executeTrade("AAPL", true, 10, 100.0, LocalDateTime.now());
+        account.executeTrade("MSFT", true, 5, 200.0, LocalDateTime.now());
+
+        // MSFT has no price yet, so it stays at cost
+        board.update(0, 110.0);
+        assertEquals(10100.0, account.calculateTotalEquity(board), 1e-9);
+
+        board.update(1, 220.0);
+        assertEquals(10200.0, account.calculateTotalEquity(board), 1e-9);
+    }
+}
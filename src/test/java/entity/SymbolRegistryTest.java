@@ -0,0 +1,93 @@
+package entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SymbolRegistryTest {
+
+    @Test
+    void testIdsAreDenseAndStable() {
+        SymbolRegistry registry = new SymbolRegistry();
+
+        assertEquals(SymbolRegistry.UNKNOWN, registry.find("AAPL"));
+        assertEquals(0, registry.idOf("AAPL"));
+        assertEquals(1, registry.idOf("MSFT"));
+        assertEquals(0, registry.idOf("AAPL"));
+        assertEquals(1, registry.find("MSFT"));
+        assertEquals("MSFT", registry.symbolOf(1));
+        assertEquals(2, registry.size());
+        assertThrows(IndexOutOfBoundsException.class, () -> registry.symbolOf(2));
+
+        // Growing past the initial table keeps earlier ids
+        for (int i = 0; i < 200; i++) {
+            registry.idOf("S" + i);
+        }
+        assertEquals(202, registry.size());
+        assertEquals("AAPL", registry.symbolOf(0));
+        assertEquals("S199", registry.symbolOf(201));
+    }
+
+    @Test
+    void testConcurrentFirstSightsGetOneIdEach() throws InterruptedException {
+        SymbolRegistry registry = new SymbolRegistry();
+        CountDownLatch start = new CountDownLatch(1);
+        ConcurrentHashMap<String, Integer> seen = new ConcurrentHashMap<>();
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    start.await();
+                }
+                catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                for (int i = 0; i < 500; i++) {
+                    int id = registry.idOf("T" + i);
+                    Integer previous = seen.putIfAbsent("T" + i, id);
+                    assertTrue(previous == null || previous == id);
+                }
+            });
+            threads[t].start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(500, registry.size());
+        Set<Integer> ids = new HashSet<>(seen.values());
+        assertEquals(500, ids.size());
+        for (int id = 0; id < 500; id++) {
+            assertEquals(id, registry.find(registry.symbolOf(id)));
+        }
+    }
+
+    @Test
+    void testBoardBookAndAccountAgreeOnSharedIds() {
+        PriceBoard board = new PriceBoard(List.of("REG-A", "REG-B"));
+        int idB = SymbolRegistry.shared().find("REG-B");
+
+        assertEquals(1, board.slotOfSymbol(idB));
+        assertEquals(-1, board.slotOfSymbol(SymbolRegistry.shared().idOf("REG-C")));
+
+        OrderBook book = new OrderBook();
+        book.add(new SimulatedOrder("ORD-1", "REG-B", true, 5, OrderType.LIMIT, 50.0, Double.NaN,
+                LocalDateTime.now()));
+        assertTrue(book.match(idB, 51.0).isEmpty());
+        assertEquals(1, book.match(idB, 50.0).size());
+
+        Account account = new Account(1000.0, "user");
+        account.executeTrade("REG-B", true, 5, 50.0, LocalDateTime.now());
+        account.markPrice(idB, 60.0);
+        assertEquals(1050.0, account.calculateTotalEquity(), 1e-9);
+        assertEquals(5, account.getNetQuantity("REG-B"));
+    }
+}
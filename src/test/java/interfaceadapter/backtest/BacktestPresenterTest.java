@@ -0,0 +1,30 @@
+package interfaceadapter.backtest;
+
+import org.junit.jupiter.api.Test;
+import usecase.backtest.BacktestOutputData;
+import usecase.update_market.UpdateMarketOutputData;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BacktestPresenterTest {
+
+    @Test
+    void testReportsEquityDrawdownLikeTheTradingScreen() {
+        UpdateMarketOutputData finalState = new UpdateMarketOutputData(100.0, 9000.0, -0.1, 250.0,
+                9000.0, 4, 1, 50.0, 3, 0.25, new double[0], Map.of(), null, "AAPL",
+                Map.of(), Map.of(), Map.of(), 0.125, 3725L, 5000L, 0.5, new double[0]);
+        BacktestViewModel viewModel = new BacktestViewModel();
+
+        new BacktestPresenter(viewModel).prepareSuccessView(
+                new BacktestOutputData(finalState, 10, 3000L, 1_000_000L, List.of(), 0L));
+
+        Map<String, String> report = viewModel.getReport();
+        assertEquals("12.50%", report.get("Max Drawdown"));
+        assertEquals("1:02:05", report.get("Longest Drawdown"));
+        assertEquals("50.00%", report.get("Time Underwater"));
+        assertEquals("$250.00", report.get("Largest Losing Trade"));
+    }
+}
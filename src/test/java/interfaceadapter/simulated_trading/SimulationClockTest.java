@@ -0,0 +1,209 @@
+package interfaceadapter.simulated_trading;
+
+import entity.Account;
+import entity.PriceBoard;
+import org.junit.jupiter.api.Test;
+import usecase.indicator.IndicatorType;
+import usecase.simulated_trade.SimulatedTradeInputData;
+import usecase.simulated_trade.SimulatedTradeInteractor;
+import usecase.simulated_trade.SimulatedTradeOutputBoundary;
+import usecase.simulated_trade.SimulatedTradeOutputData;
+import usecase.update_market.UpdateMarketInputBoundary;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationClockTest {
+
+    /**
+     * Counts ticks up to a fixed history length, spending a little time on each.
+     */
+    private static class CountingMarket implements UpdateMarketInputBoundary {
+        private final long totalTicks;
+        private final double ticksPerSecond;
+        final AtomicLong ticks = new AtomicLong();
+        final AtomicLong batches = new AtomicLong();
+        final CountDownLatch finished = new CountDownLatch(1);
+
+        CountingMarket(long totalTicks, double ticksPerSecond) {
+            this.totalTicks = totalTicks;
+            this.ticksPerSecond = ticksPerSecond;
+        }
+
+        @Override
+        public void loadData() {
+        }
+
+        @Override
+        public void executeExecuteTick() {
+            executeTicks(1);
+        }
+
+        @Override
+        public void executeTicks(int count) {
+            batches.incrementAndGet();
+            long sink = 0;
+            for (int i = 0; i < count && ticks.get() < totalTicks; i++) {
+                for (int work = 0; work < 50; work++) {
+                    sink += work;
+                }
+                ticks.incrementAndGet();
+            }
+            if (sink >= 0 && ticks.get() >= totalTicks) {
+                finished.countDown();
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return ticks.get() >= totalTicks;
+        }
+
+        @Override
+        public double getTicksPerSecond() {
+            return ticksPerSecond;
+        }
+
+        @Override
+        public void selectIndicators(List<IndicatorType> indicators) {
+        }
+    }
+
+    /**
+     * Counts fills and rejections; only ever called on the simulation thread.
+     */
+    private static class CountingPresenter implements SimulatedTradeOutputBoundary {
+        int fills;
+        int rejections;
+
+        @Override
+        public void prepareSuccessView(SimulatedTradeOutputData outputData) {
+            fills++;
+        }
+
+        @Override
+        public void prepareFailView(String error) {
+            rejections++;
+        }
+    }
+
+    /**
+     * Stands in for a strategy: buys one share through the trade interactor on every batch of ticks.
+     */
+    private static class BuyingMarket extends CountingMarket {
+        private final SimulatedTradeInteractor trades;
+
+        BuyingMarket(SimulatedTradeInteractor trades) {
+            super(Long.MAX_VALUE, Double.POSITIVE_INFINITY);
+            this.trades = trades;
+        }
+
+        @Override
+        public void executeTicks(int count) {
+            super.executeTicks(count);
+            trades.executeTrade(new SimulatedTradeInputData("AAPL", true, 100.0));
+        }
+    }
+
+    @Test
+    void testConcurrentOrderSourcesDoNotOverdrawTheAccount() throws InterruptedException {
+        // Cash for exactly 1,000 shares at $100, and far more orders than that
+        Account account = new Account(100_000.0, "user");
+        PriceBoard board = new PriceBoard(List.of("AAPL"));
+        board.update(board.slotOf("AAPL"), 100.0);
+        CountingPresenter presenter = new CountingPresenter();
+        SimulatedTradeInteractor trades = new SimulatedTradeInteractor(presenter, account, board);
+        SimulationClock clock = new SimulationClock(new BuyingMarket(trades));
+        clock.start();
+
+        // The trading screen and other order sources reach the account only through the clock
+        int threads = 8;
+        int ordersPerThread = 1_000;
+        CountDownLatch go = new CountDownLatch(1);
+        CountDownLatch submitted = new CountDownLatch(threads);
+        List<Thread> sources = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            Thread source = new Thread(() -> {
+                awaitQuietly(go);
+                for (int i = 0; i < ordersPerThread; i++) {
+                    clock.submit(() -> trades.executeTrade(new SimulatedTradeInputData("AAPL", true, 100.0)));
+                }
+                submitted.countDown();
+            });
+            sources.add(source);
+            source.start();
+        }
+        go.countDown();
+        assertTrue(submitted.await(5, TimeUnit.SECONDS));
+        clock.stop();
+
+        double[] balance = new double[1];
+        int[] shares = new int[1];
+        int[] fills = new int[1];
+        CountDownLatch read = new CountDownLatch(1);
+        clock.submit(() -> {
+            balance[0] = account.getBalance();
+            shares[0] = account.getNetQuantity("AAPL");
+            fills[0] = presenter.fills;
+            read.countDown();
+        });
+        assertTrue(read.await(5, TimeUnit.SECONDS));
+        clock.shutdown();
+        for (Thread source : sources) {
+            source.join();
+        }
+
+        assertEquals(1_000, fills[0]);
+        assertEquals(1_000, shares[0]);
+        assertEquals(0.0, balance[0]);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        }
+        catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void testUnlimitedSpeedReplaysInFrameSizedBatches() throws InterruptedException {
+        // A trading day of 5 minute candles is 78 * 300 ticks; replay several days
+        CountingMarket market = new CountingMarket(500_000L, Double.POSITIVE_INFINITY);
+        SimulationClock clock = new SimulationClock(market);
+        clock.start();
+
+        CountDownLatch commandRan = new CountDownLatch(1);
+        clock.submit(commandRan::countDown);
+
+        assertTrue(market.finished.await(10, TimeUnit.SECONDS));
+        assertTrue(commandRan.await(1, TimeUnit.SECONDS));
+        assertEquals(500_000L, market.ticks.get());
+        // The display only sees one state per batch, far fewer than one per tick
+        assertTrue(market.batches.get() < 5_000L, "batches: " + market.batches.get());
+        clock.shutdown();
+    }
+
+    @Test
+    void testStopEndsUnlimitedRun() throws InterruptedException {
+        CountingMarket market = new CountingMarket(Long.MAX_VALUE, Double.POSITIVE_INFINITY);
+        SimulationClock clock = new SimulationClock(market);
+        clock.start();
+        Thread.sleep(50);
+        clock.stop();
+
+        CountDownLatch stopped = new CountDownLatch(1);
+        clock.submit(stopped::countDown);
+        assertTrue(stopped.await(1, TimeUnit.SECONDS));
+        long afterStop = market.ticks.get();
+        Thread.sleep(50);
+        assertEquals(afterStop, market.ticks.get());
+        clock.shutdown();
+    }
+}
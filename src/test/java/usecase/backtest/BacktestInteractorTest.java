@@ -0,0 +1,110 @@
+package usecase.backtest;
+
+import entity.PricePoint;
+import entity.TimeInterval;
+import org.junit.jupiter.api.Test;
+import usecase.simulated_trade.SimulationDataAccessInterface;
+import usecase.strategy.MovingAverageCrossStrategy;
+import usecase.strategy.StrategyStats;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BacktestInteractorTest {
+
+    private static class FakeSimulationData implements SimulationDataAccessInterface {
+        private final int candles;
+
+        FakeSimulationData(int candles) {
+            this.candles = candles;
+        }
+
+        @Override
+        public List<PricePoint> loadHistory(String ticker) {
+            List<PricePoint> points = new ArrayList<>();
+            LocalDateTime time = LocalDateTime.of(2024, 1, 2, 9, 30);
+            for (int i = 0; i < candles; i++) {
+                double price = 50.0 + i;
+                points.add(new PricePoint(null, ticker, time.plusMinutes(5L * i), TimeInterval.FIVE_MINUTES,
+                        price, price, price, price, 1000.0, "test"));
+            }
+            return points;
+        }
+
+        @Override
+        public void generateTicks(PricePoint point, double[] buffer, int numberOfTicks) {
+            Arrays.fill(buffer, 0, numberOfTicks, point.getClose());
+        }
+    }
+
+    private static class CapturingPresenter implements BacktestOutputBoundary {
+        BacktestOutputData output;
+        String error;
+
+        @Override
+        public void prepareSuccessView(BacktestOutputData outputData) {
+            output = outputData;
+        }
+
+        @Override
+        public void prepareFailView(String error) {
+            this.error = error;
+        }
+    }
+
+    @Test
+    void testReplaysEntireHistory() {
+        CapturingPresenter presenter = new CapturingPresenter();
+        new BacktestInteractor(new FakeSimulationData(1000), presenter)
+                .execute(new BacktestInputData("AAPL", 5000.0));
+
+        assertNull(presenter.error);
+        assertNotNull(presenter.output);
+        assertEquals(1000, presenter.output.getCandleCount());
+        // One tick per simulated second of each 5-minute candle
+        assertEquals(300_000L, presenter.output.getTickCount());
+        assertEquals(1049.0, presenter.output.getFinalState().getCurrentPrice());
+        assertEquals(5000.0, presenter.output.getFinalState().getTotalEquity());
+        assertEquals(0, presenter.output.getFinalState().getChartData().length);
+        assertTrue(presenter.output.getTicksPerSecond() > 0);
+    }
+
+    @Test
+    void testReportsStrategyLatency() {
+        CapturingPresenter presenter = new CapturingPresenter();
+        new BacktestInteractor(new FakeSimulationData(10), presenter)
+                .execute(new BacktestInputData("AAPL", 5000.0, 1L,
+                        List.of(() -> new MovingAverageCrossStrategy(2, 3, 1000.0))));
+
+        assertNull(presenter.error);
+        assertEquals(1, presenter.output.getStrategyStats().size());
+        StrategyStats stats = presenter.output.getStrategyStats().get(0);
+        assertEquals("MA Cross(2/3)", stats.getName());
+        // One call per tick plus one per completed candle
+        assertEquals(3000L + 10L, stats.getCalls());
+        assertEquals(stats.getOverBudgetCalls(), presenter.output.getOverBudgetCalls());
+    }
+
+    @Test
+    void testFailsWithoutHistory() {
+        CapturingPresenter presenter = new CapturingPresenter();
+        new BacktestInteractor(new FakeSimulationData(0), presenter)
+                .execute(new BacktestInputData("AAPL", 5000.0));
+
+        assertNull(presenter.output);
+        assertEquals("Failed to load historical data. Check API/Network.", presenter.error);
+    }
+
+    @Test
+    void testRejectsNonPositiveBalance() {
+        CapturingPresenter presenter = new CapturingPresenter();
+        new BacktestInteractor(new FakeSimulationData(1), presenter)
+                .execute(new BacktestInputData("AAPL", 0.0));
+
+        assertEquals("Initial balance must be positive.", presenter.error);
+    }
+}
@@ -0,0 +1,148 @@
+package usecase.indicator;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndicatorTest {
+
+    private static final double EPS = 1e-9;
+
+    private double[] randomWalk(int n) {
+        Random random = new Random(42);
+        double[] prices = new double[n];
+        double price = 100.0;
+        for (int i = 0; i < n; i++) {
+            price += random.nextGaussian();
+            prices[i] = price;
+        }
+        return prices;
+    }
+
+    // --- 1. Rolling indicators must match a naive recomputation over the window ---
+    @Test
+    void testSmaAndBollingerMatchNaiveWindow() {
+        double[] prices = randomWalk(500);
+        int period = 20;
+        SimpleMovingAverage sma = new SimpleMovingAverage(period);
+        BollingerBands bands = new BollingerBands(period, 2.0);
+
+        for (int i = 0; i < prices.length; i++) {
+            sma.update(prices[i], 0);
+            bands.update(prices[i], 0);
+
+            if (i < period - 1) {
+                assertFalse(sma.isReady());
+                assertTrue(Double.isNaN(bands.getValue(BollingerBands.UPPER_LINE)));
+                continue;
+            }
+            double sum = 0;
+            for (int j = i - period + 1; j <= i; j++) {
+                sum += prices[j];
+            }
+            double mean = sum / period;
+            double squares = 0;
+            for (int j = i - period + 1; j <= i; j++) {
+                squares += (prices[j] - mean) * (prices[j] - mean);
+            }
+            double deviation = Math.sqrt(squares / period);
+
+            assertEquals(mean, sma.getValue(0), 1e-7);
+            assertEquals(mean, bands.getValue(BollingerBands.MIDDLE_LINE), 1e-7);
+            assertEquals(mean + 2 * deviation, bands.getValue(BollingerBands.UPPER_LINE), 1e-7);
+            assertEquals(mean - 2 * deviation, bands.getValue(BollingerBands.LOWER_LINE), 1e-7);
+        }
+    }
+
+    @Test
+    void testDonchianMatchesNaiveExtremes() {
+        double[] prices = randomWalk(300);
+        int period = 7;
+        DonchianChannel channel = new DonchianChannel(period);
+
+        for (int i = 0; i < prices.length; i++) {
+            channel.update(prices[i], 0);
+            if (i >= period - 1) {
+                double[] window = Arrays.copyOfRange(prices, i - period + 1, i + 1);
+                assertEquals(Arrays.stream(window).max().getAsDouble(), channel.getValue(DonchianChannel.UPPER_LINE), EPS);
+                assertEquals(Arrays.stream(window).min().getAsDouble(), channel.getValue(DonchianChannel.LOWER_LINE), EPS);
+            }
+        }
+    }
+
+    // --- 2. Smoothed indicators ---
+    @Test
+    void testEmaSeedsWithSimpleMean() {
+        ExponentialMovingAverage ema = new ExponentialMovingAverage(3);
+        ema.update(1, 0);
+        ema.update(2, 0);
+        assertFalse(ema.isReady());
+        ema.update(3, 0);
+        assertEquals(2.0, ema.getValue(), EPS);
+        ema.update(6, 0);
+        // alpha = 0.5 -> 2 + 0.5 * (6 - 2)
+        assertEquals(4.0, ema.getValue(), EPS);
+    }
+
+    @Test
+    void testRsiBounds() {
+        RelativeStrengthIndex rsi = new RelativeStrengthIndex(14);
+        for (int i = 0; i < 20; i++) {
+            rsi.update(100 + i, 0);
+        }
+        // Only gains -> maximum strength
+        assertEquals(100.0, rsi.getValue(0), EPS);
+
+        for (int i = 0; i < 200; i++) {
+            rsi.update(100 - i, 0);
+        }
+        assertTrue(rsi.getValue(0) < 1.0);
+    }
+
+    @Test
+    void testMacdHistogramIsDifference() {
+        MovingAverageConvergenceDivergence macd = new MovingAverageConvergenceDivergence(12, 26, 9);
+        for (double price : randomWalk(100)) {
+            macd.update(price, 0);
+        }
+        assertTrue(macd.isReady());
+        assertEquals(macd.getValue(MovingAverageConvergenceDivergence.MACD_LINE)
+                        - macd.getValue(MovingAverageConvergenceDivergence.SIGNAL_LINE),
+                macd.getValue(MovingAverageConvergenceDivergence.HISTOGRAM_LINE), EPS);
+    }
+
+    @Test
+    void testVwapWeightsByVolume() {
+        VolumeWeightedAveragePrice vwap = new VolumeWeightedAveragePrice();
+        assertFalse(vwap.isReady());
+        vwap.update(10, 1);
+        vwap.update(20, 3);
+        assertEquals(17.5, vwap.getValue(0), EPS);
+        vwap.reset();
+        assertFalse(vwap.isReady());
+    }
+
+    // --- 3. Series computation used by the chart window ---
+    @Test
+    void testComputeSeriesAlignsWithPrices() {
+        List<Double> prices = new ArrayList<>();
+        for (double price : randomWalk(50)) {
+            prices.add(price);
+        }
+        Map<String, List<Double>> series = IndicatorSet.computeSeries(
+                List.of(IndicatorType.SMA_20, IndicatorType.BOLLINGER_20), prices, null);
+
+        assertEquals(4, series.size());
+        for (List<Double> line : series.values()) {
+            assertEquals(prices.size(), line.size());
+            assertNull(line.get(0));
+            assertNotNull(line.get(prices.size() - 1));
+        }
+    }
+}
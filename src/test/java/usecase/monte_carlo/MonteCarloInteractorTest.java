@@ -0,0 +1,110 @@
+package usecase.monte_carlo;
+
+import dataaccess.SimulationMarketDataAccess;
+import entity.PricePoint;
+import entity.TimeInterval;
+import org.junit.jupiter.api.Test;
+import usecase.update_market.UpdateMarketInteractor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloInteractorTest {
+
+    private static class CapturingPresenter implements MonteCarloOutputBoundary {
+        MonteCarloOutputData output;
+        String error;
+
+        @Override
+        public void prepareSuccessView(MonteCarloOutputData outputData) {
+            output = outputData;
+        }
+
+        @Override
+        public void prepareFailView(String error) {
+            this.error = error;
+        }
+    }
+
+    private static List<PricePoint> candles(String ticker) {
+        List<PricePoint> points = new ArrayList<>();
+        LocalDateTime time = LocalDateTime.of(2024, 1, 2, 9, 30);
+        points.add(new PricePoint(null, ticker, time, TimeInterval.FIVE_MINUTES,
+                100.0, 110.0, 90.0, 101.0, 1000.0, "test"));
+        points.add(new PricePoint(null, ticker, time.plusMinutes(5), TimeInterval.FIVE_MINUTES,
+                101.0, 104.0, 95.0, 102.0, 1000.0, "test"));
+        return points;
+    }
+
+    private MonteCarloOutputData run(ForkJoinPool pool, List<RecordedOrder> orders, long seed) {
+        CapturingPresenter presenter = new CapturingPresenter();
+        SimulationMarketDataAccess dataAccess = new SimulationMarketDataAccess((ticker, interval) -> candles(ticker));
+        new MonteCarloInteractor(dataAccess, presenter, pool)
+                .execute(new MonteCarloInputData("AAPL", 10000.0, 200, orders, seed));
+        assertNull(presenter.error);
+        return presenter.output;
+    }
+
+    @Test
+    void testNoOrdersLeavesEveryPathFlat() {
+        MonteCarloOutputData output = run(ForkJoinPool.commonPool(), List.of(), 1L);
+
+        assertEquals(200, output.getPathCount());
+        assertEquals(2, output.getCandleCount());
+        assertEquals(10000.0, output.getFinalEquityPercentile(0.0));
+        assertEquals(10000.0, output.getFinalEquityPercentile(1.0));
+        assertEquals(0.0, output.getDrawdownPercentile(1.0));
+        assertEquals(0L, output.getLongestDrawdownPercentile(1.0));
+        assertEquals(0.0, output.getLossProbability());
+    }
+
+    @Test
+    void testPathsShareEndpointsButNotDrawdowns() {
+        // Bought at the first open, so every path ends +20 at the last close
+        List<RecordedOrder> orders = List.of(new RecordedOrder(0, 0, true, 10));
+        MonteCarloOutputData output = run(ForkJoinPool.commonPool(), orders, 7L);
+
+        assertEquals(10020.0, output.getFinalEquityPercentile(0.05), 1e-9);
+        assertEquals(10020.0, output.getFinalEquityPercentile(0.95), 1e-9);
+        assertTrue(output.getDrawdownPercentile(1.0) > output.getDrawdownPercentile(0.0));
+        // Every path visits the candle low of 90
+        assertTrue(output.getDrawdownPercentile(0.0) >= 100.0 / 10100.0 - 1e-9);
+        // A path below its peak for at least one second, and never longer than the whole replay
+        assertTrue(output.getLongestDrawdownPercentile(0.0) > 0L);
+        assertTrue(output.getLongestDrawdownPercentile(1.0) <= 2L * UpdateMarketInteractor.CANDLE_SECONDS);
+    }
+
+    @Test
+    void testSameSeedGivesSameDistributionOnAnyPool() {
+        List<RecordedOrder> orders = List.of(new RecordedOrder(0, 30, true, 10),
+                new RecordedOrder(1, 120, false, 10));
+        ForkJoinPool single = new ForkJoinPool(1);
+        ForkJoinPool wide = new ForkJoinPool(4);
+        try {
+            MonteCarloOutputData first = run(single, orders, 42L);
+            MonteCarloOutputData second = run(wide, orders, 42L);
+            for (double p = 0.0; p <= 1.0; p += 0.1) {
+                assertEquals(first.getFinalEquityPercentile(p), second.getFinalEquityPercentile(p));
+                assertEquals(first.getDrawdownPercentile(p), second.getDrawdownPercentile(p));
+                assertEquals(first.getLongestDrawdownPercentile(p), second.getLongestDrawdownPercentile(p));
+            }
+        }
+        finally {
+            single.shutdown();
+            wide.shutdown();
+        }
+    }
+
+    @Test
+    void testRejectsNonPositivePathCount() {
+        CapturingPresenter presenter = new CapturingPresenter();
+        new MonteCarloInteractor(new SimulationMarketDataAccess((ticker, interval) -> candles(ticker)), presenter)
+                .execute(new MonteCarloInputData("AAPL", 10000.0, 0, List.of(), 1L));
+
+        assertEquals("Path count must be positive.", presenter.error);
+    }
+}
@@ -0,0 +1,160 @@
+package usecase.optimizer;
+
+import entity.PricePoint;
+import entity.TimeInterval;
+import org.junit.jupiter.api.Test;
+import usecase.indicator.CandleIndicatorCache;
+import usecase.simulated_trade.SimulationDataAccessInterface;
+import usecase.strategy.MovingAverageCrossStrategy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimizerInteractorTest {
+
+    /**
+     * A slow sine wave, so moving-average crosses happen at period-dependent points.
+     */
+    private static class WaveData implements SimulationDataAccessInterface {
+        final AtomicInteger loads = new AtomicInteger();
+        final AtomicInteger generated = new AtomicInteger();
+
+        @Override
+        public List<PricePoint> loadHistory(String ticker) {
+            loads.incrementAndGet();
+            List<PricePoint> points = new ArrayList<>();
+            LocalDateTime time = LocalDateTime.of(2024, 1, 2, 9, 30);
+            for (int i = 0; i < 120; i++) {
+                double price = 100.0 + 20.0 * Math.sin(i / 8.0);
+                points.add(new PricePoint(null, ticker, time.plusMinutes(5L * i), TimeInterval.FIVE_MINUTES,
+                        price, price, price, price, 1000.0, "test"));
+            }
+            return points;
+        }
+
+        @Override
+        public void generateTicks(PricePoint point, double[] buffer, int numberOfTicks) {
+            generated.incrementAndGet();
+            Arrays.fill(buffer, 0, numberOfTicks, point.getClose());
+        }
+    }
+
+    private static class CapturingPresenter implements OptimizerOutputBoundary {
+        OptimizerOutputData output;
+        String error;
+
+        @Override
+        public void prepareSuccessView(OptimizerOutputData outputData) {
+            output = outputData;
+        }
+
+        @Override
+        public void prepareFailView(String error) {
+            this.error = error;
+        }
+    }
+
+    private static final ParameterizedStrategyFactory MA_CROSS = (parameters, cache) ->
+            new MovingAverageCrossStrategy(parameters.get("fast").intValue(), parameters.get("slow").intValue(),
+                    10_000.0, cache);
+
+    private OptimizerInputData input(SearchMode mode, int samples) {
+        return new OptimizerInputData("AAPL", 100_000.0, MA_CROSS,
+                List.of(new ParameterRange("fast", 2, 10, 2), new ParameterRange("slow", 4, 20, 4)),
+                mode, samples, 7L);
+    }
+
+    @Test
+    void testGridSearchRanksAllValidCombinations() {
+        WaveData data = new WaveData();
+        CapturingPresenter presenter = new CapturingPresenter();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            new OptimizerInteractor(data, presenter, pool).execute(input(SearchMode.GRID, 0));
+        }
+        finally {
+            pool.shutdown();
+        }
+
+        assertNull(presenter.error);
+        // 5 fast x 5 slow values; combinations with fast >= slow are rejected by the strategy
+        int valid = 0;
+        for (int fast = 2; fast <= 10; fast += 2) {
+            for (int slow = 4; slow <= 20; slow += 4) {
+                if (fast < slow) {
+                    valid++;
+                }
+            }
+        }
+        List<OptimizationResult> ranked = presenter.output.getRankedResults();
+        assertEquals(valid, ranked.size());
+        assertEquals(25 - valid, presenter.output.getSkippedCount());
+        for (int i = 1; i < ranked.size(); i++) {
+            assertTrue(ranked.get(i - 1).getFinalEquity() >= ranked.get(i).getFinalEquity());
+        }
+        assertTrue(ranked.get(0).getTotalTrades() > 0);
+
+        // Candles and ticks are prepared once for the whole sweep
+        assertEquals(1, data.loads.get());
+        assertEquals(120, data.generated.get());
+    }
+
+    @Test
+    void testRandomSearchSamplesDistinctCombinations() {
+        CapturingPresenter presenter = new CapturingPresenter();
+        new OptimizerInteractor(new WaveData(), presenter).execute(input(SearchMode.RANDOM, 10));
+
+        int evaluated = presenter.output.getRankedResults().size() + presenter.output.getSkippedCount();
+        assertEquals(10, evaluated);
+        Set<Object> distinct = new HashSet<>();
+        for (OptimizationResult result : presenter.output.getRankedResults()) {
+            assertTrue(distinct.add(result.getParameters()));
+        }
+    }
+
+    @Test
+    void testCachedAveragesMatchIncrementalStrategy() {
+        WaveData data = new WaveData();
+        CapturingPresenter cached = new CapturingPresenter();
+        CapturingPresenter incremental = new CapturingPresenter();
+        new OptimizerInteractor(data, cached).execute(input(SearchMode.GRID, 0));
+        new OptimizerInteractor(data, incremental).execute(new OptimizerInputData("AAPL", 100_000.0,
+                (parameters, cache) -> MA_CROSS.create(parameters, null),
+                List.of(new ParameterRange("fast", 2, 10, 2), new ParameterRange("slow", 4, 20, 4)),
+                SearchMode.GRID, 0, 7L));
+
+        List<OptimizationResult> a = cached.output.getRankedResults();
+        List<OptimizationResult> b = incremental.output.getRankedResults();
+        assertEquals(a.size(), b.size());
+        for (int i = 0; i < a.size(); i++) {
+            assertEquals(a.get(i).getFinalEquity(), b.get(i).getFinalEquity(), 1e-9);
+        }
+    }
+
+    @Test
+    void testCacheComputesEachSeriesOnce() {
+        CandleIndicatorCache cache = new CandleIndicatorCache("AAPL", new WaveData().loadHistory("AAPL"));
+        assertSame(cache.sma(5), cache.sma(5));
+        assertTrue(Double.isNaN(cache.sma(5)[3]));
+        assertFalse(Double.isNaN(cache.sma(5)[4]));
+    }
+
+    @Test
+    void testRejectsOversizedGrid() {
+        CapturingPresenter presenter = new CapturingPresenter();
+        new OptimizerInteractor(new WaveData(), presenter).execute(new OptimizerInputData("AAPL", 1000.0, MA_CROSS,
+                List.of(new ParameterRange("fast", 1, 1000, 1), new ParameterRange("slow", 1, 1000, 1)),
+                SearchMode.GRID, 0, 1L));
+
+        assertNull(presenter.output);
+        assertTrue(presenter.error.contains("random search"));
+    }
+}
@@ -110,6 +110,29 @@ public class PortfolioStatisticsInteractorTest {
         assertEquals((10.0 / 200.0) * 100.0, output.captured.getTotalReturnRate(), 1e-6);
     }
 
+    @Test
+    void requestPortfolioSummary_prefersAggregates_overTradeHistory() {
+        UUID userId = UUID.randomUUID();
+        LocalDateTime t = LocalDateTime.of(2021, 5, 5, 9, 0);
+        PortfolioTradeGateway tradeGateway = u -> {
+            throw new AssertionError("history should not be fetched");
+        };
+        PortfolioAggregateGateway aggregateGateway = u -> new PortfolioTradeAggregates(
+                30.0, 50.0, 20.0, 4, 1, 1, t, t.plusDays(2));
+        List<PortfolioStatisticsOutputData> presented = new java.util.ArrayList<>();
+
+        new PortfolioStatisticsInteractor(tradeGateway, u -> 600.0, aggregateGateway, presented::add)
+                .requestPortfolioSummary(userId);
+
+        PortfolioStatisticsOutputData out = presented.get(0);
+        assertEquals(30.0, out.getTotalProfit(), 1e-6);
+        assertEquals(50.0, out.getMaxGain(), 1e-6);
+        assertEquals(20.0, out.getMaxDrawdown(), 1e-6);
+        assertEquals(25.0, out.getWinRate(), 1e-6);
+        assertEquals(5.0, out.getTotalReturnRate(), 1e-6);
+        assertEquals("2021-05-05 to 2021-05-07", out.getTradingSpanString());
+    }
+
     @Test
     void testSimpleTradesCalculation() {
         LocalDateTime t1 = LocalDateTime.of(2025, 1, 1, 10, 0);
@@ -0,0 +1,91 @@
+package usecase.simulated_trade;
+
+import entity.Account;
+import entity.OrderBook;
+import entity.OrderType;
+import entity.PriceBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RestingOrderMatcherTest {
+
+    private static class CapturingPresenter implements SimulatedTradeOutputBoundary {
+        String message;
+        String error;
+
+        @Override
+        public void prepareSuccessView(SimulatedTradeOutputData outputData) {
+            message = outputData.getMessage();
+        }
+
+        @Override
+        public void prepareFailView(String error) {
+            this.error = error;
+        }
+    }
+
+    @Test
+    void testLimitBuyRestsUntilPriceReachesIt() {
+        Account account = new Account(10_000.0, "u");
+        OrderBook book = new OrderBook();
+        CapturingPresenter presenter = new CapturingPresenter();
+        SimulatedTradeInteractor interactor = new SimulatedTradeInteractor(presenter, account, board(), book);
+        RestingOrderMatcher matcher = new RestingOrderMatcher(book, account);
+
+        interactor.executeTrade(new SimulatedTradeInputData("AAPL", true, 1000.0,
+                OrderType.LIMIT, 100.0, Double.NaN));
+        assertNull(presenter.error);
+        assertTrue(presenter.message.contains("ORD-1"));
+        assertEquals(10_000.0, account.getBalance());
+
+        assertEquals(0, matcher.match("AAPL", 101.0));
+        assertEquals(1, matcher.match("AAPL", 99.0));
+        assertEquals(10, account.getPositions().get("AAPL").getQuantity());
+        assertEquals(10_000.0 - 990.0, account.getBalance(), 1e-9);
+        assertEquals(0, book.size());
+    }
+
+    @Test
+    void testRejectsInvalidRestingOrders() {
+        Account account = new Account(500.0, "u");
+        CapturingPresenter presenter = new CapturingPresenter();
+        SimulatedTradeInteractor interactor = new SimulatedTradeInteractor(presenter, account, board(), new OrderBook());
+
+        interactor.executeTrade(new SimulatedTradeInputData("AAPL", true, 1000.0,
+                OrderType.STOP, Double.NaN, Double.NaN));
+        assertEquals("Enter a positive stop price.", presenter.error);
+
+        interactor.executeTrade(new SimulatedTradeInputData("AAPL", true, 1000.0,
+                OrderType.LIMIT, 100.0, Double.NaN));
+        assertEquals("Insufficient funds.", presenter.error);
+
+        new SimulatedTradeInteractor(presenter, account, board()).executeTrade(new SimulatedTradeInputData(
+                "AAPL", true, 100.0, OrderType.LIMIT, 100.0, Double.NaN));
+        assertEquals("Limit and stop orders are not available.", presenter.error);
+    }
+
+    @Test
+    void testUnaffordableFillIsCancelled() {
+        Account account = new Account(1_000.0, "u");
+        OrderBook book = new OrderBook();
+        CapturingPresenter presenter = new CapturingPresenter();
+        SimulatedTradeInteractor interactor = new SimulatedTradeInteractor(presenter, account, board(), book);
+
+        // Buy stop placed at $100 but the price gaps far above it
+        interactor.executeTrade(new SimulatedTradeInputData("AAPL", true, 1000.0,
+                OrderType.STOP, Double.NaN, 100.0));
+        assertEquals(0, new RestingOrderMatcher(book, account, presenter).match("AAPL", 150.0));
+        assertEquals(0, book.size());
+        assertTrue(account.getPositions().isEmpty());
+        assertEquals("Cancelled order ORD-1 for 10 shares of AAPL: insufficient funds at $150.00.", presenter.error);
+    }
+
+    private static PriceBoard board() {
+        PriceBoard board = new PriceBoard(List.of("AAPL"));
+        board.update(0, 100.0);
+        return board;
+    }
+}
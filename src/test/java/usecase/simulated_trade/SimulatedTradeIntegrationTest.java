@@ -2,6 +2,7 @@ package usecase.simulated_trade;
 
 
 import java.io.IOException;
+import java.util.List;
 import java.util.concurrent.ThreadLocalRandom;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import dataaccess.InMemorySessionDataAccessObject;
 import dataaccess.SupabaseTradeDataAccessObject;
 import entity.Account;
+import entity.PriceBoard;
 import interfaceadapter.simulated_trading.TradingPresenter;
 import interfaceadapter.simulated_trading.TradingViewModel;
 import usecase.session.SessionDataAccessInterface;
@@ -22,6 +24,7 @@ public class SimulatedTradeIntegrationTest {
     private SessionDataAccessInterface sessionDAO;
     private SupabaseTradeDataAccessObject tradeDAO;
     private SimulatedTradeInteractor tradeInteractor;
+    private PriceBoard board;
     private Account account;
     private TradingPresenter presenter;
     private String testEmail;
@@ -56,7 +59,8 @@ public class SimulatedTradeIntegrationTest {
             new ViewManagerModel(),
             new interfaceadapter.setup_simulation.SetupViewModel()
         );
-        tradeInteractor = new SimulatedTradeInteractor(presenter, account);
+        board = new PriceBoard(List.of("AAPL"));
+        tradeInteractor = new SimulatedTradeInteractor(presenter, account, board);
     }
 
     @Test
@@ -65,7 +69,8 @@ public class SimulatedTradeIntegrationTest {
         boolean isBuy = true;
         double amount = 1500.0;
         double price = 150.0;
-        SimulatedTradeInputData input = new SimulatedTradeInputData(ticker, isBuy, amount, price);
+        board.update(board.slotOf(ticker), price);
+        SimulatedTradeInputData input = new SimulatedTradeInputData(ticker, isBuy, amount);
         assertDoesNotThrow(() -> tradeInteractor.executeTrade(input));
     }
     
@@ -76,7 +81,8 @@ public class SimulatedTradeIntegrationTest {
         double buyPrice = 150.0;
         double sellPrice = 151.0; // Use a different price to guarantee nonzero realizedPnL
         // Step 1: Buy to open a position (while logged in)
-        SimulatedTradeInputData buyInput = new SimulatedTradeInputData(ticker, true, amount, buyPrice);
+        board.update(board.slotOf(ticker), buyPrice);
+        SimulatedTradeInputData buyInput = new SimulatedTradeInputData(ticker, true, amount);
         tradeInteractor.executeTrade(buyInput);
 
         // Calculate the quantity actually bought
@@ -87,7 +93,8 @@ public class SimulatedTradeIntegrationTest {
 
         // Step 3: Sell the exact quantity to close the position at a different price
         double sellAmount = quantity * sellPrice;
-        SimulatedTradeInputData sellInput = new SimulatedTradeInputData(ticker, false, sellAmount, sellPrice);
+        board.update(board.slotOf(ticker), sellPrice);
+        SimulatedTradeInputData sellInput = new SimulatedTradeInputData(ticker, false, sellAmount);
         org.junit.jupiter.api.Assertions.assertThrows(IllegalStateException.class, () -> {
             tradeInteractor.executeTrade(sellInput);
         });
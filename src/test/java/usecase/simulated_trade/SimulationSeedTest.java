@@ -0,0 +1,81 @@
+package usecase.simulated_trade;
+
+import dataaccess.SimulationMarketDataAccess;
+import entity.Account;
+import entity.PricePoint;
+import entity.TimeInterval;
+import org.junit.jupiter.api.Test;
+import usecase.update_market.UpdateMarketInteractor;
+import usecase.update_market.UpdateMarketOutputBoundary;
+import usecase.update_market.UpdateMarketOutputData;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SimulationSeedTest {
+
+    private static class LatestPresenter implements UpdateMarketOutputBoundary {
+        UpdateMarketOutputData latest;
+
+        @Override
+        public void prepareSuccessView(UpdateMarketOutputData outputData) {
+            latest = outputData;
+        }
+
+        @Override
+        public void prepareFailView(String error) {
+        }
+    }
+
+    private static List<PricePoint> candles(String ticker) {
+        List<PricePoint> points = new ArrayList<>();
+        LocalDateTime time = LocalDateTime.of(2024, 1, 2, 9, 30);
+        for (int i = 0; i < 3; i++) {
+            points.add(new PricePoint(null, ticker, time.plusMinutes(5L * i), TimeInterval.FIVE_MINUTES,
+                    100.0, 110.0, 90.0, 105.0, 1000.0, "test"));
+        }
+        return points;
+    }
+
+    private double[] runTicks(List<String> tickers, long seed) {
+        LatestPresenter presenter = new LatestPresenter();
+        UpdateMarketInteractor interactor = new UpdateMarketInteractor(
+                new SimulationMarketDataAccess((ticker, interval) -> candles(ticker)),
+                presenter, new Account(1000.0, "user"), tickers);
+        interactor.setSeed(seed);
+        interactor.loadData();
+        interactor.executeTicks(900);
+        return presenter.latest.getChartData();
+    }
+
+    @Test
+    void testCandleStreamsAreReproducibleAndIndependent() {
+        SplittableRandom first = SimulationSeed.candleStream(1L, "AAPL", 0);
+        SplittableRandom again = SimulationSeed.candleStream(1L, "AAPL", 0);
+        for (int i = 0; i < 10; i++) {
+            assertEquals(first.nextLong(), again.nextLong());
+        }
+
+        long base = SimulationSeed.candleStream(1L, "AAPL", 0).nextLong();
+        assertNotEquals(base, SimulationSeed.candleStream(1L, "AAPL", 1).nextLong());
+        assertNotEquals(base, SimulationSeed.candleStream(1L, "MSFT", 0).nextLong());
+        assertNotEquals(base, SimulationSeed.candleStream(2L, "AAPL", 0).nextLong());
+        assertNotEquals(SimulationSeed.forPath(1L, 0), SimulationSeed.forPath(1L, 1));
+    }
+
+    @Test
+    void testSameSeedReplaysSameTicks() {
+        assertArrayEquals(runTicks(List.of("AAPL"), 99L), runTicks(List.of("AAPL"), 99L));
+        assertFalse(Arrays.equals(runTicks(List.of("AAPL"), 99L), runTicks(List.of("AAPL"), 100L)));
+    }
+
+    @Test
+    void testOtherTickersDoNotDisturbAStream() {
+        assertArrayEquals(runTicks(List.of("AAPL"), 5L), runTicks(List.of("AAPL", "MSFT", "NVDA"), 5L));
+    }
+}
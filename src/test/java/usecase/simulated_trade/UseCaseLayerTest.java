@@ -1,8 +1,12 @@
 package usecase.simulated_trade;
 
 import entity.Account;
+import entity.PriceBoard;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class UseCaseLayerTest {
@@ -25,26 +29,29 @@ class UseCaseLayerTest {
 
     private Account account;
     private MockPresenter presenter;
+    private PriceBoard board;
     private SimulatedTradeInteractor interactor;
 
     @BeforeEach
     void setUp() {
         account = new Account(2000.0, "user1");
         presenter = new MockPresenter();
-        interactor = new SimulatedTradeInteractor(presenter, account);
+        board = new PriceBoard(List.of("AAPL", "A"));
+        board.update(board.slotOf("AAPL"), 100.0);
+        board.update(board.slotOf("A"), 10.0);
+        interactor = new SimulatedTradeInteractor(presenter, account, board);
     }
 
     // --- 1. Test Successful Trade (Also covers Input/Output Data Getters) ---
     @Test
     void testExecuteTradeSuccess() {
         // Prepare InputData
-        SimulatedTradeInputData input = new SimulatedTradeInputData("AAPL", true, 1000.0, 100.0);
+        SimulatedTradeInputData input = new SimulatedTradeInputData("AAPL", true, 1000.0);
 
         // Test InputData Getters to ensure coverage
         assertEquals("AAPL", input.getTicker());
         assertTrue(input.isBuyAction());
         assertEquals(1000.0, input.getAmount());
-        assertEquals(100.0, input.getCurrentPrice());
 
         // Execute
         interactor.executeTrade(input);
@@ -63,7 +70,7 @@ class UseCaseLayerTest {
     @Test
     void testFailNegativeAmount() {
         // Branch 1: amount <= 0
-        SimulatedTradeInputData input = new SimulatedTradeInputData("A", true, -50.0, 10.0);
+        SimulatedTradeInputData input = new SimulatedTradeInputData("A", true, -50.0);
         interactor.executeTrade(input);
         assertEquals("Amount must be positive.", presenter.failMessage);
     }
@@ -71,7 +78,7 @@ class UseCaseLayerTest {
     @Test
     void testFailTooSmallAmount() {
         // Branch 2: quantity <= 0 (Not enough money to buy 1 share)
-        SimulatedTradeInputData input = new SimulatedTradeInputData("A", true, 5.0, 100.0);
+        SimulatedTradeInputData input = new SimulatedTradeInputData("AAPL", true, 5.0);
         interactor.executeTrade(input);
         assertEquals("Amount too low to buy 1 share.", presenter.failMessage);
     }
@@ -79,8 +86,26 @@ class UseCaseLayerTest {
     @Test
     void testFailInsufficientFunds() {
         // Branch 3: Insufficient funds
-        SimulatedTradeInputData input = new SimulatedTradeInputData("A", true, 5000.0, 10.0);
+        SimulatedTradeInputData input = new SimulatedTradeInputData("A", true, 5000.0);
         interactor.executeTrade(input);
         assertEquals("Insufficient funds.", presenter.failMessage);
     }
+
+    @Test
+    void testMarketOrderFillsAtThePriceWhenItRuns() {
+        SimulatedTradeInputData input = new SimulatedTradeInputData("AAPL", true, 1000.0);
+        // The price moves between entering the order and the simulation thread running it
+        board.update(board.slotOf("AAPL"), 125.0);
+        interactor.executeTrade(input);
+
+        assertEquals(8, account.getPositions().get("AAPL").getQuantity());
+        assertEquals(1000.0, presenter.successData.getNewBalance());
+        assertTrue(presenter.successData.getMessage().contains("$125.00"));
+    }
+
+    @Test
+    void testFailWithoutPrice() {
+        interactor.executeTrade(new SimulatedTradeInputData("MSFT", true, 1000.0));
+        assertEquals("MSFT has no price yet.", presenter.failMessage);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,175 @@
+package usecase.simulated_trade;
+
+import entity.SimulatedTradeRecord;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteBehindTradeQueueTest {
+
+    private static final long WAIT_MILLIS = 5_000L;
+
+    @Test
+    void testTradesAreBatchedAndRetriedInOrder() throws Exception {
+        FlakyDataAccess dataAccess = new FlakyDataAccess(2);
+        WriteBehindTradeQueue queue = new WriteBehindTradeQueue(dataAccess, 3, 60_000L, 1L);
+        queue.start();
+
+        for (int i = 0; i < 7; i++) {
+            queue.onTradeClosed(trade(i));
+        }
+        // Two full batches go out on their own; the last trade waits for a flush
+        assertTrue(queue.flush(WAIT_MILLIS));
+
+        assertEquals(0, queue.getBacklog());
+        assertEquals(7, queue.getSavedCount());
+        assertEquals(2, queue.getFailedAttempts());
+        assertEquals("down", queue.getLastError());
+        List<Integer> sizes = new ArrayList<>();
+        List<Integer> quantities = new ArrayList<>();
+        for (List<SimulatedTradeRecord> batch : dataAccess.saved) {
+            sizes.add(batch.size());
+            for (SimulatedTradeRecord record : batch) {
+                quantities.add(record.getQuantity());
+            }
+        }
+        assertEquals(List.of(3, 3, 1), sizes);
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6), quantities);
+        assertEquals(0, queue.close(WAIT_MILLIS));
+    }
+
+    @Test
+    void testPartialBatchIsSavedAfterTheDelay() throws Exception {
+        FlakyDataAccess dataAccess = new FlakyDataAccess(0);
+        WriteBehindTradeQueue queue = new WriteBehindTradeQueue(dataAccess, 50, 20L, 1L);
+        queue.start();
+
+        queue.onTradeClosed(trade(0));
+        queue.onTradeClosed(trade(1));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(WAIT_MILLIS);
+        while (queue.getSavedCount() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(5L);
+        }
+
+        assertEquals(2, queue.getSavedCount());
+        assertEquals(0, queue.getBacklog());
+        assertEquals(0, queue.close(WAIT_MILLIS));
+    }
+
+    @Test
+    void testEnqueueDoesNotWaitForSlowSaves() throws Exception {
+        BlockingDataAccess dataAccess = new BlockingDataAccess();
+        WriteBehindTradeQueue queue = new WriteBehindTradeQueue(dataAccess, 1, 0L, 1L);
+        queue.start();
+
+        queue.onTradeClosed(trade(0));
+        assertTrue(dataAccess.entered.await(WAIT_MILLIS, TimeUnit.MILLISECONDS));
+        // The writer is stuck in a save, yet closing more trades returns at once
+        long start = System.nanoTime();
+        for (int i = 1; i < 100; i++) {
+            queue.onTradeClosed(trade(i));
+        }
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(1));
+        assertEquals(100, queue.getBacklog());
+
+        dataAccess.release.countDown();
+        assertEquals(0, queue.close(WAIT_MILLIS));
+        assertEquals(100, queue.getSavedCount());
+    }
+
+    @Test
+    void testCloseReportsTradesThatCouldNotBeSaved() throws Exception {
+        FlakyDataAccess dataAccess = new FlakyDataAccess(Integer.MAX_VALUE);
+        WriteBehindTradeQueue queue = new WriteBehindTradeQueue(dataAccess, 2, 60_000L, 1L);
+        queue.start();
+        queue.onTradeClosed(trade(0));
+        queue.onTradeClosed(trade(1));
+        queue.onTradeClosed(trade(2));
+
+        assertFalse(queue.flush(50L));
+        assertEquals(3, queue.close(WAIT_MILLIS));
+        assertTrue(dataAccess.saved.isEmpty());
+    }
+
+    @Test
+    void testNewTradesDoNotCutTheBackoffShort() throws Exception {
+        FlakyDataAccess dataAccess = new FlakyDataAccess(Integer.MAX_VALUE);
+        WriteBehindTradeQueue queue = new WriteBehindTradeQueue(dataAccess, 1, 0L, 60_000L);
+        queue.start();
+        queue.onTradeClosed(trade(0));
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(WAIT_MILLIS);
+        while (queue.getFailedAttempts() < 1 && System.nanoTime() < deadline) {
+            Thread.sleep(5L);
+        }
+
+        // Each of these fills a batch and notifies the writer, which is backing off
+        for (int i = 1; i < 50; i++) {
+            queue.onTradeClosed(trade(i));
+        }
+        Thread.sleep(100L);
+
+        assertEquals(1, queue.getFailedAttempts());
+        assertEquals(50, queue.getBacklog());
+        // Closing still ends the backoff, and every batch gets its last attempt
+        assertEquals(50, queue.close(WAIT_MILLIS));
+        assertEquals(51, queue.getFailedAttempts());
+    }
+
+    private static SimulatedTradeRecord trade(int quantity) {
+        LocalDateTime now = LocalDateTime.now();
+        return new SimulatedTradeRecord("AAPL", true, quantity, 100.0, 101.0, quantity, now, now,
+                UUID.randomUUID().toString());
+    }
+
+    /**
+     * Fails the first few calls, then records every batch it is given.
+     */
+    private static class FlakyDataAccess implements SimulatedTradeDataAccessInterface {
+        private final List<List<SimulatedTradeRecord>> saved = new ArrayList<>();
+        private int failuresLeft;
+
+        FlakyDataAccess(int failures) {
+            this.failuresLeft = failures;
+        }
+
+        @Override
+        public void saveTrade(SimulatedTradeRecord trade, UUID userId) {
+            throw new UnsupportedOperationException("Trades are saved in batches");
+        }
+
+        @Override
+        public void saveTrades(List<SimulatedTradeRecord> trades) {
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IllegalStateException("down");
+            }
+            saved.add(new ArrayList<>(trades));
+        }
+    }
+
+    /**
+     * Blocks inside the first save until released.
+     */
+    private static class BlockingDataAccess implements SimulatedTradeDataAccessInterface {
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+
+        @Override
+        public void saveTrade(SimulatedTradeRecord trade, UUID userId) {
+            entered.countDown();
+            try {
+                release.await();
+            }
+            catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package usecase.strategy;
+
+import entity.Account;
+import entity.PriceBoard;
+import entity.PricePoint;
+import entity.TimeInterval;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StrategyRunnerTest {
+
+    private static final String TICKER = "AAPL";
+
+    /**
+     * Burns the given time on every tick.
+     */
+    private static class BusyStrategy implements TradingStrategy {
+        private final long busyNanos;
+        private final long budgetNanos;
+
+        BusyStrategy(long busyNanos, long budgetNanos) {
+            this.busyNanos = busyNanos;
+            this.budgetNanos = budgetNanos;
+        }
+
+        @Override
+        public String getName() {
+            return "Busy";
+        }
+
+        @Override
+        public void onTick(StrategyContext context, String ticker, double price) {
+            final long end = System.nanoTime() + busyNanos;
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+        }
+
+        @Override
+        public long getTickBudgetNanos() {
+            return budgetNanos;
+        }
+    }
+
+    private static PricePoint candle(int index, double close) {
+        return new PricePoint(null, TICKER, LocalDateTime.of(2024, 1, 2, 9, 30).plusMinutes(5L * index),
+                TimeInterval.FIVE_MINUTES, close, close, close, close, 1000.0, "test");
+    }
+
+    @Test
+    void testMovingAverageCrossEntersAndExits() {
+        Account account = new Account(10_000.0, "strategy-test");
+        PriceBoard board = new PriceBoard(List.of(TICKER));
+        StrategyRunner runner = new StrategyRunner(new StrategyContext(account, board));
+        runner.addStrategy(new MovingAverageCrossStrategy(2, 3, 1000.0));
+
+        double[] closes = {10, 9, 8, 7, 8, 10};
+        for (int i = 0; i < closes.length; i++) {
+            board.update(0, closes[i]);
+            runner.onCandle(TICKER, candle(i, closes[i]));
+        }
+        // Fast average crossed above the slow one on the last candle
+        assertEquals(100, account.getPositions().get(TICKER).getQuantity());
+        assertEquals(9000.0, account.getBalance(), 1e-9);
+
+        board.update(0, 6.0);
+        runner.onCandle(TICKER, candle(closes.length, 6.0));
+        assertNull(account.getPositions().get(TICKER));
+        assertEquals(1, account.getTotalTrades());
+    }
+
+    @Test
+    void testContextRejectsUnaffordableBuy() {
+        Account account = new Account(100.0, "strategy-test");
+        PriceBoard board = new PriceBoard(List.of(TICKER));
+        StrategyContext context = new StrategyContext(account, board);
+
+        assertFalse(context.buy(TICKER, 50.0));
+        board.update(0, 10.0);
+        assertFalse(context.buy(TICKER, 500.0));
+        assertEquals("Insufficient funds.", context.getLastMessage());
+        assertTrue(context.buy(TICKER, 50.0));
+        assertEquals(5, context.getPositionQuantity(TICKER));
+        assertTrue(context.closePosition(TICKER));
+        assertEquals(0, context.getPositionQuantity(TICKER));
+    }
+
+    @Test
+    void testSlowStrategyIsFlagged() {
+        Account account = new Account(100.0, "strategy-test");
+        PriceBoard board = new PriceBoard(List.of(TICKER));
+        StrategyRunner runner = new StrategyRunner(new StrategyContext(account, board));
+        runner.addStrategy(new BusyStrategy(20_000L, 1_000L));
+        runner.addStrategy(new BusyStrategy(0L, 1_000_000_000L));
+
+        for (int i = 0; i < 200; i++) {
+            runner.onTick(TICKER, 10.0);
+        }
+        StrategyStats slow = runner.getStats().get(0);
+        StrategyStats fast = runner.getStats().get(1);
+        assertEquals(200, slow.getCalls());
+        assertTrue(slow.isSlow());
+        assertTrue(slow.getMeanNanos() >= 20_000.0);
+        assertFalse(fast.isSlow());
+        assertEquals(slow.getOverBudgetCalls() + fast.getOverBudgetCalls(), runner.getOverBudgetCalls());
+    }
+}
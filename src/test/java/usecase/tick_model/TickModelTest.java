@@ -0,0 +1,141 @@
+package usecase.tick_model;
+
+import entity.PricePoint;
+import entity.TimeInterval;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickModelTest {
+
+    private static final int TICKS = 300;
+
+    private static PricePoint candle(double open, double close) {
+        return candle(open, close, 3000.0);
+    }
+
+    private static PricePoint candle(double open, double close, Double volume) {
+        return new PricePoint(null, "AAPL", LocalDateTime.now(), TimeInterval.FIVE_MINUTES,
+                open, 105.0, 95.0, close, volume, "test");
+    }
+
+    private static double realizedVariance(TickModel model, double relativeVolume) {
+        final int runs = 200;
+        double total = 0.0;
+        double[] buffer = new double[TICKS];
+        for (int run = 0; run < runs; run++) {
+            model.generate(candle(100.0, 102.0), relativeVolume, buffer, TICKS, new SplittableRandom(run));
+            for (int i = 1; i < TICKS; i++) {
+                double step = buffer[i] - buffer[i - 1];
+                total += step * step;
+            }
+        }
+        return total / runs;
+    }
+
+    @Test
+    void testEveryModelMatchesTheCandle() {
+        for (TickModelType type : TickModelType.values()) {
+            TickModel model = type.create();
+            SplittableRandom random = new SplittableRandom(3L);
+            double[] buffer = new double[TICKS];
+            for (int run = 0; run < 200; run++) {
+                PricePoint candle = candle(run % 2 == 0 ? 100.0 : 102.0, run % 2 == 0 ? 102.0 : 100.0);
+                model.generate(candle, buffer, TICKS, random);
+
+                assertEquals(candle.getOpen(), buffer[0], type.getLabel());
+                assertEquals(candle.getClose(), buffer[TICKS - 1], type.getLabel());
+                double max = Double.NEGATIVE_INFINITY;
+                double min = Double.POSITIVE_INFINITY;
+                for (double tick : buffer) {
+                    max = Math.max(max, tick);
+                    min = Math.min(min, tick);
+                }
+                assertEquals(105.0, max, type.getLabel());
+                assertEquals(95.0, min, type.getLabel());
+            }
+        }
+    }
+
+    @Test
+    void testSameStreamGivesSamePath() {
+        for (TickModelType type : TickModelType.values()) {
+            double[] first = new double[TICKS];
+            double[] second = new double[TICKS];
+            type.create().generate(candle(100.0, 102.0), first, TICKS, new SplittableRandom(9L));
+            type.create().generate(candle(100.0, 102.0), second, TICKS, new SplittableRandom(9L));
+            assertArrayEquals(first, second, type.getLabel());
+        }
+    }
+
+    @Test
+    void testBridgePathsAreNotStraightLines() {
+        for (TickModelType type : new TickModelType[] {TickModelType.BROWNIAN_BRIDGE,
+                TickModelType.STOCHASTIC_VOLATILITY}) {
+            double[] buffer = new double[TICKS];
+            type.create().generate(candle(100.0, 102.0), buffer, TICKS, new SplittableRandom(5L));
+            // A linear segment has zero second differences almost everywhere
+            int bends = 0;
+            for (int i = 1; i < TICKS - 1; i++) {
+                if (Math.abs(buffer[i + 1] - 2 * buffer[i] + buffer[i - 1]) > 1e-9) {
+                    bends++;
+                }
+            }
+            assertTrue(bends > TICKS / 2, type.getLabel());
+        }
+    }
+
+    @Test
+    void testShortCandlesAndBadBuffers() {
+        for (TickModelType type : TickModelType.values()) {
+            double[] buffer = new double[2];
+            type.create().generate(candle(100.0, 102.0), buffer, 2, new SplittableRandom(1L));
+            assertArrayEquals(new double[] {100.0, 102.0}, buffer);
+            assertThrows(IllegalArgumentException.class,
+                    () -> type.create().generate(candle(100.0, 102.0), new double[3], 4, new SplittableRandom(1L)));
+        }
+    }
+
+    @Test
+    void testHighVolumeCandleMovesMoreThanLowVolumeCandle() {
+        TickModel model = TickModelType.VOLUME_WEIGHTED.create();
+        double busy = realizedVariance(model, 3.0);
+        double quiet = realizedVariance(model, 0.3);
+
+        assertTrue(busy > 2 * quiet, "busy " + busy + " quiet " + quiet);
+    }
+
+    @Test
+    void testOtherModelsIgnoreVolume() {
+        TickModel model = TickModelType.BROWNIAN_BRIDGE.create();
+
+        assertEquals(realizedVariance(model, 0.3), realizedVariance(model, 3.0));
+    }
+
+    @Test
+    void testRelativeVolumeComparesWithRecentCandles() {
+        List<PricePoint> candles = new ArrayList<>();
+        candles.add(candle(100.0, 100.0, 1000.0));
+        candles.add(candle(100.0, 100.0, null));
+        candles.add(candle(100.0, 100.0, 3000.0));
+        candles.add(candle(100.0, 100.0, 6000.0));
+
+        assertEquals(RelativeVolume.NEUTRAL, RelativeVolume.of(candles, 0));
+        assertEquals(RelativeVolume.NEUTRAL, RelativeVolume.of(candles, 1));
+        assertEquals(3.0, RelativeVolume.of(candles, 2), 1e-9);
+        assertEquals(3.0, RelativeVolume.of(candles, 3), 1e-9);
+    }
+
+    @Test
+    void testLabelsRoundTrip() {
+        for (TickModelType type : TickModelType.values()) {
+            assertEquals(type, TickModelType.fromLabel(type.getLabel()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> TickModelType.fromLabel("Sawtooth"));
+    }
+}
@@ -0,0 +1,54 @@
+package usecase.update_market;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleRingBufferTest {
+
+    @Test
+    void testEvictsOldestWhenFull() {
+        DoubleRingBuffer buffer = new DoubleRingBuffer(3);
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(i);
+        }
+
+        assertEquals(3, buffer.size());
+        assertEquals(3.0, buffer.get(0));
+        assertEquals(5.0, buffer.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.get(3));
+    }
+
+    @Test
+    void testWindowWithoutDecimation() {
+        DoubleRingBuffer buffer = new DoubleRingBuffer(10);
+        for (int i = 0; i < 6; i++) {
+            buffer.add(i);
+        }
+
+        assertArrayEquals(new double[] {3, 4, 5}, buffer.window(3, 10));
+        assertArrayEquals(new double[] {0, 1, 2, 3, 4, 5}, buffer.window(20, 10));
+    }
+
+    @Test
+    void testWindowDecimatesToBucketEnds() {
+        DoubleRingBuffer buffer = new DoubleRingBuffer(100);
+        for (int i = 0; i < 250; i++) {
+            buffer.add(i);
+        }
+
+        // Retained 150..249, sampled as the last value of four 25-wide buckets
+        assertArrayEquals(new double[] {174, 199, 224, 249}, buffer.window(100, 4));
+    }
+
+    @Test
+    void testClear() {
+        DoubleRingBuffer buffer = new DoubleRingBuffer(2);
+        buffer.add(1.0);
+        buffer.clear();
+
+        assertEquals(0, buffer.size());
+        assertEquals(0, buffer.window(2, 2).length);
+        assertThrows(IllegalArgumentException.class, () -> new DoubleRingBuffer(0));
+    }
+}
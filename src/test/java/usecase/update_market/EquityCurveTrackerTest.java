@@ -0,0 +1,106 @@
+package usecase.update_market;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EquityCurveTrackerTest {
+
+    private static final double EPSILON = 1e-12;
+
+    @Test
+    void testPeakToTroughDrawdownAndDurations() {
+        EquityCurveTracker tracker = new EquityCurveTracker(1, 100);
+        double[] curve = {100.0, 110.0, 99.0, 104.0, 121.0, 120.0, 115.0};
+        for (double equity : curve) {
+            tracker.update(equity, 1);
+        }
+
+        // 110 -> 99 is deeper than 121 -> 115
+        assertEquals(0.1, tracker.getMaxDrawdown(), EPSILON);
+        assertEquals(121.0, tracker.getPeak());
+        assertEquals(2, tracker.getLongestDrawdownTicks());
+        assertEquals(2, tracker.getDrawdownTicks());
+        assertEquals(4, tracker.getUnderwaterTicks());
+        assertEquals(7, tracker.getTrackedTicks());
+        assertEquals(4.0 / 7.0, tracker.getUnderwaterRatio(), EPSILON);
+        assertArrayEquals(curve, tracker.curve(100));
+    }
+
+    @Test
+    void testStatisticsOnlyTrackerStartsAtTheInitialEquity() {
+        EquityCurveTracker tracker = EquityCurveTracker.forStatistics(100.0);
+        for (double equity : new double[] {95.0, 90.0, 100.0}) {
+            tracker.update(equity, 1);
+        }
+
+        // The first tick is already below the starting equity
+        assertEquals(0.1, tracker.getMaxDrawdown(), EPSILON);
+        assertEquals(2, tracker.getLongestDrawdownTicks());
+        assertEquals(3, tracker.getTrackedTicks());
+        assertArrayEquals(new double[] {100.0}, tracker.curve(100));
+    }
+
+    @Test
+    void testMatchesBruteForceOverRandomWalk() {
+        EquityCurveTracker tracker = new EquityCurveTracker(60, 5);
+        SplittableRandom random = new SplittableRandom(11L);
+        double[] equity = new double[800];
+        double value = 10000.0;
+        for (int i = 0; i < equity.length; i++) {
+            value += (random.nextDouble() - 0.5) * 50.0;
+            equity[i] = value;
+            tracker.update(value, 1);
+        }
+
+        // Every pair of an earlier and a later point, and every prefix peak
+        double expected = 0.0;
+        long underwater = 0;
+        long longest = 0;
+        long run = 0;
+        for (int later = 0; later < equity.length; later++) {
+            boolean below = false;
+            for (int earlier = 0; earlier < later; earlier++) {
+                expected = Math.max(expected, (equity[earlier] - equity[later]) / equity[earlier]);
+                below |= equity[earlier] > equity[later];
+            }
+            run = below ? run + 1 : 0;
+            longest = Math.max(longest, run);
+            underwater += below ? 1 : 0;
+        }
+        assertEquals(expected, tracker.getMaxDrawdown(), EPSILON);
+        assertEquals(underwater, tracker.getUnderwaterTicks());
+        assertEquals(longest, tracker.getLongestDrawdownTicks());
+
+        // One sample per interval, and only the newest fit
+        double[] samples = tracker.curve(100);
+        assertEquals(5, samples.length);
+        assertEquals(equity[779], samples[4]);
+        assertEquals(equity[539], samples[0]);
+    }
+
+    @Test
+    void testSnapshotRestoresStatisticsAndSampling() {
+        EquityCurveTracker original = new EquityCurveTracker(3, 10);
+        EquityCurveTracker copy = new EquityCurveTracker(3, 10);
+        for (int i = 0; i < 8; i++) {
+            original.update(100.0 - i, 1);
+        }
+        copy.restore(original.snapshot());
+        for (int i = 0; i < 8; i++) {
+            original.update(90.0 + i * 3, 1);
+            copy.update(90.0 + i * 3, 1);
+        }
+
+        assertEquals(original.getMaxDrawdown(), copy.getMaxDrawdown());
+        assertEquals(original.getLongestDrawdownTicks(), copy.getLongestDrawdownTicks());
+        assertEquals(original.getUnderwaterTicks(), copy.getUnderwaterTicks());
+        assertArrayEquals(original.curve(10), copy.curve(10));
+
+        copy.clear();
+        assertEquals(0, copy.getTrackedTicks());
+        assertEquals(0, copy.curve(10).length);
+    }
+}
@@ -0,0 +1,131 @@
+package usecase.update_market;
+
+import entity.Account;
+import entity.PricePoint;
+import entity.TimeInterval;
+import org.junit.jupiter.api.Test;
+import usecase.simulated_trade.SimulationDataAccessInterface;
+import usecase.simulated_trade.SimulationSeed;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TickPrefetcherTest {
+
+    private static final int TICKS = 50;
+
+    // Random walk seeded by the caller's stream, so ticks reveal which stream made them
+    private static class RandomWalkData implements SimulationDataAccessInterface {
+        @Override
+        public List<PricePoint> loadHistory(String ticker) {
+            List<PricePoint> points = new ArrayList<>();
+            for (int i = 0; i < 20; i++) {
+                points.add(new PricePoint(null, ticker, LocalDateTime.now(), TimeInterval.FIVE_MINUTES,
+                        100.0, 101.0, 99.0, 100.0, 3000.0, "test"));
+            }
+            return points;
+        }
+
+        @Override
+        public void generateTicks(PricePoint point, double[] buffer, int numberOfTicks) {
+            throw new UnsupportedOperationException("Ticks must come from the candle's own stream");
+        }
+
+        @Override
+        public void generateTicks(PricePoint point, double[] buffer, int numberOfTicks, SplittableRandom random) {
+            for (int i = 0; i < numberOfTicks; i++) {
+                buffer[i] = point.getClose() + random.nextDouble();
+            }
+        }
+    }
+
+    private final RandomWalkData data = new RandomWalkData();
+    private final List<PricePoint> candles = data.loadHistory("AAPL");
+
+    private double[] expected(int candleIndex) {
+        double[] ticks = new double[TICKS];
+        data.generateTicks(candles.get(candleIndex), ticks, TICKS,
+                SimulationSeed.candleStream(7L, "AAPL", candleIndex));
+        return ticks;
+    }
+
+    @Test
+    void testDeliversSameTicksAsOnDemandGenerationWhileSkippingAndRewinding() {
+        TickPrefetcher prefetcher = new TickPrefetcher(data, "AAPL", candles, 7L, TICKS, 3);
+        prefetcher.start(0);
+
+        assertArrayEquals(expected(0), prefetcher.take(0));
+        assertArrayEquals(expected(1), prefetcher.take(1));
+        // Fast-forwarded candles are recycled unread
+        assertArrayEquals(expected(6), prefetcher.take(6));
+        // A restored session may move backwards
+        assertArrayEquals(expected(2), prefetcher.take(2));
+        assertArrayEquals(expected(3), prefetcher.take(3));
+        prefetcher.stop();
+    }
+
+    @Test
+    void testPrefetchingSimulationReplaysSamePath() {
+        List<double[]> charts = new ArrayList<>();
+        for (int depth : new int[] {0, 4}) {
+            List<double[]> outputs = new ArrayList<>();
+            UpdateMarketInteractor interactor = new UpdateMarketInteractor(data, new UpdateMarketOutputBoundary() {
+                @Override
+                public void prepareSuccessView(UpdateMarketOutputData outputData) {
+                    outputs.add(outputData.getChartData());
+                }
+
+                @Override
+                public void prepareFailView(String error) {
+                }
+            }, new Account(1000.0, "user"), List.of("AAPL", "MSFT"));
+            interactor.setSeed(7L);
+            interactor.setTickPrefetch(depth);
+            interactor.loadData();
+            interactor.executeTicks(20 * UpdateMarketInteractor.CANDLE_SECONDS);
+            interactor.shutdown();
+            charts.add(outputs.get(0));
+        }
+        assertArrayEquals(charts.get(0), charts.get(1));
+    }
+
+    @Test
+    void testFallsBackToCallingThreadOnceStopped() {
+        TickPrefetcher prefetcher = new TickPrefetcher(data, "AAPL", candles, 7L, TICKS, 2);
+        prefetcher.start(0);
+        assertArrayEquals(expected(0), prefetcher.take(0));
+        prefetcher.stop();
+
+        for (int i = 1; i < candles.size(); i++) {
+            assertArrayEquals(expected(i), prefetcher.take(i));
+        }
+    }
+
+    @Test
+    void testNoProducerOutlivesStopRacingWithStart() throws InterruptedException {
+        for (int round = 0; round < 50; round++) {
+            TickPrefetcher prefetcher = new TickPrefetcher(data, "RACE", candles, 7L, TICKS, 2);
+            Thread starter = new Thread(() -> {
+                for (int i = 0; i < 5; i++) {
+                    prefetcher.start(i);
+                }
+            });
+            starter.start();
+            prefetcher.stop();
+            starter.join();
+
+            // Restarting after stop does nothing, and take() generates on the calling thread
+            prefetcher.start(4);
+            double[] ticks = new double[TICKS];
+            data.generateTicks(candles.get(4), ticks, TICKS, SimulationSeed.candleStream(7L, "RACE", 4));
+            assertArrayEquals(ticks, prefetcher.take(4));
+            for (Thread thread : Thread.getAllStackTraces().keySet()) {
+                assertFalse(thread.isAlive() && "tick-prefetch-RACE".equals(thread.getName()));
+            }
+        }
+    }
+}
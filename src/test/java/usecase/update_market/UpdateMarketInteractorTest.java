@@ -0,0 +1,212 @@
+package usecase.update_market;
+
+import entity.Account;
+import entity.OrderBook;
+import entity.OrderType;
+import entity.PricePoint;
+import entity.SimulatedOrder;
+import entity.TimeInterval;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import usecase.indicator.IndicatorType;
+import usecase.simulated_trade.RestingOrderMatcher;
+import usecase.simulated_trade.SimulationDataAccessInterface;
+import usecase.strategy.StrategyContext;
+import usecase.strategy.TradingStrategy;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpdateMarketInteractorTest {
+
+    // Flat candles so every generated tick equals the candle close
+    private static class FakeSimulationData implements SimulationDataAccessInterface {
+        private final int candles;
+        int generatedCandles;
+
+        FakeSimulationData(int candles) {
+            this.candles = candles;
+        }
+
+        @Override
+        public List<PricePoint> loadHistory(String ticker) {
+            List<PricePoint> points = new ArrayList<>();
+            // Each ticker trades at its own level so feeds can be told apart
+            double base = "MSFT".equals(ticker) ? 300.0 : 100.0;
+            for (int i = 0; i < candles; i++) {
+                double price = base + i;
+                points.add(new PricePoint(null, ticker, LocalDateTime.now(), TimeInterval.FIVE_MINUTES,
+                        price, price, price, price, 3000.0, "test"));
+            }
+            return points;
+        }
+
+        @Override
+        public void generateTicks(PricePoint point, double[] buffer, int numberOfTicks) {
+            generatedCandles++;
+            Arrays.fill(buffer, 0, numberOfTicks, point.getClose());
+        }
+    }
+
+    private static class CapturingPresenter implements UpdateMarketOutputBoundary {
+        final List<UpdateMarketOutputData> outputs = new ArrayList<>();
+        final List<String> errors = new ArrayList<>();
+
+        @Override
+        public void prepareSuccessView(UpdateMarketOutputData outputData) {
+            outputs.add(outputData);
+        }
+
+        @Override
+        public void prepareFailView(String error) {
+            errors.add(error);
+        }
+    }
+
+    private CapturingPresenter presenter;
+    private UpdateMarketInteractor interactor;
+
+    @BeforeEach
+    void setUp() {
+        presenter = new CapturingPresenter();
+        interactor = new UpdateMarketInteractor(new FakeSimulationData(2), presenter,
+                new Account(10000.0, "user"), "AAPL");
+        interactor.setSpeed(10);
+        interactor.loadData();
+    }
+
+    @Test
+    void testFastForwardGeneratesTicksOnlyWhereAnOrderCanTrigger() {
+        FakeSimulationData data = new FakeSimulationData(10);
+        Account account = new Account(10000.0, "user");
+        OrderBook book = new OrderBook();
+        book.add(new SimulatedOrder("stop", "AAPL", true, 10, OrderType.STOP, Double.NaN, 105.0,
+                LocalDateTime.now()));
+        UpdateMarketInteractor fast = new UpdateMarketInteractor(data, presenter, account, "AAPL");
+        fast.setOrderMatcher(new RestingOrderMatcher(book, account));
+        fast.setFastForward(true);
+        fast.loadData();
+
+        fast.executeTicks(3000);
+
+        assertTrue(fast.isFinished());
+        assertEquals(3000L, fast.getTicksProcessed());
+        // Only the candle that reaches the stop is replayed tick by tick
+        assertEquals(9L, fast.getSkippedCandles());
+        assertEquals(1, data.generatedCandles);
+        assertEquals(105.0, account.getPositions().get("AAPL").getAvgPrice());
+        assertEquals(10040.0, presenter.outputs.get(0).getTotalEquity(), 1e-9);
+    }
+
+    @Test
+    void testFastForwardStillDeliversCandlesToStrategies() {
+        FakeSimulationData data = new FakeSimulationData(10);
+        UpdateMarketInteractor fast = new UpdateMarketInteractor(data, presenter,
+                new Account(10000.0, "user"), "AAPL");
+        List<Double> closes = new ArrayList<>();
+        fast.addStrategy(new TradingStrategy() {
+            @Override
+            public String getName() {
+                return "Recorder";
+            }
+
+            @Override
+            public void onTick(StrategyContext context, String ticker, double price) {
+            }
+
+            @Override
+            public void onCandle(StrategyContext context, String ticker, PricePoint candle) {
+                closes.add(candle.getClose());
+            }
+
+            @Override
+            public boolean mightActWithin(String ticker, double low, double high) {
+                return high >= 108.0;
+            }
+        });
+        fast.setFastForward(true);
+        fast.loadData();
+
+        fast.executeTicks(3000);
+
+        assertEquals(10, closes.size());
+        assertEquals(2, data.generatedCandles);
+    }
+
+    @Test
+    void testBatchPresentsOnlyFinalState() {
+        interactor.executeTicks(50);
+
+        assertEquals(1, presenter.outputs.size());
+        UpdateMarketOutputData data = presenter.outputs.get(0);
+        assertEquals(50, data.getChartData().length);
+        assertEquals(100.0, data.getCurrentPrice());
+        assertEquals(10000.0, data.getTotalEquity());
+    }
+
+    @Test
+    void testSnapshotIsDetachedFromLaterTicks() {
+        interactor.executeTicks(5);
+        UpdateMarketOutputData first = presenter.outputs.get(0);
+
+        interactor.executeTicks(5);
+        assertEquals(5, first.getChartData().length);
+        assertEquals(10, presenter.outputs.get(1).getChartData().length);
+    }
+
+    @Test
+    void testRunsToEndOfHistory() {
+        assertEquals(10.0, interactor.getTicksPerSecond());
+        assertFalse(interactor.isFinished());
+
+        // Two 5-minute candles at one tick per simulated second
+        interactor.executeTicks(600);
+        assertTrue(interactor.isFinished());
+        assertEquals(101.0, presenter.outputs.get(0).getCurrentPrice());
+        assertTrue(presenter.errors.isEmpty());
+
+        interactor.executeExecuteTick();
+        assertEquals("Simulation Data Ended", presenter.errors.get(0));
+    }
+
+    @Test
+    void testChartWindowStaysBoundedOnLongSessions() {
+        UpdateMarketInteractor longRun = new UpdateMarketInteractor(new FakeSimulationData(100), presenter,
+                new Account(10000.0, "user"), "AAPL");
+        longRun.loadData();
+        longRun.selectIndicators(List.of(IndicatorType.SMA_20));
+
+        longRun.executeTicks(30_000);
+
+        UpdateMarketOutputData data = presenter.outputs.get(0);
+        assertEquals(600, data.getChartData().length);
+        assertEquals(600, data.getOverlaySeries().get("SMA(20)").length);
+        // The newest tick is always the last sample
+        assertEquals(data.getCurrentPrice(), data.getChartData()[599]);
+    }
+
+    @Test
+    void testAllTickersAdvanceOnOneClock() {
+        Account account = new Account(10000.0, "user");
+        UpdateMarketInteractor multi = new UpdateMarketInteractor(new FakeSimulationData(2), presenter,
+                account, List.of("AAPL", "MSFT"));
+        multi.loadData();
+        account.executeTrade("MSFT", true, 10, 300.0, LocalDateTime.now());
+
+        multi.executeTicks(300);
+
+        UpdateMarketOutputData data = presenter.outputs.get(0);
+        assertEquals("AAPL", data.getTicker());
+        assertEquals(100.0, data.getCurrentPrice());
+        assertEquals(300.0, data.getPrices().get("MSFT"));
+
+        // Second candle: the MSFT holding is marked to 301 although AAPL is charted
+        multi.executeTicks(1);
+        assertEquals(301.0, multi.getPriceBoard().getPrice("MSFT"));
+        assertEquals(10010.0, presenter.outputs.get(1).getTotalEquity(), 1e-9);
+    }
+}
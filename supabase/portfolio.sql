@@ -0,0 +1,14 @@
+-- The portfolio save is a single upsert on user_id
+-- (POST /rest/v1/portfolio?on_conflict=user_id with
+-- Prefer: resolution=merge-duplicates), which needs a unique key to merge on.
+
+-- Saves made before the key existed could insert a second row for the same
+-- user, and the index cannot be built over them. Keep one row per user: the
+-- one with the highest ctid, which is usually the most recent write, since
+-- every insert or update writes a new tuple.
+delete from portfolio older
+using portfolio newer
+where older.user_id = newer.user_id
+  and older.ctid < newer.ctid;
+
+create unique index if not exists portfolio_user_id_key on portfolio (user_id);
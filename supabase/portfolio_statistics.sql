@@ -0,0 +1,54 @@
+-- Aggregates a user's trades for the portfolio summary, so the client
+-- receives one row instead of the whole history. Called through PostgREST as
+-- POST /rest/v1/rpc/portfolio_statistics {"p_user_id": "<uuid>"}.
+create or replace function portfolio_statistics(p_user_id uuid)
+returns table (
+    total_profit   double precision,
+    max_gain       double precision,
+    max_loss       double precision,
+    total_trades   bigint,
+    winning_trades bigint,
+    losing_trades  bigint,
+    earliest_entry timestamptz,
+    latest_entry   timestamptz
+)
+language sql
+stable
+as $$
+    select coalesce(sum(realized_pnl), 0),
+           coalesce(max(realized_pnl) filter (where realized_pnl > 0), 0),
+           coalesce(-min(realized_pnl) filter (where realized_pnl < 0), 0),
+           count(*),
+           count(*) filter (where realized_pnl > 0),
+           count(*) filter (where realized_pnl < 0),
+           min(entry_time),
+           max(entry_time)
+    from trades
+    where user_id = p_user_id;
+$$;
+
+-- The trade history sync pages on id rather than exit_time, because a trade
+-- can be uploaded long after it closed. That needs ids the database hands out
+-- in increasing order. An id becomes visible only when its insert commits, so
+-- a concurrent insert can show up below ids already read. The client re-reads
+-- the 100 ids below its cursor and drops trades it already has by
+-- client_trade_id. An insert that commits later than that is missed.
+do $$
+begin
+    if not exists (
+        select 1
+        from information_schema.columns
+        where table_schema = 'public'
+          and table_name = 'trades'
+          and column_name = 'id'
+          and data_type = 'bigint'
+          and (is_identity = 'YES' or column_default like 'nextval(%')
+    ) then
+        raise exception 'trades.id must be a bigint identity or bigserial column for the trade history sync';
+    end if;
+end
+$$;
+
+-- Serves the per-user filter above and the id keyset pages of the sync.
+drop index if exists trades_user_exit_time_id_idx;
+create index if not exists trades_user_id_id_idx on trades (user_id, id);
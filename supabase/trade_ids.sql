@@ -0,0 +1,6 @@
+-- Trades are saved with a client-generated id (POST /rest/v1/trades?on_conflict=client_trade_id
+-- with Prefer: resolution=ignore-duplicates), so a batch the trade journal
+-- replays after a crash is stored only once. Rows saved before the column
+-- existed keep a null id, which the unique index does not compare.
+alter table trades add column if not exists client_trade_id uuid;
+create unique index if not exists trades_client_trade_id_key on trades (client_trade_id);